@@ -14,6 +14,10 @@ public interface DistributedExecutionIndex extends Cloneable, Comparable<Distrib
 
     Object clone();
 
+    // Copy of the callstack only, without the counters: the identity of the index, as it would be received over the
+    // network, without serializing it.
+    DistributedExecutionIndex copyWithoutCounters();
+
     String projectionLastKeyWithOnlyMetadataAndSignature();
 
     String projectionLastKeyWithOnlyMetadata();
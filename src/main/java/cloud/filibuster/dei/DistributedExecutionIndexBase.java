@@ -6,27 +6,64 @@ import cloud.filibuster.instrumentation.datatypes.Callsite;
 import cloud.filibuster.instrumentation.datatypes.Pair;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 
 public abstract class DistributedExecutionIndexBase implements Cloneable {
     protected HashMap<DistributedExecutionIndexKey, Integer> counters = new HashMap<>();
     protected ArrayList<Map.Entry<DistributedExecutionIndexKey, Integer>> callstack = new ArrayList<>();
 
+    // Hash of each prefix of the callstack, maintained on push and pop: callstackHashes[i] covers entries 0..i.
+    private int[] callstackHashes = new int[8];
+
+    // Identity is the callstack, as in the serialized form: indexes parsed from a request carry no counters, and must
+    // match the index they were serialized from.
     @Override
     @SuppressWarnings("Varifier")
     public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
         if (!(o instanceof DistributedExecutionIndexBase)) {
             return false;
         }
+
         DistributedExecutionIndexBase dei = (DistributedExecutionIndexBase) o;
-        return Objects.equals(this.counters, dei.counters) && Objects.equals(this.callstack, dei.callstack);
+        int depth = this.callstack.size();
+
+        if (depth != dei.callstack.size() || this.hashCode() != dei.hashCode()) {
+            return false;
+        }
+
+        // Indexes that differ usually differ at the most recent call.
+        for (int i = depth - 1; i >= 0; i--) {
+            if (!this.callstack.get(i).equals(dei.callstack.get(i))) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.counters, this.callstack);
+        int depth = callstack.size();
+        return depth == 0 ? 1 : callstackHashes[depth - 1];
+    }
+
+    private void addToCallstack(DistributedExecutionIndexKey key, int value) {
+        Map.Entry<DistributedExecutionIndexKey, Integer> entry = Pair.of(key, value);
+        int depth = callstack.size();
+
+        if (depth == callstackHashes.length) {
+            callstackHashes = Arrays.copyOf(callstackHashes, depth * 2);
+        }
+
+        // Same polynomial as List.hashCode, extended by one entry.
+        callstackHashes[depth] = 31 * hashCode() + entry.hashCode();
+        callstack.add(entry);
     }
 
     @SuppressWarnings("Varifier")
@@ -43,7 +80,7 @@ public abstract class DistributedExecutionIndexBase implements Cloneable {
             counters.put(key, currentValue + 1);
         }
 
-        callstack.add(Pair.of(key, currentValue + 1));
+        addToCallstack(key, currentValue + 1);
     }
 
     public void pop() {
@@ -84,7 +121,7 @@ public abstract class DistributedExecutionIndexBase implements Cloneable {
                     String value = parts[counter].substring(0, parts[counter].length() - 1);
                     // Remove leading space.
                     value = value.substring(1);
-                    callstack.add(Pair.of(DistributedExecutionIndexKey.deserialize(key), Integer.valueOf(value)));
+                    addToCallstack(DistributedExecutionIndexKey.deserialize(key), Integer.parseInt(value));
                     key = null;
                 }
             }
@@ -134,9 +171,30 @@ public abstract class DistributedExecutionIndexBase implements Cloneable {
             newDistributedExecutionIndex.callstack.add(Pair.of(entry.getKey(), entry.getValue()));
         }
 
+        // Prefix hashes hold only ints, so a copy of the array is enough.
+        newDistributedExecutionIndex.callstackHashes = Arrays.copyOf(this.callstackHashes, this.callstackHashes.length);
+
         return newDistributedExecutionIndex;
     }
 
+    public DistributedExecutionIndex copyWithoutCounters() {
+        DistributedExecutionIndexBase newDistributedExecutionIndex;
+
+        try {
+            newDistributedExecutionIndex = (DistributedExecutionIndexBase) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new DistributedExecutionIndexCloneException("cloning not supported for distributed execution index subtype", e);
+        }
+
+        newDistributedExecutionIndex.counters = new HashMap<>();
+
+        // Callstack entries are never modified once pushed, so they can be shared.
+        newDistributedExecutionIndex.callstack = new ArrayList<>(this.callstack);
+        newDistributedExecutionIndex.callstackHashes = Arrays.copyOf(this.callstackHashes, this.callstackHashes.length);
+
+        return (DistributedExecutionIndex) newDistributedExecutionIndex;
+    }
+
     @Override
     public String toString() {
         return serialize();
@@ -1,8 +1,8 @@
 package cloud.filibuster.dei;
 
 import cloud.filibuster.dei.implementations.DistributedExecutionIndexV1;
-
-import static cloud.filibuster.instrumentation.helpers.Property.getDeiVersionProperty;
+import cloud.filibuster.dei.implementations.DistributedExecutionIndexV2;
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
 
 public enum DistributedExecutionIndexType {
     V1 {
@@ -10,11 +10,17 @@ public enum DistributedExecutionIndexType {
         public DistributedExecutionIndex createImpl() {
             return new DistributedExecutionIndexV1();
         }
+    },
+    V2 {
+        @Override
+        public DistributedExecutionIndex createImpl() {
+            return new DistributedExecutionIndexV2();
+        }
     };
 
     public abstract DistributedExecutionIndex createImpl();
 
     public static DistributedExecutionIndexType getImplType() {
-        return getDeiVersionProperty();
+        return FilibusterRuntimeConfig.current().getDeiVersion();
     }
 }
@@ -7,12 +7,17 @@ import cloud.filibuster.dei.DistributedExecutionIndexType;
 import cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Key.Builder;
 import cloud.filibuster.instrumentation.datatypes.Callsite;
 import cloud.filibuster.instrumentation.datatypes.CallsiteArguments;
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import org.jetbrains.annotations.NotNull;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static cloud.filibuster.dei.DistributedExecutionIndexType.V1;
 import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Components.generateRpcAsynchronousComponentFromCallsite;
@@ -20,18 +25,6 @@ import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.C
 import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Components.generateRpcSignatureFromCallsite;
 import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Components.generateRpcSourceFromCallsite;
 import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Components.generateRpcSynchronousComponentFromCallsite;
-import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Properties.Asynchronous.getAsynchronousDigest;
-import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Properties.Asynchronous.getAsynchronousInclude;
-import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Properties.Metadata.getMetadataDigest;
-import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Properties.Metadata.getMetadataInclude;
-import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Properties.Signature.getSignatureDigest;
-import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Properties.Signature.getSignatureInclude;
-import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Properties.Source.getSourceDigest;
-import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Properties.Source.getSourceInclude;
-import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Properties.Synchronous.getSynchronousDigest;
-import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Properties.Synchronous.getSynchronousInclude;
-
-import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Properties.TestScope.getTestScopeCounter;
 import static cloud.filibuster.instrumentation.helpers.Hashing.createDigest;
 
 public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase implements DistributedExecutionIndex {
@@ -43,6 +36,10 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
     }
 
     public static class Properties {
+        private static void setProperty(String name, String value) {
+            System.setProperty(name, value);
+            FilibusterRuntimeConfig.invalidate();
+        }
 
         public static class TestScope {
             /***********************************************************************************
@@ -54,7 +51,7 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
             private final static String TEST_SCOPE_COUNTER = "filibuster.dei.v1.test_scope_counter";
 
             public static void setTestScopeCounter(boolean value) {
-                System.setProperty(TEST_SCOPE_COUNTER, String.valueOf(value));
+                setProperty(TEST_SCOPE_COUNTER, String.valueOf(value));
             }
 
             public static boolean getTestScopeCounter() {
@@ -76,7 +73,7 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
             private final static String METADATA_INCLUDE = "filibuster.dei.v1.metadata.include";
 
             public static void setMetadataInclude(boolean value) {
-                System.setProperty(METADATA_INCLUDE, String.valueOf(value));
+                setProperty(METADATA_INCLUDE, String.valueOf(value));
             }
 
             public static boolean getMetadataInclude() {
@@ -96,7 +93,7 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
             private final static String METADATA_DIGEST = "filibuster.dei.v1.metadata.digest";
 
             public static void setMetadataDigest(boolean value) {
-                System.setProperty(METADATA_DIGEST, String.valueOf(value));
+                setProperty(METADATA_DIGEST, String.valueOf(value));
             }
 
             public static boolean getMetadataDigest() {
@@ -118,7 +115,7 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
             private final static String SOURCE_INCLUDE = "filibuster.dei.v1.source.include";
 
             public static void setSourceInclude(boolean value) {
-                System.setProperty(SOURCE_INCLUDE, String.valueOf(value));
+                setProperty(SOURCE_INCLUDE, String.valueOf(value));
             }
 
             public static boolean getSourceInclude() {
@@ -138,7 +135,7 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
             private final static String SOURCE_DIGEST = "filibuster.dei.v1.source.digest";
 
             public static void setSourceDigest(boolean value) {
-                System.setProperty(SOURCE_DIGEST, String.valueOf(value));
+                setProperty(SOURCE_DIGEST, String.valueOf(value));
             }
 
             public static boolean getSourceDigest() {
@@ -160,7 +157,7 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
             private final static String SIGNATURE_INCLUDE = "filibuster.dei.v1.signature.include";
 
             public static void setSignatureInclude(boolean value) {
-                System.setProperty(SIGNATURE_INCLUDE, String.valueOf(value));
+                setProperty(SIGNATURE_INCLUDE, String.valueOf(value));
             }
 
             public static boolean getSignatureInclude() {
@@ -180,7 +177,7 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
             private final static String SIGNATURE_DIGEST = "filibuster.dei.v1.signature.digest";
 
             public static void setSignatureDigest(boolean value) {
-                System.setProperty(SIGNATURE_DIGEST, String.valueOf(value));
+                setProperty(SIGNATURE_DIGEST, String.valueOf(value));
             }
 
             public static boolean getSignatureDigest() {
@@ -202,7 +199,7 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
             private final static String SYNCHRONOUS_INCLUDE = "filibuster.dei.v1.synchronous.include";
 
             public static void setSynchronousInclude(boolean value) {
-                System.setProperty(SYNCHRONOUS_INCLUDE, String.valueOf(value));
+                setProperty(SYNCHRONOUS_INCLUDE, String.valueOf(value));
             }
 
             public static boolean getSynchronousInclude() {
@@ -222,7 +219,7 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
             private final static String SYNCHRONOUS_DIGEST = "filibuster.dei.v1.synchronous.digest";
 
             public static void setSynchronousDigest(boolean value) {
-                System.setProperty(SYNCHRONOUS_DIGEST, String.valueOf(value));
+                setProperty(SYNCHRONOUS_DIGEST, String.valueOf(value));
             }
 
             public static boolean getSynchronousDigest() {
@@ -244,7 +241,7 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
             private final static String ASYNCHRONOUS_INCLUDE = "filibuster.dei.v1.asynchronous.include";
 
             public static void setAsynchronousInclude(boolean value) {
-                System.setProperty(ASYNCHRONOUS_INCLUDE, String.valueOf(value));
+                setProperty(ASYNCHRONOUS_INCLUDE, String.valueOf(value));
             }
 
             public static boolean getAsynchronousInclude() {
@@ -264,7 +261,7 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
             private final static String ASYNCHRONOUS_DIGEST = "filibuster.dei.v1.asynchronous.digest";
 
             public static void setAsynchronousDigest(boolean value) {
-                System.setProperty(ASYNCHRONOUS_DIGEST, String.valueOf(value));
+                setProperty(ASYNCHRONOUS_DIGEST, String.valueOf(value));
             }
 
             public static boolean getAsynchronousDigest() {
@@ -280,12 +277,20 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
     }
 
     public static class Key implements DistributedExecutionIndexKey {
+        // Canonical keys and key components, shared JVM-wide and released once no index refers to them.  The
+        // destination is not part of a key's identity and is lost in serialization, but it is still read back from
+        // the canonical key, so keys are interned separately for each destination and keys without one are kept apart.
+        private static final ConcurrentHashMap<String, Interner<Key>> keysByDestination = new ConcurrentHashMap<>();
+        private static final Interner<Key> keysWithoutDestination = Interners.newWeakInterner();
+        private static final Interner<String> components = Interners.newWeakInterner();
+
         private final String source;
         private final String destination;
         private final String signature;
         private final String synchronous;
         private final String asynchronous;
         private final String metadata;
+        private final int hashCode;
 
         public Key(Builder builder) {
             this.source = builder.source;
@@ -294,6 +299,12 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
             this.synchronous = builder.synchronous;
             this.asynchronous = builder.asynchronous;
             this.metadata = builder.metadata;
+            this.hashCode = Objects.hash(VERSION, metadata, source, signature, synchronous, asynchronous);
+        }
+
+        @Nullable
+        private static String internComponent(@Nullable String component) {
+            return component == null ? null : components.intern(component);
         }
 
         @Override
@@ -303,6 +314,10 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
 
         @Override
         public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
             if (o == null) {
                 return false;
             }
@@ -337,7 +352,7 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
 
         @Override
         public int hashCode() {
-            return Objects.hash(VERSION, metadata, source, signature, synchronous, asynchronous);
+            return hashCode;
         }
 
         @Override
@@ -397,21 +412,40 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
                 return this;
             }
 
+            /**
+             * Return the canonical key for the components set on this builder.
+             *
+             * @return the interned key.
+             */
             public Key build() {
-                return new Key(this);
+                this.source = internComponent(this.source);
+                this.destination = internComponent(this.destination);
+                this.signature = internComponent(this.signature);
+                this.synchronous = internComponent(this.synchronous);
+                this.asynchronous = internComponent(this.asynchronous);
+                this.metadata = internComponent(this.metadata);
+
+                Key key = new Key(this);
+
+                if (key.destination == null) {
+                    return keysWithoutDestination.intern(key);
+                }
+
+                return keysByDestination.computeIfAbsent(key.destination, destination -> Interners.newWeakInterner()).intern(key);
             }
         }
     }
 
     public static class Components {
         public static String generateRpcSourceFromCallsite(Callsite callsite) {
+            FilibusterRuntimeConfig runtimeConfig = FilibusterRuntimeConfig.current();
             String rpcSource = "";
 
-            if (getSourceInclude()) {
+            if (runtimeConfig.getDeiSourceInclude()) {
                 rpcSource = callsite.getServiceName();
             }
 
-            if (getSourceDigest()) {
+            if (runtimeConfig.getDeiSourceDigest()) {
                 return createDigest(rpcSource);
             } else {
                 return '[' + rpcSource + ']';
@@ -419,18 +453,19 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
         }
 
         public static String generateRpcMetadataFromCallsite(Callsite callsite) {
+            FilibusterRuntimeConfig runtimeConfig = FilibusterRuntimeConfig.current();
             ArrayList<String> rpcMetadataElements = new ArrayList<>();
             String rpcMetadata = "";
 
-            if (getTestScopeCounter()) {
+            if (runtimeConfig.getDeiTestScopeCounter()) {
                 rpcMetadataElements.add("TestScope+" + callsite.getCurrentTestScope() + "+" + callsite.getCurrentTestScopeBlockType()) ;
             }
 
-            if (getMetadataInclude()) {
+            if (runtimeConfig.getDeiMetadataInclude()) {
                 rpcMetadata = String.join(",", rpcMetadataElements);
             }
 
-            if (getMetadataDigest()) {
+            if (runtimeConfig.getDeiMetadataDigest()) {
                 return createDigest(rpcMetadata);
             } else {
                 return '[' + rpcMetadata + ']';
@@ -438,17 +473,18 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
         }
 
         public static String generateRpcSignatureFromCallsite(Callsite callsite) {
+            FilibusterRuntimeConfig runtimeConfig = FilibusterRuntimeConfig.current();
             ArrayList<String> rpcSignatureElements = new ArrayList<>();
             rpcSignatureElements.add(callsite.getClassOrModuleName());
             rpcSignatureElements.add(callsite.getMethodOrFunctionName());
             rpcSignatureElements.add(callsite.getParameterList());
             String rpcSignature = "";
 
-            if (getSignatureInclude()) {
+            if (runtimeConfig.getDeiSignatureInclude()) {
                 rpcSignature = String.join(",", rpcSignatureElements);
             }
 
-            if (getSignatureDigest()) {
+            if (runtimeConfig.getDeiSignatureDigest()) {
                 return createDigest(rpcSignature);
             } else {
                 return '[' + rpcSignature + ']';
@@ -456,17 +492,18 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
         }
 
         public static String generateRpcSynchronousComponentFromCallsite(Callsite callsite) {
+            FilibusterRuntimeConfig runtimeConfig = FilibusterRuntimeConfig.current();
             ArrayList<String> rpcSynchronousElements = new ArrayList<>();
             rpcSynchronousElements.add(callsite.getFileName());
             rpcSynchronousElements.add(callsite.getLineNumber());
             rpcSynchronousElements.add(callsite.getSerializedStackTrace());
             String rpcSynchronous = "";
 
-            if (getSynchronousInclude()) {
+            if (runtimeConfig.getDeiSynchronousInclude()) {
                 rpcSynchronous = String.join(",", rpcSynchronousElements);
             }
 
-            if (getSynchronousDigest()) {
+            if (runtimeConfig.getDeiSynchronousDigest()) {
                 return createDigest(rpcSynchronous);
             } else {
                 return '[' + rpcSynchronous + ']';
@@ -474,17 +511,18 @@ public class DistributedExecutionIndexV1 extends DistributedExecutionIndexBase i
         }
 
         public static String generateRpcAsynchronousComponentFromCallsite(Callsite callsite) {
+            FilibusterRuntimeConfig runtimeConfig = FilibusterRuntimeConfig.current();
             ArrayList<String> rpcAsynchronousElements = new ArrayList<>();
             CallsiteArguments callsiteArguments = callsite.getCallsiteArguments();
             rpcAsynchronousElements.add(callsiteArguments.getStringClass());
             rpcAsynchronousElements.add(callsiteArguments.getToStringResult());
             String rpcAsynchronous = "";
 
-            if (getAsynchronousInclude()) {
+            if (runtimeConfig.getDeiAsynchronousInclude()) {
                 rpcAsynchronous = String.join(",", rpcAsynchronousElements);
             }
 
-            if (getAsynchronousDigest()) {
+            if (runtimeConfig.getDeiAsynchronousDigest()) {
                 return createDigest(rpcAsynchronous);
             } else {
                 return '[' + rpcAsynchronous + ']';
@@ -0,0 +1,534 @@
+package cloud.filibuster.dei.implementations;
+
+import cloud.filibuster.dei.DistributedExecutionIndex;
+import cloud.filibuster.dei.DistributedExecutionIndexKey;
+import cloud.filibuster.dei.DistributedExecutionIndexType;
+import cloud.filibuster.exceptions.distributed_execution_index.DistributedExecutionIndexCloneException;
+import cloud.filibuster.exceptions.distributed_execution_index.DistributedExecutionIndexSerializationException;
+import cloud.filibuster.instrumentation.datatypes.Callsite;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static cloud.filibuster.dei.DistributedExecutionIndexType.V2;
+import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Components.generateRpcAsynchronousComponentFromCallsite;
+import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Components.generateRpcMetadataFromCallsite;
+import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Components.generateRpcSignatureFromCallsite;
+import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Components.generateRpcSourceFromCallsite;
+import static cloud.filibuster.dei.implementations.DistributedExecutionIndexV1.Components.generateRpcSynchronousComponentFromCallsite;
+
+/**
+ * Compact distributed execution index.
+ *
+ * <p>Keys are generated as in {@link DistributedExecutionIndexV1}, but each key is interned once per JVM to an
+ * integer identifier, and the callstack and counters are kept as arrays of identifiers and counts.  Cloning copies
+ * those arrays, and equality, hashing, and ordering never build strings.
+ *
+ * <p>The index serializes to {@code V2.} followed by unpadded URL-safe base64 of: the number of distinct keys, each
+ * key's serialized form, the depth of the callstack, and a (key, count) pair per callstack entry, all numbers as
+ * unsigned varints.  A key is written as its dash-separated segments, with digests packed as raw bytes.  Keys are
+ * embedded, so the serialized form can be read in any JVM.
+ *
+ * <p>Like the serialized form, identity covers only the callstack: an index received over the network carries no
+ * counters, and compares equal to the index it was serialized from.
+ */
+public class DistributedExecutionIndexV2 implements DistributedExecutionIndex {
+    public static final DistributedExecutionIndexType VERSION = V2;
+
+    private static final String SERIALIZED_PREFIX = VERSION.name() + ".";
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private static final int[] EMPTY = new int[0];
+
+    private static final String[] EMPTY_DESTINATIONS = new String[0];
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    // Callstack: key identifiers and the count of each key when it was pushed.
+    private int[] callstackKeyIds = EMPTY;
+    private int[] callstackCounts = EMPTY;
+    private int depth;
+
+    // Destination of each callstack entry.  It is not part of a key's identity, so the interned key may carry the
+    // destination of another callsite with the same identity; it is kept per entry instead.
+    private String[] callstackDestinations = EMPTY_DESTINATIONS;
+
+    // Counters: number of pushes per key identifier, in order of first push.
+    private int[] counterKeyIds = EMPTY;
+    private int[] counterValues = EMPTY;
+    private int numCounters;
+
+    // Derived from the callstack; reset on push and pop, shared by clones.
+    private int hash;
+
+    @Nullable
+    private String serialized;
+
+    /**
+     * JVM-wide table assigning an identifier to every key seen by a {@link DistributedExecutionIndexV2}.
+     */
+    static final class KeyTable {
+        private static final ConcurrentHashMap<DistributedExecutionIndexKey, Integer> idsByKey = new ConcurrentHashMap<>();
+
+        private static volatile DistributedExecutionIndexKey[] keysById = new DistributedExecutionIndexKey[64];
+
+        private static volatile String[] serializedKeysById = new String[64];
+
+        private static int size;
+
+        private KeyTable() {
+
+        }
+
+        static int idFor(DistributedExecutionIndexKey key) {
+            Integer id = idsByKey.get(key);
+
+            if (id != null) {
+                return id;
+            }
+
+            synchronized (KeyTable.class) {
+                id = idsByKey.get(key);
+
+                if (id != null) {
+                    return id;
+                }
+
+                if (size == keysById.length) {
+                    serializedKeysById = Arrays.copyOf(serializedKeysById, size * 2);
+                    keysById = Arrays.copyOf(keysById, size * 2);
+                }
+
+                int newId = size++;
+                serializedKeysById[newId] = key.serialize();
+                keysById[newId] = key;
+
+                // Publish the identifier only once the key can be looked up by it.
+                idsByKey.put(key, newId);
+                return newId;
+            }
+        }
+
+        static DistributedExecutionIndexKey keyFor(int id) {
+            return keysById[id];
+        }
+
+        static String serializedKeyFor(int id) {
+            return serializedKeysById[id];
+        }
+    }
+
+    @Override
+    public DistributedExecutionIndexKey convertCallsiteToDistributedExecutionIndexKey(Callsite callsite) {
+        return new DistributedExecutionIndexV1.Key.Builder()
+                .metadata(generateRpcMetadataFromCallsite(callsite))
+                .source(generateRpcSourceFromCallsite(callsite))
+                .destination(callsite.getClassOrModuleName())
+                .signature(generateRpcSignatureFromCallsite(callsite))
+                .synchronous(generateRpcSynchronousComponentFromCallsite(callsite))
+                .asynchronous(generateRpcAsynchronousComponentFromCallsite(callsite))
+                .build();
+    }
+
+    @Override
+    public void push(Callsite callsite) {
+        DistributedExecutionIndexKey key = convertCallsiteToDistributedExecutionIndexKey(callsite);
+        int keyId = KeyTable.idFor(key);
+        int count = incrementCounter(keyId);
+        pushEntry(keyId, count, key.onlyDestination());
+    }
+
+    @Override
+    public void pop() {
+        if (depth == 0) {
+            throw new IndexOutOfBoundsException("cannot pop an empty distributed execution index.");
+        }
+
+        depth--;
+        invalidate();
+    }
+
+    private int incrementCounter(int keyId) {
+        for (int i = 0; i < numCounters; i++) {
+            if (counterKeyIds[i] == keyId) {
+                return ++counterValues[i];
+            }
+        }
+
+        if (numCounters == counterKeyIds.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, numCounters * 2);
+            counterKeyIds = Arrays.copyOf(counterKeyIds, capacity);
+            counterValues = Arrays.copyOf(counterValues, capacity);
+        }
+
+        counterKeyIds[numCounters] = keyId;
+        counterValues[numCounters] = 1;
+        numCounters++;
+        return 1;
+    }
+
+    private void pushEntry(int keyId, int count, @Nullable String destination) {
+        if (depth == callstackKeyIds.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, depth * 2);
+            callstackKeyIds = Arrays.copyOf(callstackKeyIds, capacity);
+            callstackCounts = Arrays.copyOf(callstackCounts, capacity);
+            callstackDestinations = Arrays.copyOf(callstackDestinations, capacity);
+        }
+
+        callstackKeyIds[depth] = keyId;
+        callstackCounts[depth] = count;
+        callstackDestinations[depth] = destination;
+        depth++;
+        invalidate();
+    }
+
+    private void invalidate() {
+        hash = 0;
+        serialized = null;
+    }
+
+    @Override
+    public DistributedExecutionIndex deserialize(String serialized) {
+        if (serialized == null) {
+            throw new DistributedExecutionIndexSerializationException("cannot deserialize an empty string.");
+        }
+
+        if (serialized.equals("")) {
+            return this;
+        }
+
+        if (!serialized.startsWith(SERIALIZED_PREFIX)) {
+            throw new DistributedExecutionIndexSerializationException("not a " + VERSION + " distributed execution index: " + serialized);
+        }
+
+        try {
+            Reader reader = new Reader(Base64.getUrlDecoder().decode(serialized.substring(SERIALIZED_PREFIX.length())));
+
+            int numKeys = reader.readVarint();
+            int[] keyIds = new int[numKeys];
+            String[] destinations = new String[numKeys];
+
+            for (int i = 0; i < numKeys; i++) {
+                DistributedExecutionIndexKey key = DistributedExecutionIndexKey.deserialize(reader.readKey());
+                keyIds[i] = KeyTable.idFor(key);
+                destinations[i] = key.onlyDestination();
+            }
+
+            int serializedDepth = reader.readVarint();
+
+            for (int i = 0; i < serializedDepth; i++) {
+                int localIndex = reader.readVarint();
+                pushEntry(keyIds[localIndex], reader.readVarint(), destinations[localIndex]);
+            }
+
+            if (reader.hasRemaining()) {
+                throw new DistributedExecutionIndexSerializationException("trailing bytes in distributed execution index: " + serialized);
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new DistributedExecutionIndexSerializationException("malformed distributed execution index: " + serialized, e);
+        }
+
+        return this;
+    }
+
+    private String serialize() {
+        // Local key indexes, in order of first appearance on the callstack.
+        int[] distinctKeyIds = new int[depth];
+        int[] localIndexes = new int[depth];
+        int numKeys = 0;
+
+        for (int i = 0; i < depth; i++) {
+            int localIndex = 0;
+
+            while (localIndex < numKeys && distinctKeyIds[localIndex] != callstackKeyIds[i]) {
+                localIndex++;
+            }
+
+            if (localIndex == numKeys) {
+                distinctKeyIds[numKeys++] = callstackKeyIds[i];
+            }
+
+            localIndexes[i] = localIndex;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarint(out, numKeys);
+
+        for (int i = 0; i < numKeys; i++) {
+            writeKey(out, KeyTable.serializedKeyFor(distinctKeyIds[i]));
+        }
+
+        writeVarint(out, depth);
+
+        for (int i = 0; i < depth; i++) {
+            writeVarint(out, localIndexes[i]);
+            writeVarint(out, callstackCounts[i]);
+        }
+
+        return SERIALIZED_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+
+    private static void writeKey(ByteArrayOutputStream out, String serializedKey) {
+        String[] segments = serializedKey.split("-", -1);
+        writeVarint(out, segments.length);
+
+        for (String segment : segments) {
+            // Low bit of the length marks a lowercase hex segment written as bytes.
+            if (isPackableHex(segment)) {
+                writeVarint(out, (segment.length() / 2) << 1 | 1);
+
+                for (int i = 0; i < segment.length(); i += 2) {
+                    out.write(Character.digit(segment.charAt(i), 16) << 4 | Character.digit(segment.charAt(i + 1), 16));
+                }
+            } else {
+                byte[] bytes = segment.getBytes(StandardCharsets.UTF_8);
+                writeVarint(out, bytes.length << 1);
+                out.write(bytes, 0, bytes.length);
+            }
+        }
+    }
+
+    private static boolean isPackableHex(String segment) {
+        if (segment.isEmpty() || segment.length() % 2 != 0) {
+            return false;
+        }
+
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        out.write(value);
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private int readVarint() {
+            int value = 0;
+
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+
+                if ((b & 0x80) == 0) {
+                    if (value < 0) {
+                        throw new IllegalArgumentException("negative varint.");
+                    }
+
+                    return value;
+                }
+            }
+
+            throw new IllegalArgumentException("varint too long.");
+        }
+
+        private String readKey() {
+            int numSegments = readVarint();
+            StringBuilder key = new StringBuilder();
+
+            for (int i = 0; i < numSegments; i++) {
+                if (i > 0) {
+                    key.append('-');
+                }
+
+                int header = readVarint();
+                int length = header >>> 1;
+
+                if (length > bytes.length - position) {
+                    throw new IndexOutOfBoundsException("key extends past the end of the input.");
+                }
+
+                if ((header & 1) == 1) {
+                    for (int j = 0; j < length; j++) {
+                        int b = bytes[position++] & 0xFF;
+                        key.append(HEX_DIGITS[b >>> 4]).append(HEX_DIGITS[b & 0x0F]);
+                    }
+                } else {
+                    key.append(new String(bytes, position, length, StandardCharsets.UTF_8));
+                    position += length;
+                }
+            }
+
+            return key.toString();
+        }
+
+        private boolean hasRemaining() {
+            return position < bytes.length;
+        }
+    }
+
+    @Override
+    public Object clone() {
+        DistributedExecutionIndexV2 newDistributedExecutionIndex;
+
+        try {
+            newDistributedExecutionIndex = (DistributedExecutionIndexV2) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new DistributedExecutionIndexCloneException("cloning not supported for distributed execution index subtype", e);
+        }
+
+        // Copy only the live portion of each array; the cached hash and serialization remain valid.
+        newDistributedExecutionIndex.callstackKeyIds = Arrays.copyOf(callstackKeyIds, depth);
+        newDistributedExecutionIndex.callstackCounts = Arrays.copyOf(callstackCounts, depth);
+        newDistributedExecutionIndex.callstackDestinations = Arrays.copyOf(callstackDestinations, depth);
+        newDistributedExecutionIndex.counterKeyIds = Arrays.copyOf(counterKeyIds, numCounters);
+        newDistributedExecutionIndex.counterValues = Arrays.copyOf(counterValues, numCounters);
+
+        return newDistributedExecutionIndex;
+    }
+
+    @Override
+    public DistributedExecutionIndex copyWithoutCounters() {
+        DistributedExecutionIndexV2 newDistributedExecutionIndex;
+
+        try {
+            newDistributedExecutionIndex = (DistributedExecutionIndexV2) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new DistributedExecutionIndexCloneException("cloning not supported for distributed execution index subtype", e);
+        }
+
+        // The cached hash and serialization cover only the callstack, so they remain valid.
+        newDistributedExecutionIndex.callstackKeyIds = Arrays.copyOf(callstackKeyIds, depth);
+        newDistributedExecutionIndex.callstackCounts = Arrays.copyOf(callstackCounts, depth);
+        newDistributedExecutionIndex.callstackDestinations = Arrays.copyOf(callstackDestinations, depth);
+        newDistributedExecutionIndex.counterKeyIds = EMPTY;
+        newDistributedExecutionIndex.counterValues = EMPTY;
+        newDistributedExecutionIndex.numCounters = 0;
+
+        return newDistributedExecutionIndex;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof DistributedExecutionIndexV2)) {
+            return false;
+        }
+
+        DistributedExecutionIndexV2 dei = (DistributedExecutionIndexV2) o;
+
+        if (depth != dei.depth || hashCode() != dei.hashCode()) {
+            return false;
+        }
+
+        for (int i = depth - 1; i >= 0; i--) {
+            if (callstackKeyIds[i] != dei.callstackKeyIds[i] || callstackCounts[i] != dei.callstackCounts[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+
+        if (h == 0) {
+            h = 1;
+
+            for (int i = 0; i < depth; i++) {
+                h = 31 * h + callstackKeyIds[i];
+                h = 31 * h + callstackCounts[i];
+            }
+
+            hash = h;
+        }
+
+        return h;
+    }
+
+    @Override
+    public int compareTo(@NotNull DistributedExecutionIndex o) {
+        if (!(o instanceof DistributedExecutionIndexV2)) {
+            return this.toString().compareTo(o.toString());
+        }
+
+        DistributedExecutionIndexV2 dei = (DistributedExecutionIndexV2) o;
+        int commonDepth = Math.min(depth, dei.depth);
+
+        // Order by serialized key rather than identifier, so the order does not depend on the order keys were interned.
+        for (int i = 0; i < commonDepth; i++) {
+            if (callstackKeyIds[i] != dei.callstackKeyIds[i]) {
+                return KeyTable.serializedKeyFor(callstackKeyIds[i]).compareTo(KeyTable.serializedKeyFor(dei.callstackKeyIds[i]));
+            }
+
+            if (callstackCounts[i] != dei.callstackCounts[i]) {
+                return Integer.compare(callstackCounts[i], dei.callstackCounts[i]);
+            }
+        }
+
+        return Integer.compare(depth, dei.depth);
+    }
+
+    private DistributedExecutionIndexKey lastKey() {
+        if (depth == 0) {
+            throw new IndexOutOfBoundsException("empty distributed execution index has no last key.");
+        }
+
+        return KeyTable.keyFor(callstackKeyIds[depth - 1]);
+    }
+
+    @Override
+    public String projectionLastKeyWithOnlyMetadataAndSignature() {
+        return lastKey().onlyMetadataAndSignature();
+    }
+
+    @Override
+    public String projectionLastKeyWithOnlyMetadata() {
+        return lastKey().onlyMetadata();
+    }
+
+    @Override
+    public String projectionLastKeyWithOnlySignature() {
+        return lastKey().onlySignature();
+    }
+
+    @Override
+    public String projectionLastKeyWithOnlyDestination() {
+        if (depth == 0) {
+            throw new IndexOutOfBoundsException("empty distributed execution index has no last key.");
+        }
+
+        return callstackDestinations[depth - 1];
+    }
+
+    @Override
+    public String toString() {
+        String s = serialized;
+
+        if (s == null) {
+            s = serialize();
+            serialized = s;
+        }
+
+        return s;
+    }
+}
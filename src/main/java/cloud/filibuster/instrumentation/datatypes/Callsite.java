@@ -2,6 +2,7 @@ package cloud.filibuster.instrumentation.datatypes;
 
 import cloud.filibuster.exceptions.filibuster.FilibusterCallsiteGenerationException;
 import cloud.filibuster.exceptions.filibuster.FilibusterUnknownCallsiteException;
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
 import cloud.filibuster.junit.server.core.FilibusterCore;
 
 import java.io.BufferedReader;
@@ -17,10 +18,6 @@ import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import static cloud.filibuster.instrumentation.helpers.Property.getCallsiteLineNumberProperty;
-import static cloud.filibuster.instrumentation.helpers.Property.getCallsiteRemoveImportsFromStackTraceProperty;
-import static cloud.filibuster.instrumentation.helpers.Property.getCallsiteStackTraceWhitelistProperty;
-
 /**
  * Generate a callsite that is used to in the generation of a distributed execution index.
  */
@@ -102,7 +99,7 @@ public class Callsite {
             throw e;
         }
 
-        if (getCallsiteLineNumberProperty()) {
+        if (FilibusterRuntimeConfig.current().getCallsiteLineNumber()) {
             this.lineNumber = lastStackTraceElementString.substring(lastStackTraceElementString.indexOf(':') + 1, lastStackTraceElementString.indexOf(')'));
         } else {
             this.lineNumber = "0";
@@ -196,6 +193,8 @@ public class Callsite {
 
     private void computeFilteredStackTrace() {
         StackTraceElement[] ste = Thread.currentThread().getStackTrace();
+        boolean removeImportsFromStackTrace = FilibusterRuntimeConfig.current().getCallsiteRemoveImportsFromStackTrace();
+
         for (StackTraceElement stackTraceElement : ste) {
             int hashCode = stackTraceElement.hashCode();
             String stringStackTraceElement = stackTraceElement.toString();
@@ -211,7 +210,7 @@ public class Callsite {
 
             boolean foundInImportedLibrariesFromGradle = false;
 
-            if (getCallsiteRemoveImportsFromStackTraceProperty()) {
+            if (removeImportsFromStackTrace) {
                 for (String i : importedLibrariesFromGradle) {
                     if (stringStackTraceElement.contains(i)) {
                         foundInImportedLibrariesFromGradle = true;
@@ -264,7 +263,7 @@ public class Callsite {
 
                                 if (matcher.find()) {
                                     if (! importedLibrariesFromGradle.contains(matcher.group(1)) ) {
-                                        String whitelistedLibrary = getCallsiteStackTraceWhitelistProperty();
+                                        String whitelistedLibrary = FilibusterRuntimeConfig.current().getCallsiteStackTraceWhitelist();
 
                                         if (whitelistedLibrary == null) {
                                             importedLibrariesFromGradle.add(matcher.group(1));
@@ -0,0 +1,166 @@
+package cloud.filibuster.instrumentation.datatypes;
+
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.pool.SimpleChannelPool;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.AsciiString;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.FutureListener;
+
+import javax.annotation.Nullable;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Minimal HTTP/1.1 client for the RPC hooks of a Filibuster server listening on a Unix domain socket.
+ *
+ * <p>Connections are pooled and carry one request at a time.  Responses are returned as Armeria responses, so that
+ * callers handle them exactly as responses from the web client.  Requires native epoll, so it is only available on
+ * Linux.
+ */
+public final class DomainSocketHttpClient {
+    private static final int MAX_CONTENT_LENGTH = 64 * 1024 * 1024;
+
+    private static final AttributeKey<CompletableFuture<AggregatedHttpResponse>> RESPONSE_FUTURE =
+            AttributeKey.valueOf(DomainSocketHttpClient.class, "RESPONSE_FUTURE");
+
+    private final ChannelPool channelPool;
+
+    /**
+     * Create a client for the server listening on a Unix domain socket.
+     *
+     * @param path the file system path of the socket.
+     * @param eventLoopGroup an epoll event loop group.
+     */
+    public DomainSocketHttpClient(String path, EventLoopGroup eventLoopGroup) {
+        Bootstrap bootstrap = new Bootstrap()
+                .group(eventLoopGroup)
+                .channel(EpollDomainSocketChannel.class)
+                .remoteAddress(new DomainSocketAddress(path));
+
+        this.channelPool = new SimpleChannelPool(bootstrap, new AbstractChannelPoolHandler() {
+            @Override
+            public void channelCreated(Channel channel) {
+                channel.pipeline()
+                        .addLast(new HttpClientCodec())
+                        .addLast(new HttpObjectAggregator(MAX_CONTENT_LENGTH))
+                        .addLast(new ResponseHandler());
+            }
+        });
+    }
+
+    /**
+     * Send a request over the socket.
+     *
+     * @param requestHeaders the request headers; pseudo-headers other than the method and path are ignored.
+     * @param content the request body, if any.
+     * @return future completed with the aggregated response, or exceptionally if the request could not be sent.
+     */
+    public CompletableFuture<AggregatedHttpResponse> execute(RequestHeaders requestHeaders, @Nullable String content) {
+        CompletableFuture<AggregatedHttpResponse> responseFuture = new CompletableFuture<>();
+
+        channelPool.acquire().addListener((FutureListener<Channel>) acquired -> {
+            if (!acquired.isSuccess()) {
+                responseFuture.completeExceptionally(acquired.cause());
+                return;
+            }
+
+            Channel channel = acquired.getNow();
+            channel.attr(RESPONSE_FUTURE).set(responseFuture);
+
+            ByteBuf body = content == null ? Unpooled.EMPTY_BUFFER : Unpooled.copiedBuffer(content, StandardCharsets.UTF_8);
+            FullHttpRequest request = new DefaultFullHttpRequest(
+                    HttpVersion.HTTP_1_1,
+                    HttpMethod.valueOf(requestHeaders.method().name()),
+                    requestHeaders.path(),
+                    body);
+
+            for (Map.Entry<AsciiString, String> header : requestHeaders) {
+                if (header.getKey().charAt(0) != ':') {
+                    request.headers().add(header.getKey(), header.getValue());
+                }
+            }
+
+            request.headers().set(HttpHeaderNames.HOST, "localhost");
+            request.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, body.readableBytes());
+
+            channel.writeAndFlush(request).addListener((ChannelFutureListener) written -> {
+                if (!written.isSuccess()) {
+                    fail(channel, written.cause());
+                }
+            });
+        });
+
+        return responseFuture;
+    }
+
+    private void fail(Channel channel, Throwable cause) {
+        CompletableFuture<AggregatedHttpResponse> responseFuture = channel.attr(RESPONSE_FUTURE).getAndSet(null);
+
+        if (responseFuture != null) {
+            channel.close();
+            channelPool.release(channel);
+            responseFuture.completeExceptionally(cause);
+        }
+    }
+
+    private final class ResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+            CompletableFuture<AggregatedHttpResponse> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).getAndSet(null);
+
+            if (responseFuture == null) {
+                return;
+            }
+
+            AggregatedHttpResponse aggregatedHttpResponse = AggregatedHttpResponse.of(
+                    HttpStatus.valueOf(response.status().code()),
+                    MediaType.JSON_UTF_8,
+                    response.content().toString(StandardCharsets.UTF_8));
+
+            // The pool checks that a channel is still open before handing it out again.
+            if (!HttpUtil.isKeepAlive(response)) {
+                ctx.close();
+            }
+
+            channelPool.release(ctx.channel());
+            responseFuture.complete(aggregatedHttpResponse);
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            fail(ctx.channel(), new ClosedChannelException());
+            super.channelInactive(ctx);
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            fail(ctx.channel(), cause);
+        }
+    }
+}
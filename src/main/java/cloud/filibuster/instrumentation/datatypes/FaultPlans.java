@@ -0,0 +1,81 @@
+package cloud.filibuster.instrumentation.datatypes;
+
+import org.json.JSONObject;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fault plans prefetched from the Filibuster server, by service.
+ *
+ * <p>A fault plan lists the faults the current test execution will inject, keyed by serialized distributed execution
+ * index.  The server sends it along with the answer to a service's first request of a test execution, and it is
+ * removed when the iteration completes.
+ */
+public final class FaultPlans {
+    private static final Map<String, Map<String, JSONObject>> faultPlansByService = new ConcurrentHashMap<>();
+
+    private FaultPlans() {
+
+    }
+
+    /**
+     * Install the fault plan of the current test execution for a service.  Plans that the instrumentation cannot
+     * apply by itself replace any previous plan with nothing.
+     *
+     * @param serviceName the service issuing the RPCs.
+     * @param faultPlan the fault plan returned by the Filibuster server.
+     */
+    public static void install(String serviceName, JSONObject faultPlan) {
+        if (!faultPlan.optBoolean("prefetchable", false)) {
+            faultPlansByService.remove(serviceName);
+            return;
+        }
+
+        JSONObject faults = faultPlan.getJSONObject("faults");
+        Map<String, JSONObject> faultsByDistributedExecutionIndex = new HashMap<>();
+
+        for (String distributedExecutionIndex : faults.keySet()) {
+            faultsByDistributedExecutionIndex.put(distributedExecutionIndex, faults.getJSONObject(distributedExecutionIndex));
+        }
+
+        faultPlansByService.put(serviceName, faultsByDistributedExecutionIndex);
+    }
+
+    /**
+     * Whether a fault plan is installed for a service.
+     *
+     * @param serviceName the service issuing the RPCs.
+     * @return whether the service can decide locally which faults to inject.
+     */
+    public static boolean hasFaultPlan(String serviceName) {
+        return faultPlansByService.containsKey(serviceName);
+    }
+
+    /**
+     * Return the fault to inject for an RPC, if any.
+     *
+     * @param serviceName the service issuing the RPC.
+     * @param distributedExecutionIndex the serialized distributed execution index of the RPC.
+     * @return fault object, or null if the RPC should not be failed.
+     */
+    @Nullable
+    public static JSONObject getFault(String serviceName, String distributedExecutionIndex) {
+        Map<String, JSONObject> faultsByDistributedExecutionIndex = faultPlansByService.get(serviceName);
+
+        if (faultsByDistributedExecutionIndex == null) {
+            return null;
+        }
+
+        return faultsByDistributedExecutionIndex.get(distributedExecutionIndex);
+    }
+
+    /**
+     * Remove all fault plans; called when an iteration completes.
+     */
+    public static void clear() {
+        faultPlansByService.clear();
+    }
+}
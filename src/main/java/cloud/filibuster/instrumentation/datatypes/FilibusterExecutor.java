@@ -1,11 +1,23 @@
 package cloud.filibuster.instrumentation.datatypes;
 
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
 import cloud.filibuster.instrumentation.libraries.armeria.http.FilibusterDecoratingHttpClient;
+import cloud.filibuster.instrumentation.protocol.FilibusterInstrumentationServiceGrpc.FilibusterInstrumentationServiceBlockingStub;
+import cloud.filibuster.instrumentation.protocol.FilibusterInstrumentationServiceGrpc.FilibusterInstrumentationServiceStub;
 import com.linecorp.armeria.client.ClientFactory;
 import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.client.grpc.GrpcClients;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.common.util.EventLoopGroups;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
 
+import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -65,26 +77,118 @@ public class FilibusterExecutor {
                 .build();
     }
 
+    // Event loops used only by the web clients that talk to the Filibuster server, so that a thread blocked on a response
+    // from the Filibuster server is never the thread that has to process it.
+    private static final int MAX_FILIBUSTER_CLIENT_EVENT_LOOP_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static class FilibusterClientFactoryHolder {
+        private static final ClientFactory clientFactory = getNewClientFactory(MAX_FILIBUSTER_CLIENT_EVENT_LOOP_THREADS);
+    }
+
+    private static final ConcurrentHashMap<String, WebClient> webClients = new ConcurrentHashMap<>();
+
     /**
-     * Return a web client from the common pool.
+     * Return a web client from the common pool; shared by all callers with the same base URI.
      *
      * @param baseUri the base URI for the web client.
-     * @return a new web client.
+     * @return web client.
      */
     public static WebClient getWebClient(String baseUri) {
-        return WebClient.builder(baseUri).build();
+        return webClients.computeIfAbsent(baseUri, uri -> WebClient.builder(uri)
+                .factory(FilibusterClientFactoryHolder.clientFactory)
+                .build());
     }
 
+    private static final ConcurrentHashMap<String, FilibusterInstrumentationServiceBlockingStub> instrumentationServiceStubs = new ConcurrentHashMap<>();
+
+    /**
+     * Return a client for the binary instrumentation protocol of the Filibuster server; shared by all callers with the
+     * same base URI.
+     *
+     * @param baseUri the base URI of the Filibuster server.
+     * @return blocking gRPC stub.
+     */
+    public static FilibusterInstrumentationServiceBlockingStub getInstrumentationServiceStub(String baseUri) {
+        return instrumentationServiceStubs.computeIfAbsent(baseUri, uri -> GrpcClients.builder(uri)
+                .factory(FilibusterClientFactoryHolder.clientFactory)
+                .addHeader("X-Filibuster-Instrumentation", "true")
+                .build(FilibusterInstrumentationServiceBlockingStub.class));
+    }
+
+    private static final ConcurrentHashMap<String, FilibusterInstrumentationServiceStub> asyncInstrumentationServiceStubs = new ConcurrentHashMap<>();
+
+    /**
+     * Return an asynchronous client for the binary instrumentation protocol of the Filibuster server; shared by all
+     * callers with the same base URI.
+     *
+     * @param baseUri the base URI of the Filibuster server.
+     * @return asynchronous gRPC stub.
+     */
+    public static FilibusterInstrumentationServiceStub getAsyncInstrumentationServiceStub(String baseUri) {
+        return asyncInstrumentationServiceStubs.computeIfAbsent(baseUri, uri -> GrpcClients.builder(uri)
+                .factory(FilibusterClientFactoryHolder.clientFactory)
+                .addHeader("X-Filibuster-Instrumentation", "true")
+                .build(FilibusterInstrumentationServiceStub.class));
+    }
+
+    private static final ConcurrentHashMap<String, ConcurrentHashMap<String, WebClient>> decoratedWebClients = new ConcurrentHashMap<>();
+
     /**
-     * Return a decorated web client from the common pool.
+     * Return a decorated web client from the common pool; shared by all callers with the same base URI and service name.
      *
      * @param baseUri the base URI for the web client.
      * @param serviceName the name of the service issuing the call.
-     * @return a new web client.
+     * @return web client.
      */
     public static WebClient getDecoratedWebClient(String baseUri, String serviceName) {
-        return WebClient.builder(baseUri)
-                .decorator(delegate -> new FilibusterDecoratingHttpClient(delegate, serviceName))
-                .build();
+        return decoratedWebClients
+                .computeIfAbsent(baseUri, uri -> new ConcurrentHashMap<>())
+                .computeIfAbsent(serviceName, name -> WebClient.builder(baseUri)
+                        .factory(FilibusterClientFactoryHolder.clientFactory)
+                        .decorator(delegate -> new FilibusterDecoratingHttpClient(delegate, name))
+                        .build());
+    }
+
+    private static class DomainSocketEventLoopGroupHolder {
+        private static final EventLoopGroup eventLoopGroup = new EpollEventLoopGroup(MAX_FILIBUSTER_CLIENT_EVENT_LOOP_THREADS);
+    }
+
+    private static final ConcurrentHashMap<String, DomainSocketHttpClient> domainSocketHttpClients = new ConcurrentHashMap<>();
+
+    /**
+     * Return a client for a Filibuster server listening on a Unix domain socket; shared by all callers with the same path.
+     *
+     * @param path the file system path of the socket.
+     * @return domain socket client.
+     */
+    public static DomainSocketHttpClient getDomainSocketHttpClient(String path) {
+        return domainSocketHttpClients.computeIfAbsent(path, socketPath -> new DomainSocketHttpClient(socketPath, DomainSocketEventLoopGroupHolder.eventLoopGroup));
+    }
+
+    /**
+     * Send a request to the RPC hooks of the Filibuster server.  Uses the Unix domain socket named by the domain socket
+     * path property when it is set and the platform supports it, and the shared web clients otherwise.
+     *
+     * @param baseUri the base URI of the Filibuster server.
+     * @param serviceName the name of the service issuing the call, or null to skip the instrumentation of the call.
+     * @param requestHeaders the request headers.
+     * @param content the request body, if any.
+     * @return future completed with the aggregated response.
+     */
+    public static CompletableFuture<AggregatedHttpResponse> executeFilibusterServerRequest(
+            String baseUri,
+            @Nullable String serviceName,
+            RequestHeaders requestHeaders,
+            @Nullable String content
+    ) {
+        String domainSocketPath = FilibusterRuntimeConfig.current().getServerDomainSocketPath();
+
+        if (domainSocketPath != null && Epoll.isAvailable()) {
+            return getDomainSocketHttpClient(domainSocketPath).execute(requestHeaders, content);
+        }
+
+        WebClient webClient = serviceName == null ? getWebClient(baseUri) : getDecoratedWebClient(baseUri, serviceName);
+        HttpResponse httpResponse = content == null ? webClient.execute(requestHeaders) : webClient.execute(requestHeaders, content);
+        return httpResponse.aggregate();
     }
 }
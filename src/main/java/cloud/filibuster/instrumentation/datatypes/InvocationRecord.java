@@ -0,0 +1,187 @@
+package cloud.filibuster.instrumentation.datatypes;
+
+import cloud.filibuster.RpcType;
+import cloud.filibuster.dei.DistributedExecutionIndex;
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
+import cloud.filibuster.junit.server.core.serializers.GeneratedMessageV3Serializer;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.GeneratedMessageV3;
+import org.json.JSONObject;
+
+import javax.annotation.Nullable;
+
+/**
+ * Typed description of an outgoing RPC, used when the instrumentation invokes the Filibuster core in the same JVM.
+ *
+ * <p>The distributed execution index, clocks, callsite, and request are held by reference.  The JSON payload that
+ * the Filibuster server would otherwise receive is only rendered when first needed, and then reused.
+ */
+public final class InvocationRecord {
+    private final String sourceServiceName;
+    private final Callsite callsite;
+    @Nullable
+    private final RpcType rpcType;
+    @Nullable
+    private final GeneratedMessageV3 requestMessage;
+    private final VectorClock vectorClock;
+    private final VectorClock originVectorClock;
+    private final DistributedExecutionIndex distributedExecutionIndex;
+    @Nullable
+    private final DistributedExecutionIndex preliminaryDistributedExecutionIndex;
+
+    @Nullable
+    private JSONObject jsonObject;
+
+    private InvocationRecord(Builder builder) {
+        this.sourceServiceName = builder.sourceServiceName;
+        this.callsite = builder.callsite;
+        this.rpcType = builder.rpcType;
+        this.requestMessage = builder.requestMessage;
+        this.vectorClock = builder.vectorClock;
+        this.originVectorClock = builder.originVectorClock;
+        this.distributedExecutionIndex = builder.distributedExecutionIndex;
+        this.preliminaryDistributedExecutionIndex = builder.preliminaryDistributedExecutionIndex;
+    }
+
+    public String getSourceServiceName() {
+        return sourceServiceName;
+    }
+
+    public String getModule() {
+        return callsite.getClassOrModuleName();
+    }
+
+    public String getMethod() {
+        return callsite.getMethodOrFunctionName();
+    }
+
+    public CallsiteArguments getArgs() {
+        return callsite.getCallsiteArguments();
+    }
+
+    @Nullable
+    public RpcType getRpcType() {
+        return rpcType;
+    }
+
+    public DistributedExecutionIndex getDistributedExecutionIndex() {
+        return distributedExecutionIndex;
+    }
+
+    /**
+     * Render the invocation as the payload of the /filibuster/create call.  Rendered once; the same object is returned
+     * on every call.
+     *
+     * @return invocation payload.
+     */
+    public synchronized JSONObject toJsonObject() {
+        if (jsonObject == null) {
+            JSONObject invocationMetadata = new JSONObject();
+
+            if (rpcType != null) {
+                invocationMetadata.put("rpc_type", rpcType.toString());
+            } else {
+                invocationMetadata.put("rpc_type", "");
+            }
+
+            JSONObject invocationPayload = new JSONObject();
+            invocationPayload.put("instrumentation_type", "invocation");
+            invocationPayload.put("source_service_name", sourceServiceName);
+            invocationPayload.put("module", callsite.getClassOrModuleName());
+            invocationPayload.put("method", callsite.getMethodOrFunctionName());
+            invocationPayload.put("args", callsite.getCallsiteArguments().toJsonObject());
+
+            if (FilibusterRuntimeConfig.current().getTestV2Arguments() && requestMessage != null) {
+                invocationPayload.put("args_v2", GeneratedMessageV3Serializer.toJsonObject(requestMessage));
+            }
+
+            invocationPayload.put("kwargs", new JSONObject());
+            invocationPayload.put("callsite_file", callsite.getFileName());
+            invocationPayload.put("callsite_line", callsite.getLineNumber());
+            invocationPayload.put("full_traceback", callsite.getSerializedStackTrace());
+            invocationPayload.put("metadata", invocationMetadata);
+            invocationPayload.put("vclock", vectorClock.toJsonObject());
+            invocationPayload.put("origin_vclock", originVectorClock.toJsonObject());
+            invocationPayload.put("execution_index", distributedExecutionIndex.toString());
+
+            if (preliminaryDistributedExecutionIndex != null) {
+                invocationPayload.put("preliminary_execution_index", preliminaryDistributedExecutionIndex.toString());
+            }
+
+            jsonObject = invocationPayload;
+        }
+
+        return jsonObject;
+    }
+
+    @Override
+    public String toString() {
+        return toJsonObject().toString();
+    }
+
+    public static class Builder {
+        private String sourceServiceName;
+        private Callsite callsite;
+        @Nullable
+        private RpcType rpcType;
+        @Nullable
+        private GeneratedMessageV3 requestMessage;
+        private VectorClock vectorClock;
+        private VectorClock originVectorClock;
+        private DistributedExecutionIndex distributedExecutionIndex;
+        @Nullable
+        private DistributedExecutionIndex preliminaryDistributedExecutionIndex;
+
+        @CanIgnoreReturnValue
+        public Builder sourceServiceName(String sourceServiceName) {
+            this.sourceServiceName = sourceServiceName;
+            return this;
+        }
+
+        @CanIgnoreReturnValue
+        public Builder callsite(Callsite callsite) {
+            this.callsite = callsite;
+            return this;
+        }
+
+        @CanIgnoreReturnValue
+        public Builder rpcType(@Nullable RpcType rpcType) {
+            this.rpcType = rpcType;
+            return this;
+        }
+
+        @CanIgnoreReturnValue
+        public Builder requestMessage(@Nullable GeneratedMessageV3 requestMessage) {
+            this.requestMessage = requestMessage;
+            return this;
+        }
+
+        @CanIgnoreReturnValue
+        public Builder vectorClock(VectorClock vectorClock) {
+            this.vectorClock = vectorClock;
+            return this;
+        }
+
+        @CanIgnoreReturnValue
+        public Builder originVectorClock(VectorClock originVectorClock) {
+            this.originVectorClock = originVectorClock;
+            return this;
+        }
+
+        @CanIgnoreReturnValue
+        public Builder distributedExecutionIndex(DistributedExecutionIndex distributedExecutionIndex) {
+            this.distributedExecutionIndex = distributedExecutionIndex;
+            return this;
+        }
+
+        @CanIgnoreReturnValue
+        public Builder preliminaryDistributedExecutionIndex(@Nullable DistributedExecutionIndex preliminaryDistributedExecutionIndex) {
+            this.preliminaryDistributedExecutionIndex = preliminaryDistributedExecutionIndex;
+            return this;
+        }
+
+        public InvocationRecord build() {
+            return new InvocationRecord(this);
+        }
+    }
+}
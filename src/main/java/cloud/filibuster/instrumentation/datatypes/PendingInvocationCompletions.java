@@ -0,0 +1,95 @@
+package cloud.filibuster.instrumentation.datatypes;
+
+import cloud.filibuster.exceptions.filibuster.FilibusterServerBadResponseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks invocation completions that were sent to the Filibuster server without waiting for the response.
+ *
+ * <p>The server must have seen every completion of a test execution before the iteration is completed, so callers
+ * completing an iteration first wait for the completions still in flight.  Completions are only tracked in the JVM
+ * that sent them: waiting here says nothing about completions sent by services running in other processes.
+ */
+public final class PendingInvocationCompletions {
+    private static final long AWAIT_TIMEOUT_MILLIS = 30_000;
+
+    private static final Object monitor = new Object();
+
+    private static int pending = 0;
+
+    private static final List<Throwable> failures = new ArrayList<>();
+
+    private PendingInvocationCompletions() {
+
+    }
+
+    /**
+     * Track a completion that was sent to the Filibuster server.
+     *
+     * @param completionFuture future that completes, normally or exceptionally, when the server has responded.
+     */
+    public static void track(CompletableFuture<?> completionFuture) {
+        synchronized (monitor) {
+            pending++;
+        }
+
+        completionFuture.whenComplete((result, throwable) -> {
+            synchronized (monitor) {
+                if (throwable != null) {
+                    failures.add(throwable);
+                }
+
+                pending--;
+                monitor.notifyAll();
+            }
+        });
+    }
+
+    /**
+     * Wait until every tracked completion has been acknowledged by the Filibuster server.
+     *
+     * @throws FilibusterServerBadResponseException if a completion failed to reach the server since the last call,
+     *                                              or the server did not acknowledge them all in time.
+     */
+    public static void await() {
+        await(AWAIT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Wait until every tracked completion has been acknowledged by the Filibuster server.
+     *
+     * @param timeoutMillis how long to wait for the completions still in flight.
+     * @throws FilibusterServerBadResponseException if a completion failed to reach the server since the last call,
+     *                                              or the server did not acknowledge them all in time.
+     */
+    public static void await(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        synchronized (monitor) {
+            while (pending > 0) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+                if (remainingMillis <= 0) {
+                    FilibusterServerBadResponseException.logAndThrow("timed out waiting for " + pending + " invocation completions to reach the Filibuster server.");
+                }
+
+                try {
+                    monitor.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            if (!failures.isEmpty()) {
+                String message = failures.size() + " invocation completions did not reach the Filibuster server, first failure: " + failures.get(0);
+                failures.clear();
+                FilibusterServerBadResponseException.logAndThrow(message);
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package cloud.filibuster.instrumentation.datatypes;
+
+import cloud.filibuster.instrumentation.helpers.Property;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent map from service name and request id to per-request instrumentation state, such as vector clocks and
+ * distributed execution indexes.
+ *
+ * <p>Each service's requests live in their own generation, which is dropped as a whole when the service's clocks are
+ * reset, so invalidation does not depend on the number of requests.  When the request context TTL property is set,
+ * entries not written or read for that long are evicted, so long-running services do not accumulate state for
+ * requests that have finished.
+ *
+ * <p>Individual operations are thread-safe; read-modify-write sequences on the state of a request must hold the lock
+ * returned by {@link #lockFor(String, String)}.
+ *
+ * @param <V> the type of the per-request state.
+ */
+public final class RequestContextMap<V> {
+    private static final int LOCK_STRIPES = 64;
+
+    // Expired entries are swept once per this many writes to a generation.
+    private static final int SWEEP_INTERVAL = 1024;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private volatile ConcurrentHashMap<String, Generation<V>> generationsByService = new ConcurrentHashMap<>();
+
+    private volatile long ttlNanos = readTtlNanos();
+
+    public RequestContextMap() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private volatile long lastAccessNanos;
+
+        private Entry(V value, long lastAccessNanos) {
+            this.value = value;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+
+    private static final class Generation<V> {
+        private final ConcurrentHashMap<String, Entry<V>> entriesByRequestId = new ConcurrentHashMap<>();
+        private final AtomicInteger writesSinceSweep = new AtomicInteger();
+    }
+
+    private static long readTtlNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(Property.getInstrumentationRequestContextTtlMsProperty());
+    }
+
+    /**
+     * Return the lock guarding read-modify-write sequences on the state of a request.
+     *
+     * @param serviceName the service name.
+     * @param requestId the request identifier.
+     * @return lock object; shared with other requests that hash to the same stripe.
+     */
+    public Object lockFor(String serviceName, String requestId) {
+        int hash = 31 * serviceName.hashCode() + requestId.hashCode();
+        hash ^= (hash >>> 16);
+        return locks[hash & (LOCK_STRIPES - 1)];
+    }
+
+    public void put(String serviceName, String requestId, V value) {
+        Generation<V> generation = generationsByService.computeIfAbsent(serviceName, name -> new Generation<>());
+        long now = System.nanoTime();
+        generation.entriesByRequestId.put(requestId, new Entry<>(value, now));
+
+        if (generation.writesSinceSweep.incrementAndGet() >= SWEEP_INTERVAL) {
+            generation.writesSinceSweep.set(0);
+            ttlNanos = readTtlNanos();
+            sweep(generation, now);
+        }
+    }
+
+    @Nullable
+    public V get(String serviceName, String requestId) {
+        Generation<V> generation = generationsByService.get(serviceName);
+
+        if (generation == null) {
+            return null;
+        }
+
+        Entry<V> entry = generation.entriesByRequestId.get(requestId);
+
+        if (entry == null) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+
+        if (isExpired(entry, now)) {
+            generation.entriesByRequestId.remove(requestId, entry);
+            return null;
+        }
+
+        entry.lastAccessNanos = now;
+        return entry.value;
+    }
+
+    public V getOrDefault(String serviceName, String requestId, V defaultValue) {
+        V value = get(serviceName, requestId);
+        return value == null ? defaultValue : value;
+    }
+
+    public boolean containsKey(String serviceName, String requestId) {
+        return get(serviceName, requestId) != null;
+    }
+
+    /**
+     * Whether any state has been recorded for a service since its last reset.
+     *
+     * @param serviceName the service name.
+     * @return whether the service has a generation.
+     */
+    public boolean containsService(String serviceName) {
+        return generationsByService.containsKey(serviceName);
+    }
+
+    /**
+     * Drop the state of every request of a service.
+     *
+     * @param serviceName the service name.
+     */
+    public void clear(String serviceName) {
+        generationsByService.remove(serviceName);
+    }
+
+    /**
+     * Drop the state of every request of every service.
+     */
+    public void clear() {
+        generationsByService = new ConcurrentHashMap<>();
+        ttlNanos = readTtlNanos();
+    }
+
+    /**
+     * Return a copy of the current state, by service name and then request id.
+     *
+     * @return snapshot of the map.
+     */
+    public Map<String, Map<String, V>> toMap() {
+        Map<String, Map<String, V>> snapshot = new HashMap<>();
+        long now = System.nanoTime();
+
+        for (Map.Entry<String, Generation<V>> generation : generationsByService.entrySet()) {
+            HashMap<String, V> values = new HashMap<>();
+
+            for (Map.Entry<String, Entry<V>> entry : generation.getValue().entriesByRequestId.entrySet()) {
+                if (!isExpired(entry.getValue(), now)) {
+                    values.put(entry.getKey(), entry.getValue().value);
+                }
+            }
+
+            snapshot.put(generation.getKey(), values);
+        }
+
+        return snapshot;
+    }
+
+    private boolean isExpired(Entry<V> entry, long now) {
+        long ttl = ttlNanos;
+        return ttl > 0 && now - entry.lastAccessNanos > ttl;
+    }
+
+    private void sweep(Generation<V> generation, long now) {
+        if (ttlNanos <= 0) {
+            return;
+        }
+
+        Iterator<Entry<V>> iterator = generation.entriesByRequestId.values().iterator();
+
+        while (iterator.hasNext()) {
+            if (isExpired(iterator.next(), now)) {
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package cloud.filibuster.instrumentation.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Digest functions for the components of distributed execution index keys.
+ *
+ * <p>SHA1 produces the same digests as the Python instrumentation and the Filibuster server, so it must be used when
+ * execution indexes are compared across languages or with stored counterexamples.  MURMUR3_128 is a non-cryptographic
+ * 128-bit hash that is considerably cheaper to compute, for Java-only deployments.
+ */
+public enum DigestEngine {
+    SHA1 {
+        @Override
+        public String digest(String inputString) {
+            MessageDigest messageDigest = sha1MessageDigest.get();
+
+            if (messageDigest == null) {
+                return inputString;
+            }
+
+            messageDigest.reset();
+            return toHex(messageDigest.digest(inputString.getBytes(StandardCharsets.UTF_8)));
+        }
+    },
+
+    MURMUR3_128 {
+        @Override
+        public String digest(String inputString) {
+            return murmur3x64128(inputString.getBytes(StandardCharsets.UTF_8));
+        }
+    };
+
+    /**
+     * Given a string, produce a hex digest.
+     *
+     * @param inputString string to be converted to a digest.
+     * @return hex representation of the digest.
+     */
+    public abstract String digest(String inputString);
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    // MessageDigest instances are not thread-safe and expensive to look up, so keep one per thread.
+    @SuppressWarnings("ThreadLocalUsage")
+    private static final ThreadLocal<MessageDigest> sha1MessageDigest = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    });
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            chars[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+
+        return new String(chars);
+    }
+
+    private static String toHex(long h1, long h2) {
+        char[] chars = new char[32];
+
+        for (int i = 0; i < 16; i++) {
+            chars[15 - i] = HEX_DIGITS[(int) (h1 >>> (4 * i)) & 0xf];
+            chars[31 - i] = HEX_DIGITS[(int) (h2 >>> (4 * i)) & 0xf];
+        }
+
+        return new String(chars);
+    }
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    // MurmurHash3_x64_128, seed 0.
+    private static String murmur3x64128(byte[] data) {
+        int length = data.length;
+        int blocks = length / 16;
+        long h1 = 0;
+        long h2 = 0;
+
+        for (int i = 0; i < blocks; i++) {
+            long k1 = getLongLittleEndian(data, 16 * i);
+            long k2 = getLongLittleEndian(data, 16 * i + 8);
+
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        int tail = 16 * blocks;
+        int remaining = length & 15;
+
+        if (remaining > 8) {
+            long k2 = 0;
+
+            for (int i = remaining - 1; i >= 8; i--) {
+                k2 ^= (data[tail + i] & 0xffL) << (8 * (i - 8));
+            }
+
+            h2 ^= mixK2(k2);
+        }
+
+        if (remaining > 0) {
+            long k1 = 0;
+
+            for (int i = Math.min(remaining, 8) - 1; i >= 0; i--) {
+                k1 ^= (data[tail + i] & 0xffL) << (8 * i);
+            }
+
+            h1 ^= mixK1(k1);
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+
+        h1 += h2;
+        h2 += h1;
+
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+
+        h1 += h2;
+        h2 += h1;
+
+        return toHex(h1, h2);
+    }
+
+    private static long getLongLittleEndian(byte[] data, int offset) {
+        long result = 0;
+
+        for (int i = 7; i >= 0; i--) {
+            result = (result << 8) | (data[offset + i] & 0xffL);
+        }
+
+        return result;
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        return k1;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        return k2;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,160 @@
+package cloud.filibuster.instrumentation.helpers;
+
+import org.json.JSONObject;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Structured trace of the events on the RPC hot path (invocations, responses, injected faults.)
+ *
+ * <p>Recording an event stores it in a fixed-size ring buffer that a background flusher writes out.  JSON payloads are
+ * mutable, and their owners keep modifying them after recording them, so they are rendered compactly when recorded
+ * and only pretty-printed by the flusher; any other subject must be immutable, and is rendered only when flushed.
+ * Events are only recorded when the {@code filibuster.trace.enabled} property is set.  If the flusher falls more than
+ * a buffer behind, the oldest events are dropped and the number dropped is logged.
+ */
+public final class EventTrace {
+    private static final Logger logger = Logger.getLogger(EventTrace.class.getName());
+
+    public enum EventType {
+        BEGIN_INVOCATION,
+        BEGIN_INVOCATION_RESPONSE,
+        END_INVOCATION,
+        END_INVOCATION_RESPONSE,
+        FAULT_INJECTED,
+        INVOCATION_COMPLETE
+    }
+
+    private static final class Event {
+        private final long sequence;
+
+        private final EventType eventType;
+
+        private final long timestampMillis;
+
+        private final String threadName;
+
+        @Nullable
+        private final Object subject;
+
+        // Whether the subject is a JSON payload already rendered as a string.
+        private final boolean renderedJson;
+
+        private Event(long sequence, EventType eventType, long timestampMillis, String threadName, @Nullable Object subject, boolean renderedJson) {
+            this.sequence = sequence;
+            this.eventType = eventType;
+            this.timestampMillis = timestampMillis;
+            this.threadName = threadName;
+            this.subject = subject;
+            this.renderedJson = renderedJson;
+        }
+    }
+
+    // Must be a power of two.
+    private static final int CAPACITY = 4096;
+
+    private static final long FLUSH_INTERVAL_MILLIS = 100;
+
+    private static final AtomicReferenceArray<Event> events = new AtomicReferenceArray<>(CAPACITY);
+
+    private static final AtomicLong nextSequence = new AtomicLong();
+
+    // Sequence number of the next event to be flushed; only advanced while holding the class lock.
+    private static long nextSequenceToFlush = 0;
+
+    private static final AtomicBoolean flusherStarted = new AtomicBoolean(false);
+
+    private EventTrace() {
+
+    }
+
+    /**
+     * Record an event, if tracing is enabled.
+     *
+     * @param eventType type of event.
+     * @param subject the payload, fault, or other object the event is about; JSON payloads are rendered immediately,
+     *                any other subject must be immutable and is rendered only when flushed.
+     */
+    public static void record(EventType eventType, @Nullable Object subject) {
+        if (!FilibusterRuntimeConfig.current().getTraceEnabled()) {
+            return;
+        }
+
+        Event event;
+        long sequence = nextSequence.getAndIncrement();
+
+        if (subject instanceof JSONObject) {
+            event = new Event(sequence, eventType, System.currentTimeMillis(), Thread.currentThread().getName(), subject.toString(), /* renderedJson= */ true);
+        } else {
+            event = new Event(sequence, eventType, System.currentTimeMillis(), Thread.currentThread().getName(), subject, /* renderedJson= */ false);
+        }
+
+        events.set((int) (sequence & (CAPACITY - 1)), event);
+
+        if (!flusherStarted.get() && flusherStarted.compareAndSet(false, true)) {
+            startFlusher();
+        }
+    }
+
+    /**
+     * Write out all recorded events that have not been written yet.
+     */
+    public static synchronized void flush() {
+        long lastSequence = nextSequence.get();
+
+        if (lastSequence - nextSequenceToFlush > CAPACITY) {
+            logger.warning("[FILIBUSTER-TRACE]: dropped " + (lastSequence - nextSequenceToFlush - CAPACITY) + " events.");
+            nextSequenceToFlush = lastSequence - CAPACITY;
+        }
+
+        while (nextSequenceToFlush < lastSequence) {
+            Event event = events.get((int) (nextSequenceToFlush & (CAPACITY - 1)));
+
+            // Slot either not written yet (reserved, but still being recorded) or already overwritten.
+            if (event == null || event.sequence < nextSequenceToFlush) {
+                break;
+            }
+
+            if (event.sequence == nextSequenceToFlush) {
+                // A failure must not stop the flusher, which would then never write out another event.
+                try {
+                    logger.info(render(event));
+                } catch (RuntimeException e) {
+                    logger.log(Level.WARNING, "[FILIBUSTER-TRACE]: could not render event #" + event.sequence + ".", e);
+                }
+            }
+
+            nextSequenceToFlush++;
+        }
+    }
+
+    private static String render(Event event) {
+        String renderedSubject;
+
+        if (event.renderedJson) {
+            renderedSubject = new JSONObject((String) event.subject).toString(4);
+        } else {
+            renderedSubject = String.valueOf(event.subject);
+        }
+
+        return "[FILIBUSTER-TRACE]: #" + event.sequence + " " + event.eventType + " at " + event.timestampMillis + " on " + event.threadName + ": " + renderedSubject;
+    }
+
+    private static void startFlusher() {
+        ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "filibuster-event-trace-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        scheduledExecutorService.scheduleWithFixedDelay(EventTrace::flush, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+}
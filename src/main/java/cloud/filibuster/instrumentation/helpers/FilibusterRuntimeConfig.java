@@ -0,0 +1,316 @@
+package cloud.filibuster.instrumentation.helpers;
+
+import cloud.filibuster.dei.DistributedExecutionIndexType;
+import cloud.filibuster.dei.implementations.DistributedExecutionIndexV1;
+
+import javax.annotation.Nullable;
+import java.io.File;
+
+/**
+ * Immutable snapshot of the properties read on every instrumented call.
+ *
+ * <p>The system properties remain the source of truth: the snapshot is captured from them when the Filibuster server
+ * starts and when a test starts, and it is discarded whenever a property is set through {@link Property} or
+ * {@link DistributedExecutionIndexV1.Properties}, so that the next read captures it again.  Properties set directly
+ * with {@link System#setProperty} are only picked up at the next capture.
+ */
+public final class FilibusterRuntimeConfig {
+    @Nullable
+    private static volatile FilibusterRuntimeConfig current;
+
+    private final DistributedExecutionIndexType deiVersion;
+    private final DigestEngine deiDigestEngine;
+    private final boolean deiTestScopeCounter;
+    private final boolean deiMetadataInclude;
+    private final boolean deiMetadataDigest;
+    private final boolean deiSourceInclude;
+    private final boolean deiSourceDigest;
+    private final boolean deiSignatureInclude;
+    private final boolean deiSignatureDigest;
+    private final boolean deiSynchronousInclude;
+    private final boolean deiSynchronousDigest;
+    private final boolean deiAsynchronousInclude;
+    private final boolean deiAsynchronousDigest;
+
+    private final boolean callsiteLineNumber;
+    private final boolean callsiteRemoveImportsFromStackTrace;
+    @Nullable
+    private final String callsiteStackTraceWhitelist;
+
+    private final String serverHost;
+    private final int serverPort;
+    private final String serverBaseUri;
+    private final boolean serverBackendCanInvokeDirectly;
+    @Nullable
+    private final String serverDomainSocketPath;
+
+    private final boolean instrumentationEnabled;
+    private final boolean instrumentationServerCommunicationEnabled;
+    private final boolean instrumentationServerCommunicationGrpcEnabled;
+    private final boolean instrumentationServerCommunicationSingleRoundTripEnabled;
+    private final boolean instrumentationServerCommunicationAsyncCompletionEnabled;
+    private final boolean instrumentationFaultPlanPrefetchEnabled;
+    private final boolean clientInstrumentorUseOverrideRequestId;
+
+    private final boolean testV2Arguments;
+    private final boolean testV2Exception;
+    private final boolean testV2ReturnValue;
+
+    private final boolean traceEnabled;
+
+    @Nullable
+    private final String counterexampleFile;
+    @Nullable
+    private final File counterexampleFileHandle;
+    @Nullable
+    private volatile ResolvedCounterexample resolvedCounterexample;
+
+    // The counterexample read from the file, and the modification time of the file when it was read.
+    private static final class ResolvedCounterexample {
+        private final long lastModified;
+        @Nullable
+        private final IndexedCounterexample counterexample;
+
+        private ResolvedCounterexample(long lastModified, @Nullable IndexedCounterexample counterexample) {
+            this.lastModified = lastModified;
+            this.counterexample = counterexample;
+        }
+    }
+
+    private FilibusterRuntimeConfig() {
+        this.deiVersion = Property.getDeiVersionProperty();
+        this.deiDigestEngine = Property.getDeiDigestEngineProperty();
+        this.deiTestScopeCounter = DistributedExecutionIndexV1.Properties.TestScope.getTestScopeCounter();
+        this.deiMetadataInclude = DistributedExecutionIndexV1.Properties.Metadata.getMetadataInclude();
+        this.deiMetadataDigest = DistributedExecutionIndexV1.Properties.Metadata.getMetadataDigest();
+        this.deiSourceInclude = DistributedExecutionIndexV1.Properties.Source.getSourceInclude();
+        this.deiSourceDigest = DistributedExecutionIndexV1.Properties.Source.getSourceDigest();
+        this.deiSignatureInclude = DistributedExecutionIndexV1.Properties.Signature.getSignatureInclude();
+        this.deiSignatureDigest = DistributedExecutionIndexV1.Properties.Signature.getSignatureDigest();
+        this.deiSynchronousInclude = DistributedExecutionIndexV1.Properties.Synchronous.getSynchronousInclude();
+        this.deiSynchronousDigest = DistributedExecutionIndexV1.Properties.Synchronous.getSynchronousDigest();
+        this.deiAsynchronousInclude = DistributedExecutionIndexV1.Properties.Asynchronous.getAsynchronousInclude();
+        this.deiAsynchronousDigest = DistributedExecutionIndexV1.Properties.Asynchronous.getAsynchronousDigest();
+
+        this.callsiteLineNumber = Property.getCallsiteLineNumberProperty();
+        this.callsiteRemoveImportsFromStackTrace = Property.getCallsiteRemoveImportsFromStackTraceProperty();
+        this.callsiteStackTraceWhitelist = Property.getCallsiteStackTraceWhitelistProperty();
+
+        this.serverHost = Property.getServerHostProperty();
+        this.serverPort = Property.getServerPortProperty();
+        this.serverBaseUri = "http://" + serverHost + ":" + serverPort + "/";
+        this.serverBackendCanInvokeDirectly = Property.getServerBackendCanInvokeDirectlyProperty();
+        this.serverDomainSocketPath = Property.getServerDomainSocketPathProperty();
+
+        this.instrumentationEnabled = Property.getInstrumentationEnabledProperty();
+        this.instrumentationServerCommunicationEnabled = Property.getInstrumentationServerCommunicationEnabledProperty();
+        this.instrumentationServerCommunicationGrpcEnabled = Property.getInstrumentationServerCommunicationGrpcEnabledProperty();
+        this.instrumentationServerCommunicationSingleRoundTripEnabled = Property.getInstrumentationServerCommunicationSingleRoundTripEnabledProperty();
+        this.instrumentationServerCommunicationAsyncCompletionEnabled = Property.getInstrumentationServerCommunicationAsyncCompletionEnabledProperty();
+        this.instrumentationFaultPlanPrefetchEnabled = Property.getInstrumentationFaultPlanPrefetchEnabledProperty();
+        this.clientInstrumentorUseOverrideRequestId = Property.getClientInstrumentorUseOverrideRequestIdProperty();
+
+        this.testV2Arguments = Property.getTestV2Arguments();
+        this.testV2Exception = Property.getTestV2Exception();
+        this.testV2ReturnValue = Property.getTestV2ReturnValue();
+
+        this.traceEnabled = Property.getTraceEnabledProperty();
+
+        this.counterexampleFile = Property.getInstrumentationCounterexampleFileProperty();
+        this.counterexampleFileHandle = counterexampleFile == null || counterexampleFile.isEmpty() ? null : new File(counterexampleFile);
+    }
+
+    /**
+     * Return the current snapshot, capturing one if none has been captured since the last property change.
+     *
+     * @return the current runtime configuration.
+     */
+    public static FilibusterRuntimeConfig current() {
+        FilibusterRuntimeConfig runtimeConfig = current;
+
+        if (runtimeConfig != null) {
+            return runtimeConfig;
+        }
+
+        return capture();
+    }
+
+    /**
+     * Capture the properties and publish them as the current snapshot.
+     *
+     * @return the new runtime configuration.
+     */
+    public static synchronized FilibusterRuntimeConfig capture() {
+        FilibusterRuntimeConfig runtimeConfig = new FilibusterRuntimeConfig();
+        current = runtimeConfig;
+        return runtimeConfig;
+    }
+
+    /**
+     * Discard the current snapshot; called whenever a property changes.
+     */
+    public static synchronized void invalidate() {
+        current = null;
+    }
+
+    public DistributedExecutionIndexType getDeiVersion() {
+        return deiVersion;
+    }
+
+    public DigestEngine getDeiDigestEngine() {
+        return deiDigestEngine;
+    }
+
+    public boolean getDeiTestScopeCounter() {
+        return deiTestScopeCounter;
+    }
+
+    public boolean getDeiMetadataInclude() {
+        return deiMetadataInclude;
+    }
+
+    public boolean getDeiMetadataDigest() {
+        return deiMetadataDigest;
+    }
+
+    public boolean getDeiSourceInclude() {
+        return deiSourceInclude;
+    }
+
+    public boolean getDeiSourceDigest() {
+        return deiSourceDigest;
+    }
+
+    public boolean getDeiSignatureInclude() {
+        return deiSignatureInclude;
+    }
+
+    public boolean getDeiSignatureDigest() {
+        return deiSignatureDigest;
+    }
+
+    public boolean getDeiSynchronousInclude() {
+        return deiSynchronousInclude;
+    }
+
+    public boolean getDeiSynchronousDigest() {
+        return deiSynchronousDigest;
+    }
+
+    public boolean getDeiAsynchronousInclude() {
+        return deiAsynchronousInclude;
+    }
+
+    public boolean getDeiAsynchronousDigest() {
+        return deiAsynchronousDigest;
+    }
+
+    public boolean getCallsiteLineNumber() {
+        return callsiteLineNumber;
+    }
+
+    public boolean getCallsiteRemoveImportsFromStackTrace() {
+        return callsiteRemoveImportsFromStackTrace;
+    }
+
+    @Nullable
+    public String getCallsiteStackTraceWhitelist() {
+        return callsiteStackTraceWhitelist;
+    }
+
+    public String getServerHost() {
+        return serverHost;
+    }
+
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    public String getServerBaseUri() {
+        return serverBaseUri;
+    }
+
+    public boolean getServerBackendCanInvokeDirectly() {
+        return serverBackendCanInvokeDirectly;
+    }
+
+    @Nullable
+    public String getServerDomainSocketPath() {
+        return serverDomainSocketPath;
+    }
+
+    public boolean getInstrumentationEnabled() {
+        return instrumentationEnabled;
+    }
+
+    public boolean getInstrumentationServerCommunicationEnabled() {
+        return instrumentationServerCommunicationEnabled;
+    }
+
+    public boolean getInstrumentationServerCommunicationGrpcEnabled() {
+        return instrumentationServerCommunicationGrpcEnabled;
+    }
+
+    public boolean getInstrumentationServerCommunicationSingleRoundTripEnabled() {
+        return instrumentationServerCommunicationSingleRoundTripEnabled;
+    }
+
+    public boolean getInstrumentationServerCommunicationAsyncCompletionEnabled() {
+        return instrumentationServerCommunicationAsyncCompletionEnabled;
+    }
+
+    public boolean getInstrumentationFaultPlanPrefetchEnabled() {
+        return instrumentationFaultPlanPrefetchEnabled;
+    }
+
+    public boolean getClientInstrumentorUseOverrideRequestId() {
+        return clientInstrumentorUseOverrideRequestId;
+    }
+
+    public boolean getTestV2Arguments() {
+        return testV2Arguments;
+    }
+
+    public boolean getTestV2Exception() {
+        return testV2Exception;
+    }
+
+    public boolean getTestV2ReturnValue() {
+        return testV2ReturnValue;
+    }
+
+    public boolean getTraceEnabled() {
+        return traceEnabled;
+    }
+
+    @Nullable
+    public String getCounterexampleFile() {
+        return counterexampleFile;
+    }
+
+    /**
+     * Return the counterexample named by the counterexample property when the snapshot was captured.
+     *
+     * <p>Only the modification time of the file is checked on each call; the file is looked up again, and reloaded
+     * as described in {@link IndexedCounterexample}, when it has been created, removed, or modified since.
+     *
+     * @return indexed counterexample, or null if there is no counterexample to replay.
+     */
+    @Nullable
+    public IndexedCounterexample getCounterexample() {
+        if (counterexampleFileHandle == null) {
+            return null;
+        }
+
+        // Zero if the file does not exist.
+        long lastModified = counterexampleFileHandle.lastModified();
+        ResolvedCounterexample resolved = resolvedCounterexample;
+
+        if (resolved == null || resolved.lastModified != lastModified) {
+            resolved = new ResolvedCounterexample(lastModified, IndexedCounterexample.fromFile(counterexampleFile));
+            resolvedCounterexample = resolved;
+        }
+
+        return resolved.counterexample;
+    }
+}
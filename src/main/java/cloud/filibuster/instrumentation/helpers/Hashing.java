@@ -1,50 +1,61 @@
 package cloud.filibuster.instrumentation.helpers;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.Formatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Hashing function for use when hashing call sites for use in execution indexes.
+ *
+ * <p>Call sites, method names, and services repeat across iterations, so digests are cached per digest engine.  The
+ * cache is bounded: when it fills up, it is emptied and refilled by the digests still in use.
  */
-// From: https://stackoverflow.com/questions/4895523/java-string-to-sha1
 public class Hashing {
+    private static final int MAX_CACHED_DIGESTS = 8192;
+
+    private static final Map<DigestEngine, Map<String, String>> digestsByEngine = new EnumMap<>(DigestEngine.class);
+
+    static {
+        for (DigestEngine digestEngine : DigestEngine.values()) {
+            digestsByEngine.put(digestEngine, new ConcurrentHashMap<>());
+        }
+    }
+
     private Hashing() {
 
     }
 
     /**
-     * Given a string, produce a digest for use in JSON.
+     * Given a string, produce a digest for use in JSON, using the digest engine named by the DEI digest engine property.
      *
      * @param inputString string to be converted to a digest
      * @return string or string as hex representation
      */
     public static String createDigest(String inputString) {
-        try {
-            MessageDigest crypt = MessageDigest.getInstance("SHA-1");
-            crypt.reset();
-            crypt.update(inputString.getBytes(StandardCharsets.UTF_8));
-            return byteToHex(crypt.digest());
-        } catch (NoSuchAlgorithmException e) {
-            return inputString;
-        }
+        return createDigest(inputString, FilibusterRuntimeConfig.current().getDeiDigestEngine());
     }
 
     /**
-     * Convert byte array to hex.
+     * Given a string, produce a digest for use in JSON.
      *
-     * @param hash byte array of hash to convert to hex representation
-     * @return hex representation
+     * @param inputString string to be converted to a digest
+     * @param digestEngine the digest function to use
+     * @return string or string as hex representation
      */
-    private static String byteToHex(byte[] hash)
-    {
-        Formatter formatter = new Formatter();
-        for (byte b : hash) {
-            formatter.format("%02x", b);
+    public static String createDigest(String inputString, DigestEngine digestEngine) {
+        Map<String, String> digests = digestsByEngine.get(digestEngine);
+        String digest = digests.get(inputString);
+
+        if (digest == null) {
+            digest = digestEngine.digest(inputString);
+
+            if (digests.size() >= MAX_CACHED_DIGESTS) {
+                digests.clear();
+            }
+
+            digests.put(inputString, digest);
         }
-        String result = formatter.toString();
-        formatter.close();
-        return result;
+
+        return digest;
     }
 }
@@ -0,0 +1,137 @@
+package cloud.filibuster.instrumentation.helpers;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counterexample loaded from the file named by the counterexample property, with its failures indexed by distributed
+ * execution index.
+ *
+ * <p>The file is read and parsed once per JVM and shared by every instrumentor; it is loaded again only when its
+ * name, size, or modification time changes.
+ */
+public final class IndexedCounterexample {
+    @Nullable
+    private static volatile IndexedCounterexample current;
+
+    private final String fileName;
+    private final long lastModified;
+    private final long length;
+    private final JSONObject counterexample;
+    private final Map<String, JSONObject> failuresByDistributedExecutionIndex;
+
+    private IndexedCounterexample(String fileName, long lastModified, long length, JSONObject counterexample) {
+        this.fileName = fileName;
+        this.lastModified = lastModified;
+        this.length = length;
+        this.counterexample = counterexample;
+
+        JSONObject testExecution = Counterexample.loadTestExecutionFromCounterexample(counterexample);
+        JSONArray failures = testExecution.getJSONArray("failures");
+        Map<String, JSONObject> failuresByDistributedExecutionIndex = new HashMap<>();
+
+        for (int i = 0; i < failures.length(); i++) {
+            JSONObject failure = failures.getJSONObject(i);
+
+            // Match a linear scan of the failures: the first failure for an index wins.
+            failuresByDistributedExecutionIndex.putIfAbsent(failure.getString("execution_index"), failure);
+        }
+
+        this.failuresByDistributedExecutionIndex = Collections.unmodifiableMap(failuresByDistributedExecutionIndex);
+    }
+
+    /**
+     * Return the counterexample named by the counterexample property, if the property is set and the file exists.
+     *
+     * @return indexed counterexample, or null if there is no counterexample to replay.
+     */
+    @Nullable
+    public static IndexedCounterexample fromEnvironment() {
+        return fromFile(Property.getInstrumentationCounterexampleFileProperty());
+    }
+
+    /**
+     * Return the counterexample stored in the named file, if a file is named and it exists.
+     *
+     * @param counterexampleFileName the name of the counterexample file, or null.
+     * @return indexed counterexample, or null if there is no counterexample to replay.
+     */
+    @Nullable
+    static IndexedCounterexample fromFile(@Nullable String counterexampleFileName) {
+        if (counterexampleFileName == null || counterexampleFileName.isEmpty()) {
+            return null;
+        }
+
+        File f = new File(counterexampleFileName);
+
+        if (!f.exists()) {
+            return null;
+        }
+
+        long lastModified = f.lastModified();
+        long length = f.length();
+
+        IndexedCounterexample indexedCounterexample = current;
+
+        if (indexedCounterexample != null
+                && indexedCounterexample.fileName.equals(counterexampleFileName)
+                && indexedCounterexample.lastModified == lastModified
+                && indexedCounterexample.length == length) {
+            return indexedCounterexample;
+        }
+
+        synchronized (IndexedCounterexample.class) {
+            indexedCounterexample = current;
+
+            if (indexedCounterexample == null
+                    || !indexedCounterexample.fileName.equals(counterexampleFileName)
+                    || indexedCounterexample.lastModified != lastModified
+                    || indexedCounterexample.length != length) {
+                JSONObject counterexample = Counterexample.loadCounterexampleAsJsonObject(counterexampleFileName);
+                indexedCounterexample = new IndexedCounterexample(counterexampleFileName, lastModified, length, counterexample);
+                current = indexedCounterexample;
+            }
+
+            return indexedCounterexample;
+        }
+    }
+
+    public JSONObject getCounterexample() {
+        return counterexample;
+    }
+
+    /**
+     * Return the failure to inject for a distributed execution index, if any.
+     *
+     * @param distributedExecutionIndex the serialized distributed execution index.
+     * @return the failure, or null.
+     */
+    @Nullable
+    public JSONObject shouldFailRequestWith(String distributedExecutionIndex) {
+        return failuresByDistributedExecutionIndex.get(distributedExecutionIndex);
+    }
+
+    /**
+     * Return the failure to inject for a distributed execution index, or a response without a fault.
+     *
+     * @param distributedExecutionIndex the serialized distributed execution index.
+     * @return the failure, or a response containing only the index.
+     */
+    public JSONObject shouldFailRequestWithOrDefault(String distributedExecutionIndex) {
+        JSONObject failure = shouldFailRequestWith(distributedExecutionIndex);
+
+        if (failure == null) {
+            JSONObject response = new JSONObject();
+            response.put("execution_index", distributedExecutionIndex);
+            return response;
+        }
+
+        return failure;
+    }
+}
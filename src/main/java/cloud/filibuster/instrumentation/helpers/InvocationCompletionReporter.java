@@ -0,0 +1,217 @@
+package cloud.filibuster.instrumentation.helpers;
+
+import cloud.filibuster.exceptions.filibuster.FilibusterServerBadResponseException;
+import cloud.filibuster.instrumentation.datatypes.FilibusterExecutor;
+import cloud.filibuster.instrumentation.datatypes.PendingInvocationCompletions;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.BeginInvocationBatchRequest;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.EndInvocationBatchRequest;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.RequestHeaders;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reports invocation completions to the Filibuster server off the application's thread.
+ *
+ * <p>Completions are placed on a bounded queue; when the queue is full, the reporting thread blocks until the
+ * background thread catches up.  The background thread sends whatever is queued, in order, as a batch per Filibuster
+ * server.  Every completion is tracked in {@link PendingInvocationCompletions}, which is drained before the iteration
+ * is completed; a batch the server did not accept fails the iteration.
+ *
+ * <p>That drain only covers completions reported from the JVM running the JUnit test, so the server observes the same
+ * completions as with synchronous reporting only for services running in that JVM.  A service running in another
+ * process may still be reporting when the iteration completes, so asynchronous completion should not be enabled for it.
+ *
+ * <p>Invocations whose faults were decided from a prefetched fault plan are reported through the same queue, so that
+ * the server always sees an invocation begin before it completes.
+ */
+public final class InvocationCompletionReporter {
+    private static final Logger logger = Logger.getLogger(InvocationCompletionReporter.class.getName());
+
+    private static final int QUEUE_CAPACITY = 1024;
+
+    private static final int MAX_BATCH_SIZE = 64;
+
+    private static final BlockingQueue<QueuedCompletion> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    static {
+        Thread reporterThread = new Thread(InvocationCompletionReporter::run, "filibuster-completion-reporter");
+        reporterThread.setDaemon(true);
+        reporterThread.start();
+    }
+
+    private InvocationCompletionReporter() {
+
+    }
+
+    private static final class QueuedCompletion {
+        private final String filibusterBaseUri;
+        private final String serviceName;
+        private final JSONObject payload;
+        private final boolean isBegin;
+        private final CompletableFuture<Void> sent = new CompletableFuture<>();
+
+        private QueuedCompletion(String filibusterBaseUri, String serviceName, JSONObject payload, boolean isBegin) {
+            this.filibusterBaseUri = filibusterBaseUri;
+            this.serviceName = serviceName;
+            this.payload = payload;
+            this.isBegin = isBegin;
+        }
+    }
+
+    /**
+     * Queue an invocation completion for the Filibuster server.
+     *
+     * @param filibusterBaseUri the base URI of the Filibuster server.
+     * @param serviceName the name of the service that issued the invocation.
+     * @param invocationCompletePayload the payload of the /filibuster/update call.
+     */
+    public static void report(String filibusterBaseUri, String serviceName, JSONObject invocationCompletePayload) {
+        enqueue(new QueuedCompletion(filibusterBaseUri, serviceName, invocationCompletePayload, /* isBegin= */ false));
+    }
+
+    /**
+     * Queue an invocation whose faults were already decided by the instrumentation.
+     *
+     * @param filibusterBaseUri the base URI of the Filibuster server.
+     * @param serviceName the name of the service that issued the invocation.
+     * @param invocationPayload the payload of the /filibuster/create call.
+     */
+    public static void reportBeginInvocation(String filibusterBaseUri, String serviceName, JSONObject invocationPayload) {
+        enqueue(new QueuedCompletion(filibusterBaseUri, serviceName, invocationPayload, /* isBegin= */ true));
+    }
+
+    private static void enqueue(QueuedCompletion queuedCompletion) {
+        PendingInvocationCompletions.track(queuedCompletion.sent);
+
+        try {
+            queue.put(queuedCompletion);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queuedCompletion.sent.completeExceptionally(e);
+        }
+    }
+
+    @SuppressWarnings("InfiniteLoopStatement")
+    private static void run() {
+        List<QueuedCompletion> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+        while (true) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                for (QueuedCompletion queuedCompletion : batch) {
+                    queuedCompletion.sent.complete(null);
+                }
+
+                batch.clear();
+            }
+        }
+    }
+
+    private static void send(List<QueuedCompletion> batch) {
+        // Almost always a single server; keep the order of completions within each.
+        Map<String, List<QueuedCompletion>> batchesByServer = new LinkedHashMap<>();
+
+        for (QueuedCompletion queuedCompletion : batch) {
+            batchesByServer.computeIfAbsent(queuedCompletion.filibusterBaseUri, uri -> new ArrayList<>()).add(queuedCompletion);
+        }
+
+        for (Map.Entry<String, List<QueuedCompletion>> serverBatch : batchesByServer.entrySet()) {
+            List<QueuedCompletion> serverCompletions = serverBatch.getValue();
+            int start = 0;
+
+            // Send each run of begins or completions as its own batch, keeping the order across runs.
+            while (start < serverCompletions.size()) {
+                int end = start + 1;
+
+                while (end < serverCompletions.size() && serverCompletions.get(end).isBegin == serverCompletions.get(start).isBegin) {
+                    end++;
+                }
+
+                List<QueuedCompletion> run = serverCompletions.subList(start, end);
+
+                try {
+                    if (FilibusterRuntimeConfig.current().getInstrumentationServerCommunicationGrpcEnabled()) {
+                        sendWithGrpc(serverBatch.getKey(), run);
+                    } else {
+                        sendWithHttp(serverBatch.getKey(), run);
+                    }
+                } catch (RuntimeException e) {
+                    logger.log(Level.SEVERE, "cannot get information from Filibuster server: " + e);
+
+                    for (QueuedCompletion queuedCompletion : run) {
+                        queuedCompletion.sent.completeExceptionally(e);
+                    }
+                }
+
+                start = end;
+            }
+        }
+    }
+
+    private static void sendWithGrpc(String filibusterBaseUri, List<QueuedCompletion> batch) {
+        if (batch.get(0).isBegin) {
+            BeginInvocationBatchRequest.Builder builder = BeginInvocationBatchRequest.newBuilder();
+
+            for (QueuedCompletion queuedCompletion : batch) {
+                builder.addInvocations(ProtocolMessages.toBeginInvocationRequest(queuedCompletion.payload));
+            }
+
+            FilibusterExecutor.getInstrumentationServiceStub(filibusterBaseUri).beginInvocations(builder.build());
+        } else {
+            EndInvocationBatchRequest.Builder builder = EndInvocationBatchRequest.newBuilder();
+
+            for (QueuedCompletion queuedCompletion : batch) {
+                builder.addInvocations(ProtocolMessages.toEndInvocationRequest(queuedCompletion.payload, /* isUpdate= */ false));
+            }
+
+            FilibusterExecutor.getInstrumentationServiceStub(filibusterBaseUri).endInvocations(builder.build());
+        }
+    }
+
+    private static void sendWithHttp(String filibusterBaseUri, List<QueuedCompletion> batch) {
+        String path = batch.get(0).isBegin ? "/filibuster/create-batch" : "/filibuster/update-batch";
+
+        JSONArray payloads = new JSONArray();
+
+        for (QueuedCompletion queuedCompletion : batch) {
+            payloads.put(queuedCompletion.payload);
+        }
+
+        RequestHeaders postJson = RequestHeaders.of(
+                HttpMethod.POST,
+                path,
+                HttpHeaderNames.CONTENT_TYPE,
+                "application/json",
+                "X-Filibuster-Instrumentation",
+                "true");
+
+        // Call instrumentation using instrumentation to verify short-circuit.
+        AggregatedHttpResponse response = FilibusterExecutor.executeFilibusterServerRequest(
+                filibusterBaseUri, batch.get(0).serviceName, postJson, payloads.toString()).join();
+        String statusCode = response.headers().get(HttpHeaderNames.STATUS);
+
+        if (!Objects.equals(statusCode, "200")) {
+            FilibusterServerBadResponseException.logAndThrow(path + ", statusCode: " + statusCode);
+        }
+    }
+}
@@ -17,6 +17,11 @@ public class Property {
         return Objects.equals(propertyValue, "null") || propertyValue == null;
     }
 
+    private static void setProperty(String name, String value) {
+        System.setProperty(name, value);
+        FilibusterRuntimeConfig.invalidate();
+    }
+
     /***********************************************************************************
      ** filibuster.server.backend.can_invoke_directly
      ***********************************************************************************/
@@ -26,7 +31,7 @@ public class Property {
     public final static boolean SERVER_BACKEND_CAN_INVOKE_DIRECTLY_DEFAULT = false;
 
     public static void setServerBackendCanInvokeDirectlyProperty(boolean canInvokeDirectly) {
-        System.setProperty(SERVER_BACKEND_CAN_INVOKE_DIRECTLY, String.valueOf(canInvokeDirectly));
+        setProperty(SERVER_BACKEND_CAN_INVOKE_DIRECTLY, String.valueOf(canInvokeDirectly));
     }
 
     public static boolean getServerBackendCanInvokeDirectlyProperty() {
@@ -39,6 +44,29 @@ public class Property {
         }
     }
 
+    /***********************************************************************************
+     ** filibuster.server.backend.local.invoke_directly
+     ***********************************************************************************/
+
+    // Whether instrumentation running in the JUnit JVM calls the local server directly, instead of over its API.
+    private final static String SERVER_BACKEND_LOCAL_INVOKE_DIRECTLY = "filibuster.server.backend.local.invoke_directly";
+
+    public final static boolean SERVER_BACKEND_LOCAL_INVOKE_DIRECTLY_DEFAULT = true;
+
+    public static void setServerBackendLocalInvokeDirectlyProperty(boolean invokeDirectly) {
+        setProperty(SERVER_BACKEND_LOCAL_INVOKE_DIRECTLY, String.valueOf(invokeDirectly));
+    }
+
+    public static boolean getServerBackendLocalInvokeDirectlyProperty() {
+        String propertyValue = System.getProperty(SERVER_BACKEND_LOCAL_INVOKE_DIRECTLY);
+
+        if (isPropertyNull(propertyValue)) {
+            return SERVER_BACKEND_LOCAL_INVOKE_DIRECTLY_DEFAULT;
+        } else {
+            return Boolean.valueOf(propertyValue);
+        }
+    }
+
     /***********************************************************************************
      ** filibuster.server.backend.docker_image
      ***********************************************************************************/
@@ -48,7 +76,7 @@ public class Property {
     public final static String SERVER_BACKEND_DOCKER_IMAGE_NAME_DEFAULT = "filibustertesting/filibuster:0.34";
 
     public static void setServerBackendDockerImageNameProperty(String dockerImageName) {
-        System.setProperty(SERVER_BACKEND_DOCKER_IMAGE_NAME, dockerImageName);
+        setProperty(SERVER_BACKEND_DOCKER_IMAGE_NAME, dockerImageName);
     }
 
     public static String getServerBackendDockerImageNameProperty() {
@@ -70,7 +98,7 @@ public class Property {
     public final static int SERVER_PORT_DEFAULT = 5005;
 
     public static void setServerPortProperty(int port) {
-        System.setProperty(SERVER_PORT, String.valueOf(port));
+        setProperty(SERVER_PORT, String.valueOf(port));
     }
 
     public static int getServerPortProperty() {
@@ -92,7 +120,7 @@ public class Property {
     public final static String SERVER_HOST_DEFAULT = "localhost";
 
     public static void setServerHostProperty(String host) {
-        System.setProperty(SERVER_HOST, host);
+        setProperty(SERVER_HOST, host);
     }
 
     public static String getServerHostProperty() {
@@ -105,6 +133,49 @@ public class Property {
         }
     }
 
+    /***********************************************************************************
+     ** filibuster.server.domain_socket.path
+     ***********************************************************************************/
+
+    private final static String SERVER_DOMAIN_SOCKET_PATH = "filibuster.server.domain_socket.path";
+
+    public static void setServerDomainSocketPathProperty(String path) {
+        setProperty(SERVER_DOMAIN_SOCKET_PATH, path);
+    }
+
+    @Nullable
+    public static String getServerDomainSocketPathProperty() {
+        String propertyValue = System.getProperty(SERVER_DOMAIN_SOCKET_PATH);
+
+        if (isPropertyNull(propertyValue)) {
+            return null;
+        } else {
+            return propertyValue;
+        }
+    }
+
+    /***********************************************************************************
+     ** filibuster.server.iteration_control_stream.enabled
+     ***********************************************************************************/
+
+    private final static String SERVER_ITERATION_CONTROL_STREAM_ENABLED = "filibuster.server.iteration_control_stream.enabled";
+
+    public final static boolean SERVER_ITERATION_CONTROL_STREAM_ENABLED_DEFAULT = false;
+
+    public static void setServerIterationControlStreamEnabledProperty(boolean value) {
+        setProperty(SERVER_ITERATION_CONTROL_STREAM_ENABLED, String.valueOf(value));
+    }
+
+    public static boolean getServerIterationControlStreamEnabledProperty() {
+        String propertyValue = System.getProperty(SERVER_ITERATION_CONTROL_STREAM_ENABLED);
+
+        if (isPropertyNull(propertyValue)) {
+            return SERVER_ITERATION_CONTROL_STREAM_ENABLED_DEFAULT;
+        } else {
+            return Boolean.valueOf(propertyValue);
+        }
+    }
+
     /***********************************************************************************
      ** filibuster.dei.version
      ***********************************************************************************/
@@ -112,7 +183,7 @@ public class Property {
     private final static String DEI_VERSION = "filibuster.dei.version";
 
     public static void setDeiVersionProperty(DistributedExecutionIndexType value) {
-        System.setProperty(DEI_VERSION, String.valueOf(value));
+        setProperty(DEI_VERSION, String.valueOf(value));
     }
 
     public static DistributedExecutionIndexType getDeiVersionProperty() {
@@ -125,6 +196,26 @@ public class Property {
         }
     }
 
+    /***********************************************************************************
+     ** filibuster.dei.digest_engine
+     ***********************************************************************************/
+
+    private final static String DEI_DIGEST_ENGINE = "filibuster.dei.digest_engine";
+
+    public static void setDeiDigestEngineProperty(DigestEngine value) {
+        setProperty(DEI_DIGEST_ENGINE, String.valueOf(value));
+    }
+
+    public static DigestEngine getDeiDigestEngineProperty() {
+        String propertyValue = System.getProperty(DEI_DIGEST_ENGINE);
+
+        if (isPropertyNull(propertyValue)) {
+            return DigestEngine.SHA1;
+        } else {
+            return DigestEngine.valueOf(propertyValue);
+        }
+    }
+
     /***********************************************************************************
      ** filibuster.daikon.enabled
      ***********************************************************************************/
@@ -132,7 +223,7 @@ public class Property {
     private final static String DAIKON_ENABLED = "filibuster.daikon.enabled";
 
     public static void setDaikonEnabledProperty(boolean value) {
-        System.setProperty(DAIKON_ENABLED, String.valueOf(value));
+        setProperty(DAIKON_ENABLED, String.valueOf(value));
     }
 
     public static boolean getDaikonEnabledProperty() {
@@ -152,7 +243,7 @@ public class Property {
     private final static String ENABLED = "filibuster.enabled";
 
     public static void setEnabledProperty(boolean value) {
-        System.setProperty(ENABLED, String.valueOf(value));
+        setProperty(ENABLED, String.valueOf(value));
     }
 
     public static boolean getEnabledProperty() {
@@ -174,7 +265,7 @@ public class Property {
     private final static String TEST_AVOID_REDUNDANT_INJECTIONS = "filibuster.test.avoid_redundant_injections";
 
     public static void setTestAvoidRedundantInjectionsProperty(boolean value) {
-        System.setProperty(TEST_AVOID_REDUNDANT_INJECTIONS, String.valueOf(value));
+        setProperty(TEST_AVOID_REDUNDANT_INJECTIONS, String.valueOf(value));
     }
 
     public static boolean getTestAvoidRedundantInjectionsProperty() {
@@ -196,7 +287,7 @@ public class Property {
     private final static String TEST_FAIL_ON_ORGANIC_FAILURES = "filibuster.test.fail_on_organic_failures";
 
     public static void setTestFailOnOrganicFailuresProperty(boolean value) {
-        System.setProperty(TEST_FAIL_ON_ORGANIC_FAILURES, String.valueOf(value));
+        setProperty(TEST_FAIL_ON_ORGANIC_FAILURES, String.valueOf(value));
     }
 
     public static boolean getTestFailOnOrganicFailuresProperty() {
@@ -218,7 +309,7 @@ public class Property {
     private final static String TEST_AVOID_INJECTIONS_ON_ORGANIC_FAILURES = "filibuster.test.avoid_injections_on_organic_failures";
 
     public static void setTestAvoidInjectionsOnOrganicFailuresProperty(boolean value) {
-        System.setProperty(TEST_AVOID_INJECTIONS_ON_ORGANIC_FAILURES, String.valueOf(value));
+        setProperty(TEST_AVOID_INJECTIONS_ON_ORGANIC_FAILURES, String.valueOf(value));
     }
 
     public static boolean getTestAvoidInjectionsOnOrganicFailuresProperty() {
@@ -240,7 +331,7 @@ public class Property {
     private final static String TEST_DATA_NONDETERMINISM = "filibuster.test.data_nondeterminism";
 
     public static void setTestDataNondeterminismProperty(boolean value) {
-        System.setProperty(TEST_DATA_NONDETERMINISM, String.valueOf(value));
+        setProperty(TEST_DATA_NONDETERMINISM, String.valueOf(value));
     }
 
     public static boolean getTestDataNondeterminismProperty() {
@@ -262,7 +353,7 @@ public class Property {
     private final static String TEST_MAX_ITERATIONS = "filibuster.test.max_iterations";
 
     public static void setTestMaxIterationsProperty(int value) {
-        System.setProperty(TEST_MAX_ITERATIONS, String.valueOf(value));
+        setProperty(TEST_MAX_ITERATIONS, String.valueOf(value));
     }
 
     public static int getTestMaxIterationsProperty() {
@@ -284,7 +375,7 @@ public class Property {
     private final static String TEST_SUPPRESS_COMBINATIONS = "filibuster.test.suppress_combinations";
 
     public static void setTestSuppressCombinationsProperty(boolean value) {
-        System.setProperty(TEST_SUPPRESS_COMBINATIONS, String.valueOf(value));
+        setProperty(TEST_SUPPRESS_COMBINATIONS, String.valueOf(value));
     }
 
     public static boolean getTestSuppressCombinationsProperty() {
@@ -297,6 +388,52 @@ public class Property {
         }
     }
 
+    /***********************************************************************************
+     ** filibuster.test.max_simultaneous_faults
+     ***********************************************************************************/
+
+    // 0 means no bound.
+    public static final int MAX_SIMULTANEOUS_FAULTS_DEFAULT = 0;
+
+    private final static String TEST_MAX_SIMULTANEOUS_FAULTS = "filibuster.test.max_simultaneous_faults";
+
+    public static void setTestMaxSimultaneousFaultsProperty(int value) {
+        setProperty(TEST_MAX_SIMULTANEOUS_FAULTS, String.valueOf(value));
+    }
+
+    public static int getTestMaxSimultaneousFaultsProperty() {
+        String propertyValue = System.getProperty(TEST_MAX_SIMULTANEOUS_FAULTS);
+
+        if (isPropertyNull(propertyValue)) {
+            return MAX_SIMULTANEOUS_FAULTS_DEFAULT;
+        } else {
+            return Integer.valueOf(propertyValue);
+        }
+    }
+
+    /***********************************************************************************
+     ** filibuster.test.search_seed
+     ***********************************************************************************/
+
+    // Seeds only the search; filibuster.random_seed seeds the data nondeterminism transformers.
+    public static final long SEARCH_SEED_DEFAULT = 0;
+
+    private final static String TEST_SEARCH_SEED = "filibuster.test.search_seed";
+
+    public static void setTestSearchSeedProperty(long value) {
+        setProperty(TEST_SEARCH_SEED, String.valueOf(value));
+    }
+
+    public static long getTestSearchSeedProperty() {
+        String propertyValue = System.getProperty(TEST_SEARCH_SEED);
+
+        if (isPropertyNull(propertyValue)) {
+            return SEARCH_SEED_DEFAULT;
+        } else {
+            return Long.parseLong(propertyValue);
+        }
+    }
+
     /***********************************************************************************
      ** filibuster.test.analysis_resource_file
      ***********************************************************************************/
@@ -304,7 +441,7 @@ public class Property {
     private final static String TEST_ANALYSIS_RESOURCE_FILE = "filibuster.test.analysis_resource_file";
 
     public static void setTestAnalysisResourceFileProperty(String value) {
-        System.setProperty(TEST_ANALYSIS_RESOURCE_FILE, String.valueOf(value));
+        setProperty(TEST_ANALYSIS_RESOURCE_FILE, String.valueOf(value));
     }
 
     public static String getTestAnalysisResourceFileProperty() {
@@ -324,7 +461,7 @@ public class Property {
     private final static String INSTRUMENTATION_ENABLED = "filibuster.instrumentation.enabled";
 
     public static void setInstrumentationEnabledProperty(boolean value) {
-        System.setProperty(INSTRUMENTATION_ENABLED, String.valueOf(value));
+        setProperty(INSTRUMENTATION_ENABLED, String.valueOf(value));
     }
 
     public static boolean getInstrumentationEnabledProperty() {
@@ -344,7 +481,7 @@ public class Property {
     private final static String INSTRUMENTATION_COUNTEREXAMPLE_FILE = "filibuster.instrumentation.counterexample.file";
 
     public static void setInstrumentationCounterexampleFileProperty(String value) {
-        System.setProperty(INSTRUMENTATION_COUNTEREXAMPLE_FILE, value);
+        setProperty(INSTRUMENTATION_COUNTEREXAMPLE_FILE, value);
     }
 
     @Nullable
@@ -359,7 +496,7 @@ public class Property {
     private final static String INSTRUMENTATION_SERVER_COMMUNICATION_ENABLED = "filibuster.instrumentation.server_communication.enabled";
 
     public static void setInstrumentationServerCommunicationEnabledProperty(boolean value) {
-        System.setProperty(INSTRUMENTATION_SERVER_COMMUNICATION_ENABLED, String.valueOf(value));
+        setProperty(INSTRUMENTATION_SERVER_COMMUNICATION_ENABLED, String.valueOf(value));
     }
 
     public static boolean getInstrumentationServerCommunicationEnabledProperty() {
@@ -372,6 +509,108 @@ public class Property {
         }
     }
 
+    /***********************************************************************************
+     ** filibuster.instrumentation.server_communication.grpc.enabled
+     ***********************************************************************************/
+
+    private final static String INSTRUMENTATION_SERVER_COMMUNICATION_GRPC_ENABLED = "filibuster.instrumentation.server_communication.grpc.enabled";
+
+    public static void setInstrumentationServerCommunicationGrpcEnabledProperty(boolean value) {
+        setProperty(INSTRUMENTATION_SERVER_COMMUNICATION_GRPC_ENABLED, String.valueOf(value));
+    }
+
+    public static boolean getInstrumentationServerCommunicationGrpcEnabledProperty() {
+        String propertyValue = System.getProperty(INSTRUMENTATION_SERVER_COMMUNICATION_GRPC_ENABLED);
+
+        if (isPropertyNull(propertyValue)) {
+            return false;
+        } else {
+            return Boolean.valueOf(propertyValue);
+        }
+    }
+
+    /***********************************************************************************
+     ** filibuster.instrumentation.server_communication.single_round_trip.enabled
+     ***********************************************************************************/
+
+    private final static String INSTRUMENTATION_SERVER_COMMUNICATION_SINGLE_ROUND_TRIP_ENABLED = "filibuster.instrumentation.server_communication.single_round_trip.enabled";
+
+    public static void setInstrumentationServerCommunicationSingleRoundTripEnabledProperty(boolean value) {
+        setProperty(INSTRUMENTATION_SERVER_COMMUNICATION_SINGLE_ROUND_TRIP_ENABLED, String.valueOf(value));
+    }
+
+    public static boolean getInstrumentationServerCommunicationSingleRoundTripEnabledProperty() {
+        String propertyValue = System.getProperty(INSTRUMENTATION_SERVER_COMMUNICATION_SINGLE_ROUND_TRIP_ENABLED);
+
+        if (isPropertyNull(propertyValue)) {
+            return false;
+        } else {
+            return Boolean.valueOf(propertyValue);
+        }
+    }
+
+    /***********************************************************************************
+     ** filibuster.instrumentation.server_communication.async_completion.enabled
+     ***********************************************************************************/
+
+    private final static String INSTRUMENTATION_SERVER_COMMUNICATION_ASYNC_COMPLETION_ENABLED = "filibuster.instrumentation.server_communication.async_completion.enabled";
+
+    public static void setInstrumentationServerCommunicationAsyncCompletionEnabledProperty(boolean value) {
+        setProperty(INSTRUMENTATION_SERVER_COMMUNICATION_ASYNC_COMPLETION_ENABLED, String.valueOf(value));
+    }
+
+    public static boolean getInstrumentationServerCommunicationAsyncCompletionEnabledProperty() {
+        String propertyValue = System.getProperty(INSTRUMENTATION_SERVER_COMMUNICATION_ASYNC_COMPLETION_ENABLED);
+
+        if (isPropertyNull(propertyValue)) {
+            return false;
+        } else {
+            return Boolean.valueOf(propertyValue);
+        }
+    }
+
+    /***********************************************************************************
+     ** filibuster.instrumentation.fault_plan_prefetch.enabled
+     ***********************************************************************************/
+
+    private final static String INSTRUMENTATION_FAULT_PLAN_PREFETCH_ENABLED = "filibuster.instrumentation.fault_plan_prefetch.enabled";
+
+    public static void setInstrumentationFaultPlanPrefetchEnabledProperty(boolean value) {
+        setProperty(INSTRUMENTATION_FAULT_PLAN_PREFETCH_ENABLED, String.valueOf(value));
+    }
+
+    public static boolean getInstrumentationFaultPlanPrefetchEnabledProperty() {
+        String propertyValue = System.getProperty(INSTRUMENTATION_FAULT_PLAN_PREFETCH_ENABLED);
+
+        if (isPropertyNull(propertyValue)) {
+            return false;
+        } else {
+            return Boolean.valueOf(propertyValue);
+        }
+    }
+
+    /***********************************************************************************
+     ** filibuster.instrumentation.request_context.ttl_ms
+     ***********************************************************************************/
+
+    private final static String INSTRUMENTATION_REQUEST_CONTEXT_TTL_MS = "filibuster.instrumentation.request_context.ttl_ms";
+
+    public final static long INSTRUMENTATION_REQUEST_CONTEXT_TTL_MS_DEFAULT = 0;
+
+    public static void setInstrumentationRequestContextTtlMsProperty(long value) {
+        setProperty(INSTRUMENTATION_REQUEST_CONTEXT_TTL_MS, String.valueOf(value));
+    }
+
+    public static long getInstrumentationRequestContextTtlMsProperty() {
+        String propertyValue = System.getProperty(INSTRUMENTATION_REQUEST_CONTEXT_TTL_MS);
+
+        if (isPropertyNull(propertyValue)) {
+            return INSTRUMENTATION_REQUEST_CONTEXT_TTL_MS_DEFAULT;
+        } else {
+            return Long.valueOf(propertyValue);
+        }
+    }
+
     /***********************************************************************************
      ** filibuster.callsite.stack_trace_whitelist
      ***********************************************************************************/
@@ -379,7 +618,7 @@ public class Property {
     private final static String CALLSITE_STACK_TRACE_WHITELIST = "filibuster.callsite.stack_trace_whitelist";
 
     public static void setCallsiteStackTraceWhitelistProperty(String value) {
-        System.setProperty(CALLSITE_STACK_TRACE_WHITELIST, value);
+        setProperty(CALLSITE_STACK_TRACE_WHITELIST, value);
     }
 
     @Nullable
@@ -394,7 +633,7 @@ public class Property {
     private final static String CALLSITE_REMOVE_IMPORTS_FROM_STACK_TRACE = "filibuster.callsite.remove_imports_from_stack_trace";
 
     public static void setCallsiteRemoveImportsFromStackTraceProperty(boolean value) {
-        System.setProperty(CALLSITE_REMOVE_IMPORTS_FROM_STACK_TRACE, String.valueOf(value));
+        setProperty(CALLSITE_REMOVE_IMPORTS_FROM_STACK_TRACE, String.valueOf(value));
     }
 
     public static boolean getCallsiteRemoveImportsFromStackTraceProperty() {
@@ -414,7 +653,7 @@ public class Property {
     private final static String CLIENT_INSTRUMENTOR_USE_OVERRIDE_REQUEST_ID = "filibuster.client_instrumentor.use_override_request_id";
 
     public static void setClientInstrumentorUseOverrideRequestIdProperty(boolean value) {
-        System.setProperty(CLIENT_INSTRUMENTOR_USE_OVERRIDE_REQUEST_ID, String.valueOf(value));
+        setProperty(CLIENT_INSTRUMENTOR_USE_OVERRIDE_REQUEST_ID, String.valueOf(value));
     }
 
     public static boolean getClientInstrumentorUseOverrideRequestIdProperty() {
@@ -434,7 +673,7 @@ public class Property {
     private final static String CALLSITE_LINE_NUMBER = "filibuster.callsite.line_number";
 
     public static void setCallsiteLineNumberProperty(boolean value) {
-        System.setProperty(CALLSITE_LINE_NUMBER, String.valueOf(value));
+        setProperty(CALLSITE_LINE_NUMBER, String.valueOf(value));
     }
 
     public static boolean getCallsiteLineNumberProperty() {
@@ -454,7 +693,7 @@ public class Property {
     private final static String REPORTS_TEST_SUITE_REPORT_ENABLED = "filibuster.reports.test_suite_report.enabled";
 
     public static void setReportsTestSuiteReportEnabledProperty(boolean value) {
-        System.setProperty(REPORTS_TEST_SUITE_REPORT_ENABLED, String.valueOf(value));
+        setProperty(REPORTS_TEST_SUITE_REPORT_ENABLED, String.valueOf(value));
     }
 
     public static boolean getReportsTestSuiteReportEnabledProperty() {
@@ -475,7 +714,7 @@ public class Property {
     private final static String REDIS_TEST_PORT_NONDETERMINISM = "filibuster.test.redis.port_nondeterminism";
 
     public static void setRedisTestPortNondeterminismProperty(boolean value) {
-        System.setProperty(REDIS_TEST_PORT_NONDETERMINISM, String.valueOf(value));
+        setProperty(REDIS_TEST_PORT_NONDETERMINISM, String.valueOf(value));
     }
 
     public static boolean getRedisTestPortNondeterminismProperty() {
@@ -497,7 +736,7 @@ public class Property {
     private final static String RANDOM_SEED = "filibuster.random_seed";
 
     public static void setRandomSeedProperty(int value) {
-        System.setProperty(RANDOM_SEED, String.valueOf(value));
+        setProperty(RANDOM_SEED, String.valueOf(value));
     }
 
     public static int getRandomSeedProperty() {
@@ -519,7 +758,7 @@ public class Property {
     private final static String TEST_V2_EXCEPTION = "filibuster.test.v2.exception";
 
     public static void setTestV2Exception(boolean value) {
-        System.setProperty(TEST_V2_EXCEPTION, String.valueOf(value));
+        setProperty(TEST_V2_EXCEPTION, String.valueOf(value));
     }
 
     public static boolean getTestV2Exception() {
@@ -541,7 +780,7 @@ public class Property {
     private final static String TEST_V2_RETURN_VALUE = "filibuster.test.v2.return_value";
 
     public static void setTestV2ReturnValue(boolean value) {
-        System.setProperty(TEST_V2_RETURN_VALUE, String.valueOf(value));
+        setProperty(TEST_V2_RETURN_VALUE, String.valueOf(value));
     }
 
     public static boolean getTestV2ReturnValue() {
@@ -563,7 +802,7 @@ public class Property {
     private final static String TEST_V2_ARGUMENTS = "filibuster.test.v2.arguments";
 
     public static void setTestV2Arguments(boolean value) {
-        System.setProperty(TEST_V2_ARGUMENTS, String.valueOf(value));
+        setProperty(TEST_V2_ARGUMENTS, String.valueOf(value));
     }
 
     public static boolean getTestV2Arguments() {
@@ -585,7 +824,7 @@ public class Property {
     private final static String FAIL_IF_FAULT_INJECTION_MISMATCH = "filibuster.test.fail_if_fault_injection_mismatch";
 
     public static void setFailIfFaultInjectionMismatch(boolean value) {
-        System.setProperty(FAIL_IF_FAULT_INJECTION_MISMATCH, String.valueOf(value));
+        setProperty(FAIL_IF_FAULT_INJECTION_MISMATCH, String.valueOf(value));
     }
 
     public static boolean getFailIfFaultInjectionMismatch() {
@@ -607,7 +846,7 @@ public class Property {
     private final static String FAIL_IF_FAULT_NOT_INJECTED = "filibuster.test.fail_if_fault_not_injected";
 
     public static void setFailIfFaultNotInjectedProperty(boolean value) {
-        System.setProperty(FAIL_IF_FAULT_NOT_INJECTED, String.valueOf(value));
+        setProperty(FAIL_IF_FAULT_NOT_INJECTED, String.valueOf(value));
     }
 
     public static boolean getFailIfFaultNotInjectedProperty() {
@@ -629,7 +868,7 @@ public class Property {
     private final static String FAIL_IF_FAULT_NOT_INJECTED_AND_A_TRACKED_METHOD_IS_INVOKED = "filibuster.test.fail_if_fault_not_injected_and_a_tracked_method_is_invoked";
 
     public static void setFailIfFaultNotInjectedAndATrackedMethodIsInvokedProperty(boolean value) {
-        System.setProperty(FAIL_IF_FAULT_NOT_INJECTED_AND_A_TRACKED_METHOD_IS_INVOKED, String.valueOf(value));
+        setProperty(FAIL_IF_FAULT_NOT_INJECTED_AND_A_TRACKED_METHOD_IS_INVOKED, String.valueOf(value));
     }
 
     public static boolean getFailIfFaultNotInjectedAndATrackedMethodIsInvokedProperty() {
@@ -641,4 +880,26 @@ public class Property {
             return Boolean.parseBoolean(propertyValue);
         }
     }
+
+    /***********************************************************************************
+     ** filibuster.trace.enabled
+     ***********************************************************************************/
+
+    public static final boolean TRACE_ENABLED_DEFAULT = false;
+
+    private final static String TRACE_ENABLED = "filibuster.trace.enabled";
+
+    public static void setTraceEnabledProperty(boolean value) {
+        setProperty(TRACE_ENABLED, String.valueOf(value));
+    }
+
+    public static boolean getTraceEnabledProperty() {
+        String propertyValue = System.getProperty(TRACE_ENABLED);
+
+        if (isPropertyNull(propertyValue)) {
+            return TRACE_ENABLED_DEFAULT;
+        } else {
+            return Boolean.parseBoolean(propertyValue);
+        }
+    }
 }
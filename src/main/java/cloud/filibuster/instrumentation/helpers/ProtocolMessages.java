@@ -0,0 +1,334 @@
+package cloud.filibuster.instrumentation.helpers;
+
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.BeginInvocationReply;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.BeginInvocationRequest;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.EndInvocationReply;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.EndInvocationRequest;
+import com.google.protobuf.ListValue;
+import com.google.protobuf.NullValue;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Conversion between the JSON payloads used by the Filibuster core and the messages of the binary instrumentation
+ * protocol (filibuster_protocol.proto.)
+ *
+ * <p>Conversions are structural: nothing is rendered to or parsed from JSON text.  Both directions preserve which keys
+ * are present, so the core sees the same payload regardless of the transport.  Open-ended values (arguments, return
+ * values, faults) are carried as {@link Struct}s, in which all numbers are doubles; integral numbers are converted back
+ * to integers.
+ */
+public final class ProtocolMessages {
+    private ProtocolMessages() {
+
+    }
+
+    // Begin invocation.
+
+    public static BeginInvocationRequest toBeginInvocationRequest(JSONObject payload) {
+        BeginInvocationRequest.Builder builder = BeginInvocationRequest.newBuilder()
+                .setInstrumentationType(payload.optString("instrumentation_type"))
+                .setSourceServiceName(payload.optString("source_service_name"))
+                .setModule(payload.optString("module"))
+                .setMethod(payload.optString("method"))
+                .setCallsiteFile(payload.optString("callsite_file"))
+                .setCallsiteLine(payload.optString("callsite_line"))
+                .setFullTraceback(payload.optString("full_traceback"))
+                .setExecutionIndex(payload.getString("execution_index"));
+
+        if (payload.has("metadata")) {
+            builder.setRpcType(payload.getJSONObject("metadata").optString("rpc_type"));
+        }
+
+        if (payload.has("args")) {
+            builder.setArgs(toStruct(payload.getJSONObject("args")));
+        }
+
+        if (payload.has("args_v2")) {
+            builder.setArgsV2(toStruct(payload.getJSONObject("args_v2")));
+        }
+
+        if (payload.has("vclock")) {
+            builder.putAllVclock(toVectorClockMap(payload.getJSONObject("vclock")));
+        }
+
+        if (payload.has("origin_vclock")) {
+            builder.putAllOriginVclock(toVectorClockMap(payload.getJSONObject("origin_vclock")));
+        }
+
+        if (payload.has("preliminary_execution_index")) {
+            builder.setPreliminaryExecutionIndex(payload.getString("preliminary_execution_index"));
+        }
+
+        if (payload.has("clocks_may_be_stale")) {
+            builder.setClocksMayBeStale(payload.getBoolean("clocks_may_be_stale"));
+        }
+
+        return builder.build();
+    }
+
+    public static JSONObject fromBeginInvocationRequest(BeginInvocationRequest request) {
+        JSONObject metadata = new JSONObject();
+        metadata.put("rpc_type", request.getRpcType());
+
+        JSONObject payload = new JSONObject();
+        payload.put("instrumentation_type", request.getInstrumentationType());
+        payload.put("source_service_name", request.getSourceServiceName());
+        payload.put("module", request.getModule());
+        payload.put("method", request.getMethod());
+        payload.put("args", request.hasArgs() ? fromStruct(request.getArgs()) : new JSONObject());
+
+        if (request.hasArgsV2()) {
+            payload.put("args_v2", fromStruct(request.getArgsV2()));
+        }
+
+        payload.put("kwargs", new JSONObject());
+        payload.put("callsite_file", request.getCallsiteFile());
+        payload.put("callsite_line", request.getCallsiteLine());
+        payload.put("full_traceback", request.getFullTraceback());
+        payload.put("metadata", metadata);
+        payload.put("vclock", new JSONObject(request.getVclockMap()));
+        payload.put("origin_vclock", new JSONObject(request.getOriginVclockMap()));
+        payload.put("execution_index", request.getExecutionIndex());
+
+        if (!request.getPreliminaryExecutionIndex().isEmpty()) {
+            payload.put("preliminary_execution_index", request.getPreliminaryExecutionIndex());
+        }
+
+        return payload;
+    }
+
+    public static BeginInvocationReply toBeginInvocationReply(JSONObject response) {
+        BeginInvocationReply.Builder builder = BeginInvocationReply.newBuilder()
+                .setExecutionIndex(response.optString("execution_index"))
+                .setGeneratedId(response.optInt("generated_id", -1))
+                .setNewTestExecution(response.optBoolean("new-test-execution", false));
+
+        if (response.has("forced_exception")) {
+            builder.setForcedException(toStruct(response.getJSONObject("forced_exception")));
+        }
+
+        if (response.has("failure_metadata")) {
+            builder.setFailureMetadata(toStruct(response.getJSONObject("failure_metadata")));
+        }
+
+        if (response.has("transformer_fault")) {
+            builder.setTransformerFault(toStruct(response.getJSONObject("transformer_fault")));
+        }
+
+        return builder.build();
+    }
+
+    public static JSONObject fromBeginInvocationReply(BeginInvocationReply reply) {
+        JSONObject response = new JSONObject();
+
+        if (!reply.getExecutionIndex().isEmpty()) {
+            response.put("execution_index", reply.getExecutionIndex());
+        }
+
+        response.put("generated_id", reply.getGeneratedId());
+
+        if (reply.getNewTestExecution()) {
+            response.put("new-test-execution", true);
+        }
+
+        if (reply.hasForcedException()) {
+            response.put("forced_exception", fromStruct(reply.getForcedException()));
+        }
+
+        if (reply.hasFailureMetadata()) {
+            response.put("failure_metadata", fromStruct(reply.getFailureMetadata()));
+        }
+
+        if (reply.hasTransformerFault()) {
+            response.put("transformer_fault", fromStruct(reply.getTransformerFault()));
+        }
+
+        return response;
+    }
+
+    // End invocation.
+
+    public static EndInvocationRequest toEndInvocationRequest(JSONObject payload, boolean isUpdate) {
+        EndInvocationRequest.Builder builder = EndInvocationRequest.newBuilder()
+                .setInstrumentationType(payload.optString("instrumentation_type"))
+                .setGeneratedId(payload.optInt("generated_id", -1))
+                .setExecutionIndex(payload.getString("execution_index"))
+                .setModule(payload.optString("module"))
+                .setMethod(payload.optString("method"))
+                .setIsUpdate(isUpdate);
+
+        if (payload.has("vclock")) {
+            builder.putAllVclock(toVectorClockMap(payload.getJSONObject("vclock")));
+        }
+
+        if (payload.has("return_value")) {
+            builder.setReturnValue(toStruct(payload.getJSONObject("return_value")));
+        }
+
+        if (payload.has("return_value_v2")) {
+            builder.setReturnValueV2(toStruct(payload.getJSONObject("return_value_v2")));
+        }
+
+        if (payload.has("exception")) {
+            builder.setException(toStruct(payload.getJSONObject("exception")));
+        }
+
+        if (payload.has("exception_v2")) {
+            builder.setExceptionV2(toStruct(payload.getJSONObject("exception_v2")));
+        }
+
+        if (payload.has("transformer_fault")) {
+            builder.setTransformerFault(toStruct(payload.getJSONObject("transformer_fault")));
+        }
+
+        if (payload.has("preliminary_execution_index")) {
+            builder.setPreliminaryExecutionIndex(payload.getString("preliminary_execution_index"));
+        }
+
+        return builder.build();
+    }
+
+    public static JSONObject fromEndInvocationRequest(EndInvocationRequest request) {
+        JSONObject payload = new JSONObject();
+        payload.put("instrumentation_type", request.getInstrumentationType());
+        payload.put("generated_id", request.getGeneratedId());
+        payload.put("execution_index", request.getExecutionIndex());
+        payload.put("vclock", new JSONObject(request.getVclockMap()));
+
+        if (request.hasReturnValue()) {
+            payload.put("return_value", fromStruct(request.getReturnValue()));
+        }
+
+        if (request.hasReturnValueV2()) {
+            payload.put("return_value_v2", fromStruct(request.getReturnValueV2()));
+        }
+
+        if (request.hasException()) {
+            payload.put("exception", fromStruct(request.getException()));
+        }
+
+        if (request.hasExceptionV2()) {
+            payload.put("exception_v2", fromStruct(request.getExceptionV2()));
+        }
+
+        if (request.hasTransformerFault()) {
+            payload.put("transformer_fault", fromStruct(request.getTransformerFault()));
+        }
+
+        payload.put("module", request.getModule());
+        payload.put("method", request.getMethod());
+
+        if (!request.getPreliminaryExecutionIndex().isEmpty()) {
+            payload.put("preliminary_execution_index", request.getPreliminaryExecutionIndex());
+        }
+
+        return payload;
+    }
+
+    public static EndInvocationReply toEndInvocationReply(JSONObject response) {
+        return EndInvocationReply.newBuilder()
+                .setExecutionIndex(response.optString("execution_index"))
+                .build();
+    }
+
+    // Structural conversions.
+
+    private static Map<String, Integer> toVectorClockMap(JSONObject vectorClock) {
+        Map<String, Integer> result = new HashMap<>();
+
+        for (String key : vectorClock.keySet()) {
+            result.put(key, vectorClock.getInt(key));
+        }
+
+        return result;
+    }
+
+    public static Struct toStruct(JSONObject jsonObject) {
+        Struct.Builder builder = Struct.newBuilder();
+
+        for (String key : jsonObject.keySet()) {
+            builder.putFields(key, toValue(jsonObject.get(key)));
+        }
+
+        return builder.build();
+    }
+
+    public static JSONObject fromStruct(Struct struct) {
+        JSONObject jsonObject = new JSONObject();
+
+        for (Map.Entry<String, Value> field : struct.getFieldsMap().entrySet()) {
+            jsonObject.put(field.getKey(), fromValue(field.getValue()));
+        }
+
+        return jsonObject;
+    }
+
+    private static Value toValue(Object object) {
+        Value.Builder builder = Value.newBuilder();
+
+        if (object == null || object == JSONObject.NULL) {
+            builder.setNullValue(NullValue.NULL_VALUE);
+        } else if (object instanceof JSONObject) {
+            builder.setStructValue(toStruct((JSONObject) object));
+        } else if (object instanceof JSONArray) {
+            ListValue.Builder listBuilder = ListValue.newBuilder();
+
+            for (Object element : (JSONArray) object) {
+                listBuilder.addValues(toValue(element));
+            }
+
+            builder.setListValue(listBuilder);
+        } else if (object instanceof Boolean) {
+            builder.setBoolValue((Boolean) object);
+        } else if (object instanceof Number) {
+            builder.setNumberValue(((Number) object).doubleValue());
+        } else {
+            builder.setStringValue(object.toString());
+        }
+
+        return builder.build();
+    }
+
+    private static Object fromValue(Value value) {
+        switch (value.getKindCase()) {
+            case STRUCT_VALUE:
+                return fromStruct(value.getStructValue());
+            case LIST_VALUE:
+                JSONArray jsonArray = new JSONArray();
+
+                for (Value element : value.getListValue().getValuesList()) {
+                    jsonArray.put(fromValue(element));
+                }
+
+                return jsonArray;
+            case BOOL_VALUE:
+                return value.getBoolValue();
+            case NUMBER_VALUE:
+                return fromNumber(value.getNumberValue());
+            case STRING_VALUE:
+                return value.getStringValue();
+            default:
+                return JSONObject.NULL;
+        }
+    }
+
+    private static Object fromNumber(double number) {
+        if (number == Math.rint(number) && !Double.isInfinite(number)) {
+            if (number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE) {
+                return (int) number;
+            }
+
+            if (number >= Long.MIN_VALUE && number <= Long.MAX_VALUE) {
+                return (long) number;
+            }
+        }
+
+        return number;
+    }
+}
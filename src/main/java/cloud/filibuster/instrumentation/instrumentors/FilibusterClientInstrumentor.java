@@ -5,13 +5,26 @@ import cloud.filibuster.dei.DistributedExecutionIndex;
 import cloud.filibuster.dei.DistributedExecutionIndexType;
 import cloud.filibuster.exceptions.filibuster.FilibusterRuntimeException;
 import cloud.filibuster.instrumentation.datatypes.Callsite;
-import cloud.filibuster.instrumentation.datatypes.CallsiteArguments;
+import cloud.filibuster.instrumentation.datatypes.FaultPlans;
 import cloud.filibuster.instrumentation.datatypes.FilibusterExecutor;
+import cloud.filibuster.instrumentation.datatypes.InvocationRecord;
+import cloud.filibuster.instrumentation.datatypes.PendingInvocationCompletions;
 import cloud.filibuster.instrumentation.datatypes.RequestId;
+import cloud.filibuster.instrumentation.datatypes.RequestContextMap;
 import cloud.filibuster.instrumentation.datatypes.VectorClock;
 
-import cloud.filibuster.instrumentation.helpers.Networking;
+import cloud.filibuster.instrumentation.helpers.EventTrace;
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
+import cloud.filibuster.instrumentation.helpers.IndexedCounterexample;
+import cloud.filibuster.instrumentation.helpers.InvocationCompletionReporter;
+import cloud.filibuster.instrumentation.helpers.ProtocolMessages;
 import cloud.filibuster.instrumentation.helpers.Response;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.BeginInvocationReply;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.BeginInvocationRequest;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.EndInvocationReply;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.EndInvocationRequest;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.NewTestExecutionReply;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.NewTestExecutionRequest;
 import cloud.filibuster.instrumentation.storage.ContextStorage;
 import cloud.filibuster.exceptions.filibuster.FilibusterServerBadResponseException;
 import cloud.filibuster.junit.server.core.FilibusterCore;
@@ -24,13 +37,13 @@ import com.google.gson.Gson;
 import com.google.protobuf.GeneratedMessageV3;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.util.JsonFormat;
-import com.linecorp.armeria.client.WebClient;
 import com.linecorp.armeria.common.HttpMethod;
 import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.RequestHeaders;
 import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
 import org.json.JSONObject;
 
 import javax.annotation.Nullable;
@@ -38,23 +51,11 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static cloud.filibuster.RpcType.GRPC;
-import static cloud.filibuster.instrumentation.helpers.Counterexample.canLoadCounterexample;
-import static cloud.filibuster.instrumentation.helpers.Counterexample.loadCounterexampleAsJsonObjectFromEnvironment;
-import static cloud.filibuster.instrumentation.helpers.Counterexample.loadTestExecutionFromCounterexample;
-import static cloud.filibuster.instrumentation.helpers.Counterexample.shouldFailRequestWithOrDefault;
-
-import static cloud.filibuster.instrumentation.helpers.Property.getClientInstrumentorUseOverrideRequestIdProperty;
-import static cloud.filibuster.instrumentation.helpers.Property.getServerBackendCanInvokeDirectlyProperty;
-import static cloud.filibuster.instrumentation.helpers.Property.getTestV2Arguments;
-import static cloud.filibuster.instrumentation.helpers.Property.getTestV2Exception;
-import static cloud.filibuster.instrumentation.helpers.Property.getTestV2ReturnValue;
-import static cloud.filibuster.instrumentation.instrumentors.FilibusterLocks.distributedExecutionIndexLock;
-import static cloud.filibuster.instrumentation.instrumentors.FilibusterLocks.vectorClockLock;
 
 /**
  * Client instrumentor for Filibuster.
@@ -66,31 +67,53 @@ final public class FilibusterClientInstrumentor {
     /**
      * Mapping between requests and the current vector clock for that request.
      */
-    private static Map<String, Map<String, VectorClock>> vectorClocksByRequest = new HashMap<>();
+    private static final RequestContextMap<VectorClock> vectorClocksByRequest = new RequestContextMap<>();
 
     private final String outgoingRequestId;
 
     /**
      * Get the vector clock request mapping.
      *
-     * @return vector clock request map.
+     * @return snapshot of the vector clock request map.
      */
     public static Map<String, Map<String, VectorClock>> getVectorClocksByRequest() {
-        return vectorClocksByRequest;
+        return vectorClocksByRequest.toMap();
     }
 
     /**
      * Mapping between requests and the current execution index for that request.
      */
-    private static Map<String, Map<String, DistributedExecutionIndex>> distributedExecutionIndexByRequest = new HashMap<>();
+    private static final RequestContextMap<DistributedExecutionIndex> distributedExecutionIndexByRequest = new RequestContextMap<>();
 
     /**
      * Get the execution index request mapping.
      *
-     * @return execution index request map.
+     * @return snapshot of the execution index request map.
      */
     public static Map<String, Map<String, DistributedExecutionIndex>> getDistributedExecutionIndexByRequest() {
-        return distributedExecutionIndexByRequest;
+        return distributedExecutionIndexByRequest.toMap();
+    }
+
+    /**
+     * Return the lock guarding updates to the vector clock of a request.
+     *
+     * @param serviceName the service name.
+     * @param requestId   the request identifier.
+     * @return lock object.
+     */
+    static Object vectorClockLockFor(String serviceName, String requestId) {
+        return vectorClocksByRequest.lockFor(serviceName, requestId);
+    }
+
+    /**
+     * Return the lock guarding updates to the execution index of a request.
+     *
+     * @param serviceName the service name.
+     * @param requestId   the request identifier.
+     * @return lock object.
+     */
+    static Object distributedExecutionIndexLockFor(String serviceName, String requestId) {
+        return distributedExecutionIndexByRequest.lockFor(serviceName, requestId);
     }
 
     /**
@@ -100,14 +123,7 @@ final public class FilibusterClientInstrumentor {
      * @param vectorClock vector clock.
      */
     public static void setVectorClockForRequestId(String serviceName, String requestId, VectorClock vectorClock) {
-        if (vectorClocksByRequest.containsKey(serviceName)) {
-            Map<String, VectorClock> vectorClockMap = vectorClocksByRequest.get(serviceName);
-            vectorClockMap.put(requestId, vectorClock);
-        } else {
-            HashMap<String, VectorClock> vectorClockMap = new HashMap<>();
-            vectorClockMap.put(requestId, vectorClock);
-            vectorClocksByRequest.put(serviceName, vectorClockMap);
-        }
+        vectorClocksByRequest.put(serviceName, requestId, vectorClock);
     }
 
     /**
@@ -118,12 +134,7 @@ final public class FilibusterClientInstrumentor {
      * @return whether a mapping exists.
      */
     public static boolean vectorClockForRequestIdExists(String serviceName, String requestId) {
-        if (!vectorClocksByRequest.containsKey(serviceName)) {
-            return false;
-        }
-
-        Map<String, VectorClock> vectorClockMap = vectorClocksByRequest.get(serviceName);
-        return vectorClockMap.containsKey(requestId);
+        return vectorClocksByRequest.containsKey(serviceName, requestId);
     }
 
     /**
@@ -132,14 +143,14 @@ final public class FilibusterClientInstrumentor {
      * @param serviceName the service name.
      */
     public static void clearVectorClockForRequestId(String serviceName) {
-        vectorClocksByRequest.remove(serviceName);
+        vectorClocksByRequest.clear(serviceName);
     }
 
     /**
      * Reset vector clock mapping.
      */
     public static void clearVectorClockForRequestId() {
-        vectorClocksByRequest = new HashMap<>();
+        vectorClocksByRequest.clear();
     }
 
     /**
@@ -148,14 +159,14 @@ final public class FilibusterClientInstrumentor {
      * @param serviceName the service name.
      */
     public static void clearDistributedExecutionIndexForRequestId(String serviceName) {
-        distributedExecutionIndexByRequest.remove(serviceName);
+        distributedExecutionIndexByRequest.clear(serviceName);
     }
 
     /**
      * Reset execution index mapping.
      */
     public static void clearDistributedExecutionIndexForRequestId() {
-        distributedExecutionIndexByRequest = new HashMap<>();
+        distributedExecutionIndexByRequest.clear();
     }
 
     /**
@@ -165,14 +176,7 @@ final public class FilibusterClientInstrumentor {
      * @param distributedExecutionIndex execution index.
      */
     public static void setDistributedExecutionIndexForRequestId(String serviceName, String requestId, DistributedExecutionIndex distributedExecutionIndex) {
-        if (distributedExecutionIndexByRequest.containsKey(serviceName)) {
-            Map<String, DistributedExecutionIndex> distributedExecutionIndexMap = distributedExecutionIndexByRequest.get(serviceName);
-            distributedExecutionIndexMap.put(requestId, distributedExecutionIndex);
-        } else {
-            HashMap<String, DistributedExecutionIndex> distributedExecutionIndexMap = new HashMap<>();
-            distributedExecutionIndexMap.put(requestId, distributedExecutionIndex);
-            distributedExecutionIndexByRequest.put(serviceName, distributedExecutionIndexMap);
-        }
+        distributedExecutionIndexByRequest.put(serviceName, requestId, distributedExecutionIndex);
     }
 
     /**
@@ -183,8 +187,7 @@ final public class FilibusterClientInstrumentor {
      */
     public static VectorClock getVectorClockForServiceNameAndRequestId(
             String serviceName, String requestId, VectorClock defaultVectorClock) {
-        Map<String, VectorClock> vectorClocksByRequestId = vectorClocksByRequest.getOrDefault(serviceName, new HashMap<>());
-        return vectorClocksByRequestId.getOrDefault(requestId, defaultVectorClock);
+        return vectorClocksByRequest.getOrDefault(serviceName, requestId, defaultVectorClock);
     }
 
     /**
@@ -196,8 +199,7 @@ final public class FilibusterClientInstrumentor {
     @SuppressWarnings("NullAway")
     public static DistributedExecutionIndex getDistributedExecutionIndexForServiceNameAndRequestId(
             String serviceName, String requestId, DistributedExecutionIndex defaultExecutionIndex) {
-        Map<String, DistributedExecutionIndex> distributedExecutionIndexByRequestId = distributedExecutionIndexByRequest.getOrDefault(serviceName, new HashMap<>());
-        return distributedExecutionIndexByRequestId.getOrDefault(requestId, defaultExecutionIndex);
+        return distributedExecutionIndexByRequest.getOrDefault(serviceName, requestId, defaultExecutionIndex);
     }
 
     final private String filibusterHost;
@@ -207,6 +209,18 @@ final public class FilibusterClientInstrumentor {
     private Callsite callsite;
 
     private int generatedId;
+
+    // Whether this service had clocks before this invocation, which a new test execution would have to reset.
+    private boolean clocksMayBeStale = true;
+
+    // Whether the faults for this invocation were decided from a prefetched fault plan, in which case the invocation
+    // is reported to the server asynchronously and its completion has to follow the same path.
+    private boolean beganWithFaultPlan = false;
+
+    // Generated ids for invocations that began from a prefetched fault plan, which never see the server's response.
+    // The server does not use generated ids; they only mark an invocation as reported.
+    private static final AtomicInteger faultPlanGeneratedIds = new AtomicInteger();
+
     private VectorClock vectorClock;
     private DistributedExecutionIndex distributedExecutionIndex;
 
@@ -229,10 +243,7 @@ final public class FilibusterClientInstrumentor {
     final private String filibusterBaseUri;
 
     @Nullable
-    private JSONObject counterexample;
-
-    @Nullable
-    private JSONObject counterexampleTestExecution;
+    private final IndexedCounterexample counterexample;
 
     @Nullable
     private DistributedExecutionIndex preliminaryDistributedExecutionIndex;
@@ -258,9 +269,10 @@ final public class FilibusterClientInstrumentor {
             ContextStorage contextStorage,
             Callsite callsite
     ) {
-        this.filibusterHost = Networking.getFilibusterHost();
-        this.filibusterPort = Networking.getFilibusterPort();
-        this.filibusterBaseUri = "http://" + getFilibusterHost() + ":" + getFilibusterPort() + "/";
+        FilibusterRuntimeConfig runtimeConfig = FilibusterRuntimeConfig.current();
+        this.filibusterHost = runtimeConfig.getServerHost();
+        this.filibusterPort = runtimeConfig.getServerPort();
+        this.filibusterBaseUri = runtimeConfig.getServerBaseUri();
 
         this.serviceName = serviceName;
         this.callsite = callsite;
@@ -277,10 +289,7 @@ final public class FilibusterClientInstrumentor {
 
         this.generatedId = -1;
 
-        if (canLoadCounterexample()) {
-            this.counterexample = loadCounterexampleAsJsonObjectFromEnvironment();
-            this.counterexampleTestExecution = loadTestExecutionFromCounterexample(counterexample);
-        }
+        this.counterexample = runtimeConfig.getCounterexample();
     }
 
     private boolean counterexampleNotProvided() {
@@ -317,7 +326,7 @@ final public class FilibusterClientInstrumentor {
         // Repeat execution index work.
         // ******************************************************************************************
 
-        synchronized (distributedExecutionIndexLock) {
+        synchronized (distributedExecutionIndexLockFor(serviceName, getRequestId())) {
             DistributedExecutionIndex incrementedDistributedExecutionIndex = FilibusterClientInstrumentor.getDistributedExecutionIndexForServiceNameAndRequestId(serviceName, getRequestId(), DistributedExecutionIndexType.getImplType().createImpl());
 
             // Now, we increment the execution index to reflect the request we're about to make.
@@ -374,7 +383,7 @@ final public class FilibusterClientInstrumentor {
      * @return request identifier.
      */
     public String getRequestId() {
-        if (getClientInstrumentorUseOverrideRequestIdProperty()) {
+        if (FilibusterRuntimeConfig.current().getClientInstrumentorUseOverrideRequestId()) {
             return overrideRequestId;
         }
 
@@ -507,61 +516,87 @@ final public class FilibusterClientInstrumentor {
      * @return whether the service's vector clock should be reset.
      */
     public boolean shouldResetClocks() {
+        return shouldResetClocksAsync().join();
+    }
+
+    /**
+     * Asynchronous version of {@link #shouldResetClocks()}: composes on the response from the Filibuster server
+     * instead of blocking the calling thread.
+     *
+     * @return future that completes with whether the service's vector clock should be reset.
+     */
+    public CompletableFuture<Boolean> shouldResetClocksAsync() {
         logger.log(Level.INFO, "shouldResetClocks: about to make call.");
 
         if (shouldCommunicateWithServer && counterexampleNotProvided()) {
-            if (getServerBackendCanInvokeDirectlyProperty()) {
+            if (FilibusterRuntimeConfig.current().getServerBackendCanInvokeDirectly()) {
                 if (FilibusterCore.hasCurrentInstance()) {
-                    return FilibusterCore.getCurrentInstance().isNewTestExecution(serviceName);
+                    return CompletableFuture.completedFuture(FilibusterCore.getCurrentInstance().isNewTestExecution(serviceName));
                 } else {
                     throw new FilibusterRuntimeException("No current filibuster core instance, this could indicate a problem.");
                 }
-            } else {
-                CompletableFuture<Boolean> shouldResetClocks = CompletableFuture.supplyAsync(() -> {
-                    try {
-                        // Call instrumentation using instrumentation to verify short-circuit.
-                        WebClient webClient = FilibusterExecutor.getDecoratedWebClient(filibusterBaseUri, filibusterServiceName);
-
-                        RequestHeaders postJson = RequestHeaders.of(
-                                HttpMethod.GET,
-                                "/filibuster/new-test-execution/" + serviceName,
-                                HttpHeaderNames.ACCEPT,
-                                "application/json",
-                                "X-Filibuster-Instrumentation",
-                                "true");
-                        AggregatedHttpResponse response = webClient.execute(postJson).aggregate().join();
-
-                        ResponseHeaders headers = response.headers();
-                        String statusCode = headers.get(HttpHeaderNames.STATUS);
-
-                        if (statusCode == null) {
-                            FilibusterServerBadResponseException.logAndThrow("shouldResetClocks, statusCode: null");
-                        }
+            } else if (FilibusterRuntimeConfig.current().getInstrumentationServerCommunicationGrpcEnabled()) {
+                try {
+                    NewTestExecutionRequest request = NewTestExecutionRequest.newBuilder().setServiceName(serviceName).build();
+                    NewTestExecutionReply reply = FilibusterExecutor.getInstrumentationServiceStub(filibusterBaseUri).newTestExecution(request);
 
-                        if (!Objects.equals(statusCode, "200")) {
-                            FilibusterServerBadResponseException.logAndThrow("shouldResetClocks, statusCode: " + statusCode);
-                        }
+                    if (FilibusterRuntimeConfig.current().getInstrumentationFaultPlanPrefetchEnabled() && reply.hasFaultPlan()) {
+                        FaultPlans.install(serviceName, ProtocolMessages.fromStruct(reply.getFaultPlan()));
+                    }
 
-                        JSONObject jsonObject = Response.aggregatedHttpResponseToJsonObject(response);
+                    return CompletableFuture.completedFuture(reply.getNewTestExecution());
+                } catch (RuntimeException e) {
+                    logger.log(Level.SEVERE, "cannot connect to the Filibuster server: " + e);
+                    return CompletableFuture.completedFuture(false);
+                }
+            } else {
+                RequestHeaders getJson = RequestHeaders.of(
+                        HttpMethod.GET,
+                        "/filibuster/new-test-execution/" + serviceName,
+                        HttpHeaderNames.ACCEPT,
+                        "application/json",
+                        "X-Filibuster-Instrumentation",
+                        "true");
+
+                return sendToFilibusterServer("shouldResetClocks", getJson, /* content= */ null).thenApply(jsonObject -> {
+                    logger.log(Level.INFO, "shouldResetClocks: finished.");
 
-                        return jsonObject.getBoolean("new-test-execution");
-                    } catch (RuntimeException e) {
-                        logger.log(Level.SEVERE, "cannot connect to the Filibuster server: " + e);
-                        return false;
+                    if (jsonObject != null && FilibusterRuntimeConfig.current().getInstrumentationFaultPlanPrefetchEnabled() && jsonObject.has("fault-plan")) {
+                        FaultPlans.install(serviceName, jsonObject.getJSONObject("fault-plan"));
                     }
-                }, FilibusterExecutor.getExecutorService());
 
-                try {
-                    logger.log(Level.INFO, "shouldResetClocks: finished.");
-                    return shouldResetClocks.get();
-                } catch (InterruptedException | ExecutionException e) {
-                    logger.log(Level.SEVERE, "cannot get information from Filibuster server: " + e);
-                    return false;
-                }
+                    return jsonObject != null && jsonObject.getBoolean("new-test-execution");
+                });
             }
         }
 
-        return false;
+        return CompletableFuture.completedFuture(false);
+    }
+
+    // Send a request to the Filibuster server and compose on the response, without handing the request off to another
+    // thread.  The shared web client runs on its own event loops, so callers that block on the result do not block the
+    // event loop that completes it.  Failures are logged and complete the future with null.
+    private CompletableFuture<JSONObject> sendToFilibusterServer(String caller, RequestHeaders requestHeaders, @Nullable String content) {
+        // Call instrumentation using instrumentation to verify short-circuit.
+        CompletableFuture<AggregatedHttpResponse> responseFuture =
+                FilibusterExecutor.executeFilibusterServerRequest(filibusterBaseUri, filibusterServiceName, requestHeaders, content);
+        return responseFuture.thenApply(response -> {
+            ResponseHeaders headers = response.headers();
+            String statusCode = headers.get(HttpHeaderNames.STATUS);
+
+            if (statusCode == null) {
+                FilibusterServerBadResponseException.logAndThrow(caller + ", statusCode: null");
+            }
+
+            if (!Objects.equals(statusCode, "200")) {
+                FilibusterServerBadResponseException.logAndThrow(caller + ", statusCode: " + statusCode);
+            }
+
+            return Response.aggregatedHttpResponseToJsonObject(response);
+        }).exceptionally(e -> {
+            logger.log(Level.SEVERE, "cannot connect to the Filibuster server: " + e);
+            return null;
+        });
     }
 
     public void prepareForInvocation(GeneratedMessageV3 message) {
@@ -580,12 +615,27 @@ final public class FilibusterClientInstrumentor {
         logger.log(Level.INFO, "requestId: " + getRequestId());
 
         // Should we reset the clocks?
-        if (shouldResetClocks()) {
-            // Clear out existing clocks.
-            FilibusterClientInstrumentor.clearVectorClockForRequestId(serviceName);
-            FilibusterClientInstrumentor.clearDistributedExecutionIndexForRequestId(serviceName);
+        if (shouldUseSingleRoundTrip()) {
+            // Decided by the server when the invocation begins; see beginInvocationWithSingleRoundTrip.
+            clocksMayBeStale = hasClocksForService(serviceName);
+        } else if (shouldResetClocks()) {
+            resetClocks();
         }
 
+        prepareClocks();
+    }
+
+    private void resetClocks() {
+        // Clear out existing clocks.
+        FilibusterClientInstrumentor.clearVectorClockForRequestId(serviceName);
+        FilibusterClientInstrumentor.clearDistributedExecutionIndexForRequestId(serviceName);
+    }
+
+    private static boolean hasClocksForService(String serviceName) {
+        return vectorClocksByRequest.containsService(serviceName) || distributedExecutionIndexByRequest.containsService(serviceName);
+    }
+
+    private void prepareClocks() {
         // Setup new vector clock for this request.
         if (!vectorClockForRequestIdExists(serviceName, getRequestId())) {
             FilibusterClientInstrumentor.setVectorClockForRequestId(serviceName, getRequestId(), new VectorClock());
@@ -603,7 +653,7 @@ final public class FilibusterClientInstrumentor {
         // Start vector clock work.
         // ******************************************************************************************
 
-        synchronized (vectorClockLock) {
+        synchronized (vectorClockLockFor(serviceName, getRequestId())) {
             VectorClock incrementedVectorClock = FilibusterClientInstrumentor.getVectorClockForServiceNameAndRequestId(serviceName, getRequestId(), new VectorClock());
             incrementedVectorClock.incrementClock(serviceName);
             FilibusterClientInstrumentor.setVectorClockForRequestId(serviceName, getRequestId(), incrementedVectorClock);
@@ -614,7 +664,7 @@ final public class FilibusterClientInstrumentor {
         // Start execution index work.
         // ******************************************************************************************
 
-        synchronized (distributedExecutionIndexLock) {
+        synchronized (distributedExecutionIndexLockFor(serviceName, getRequestId())) {
             DistributedExecutionIndex incrementedDistributedExecutionIndex = FilibusterClientInstrumentor.getDistributedExecutionIndexForServiceNameAndRequestId(serviceName, getRequestId(), DistributedExecutionIndexType.getImplType().createImpl());
 
             // Now, we increment the execution index to reflect the request we're about to make.
@@ -648,49 +698,24 @@ final public class FilibusterClientInstrumentor {
      * Notifies Filibuster of the remote call that is about to
      * occur and determines if the remote call should instead, return a fault.
      */
-    @SuppressWarnings("VoidMissingNullable")
     public void beforeInvocation() {
-        logger.log(Level.INFO, "beforeInvocation: about to make call.");
-
-        JSONObject invocationMetadata = new JSONObject();
-
-        if (rpcType != null) {
-            invocationMetadata.put("rpc_type", rpcType.toString());
-        } else {
-            invocationMetadata.put("rpc_type", "");
-        }
-
-        JSONObject invocationPayload = new JSONObject();
-        invocationPayload.put("instrumentation_type", "invocation");
-        invocationPayload.put("source_service_name", serviceName);
-        invocationPayload.put("module", callsite.getClassOrModuleName());
-        invocationPayload.put("method", callsite.getMethodOrFunctionName());
-        CallsiteArguments callsiteArguments = callsite.getCallsiteArguments();
-        JSONObject invocationArguments = callsiteArguments.toJsonObject();
-        invocationPayload.put("args", invocationArguments);
-
-        if (getTestV2Arguments() && requestMessage != null) {
-            JSONObject serializedRequestArgumentsV2 = GeneratedMessageV3Serializer.toJsonObject(requestMessage);
-            invocationPayload.put("args_v2", serializedRequestArgumentsV2);
-        }
+        beforeInvocationAsync().join();
+    }
 
-        invocationPayload.put("kwargs", new JSONObject());
-        invocationPayload.put("callsite_file", callsite.getFileName());
-        invocationPayload.put("callsite_line", callsite.getLineNumber());
-        invocationPayload.put("full_traceback", callsite.getSerializedStackTrace());
-        invocationPayload.put("metadata", invocationMetadata);
-        invocationPayload.put("vclock", vectorClock.toJsonObject());
-        invocationPayload.put("origin_vclock", originVectorClock.toJsonObject());
-        invocationPayload.put("execution_index", distributedExecutionIndex.toString());
-
-        if (preliminaryDistributedExecutionIndex != null) {
-            invocationPayload.put("preliminary_execution_index", preliminaryDistributedExecutionIndex.toString());
-        }
+    /**
+     * Asynchronous version of {@link #beforeInvocation()}: composes on the response from the Filibuster server
+     * instead of blocking the calling thread.
+     *
+     * @return future that completes once the fault to inject, if any, is known.
+     */
+    @SuppressWarnings("VoidMissingNullable")
+    public CompletableFuture<Void> beforeInvocationAsync() {
+        logger.log(Level.INFO, "beforeInvocation: about to make call.");
 
         if (!counterexampleNotProvided()) {
             logger.log(Level.INFO, "Not contacting server; replaying from counterexample file.");
 
-            JSONObject jsonObject = shouldFailRequestWithOrDefault(distributedExecutionIndex.toString(), counterexampleTestExecution);
+            JSONObject jsonObject = counterexample.shouldFailRequestWithOrDefault(distributedExecutionIndex.toString());
 
             if (jsonObject.has("forced_exception")) {
                 forcedException = jsonObject.getJSONObject("forced_exception");
@@ -704,82 +729,167 @@ final public class FilibusterClientInstrumentor {
                 transformerFault = jsonObject.getJSONObject("transformer_fault");
             }
         } else if (shouldCommunicateWithServer && counterexampleNotProvided()) {
-            if (getServerBackendCanInvokeDirectlyProperty()) {
+            if (FilibusterRuntimeConfig.current().getServerBackendCanInvokeDirectly()) {
                 if (FilibusterCore.hasCurrentInstance()) {
-                    JSONObject jsonObject = FilibusterCore.getCurrentInstance().beginInvocation(invocationPayload);
-                    generatedId = jsonObject.getInt("generated_id");
-
-                    if (jsonObject.has("forced_exception")) {
-                        forcedException = jsonObject.getJSONObject("forced_exception");
-                    }
-
-                    if (jsonObject.has("failure_metadata")) {
-                        failureMetadata = jsonObject.getJSONObject("failure_metadata");
-                    }
-
-                    if (jsonObject.has("transformer_fault")) {
-                        transformerFault = jsonObject.getJSONObject("transformer_fault");
-                    }
+                    // Typed fast path: no payload is rendered unless the core needs it.
+                    JSONObject jsonObject = FilibusterCore.getCurrentInstance().beginInvocation(createInvocationRecord());
+                    applyBeginInvocationResponse(jsonObject);
                 } else {
                     throw new FilibusterRuntimeException("No current filibuster core instance, this could indicate a problem.");
                 }
+            } else if (shouldUseFaultPlan()) {
+                beginInvocationWithFaultPlan();
+            } else if (shouldUseSingleRoundTrip()) {
+                return beginInvocationWithSingleRoundTrip(createInvocationPayload()).thenRun(() -> logger.log(Level.INFO, "beforeInvocation: finished."));
+            } else if (FilibusterRuntimeConfig.current().getInstrumentationServerCommunicationGrpcEnabled()) {
+                try {
+                    BeginInvocationRequest request = ProtocolMessages.toBeginInvocationRequest(createInvocationPayload());
+                    BeginInvocationReply reply = FilibusterExecutor.getInstrumentationServiceStub(filibusterBaseUri).beginInvocation(request);
+                    applyBeginInvocationResponse(ProtocolMessages.fromBeginInvocationReply(reply));
+                } catch (RuntimeException e) {
+                    logger.log(Level.SEVERE, "cannot connect to the Filibuster server: " + e);
+                }
             } else {
-                CompletableFuture<Void> createFuture = CompletableFuture.supplyAsync(() -> {
-                    try {
-                        // Call instrumentation using instrumentation to verify short-circuit.
-                        WebClient webClient = FilibusterExecutor.getDecoratedWebClient(filibusterBaseUri, filibusterServiceName);
-
-                        RequestHeaders postJson = RequestHeaders.of(
-                                HttpMethod.PUT,
-                                "/filibuster/create",
-                                HttpHeaderNames.CONTENT_TYPE,
-                                "application/json",
-                                "X-Filibuster-Instrumentation",
-                                "true");
-                        AggregatedHttpResponse response = webClient.execute(
-                                postJson, invocationPayload.toString()).aggregate().join();
-
-                        ResponseHeaders headers = response.headers();
-                        String statusCode = headers.get(HttpHeaderNames.STATUS);
-
-                        if (statusCode == null) {
-                            FilibusterServerBadResponseException.logAndThrow("beforeInvocation, statusCode: null");
-                        }
+                RequestHeaders putJson = RequestHeaders.of(
+                        HttpMethod.PUT,
+                        "/filibuster/create",
+                        HttpHeaderNames.CONTENT_TYPE,
+                        "application/json",
+                        "X-Filibuster-Instrumentation",
+                        "true");
+
+                return sendToFilibusterServer("beforeInvocation", putJson, createInvocationPayload().toString()).thenAccept(jsonObject -> {
+                    if (jsonObject != null) {
+                        applyBeginInvocationResponse(jsonObject);
+                    }
 
-                        if (!Objects.equals(statusCode, "200")) {
-                            FilibusterServerBadResponseException.logAndThrow("beforeInvocation, statusCode: " + statusCode);
-                        }
+                    logger.log(Level.INFO, "beforeInvocation: finished.");
+                });
+            }
+        }
 
-                        JSONObject jsonObject = Response.aggregatedHttpResponseToJsonObject(response);
-                        generatedId = jsonObject.getInt("generated_id");
+        logger.log(Level.INFO, "beforeInvocation: finished.");
+        return CompletableFuture.completedFuture(null);
+    }
 
-                        if (jsonObject.has("forced_exception")) {
-                            forcedException = jsonObject.getJSONObject("forced_exception");
-                        }
+    private InvocationRecord createInvocationRecord() {
+        return new InvocationRecord.Builder()
+                .sourceServiceName(serviceName)
+                .callsite(callsite)
+                .rpcType(rpcType)
+                .requestMessage(requestMessage)
+                .vectorClock(vectorClock)
+                .originVectorClock(originVectorClock)
+                .distributedExecutionIndex(distributedExecutionIndex)
+                .preliminaryDistributedExecutionIndex(preliminaryDistributedExecutionIndex)
+                .build();
+    }
 
-                        if (jsonObject.has("failure_metadata")) {
-                            failureMetadata = jsonObject.getJSONObject("failure_metadata");
-                        }
+    private JSONObject createInvocationPayload() {
+        return createInvocationRecord().toJsonObject();
+    }
 
-                        if (jsonObject.has("transformer_fault")) {
-                            transformerFault = jsonObject.getJSONObject("transformer_fault");
-                        }
-                    } catch (RuntimeException e) {
-                        logger.log(Level.SEVERE, "cannot connect to the Filibuster server: " + e);
-                    }
+    // Prefetched fault plans are installed with the answer to a service's first request of a test execution, which
+    // the single round-trip protocol folds into beginning the invocation; so the two are not combined.
+    private boolean shouldUseFaultPlan() {
+        FilibusterRuntimeConfig runtimeConfig = FilibusterRuntimeConfig.current();
+
+        return runtimeConfig.getInstrumentationFaultPlanPrefetchEnabled()
+                && !runtimeConfig.getInstrumentationServerCommunicationSingleRoundTripEnabled()
+                && shouldCommunicateWithServer
+                && counterexampleNotProvided()
+                && !runtimeConfig.getServerBackendCanInvokeDirectly()
+                && FaultPlans.hasFaultPlan(serviceName);
+    }
 
-                    return null;
-                }, FilibusterExecutor.getExecutorService());
+    // Decide locally whether to inject a fault, as the server would from the same plan, and report the invocation
+    // without waiting for the server.
+    private void beginInvocationWithFaultPlan() {
+        JSONObject faultObject = FaultPlans.getFault(serviceName, distributedExecutionIndex.toString());
 
-                try {
-                    createFuture.get();
-                } catch (InterruptedException | ExecutionException e) {
-                    logger.log(Level.SEVERE, "cannot get information from Filibuster server: " + e);
-                }
+        if (faultObject != null) {
+            if (faultObject.has("forced_exception")) {
+                forcedException = faultObject.getJSONObject("forced_exception");
+            } else if (faultObject.has("failure_metadata")) {
+                failureMetadata = faultObject.getJSONObject("failure_metadata");
             }
         }
 
-        logger.log(Level.INFO, "beforeInvocation: finished.");
+        beganWithFaultPlan = true;
+        generatedId = faultPlanGeneratedIds.incrementAndGet() & Integer.MAX_VALUE;
+        InvocationCompletionReporter.reportBeginInvocation(filibusterBaseUri, filibusterServiceName, createInvocationPayload());
+    }
+
+    private boolean shouldUseSingleRoundTrip() {
+        FilibusterRuntimeConfig runtimeConfig = FilibusterRuntimeConfig.current();
+
+        return runtimeConfig.getInstrumentationServerCommunicationSingleRoundTripEnabled()
+                && shouldCommunicateWithServer
+                && counterexampleNotProvided()
+                && !runtimeConfig.getServerBackendCanInvokeDirectly();
+    }
+
+    // Begin the invocation and learn whether it starts a new test execution in a single request.  Only when it does,
+    // and the clocks were computed from the previous test execution, reset them and begin the invocation again.
+    private CompletableFuture<Void> beginInvocationWithSingleRoundTrip(JSONObject invocationPayload) {
+        invocationPayload.put("clocks_may_be_stale", clocksMayBeStale);
+
+        return begin(invocationPayload).thenCompose(jsonObject -> {
+            if (jsonObject != null && jsonObject.optBoolean("new-test-execution", false) && clocksMayBeStale) {
+                resetClocks();
+                prepareClocks();
+                clocksMayBeStale = false;
+
+                JSONObject resetInvocationPayload = createInvocationPayload();
+                resetInvocationPayload.put("clocks_may_be_stale", false);
+                return begin(resetInvocationPayload);
+            }
+
+            return CompletableFuture.completedFuture(jsonObject);
+        }).thenAccept(jsonObject -> {
+            if (jsonObject != null) {
+                applyBeginInvocationResponse(jsonObject);
+            }
+        });
+    }
+
+    private CompletableFuture<JSONObject> begin(JSONObject invocationPayload) {
+        if (FilibusterRuntimeConfig.current().getInstrumentationServerCommunicationGrpcEnabled()) {
+            try {
+                BeginInvocationRequest request = ProtocolMessages.toBeginInvocationRequest(invocationPayload);
+                BeginInvocationReply reply = FilibusterExecutor.getInstrumentationServiceStub(filibusterBaseUri).begin(request);
+                return CompletableFuture.completedFuture(ProtocolMessages.fromBeginInvocationReply(reply));
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, "cannot connect to the Filibuster server: " + e);
+                return CompletableFuture.completedFuture(null);
+            }
+        }
+
+        RequestHeaders putJson = RequestHeaders.of(
+                HttpMethod.PUT,
+                "/filibuster/begin",
+                HttpHeaderNames.CONTENT_TYPE,
+                "application/json",
+                "X-Filibuster-Instrumentation",
+                "true");
+        return sendToFilibusterServer("begin", putJson, invocationPayload.toString());
+    }
+
+    // Record the generated id and any fault the server decided to inject.
+    private void applyBeginInvocationResponse(JSONObject jsonObject) {
+        generatedId = jsonObject.getInt("generated_id");
+
+        if (jsonObject.has("forced_exception")) {
+            forcedException = jsonObject.getJSONObject("forced_exception");
+        }
+
+        if (jsonObject.has("failure_metadata")) {
+            failureMetadata = jsonObject.getJSONObject("failure_metadata");
+        }
+
+        if (jsonObject.has("transformer_fault")) {
+            transformerFault = jsonObject.getJSONObject("transformer_fault");
+        }
     }
 
     /**
@@ -863,7 +973,7 @@ final public class FilibusterClientInstrumentor {
             invocationCompletePayload.put("exception", exception);
 
             // In the future, find a way to be a bit smarter about this.
-            if(getTestV2Exception() && exceptionDetails != null) {
+            if(FilibusterRuntimeConfig.current().getTestV2Exception() && exceptionDetails != null) {
                 if (exceptionDetails instanceof Status) {
                     Status responseStatus = (Status) exceptionDetails;
                     JSONObject serializedExceptionV2 = StatusSerializer.toJsonObject(responseStatus);
@@ -1002,7 +1112,7 @@ final public class FilibusterClientInstrumentor {
             invocationCompletePayload.put("vclock", getVectorClock().toJsonObject());
             invocationCompletePayload.put("return_value", returnValueJsonObject);
 
-            if (getTestV2ReturnValue() && responseMessage != null) {
+            if (FilibusterRuntimeConfig.current().getTestV2ReturnValue() && responseMessage != null) {
                 JSONObject serializedResponseArgumentsV2 = GeneratedMessageV3Serializer.toJsonObject(responseMessage);
                 invocationCompletePayload.put("return_value_v2", serializedResponseArgumentsV2);
             }
@@ -1021,14 +1131,57 @@ final public class FilibusterClientInstrumentor {
     @SuppressWarnings("VoidMissingNullable")
     private void recordInvocationComplete(JSONObject invocationCompletePayload, boolean isUpdate) {
         logger.log(Level.INFO, "invocationCompletePayload: about to make call.");
-        logger.log(Level.INFO, "invocationCompletePayload: " + invocationCompletePayload);
+        EventTrace.record(EventTrace.EventType.INVOCATION_COMPLETE, invocationCompletePayload);
+        FilibusterRuntimeConfig runtimeConfig = FilibusterRuntimeConfig.current();
 
-        if (getServerBackendCanInvokeDirectlyProperty()) {
+        if (runtimeConfig.getServerBackendCanInvokeDirectly()) {
             if (FilibusterCore.hasCurrentInstance()) {
-                FilibusterCore.getCurrentInstance().endInvocation(invocationCompletePayload, isUpdate);
+                FilibusterCore.getCurrentInstance().endInvocation(distributedExecutionIndex, invocationCompletePayload, isUpdate);
             } else {
                 throw new FilibusterRuntimeException("No current filibuster core instance, this could indicate a problem.");
             }
+        } else if (runtimeConfig.getInstrumentationServerCommunicationAsyncCompletionEnabled() || beganWithFaultPlan) {
+            // See below for why updates are not sent.
+            if (!isUpdate) {
+                InvocationCompletionReporter.report(filibusterBaseUri, filibusterServiceName, invocationCompletePayload);
+                logger.log(Level.INFO, "invocationCompletePayload: queued.");
+            }
+        } else if (runtimeConfig.getInstrumentationServerCommunicationGrpcEnabled()) {
+            // See below for why updates are not sent.
+            if (!isUpdate) {
+                try {
+                    EndInvocationRequest request = ProtocolMessages.toEndInvocationRequest(invocationCompletePayload, isUpdate);
+
+                    if (shouldUseSingleRoundTrip()) {
+                        // Nothing in the reply is needed, so don't wait for it.
+                        CompletableFuture<Void> endFuture = new CompletableFuture<>();
+                        PendingInvocationCompletions.track(endFuture);
+                        FilibusterExecutor.getAsyncInstrumentationServiceStub(filibusterBaseUri).endInvocation(request, new StreamObserver<EndInvocationReply>() {
+                            @Override
+                            public void onNext(EndInvocationReply reply) {
+
+                            }
+
+                            @Override
+                            public void onError(Throwable t) {
+                                logger.log(Level.SEVERE, "cannot get information from Filibuster server: " + t);
+                                endFuture.completeExceptionally(t);
+                            }
+
+                            @Override
+                            public void onCompleted() {
+                                endFuture.complete(null);
+                            }
+                        });
+                    } else {
+                        FilibusterExecutor.getInstrumentationServiceStub(filibusterBaseUri).endInvocation(request);
+                    }
+                } catch (RuntimeException e) {
+                    logger.log(Level.SEVERE, "cannot get information from Filibuster server: " + e);
+                }
+
+                logger.log(Level.INFO, "invocationCompletePayload: finished.");
+            }
         } else {
             // The only thing that's updated here is the TestExecutionReport that is only supported via the Java server
             // so, don't call again -- this actually won't break anything in the Python server by calling it again
@@ -1042,28 +1195,38 @@ final public class FilibusterClientInstrumentor {
             // Long term fix: deprecate the Python client, always call this for the Java server, fix all
             // the integration tests to check for this.  We'll do this when someone actually needs this feature.
             //
-            if (!isUpdate) {
-                CompletableFuture<Void> updateFuture = CompletableFuture.supplyAsync(() -> {
-                    // Call instrumentation using instrumentation to verify short-circuit.
-                    WebClient webClient = FilibusterExecutor.getDecoratedWebClient(filibusterBaseUri, filibusterServiceName);
-
-                    RequestHeaders postJson = RequestHeaders.of(
-                            HttpMethod.POST,
-                            "/filibuster/update",
-                            HttpHeaderNames.CONTENT_TYPE,
-                            "application/json",
-                            "X-Filibuster-Instrumentation",
-                            "true",
-                            "X-Filibuster-Is-Update",
-                            String.valueOf(isUpdate));
-                    webClient.execute(postJson, invocationCompletePayload.toString()).aggregate().join();
-
-                    return null;
-                }, FilibusterExecutor.getExecutorService());
+            if (!isUpdate && shouldUseSingleRoundTrip()) {
+                // Nothing in the response is needed, so don't wait for it.
+                RequestHeaders postJson = RequestHeaders.of(
+                        HttpMethod.POST,
+                        "/filibuster/update",
+                        HttpHeaderNames.CONTENT_TYPE,
+                        "application/json",
+                        "X-Filibuster-Instrumentation",
+                        "true",
+                        "X-Filibuster-Is-Update",
+                        String.valueOf(isUpdate));
+                PendingInvocationCompletions.track(FilibusterExecutor.executeFilibusterServerRequest(filibusterBaseUri, filibusterServiceName, postJson, invocationCompletePayload.toString())
+                        .whenComplete((response, e) -> {
+                            if (e != null) {
+                                logger.log(Level.SEVERE, "cannot get information from Filibuster server: " + e);
+                            }
+                        }));
+            } else if (!isUpdate) {
+                // Call instrumentation using instrumentation to verify short-circuit.
+                RequestHeaders postJson = RequestHeaders.of(
+                        HttpMethod.POST,
+                        "/filibuster/update",
+                        HttpHeaderNames.CONTENT_TYPE,
+                        "application/json",
+                        "X-Filibuster-Instrumentation",
+                        "true",
+                        "X-Filibuster-Is-Update",
+                        String.valueOf(isUpdate));
 
                 try {
-                    updateFuture.get();
-                } catch (InterruptedException | ExecutionException e) {
+                    FilibusterExecutor.executeFilibusterServerRequest(filibusterBaseUri, filibusterServiceName, postJson, invocationCompletePayload.toString()).join();
+                } catch (RuntimeException e) {
                     logger.log(Level.SEVERE, "cannot get information from Filibuster server: " + e);
                 }
 
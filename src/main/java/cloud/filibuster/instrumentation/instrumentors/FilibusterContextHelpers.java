@@ -6,8 +6,8 @@ import cloud.filibuster.instrumentation.datatypes.VectorClock;
 import cloud.filibuster.instrumentation.storage.ContextStorage;
 
 import static cloud.filibuster.instrumentation.instrumentors.FilibusterClientInstrumentor.getDistributedExecutionIndexForServiceNameAndRequestId;
-import static cloud.filibuster.instrumentation.instrumentors.FilibusterLocks.distributedExecutionIndexLock;
-import static cloud.filibuster.instrumentation.instrumentors.FilibusterLocks.vectorClockLock;
+import static cloud.filibuster.instrumentation.instrumentors.FilibusterClientInstrumentor.distributedExecutionIndexLockFor;
+import static cloud.filibuster.instrumentation.instrumentors.FilibusterClientInstrumentor.vectorClockLockFor;
 
 public class FilibusterContextHelpers {
     private FilibusterContextHelpers() {
@@ -20,7 +20,7 @@ public class FilibusterContextHelpers {
         VectorClock vectorClock = contextStorage.getVectorClock();
         String distributedExecutionIndexStr = contextStorage.getDistributedExecutionIndex();
 
-        synchronized (distributedExecutionIndexLock) {
+        synchronized (distributedExecutionIndexLockFor(serviceName, requestId)) {
             DistributedExecutionIndex distributedExecutionIndexFromContext = getDistributedExecutionIndexForServiceNameAndRequestId(serviceName, requestId, null);
 
             // If we already have an execution index for this request id, then we just continue
@@ -46,7 +46,7 @@ public class FilibusterContextHelpers {
             }
         }
 
-        synchronized (vectorClockLock) {
+        synchronized (vectorClockLockFor(serviceName, requestId)) {
             if (vectorClock != null) {
                 // If we already have a vclock for this request id, but a cycle exists
                 // in the graph, we might receive another request for this same request id;
@@ -2,11 +2,11 @@ package cloud.filibuster.instrumentation.instrumentors;
 
 import cloud.filibuster.instrumentation.datatypes.FilibusterExecutor;
 import cloud.filibuster.instrumentation.datatypes.VectorClock;
-import cloud.filibuster.instrumentation.helpers.Networking;
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
+import cloud.filibuster.instrumentation.helpers.IndexedCounterexample;
 import cloud.filibuster.instrumentation.helpers.Response;
 import cloud.filibuster.instrumentation.storage.ContextStorage;
 import cloud.filibuster.exceptions.filibuster.FilibusterServerBadResponseException;
-import com.linecorp.armeria.client.WebClient;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpMethod;
@@ -21,10 +21,6 @@ import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static cloud.filibuster.instrumentation.helpers.Counterexample.canLoadCounterexample;
-import static cloud.filibuster.instrumentation.helpers.Counterexample.loadCounterexampleAsJsonObjectFromEnvironment;
-import static cloud.filibuster.instrumentation.helpers.Counterexample.loadTestExecutionFromCounterexample;
-
 /**
  * Server instrumentor for Filibuster.
  */
@@ -41,10 +37,7 @@ final public class FilibusterServerInstrumentor {
     final private ContextStorage contextStorage;
 
     @Nullable
-    private JSONObject counterexample;
-
-    @Nullable
-    private JSONObject counterexampleTestExecution;
+    private final IndexedCounterexample counterexample;
 
     /**
      * @param serviceName name of the service that is running the server instrumentor.
@@ -102,10 +95,7 @@ final public class FilibusterServerInstrumentor {
         contextStorage.setOriginVectorClock(originVectorClock);
         contextStorage.setDistributedExecutionIndex(distributedExecutionIndex);
 
-        if (canLoadCounterexample()) {
-            this.counterexample = loadCounterexampleAsJsonObjectFromEnvironment();
-            this.counterexampleTestExecution = loadTestExecutionFromCounterexample(counterexample);
-        }
+        this.counterexample = FilibusterRuntimeConfig.current().getCounterexample();
     }
 
     private boolean counterexampleNotProvided() {
@@ -149,10 +139,9 @@ final public class FilibusterServerInstrumentor {
 
             if (shouldCommunicateWithServer && counterexampleNotProvided()) {
                 CompletableFuture<String> updateFuture = CompletableFuture.supplyAsync(() -> {
-                    String uri = "http://" + Networking.getFilibusterHost() + ":" + Networking.getFilibusterPort() + "/";
+                    String uri = FilibusterRuntimeConfig.current().getServerBaseUri();
                     logger.log(Level.INFO, "making call to filibuster server, update with body: " + payload);
                     logger.log(Level.INFO, "URI: " + uri);
-                    WebClient webClient = FilibusterExecutor.getWebClient("http://" + Networking.getFilibusterHost() + ":" + Networking.getFilibusterPort() + "/");
 
                     RequestHeaders postJson = RequestHeaders.of(
                             HttpMethod.POST,
@@ -161,7 +150,7 @@ final public class FilibusterServerInstrumentor {
                             "application/json",
                             "X-Filibuster-Instrumentation",
                             "true");
-                    AggregatedHttpResponse response = webClient.execute(postJson, payload.toString()).aggregate().join();
+                    AggregatedHttpResponse response = FilibusterExecutor.executeFilibusterServerRequest(uri, /* serviceName= */ null, postJson, payload.toString()).join();
 
                     ResponseHeaders headers = response.headers();
                     String statusCode = headers.get(HttpHeaderNames.STATUS);
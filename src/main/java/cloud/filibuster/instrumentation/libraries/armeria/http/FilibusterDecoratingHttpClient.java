@@ -4,6 +4,7 @@ import cloud.filibuster.RpcType;
 import cloud.filibuster.exceptions.filibuster.FilibusterFaultInjectionException;
 import cloud.filibuster.instrumentation.datatypes.Callsite;
 import cloud.filibuster.instrumentation.datatypes.CallsiteArguments;
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
 import cloud.filibuster.instrumentation.instrumentors.FilibusterClientInstrumentor;
 import cloud.filibuster.instrumentation.storage.ContextStorage;
 import cloud.filibuster.instrumentation.storage.ThreadLocalContextStorage;
@@ -28,8 +29,6 @@ import java.util.logging.Logger;
 
 import static cloud.filibuster.instrumentation.helpers.Networking.attemptHostnameResolution;
 import static cloud.filibuster.instrumentation.helpers.Networking.extractHostnameAndPortFromUri;
-import static cloud.filibuster.instrumentation.helpers.Property.getInstrumentationEnabledProperty;
-import static cloud.filibuster.instrumentation.helpers.Property.getInstrumentationServerCommunicationEnabledProperty;
 
 public class FilibusterDecoratingHttpClient extends SimpleDecoratingHttpClient {
     private static final Logger logger = Logger.getLogger(FilibusterDecoratingHttpClient.class.getName());
@@ -48,7 +47,7 @@ public class FilibusterDecoratingHttpClient extends SimpleDecoratingHttpClient {
 
 
     private static boolean shouldInstrument() {
-        if (getInstrumentationEnabledProperty() && !disableInstrumentation) {
+        if (FilibusterRuntimeConfig.current().getInstrumentationEnabled() && !disableInstrumentation) {
             return true;
         }
 
@@ -56,7 +55,7 @@ public class FilibusterDecoratingHttpClient extends SimpleDecoratingHttpClient {
     }
 
     private static boolean shouldCommunicateWithServer() {
-        if (getInstrumentationServerCommunicationEnabledProperty() && !disableServerCommunication) {
+        if (FilibusterRuntimeConfig.current().getInstrumentationServerCommunicationEnabled() && !disableServerCommunication) {
             return true;
         }
 
@@ -196,7 +195,6 @@ public class FilibusterDecoratingHttpClient extends SimpleDecoratingHttpClient {
                     new CallsiteArguments(req.getClass(), String.join("-", serializedArguments)));
         }
 
-
         // ******************************************************************************************
         // Prepare for invocation.
         // ******************************************************************************************
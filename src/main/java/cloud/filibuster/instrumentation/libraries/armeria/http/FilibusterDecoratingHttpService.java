@@ -1,6 +1,7 @@
 package cloud.filibuster.instrumentation.libraries.armeria.http;
 
 import cloud.filibuster.instrumentation.datatypes.RequestId;
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
 import cloud.filibuster.instrumentation.instrumentors.FilibusterServerInstrumentor;
 import cloud.filibuster.instrumentation.storage.ContextStorage;
 import cloud.filibuster.instrumentation.storage.ThreadLocalContextStorage;
@@ -13,9 +14,6 @@ import com.linecorp.armeria.server.SimpleDecoratingHttpService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static cloud.filibuster.instrumentation.helpers.Property.getInstrumentationEnabledProperty;
-import static cloud.filibuster.instrumentation.helpers.Property.getInstrumentationServerCommunicationEnabledProperty;
-
 public class FilibusterDecoratingHttpService extends SimpleDecoratingHttpService {
     private static final Logger logger = Logger.getLogger(FilibusterDecoratingHttpService.class.getName());
 
@@ -31,7 +29,7 @@ public class FilibusterDecoratingHttpService extends SimpleDecoratingHttpService
     private static final String logPrefix = "[FILIBUSTER-ARMERIA_HTTP_SERVICE]: ";
 
     private static boolean shouldInstrument() {
-        if (getInstrumentationEnabledProperty() && !disableInstrumentation) {
+        if (FilibusterRuntimeConfig.current().getInstrumentationEnabled() && !disableInstrumentation) {
             return true;
         }
 
@@ -39,7 +37,7 @@ public class FilibusterDecoratingHttpService extends SimpleDecoratingHttpService
     }
 
     private static boolean shouldCommunicateWithServer() {
-        if (getInstrumentationServerCommunicationEnabledProperty() && !disableServerCommunication) {
+        if (FilibusterRuntimeConfig.current().getInstrumentationServerCommunicationEnabled() && !disableServerCommunication) {
             return true;
         }
 
@@ -4,6 +4,7 @@ import cloud.filibuster.exceptions.filibuster.FilibusterFaultInjectionException;
 import cloud.filibuster.exceptions.filibuster.FilibusterRuntimeException;
 import cloud.filibuster.instrumentation.datatypes.Callsite;
 import cloud.filibuster.instrumentation.datatypes.CallsiteArguments;
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
 import cloud.filibuster.instrumentation.instrumentors.FilibusterClientInstrumentor;
 import cloud.filibuster.instrumentation.storage.ContextStorage;
 import cloud.filibuster.instrumentation.storage.ThreadLocalContextStorage;
@@ -51,8 +52,6 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
-import static cloud.filibuster.instrumentation.helpers.Property.getInstrumentationEnabledProperty;
-import static cloud.filibuster.instrumentation.helpers.Property.getInstrumentationServerCommunicationEnabledProperty;
 import static cloud.filibuster.instrumentation.helpers.Property.getRedisTestPortNondeterminismProperty;
 
 
@@ -438,11 +437,11 @@ public final class DynamicProxyInterceptor<T> implements InvocationHandler {
     }
 
     private static boolean shouldInstrument() {
-        return getInstrumentationEnabledProperty() && !disableInstrumentation;
+        return FilibusterRuntimeConfig.current().getInstrumentationEnabled() && !disableInstrumentation;
     }
 
     private static boolean shouldCommunicateWithServer() {
-        return getInstrumentationServerCommunicationEnabledProperty() && !disableServerCommunication;
+        return FilibusterRuntimeConfig.current().getInstrumentationServerCommunicationEnabled() && !disableServerCommunication;
     }
 
     @SuppressWarnings("unchecked")
@@ -5,6 +5,7 @@ import cloud.filibuster.exceptions.filibuster.FilibusterFaultInjectionException;
 import cloud.filibuster.exceptions.filibuster.FilibusterInstrumentationMissingDelegateException;
 import cloud.filibuster.instrumentation.datatypes.Callsite;
 import cloud.filibuster.instrumentation.datatypes.CallsiteArguments;
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
 import cloud.filibuster.instrumentation.instrumentors.FilibusterClientInstrumentor;
 import cloud.filibuster.instrumentation.storage.ContextStorage;
 import cloud.filibuster.instrumentation.storage.ThreadLocalContextStorage;
@@ -27,8 +28,6 @@ import java.util.HashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static cloud.filibuster.instrumentation.helpers.Property.getInstrumentationEnabledProperty;
-import static cloud.filibuster.instrumentation.helpers.Property.getInstrumentationServerCommunicationEnabledProperty;
 import static cloud.filibuster.instrumentation.instrumentors.FilibusterGrpcHeaders.FILIBUSTER_EXCEPTION_CAUSE;
 import static cloud.filibuster.instrumentation.instrumentors.FilibusterGrpcHeaders.FILIBUSTER_EXCEPTION_CAUSE_MESSAGE;
 import static cloud.filibuster.instrumentation.instrumentors.FilibusterGrpcHeaders.FILIBUSTER_EXCEPTION_CODE;
@@ -54,7 +53,7 @@ public class FilibusterClientInterceptor implements ClientInterceptor {
     private static final String logPrefix = "[FILIBUSTER-GRPC_CLIENT_INTERCEPTOR]: ";
 
     private static boolean shouldInstrument() {
-        if (getInstrumentationEnabledProperty() && !disableInstrumentation) {
+        if (FilibusterRuntimeConfig.current().getInstrumentationEnabled() && !disableInstrumentation) {
             return true;
         }
 
@@ -62,7 +61,7 @@ public class FilibusterClientInterceptor implements ClientInterceptor {
     }
 
     private static boolean shouldCommunicateWithServer() {
-        if (getInstrumentationServerCommunicationEnabledProperty() && !disableServerCommunication) {
+        if (FilibusterRuntimeConfig.current().getInstrumentationServerCommunicationEnabled() && !disableServerCommunication) {
             return true;
         }
 
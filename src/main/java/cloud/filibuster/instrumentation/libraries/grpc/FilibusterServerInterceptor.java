@@ -1,6 +1,7 @@
 package cloud.filibuster.instrumentation.libraries.grpc;
 
 import cloud.filibuster.instrumentation.datatypes.RequestId;
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
 import cloud.filibuster.instrumentation.instrumentors.FilibusterServerInstrumentor;
 import cloud.filibuster.instrumentation.storage.ContextStorage;
 import cloud.filibuster.instrumentation.storage.ThreadLocalContextStorage;
@@ -15,8 +16,6 @@ import javax.annotation.Nullable;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static cloud.filibuster.instrumentation.helpers.Property.getInstrumentationEnabledProperty;
-import static cloud.filibuster.instrumentation.helpers.Property.getInstrumentationServerCommunicationEnabledProperty;
 import static cloud.filibuster.instrumentation.instrumentors.FilibusterGrpcHeaders.FILIBUSTER_EXCEPTION_CAUSE;
 import static cloud.filibuster.instrumentation.instrumentors.FilibusterGrpcHeaders.FILIBUSTER_EXCEPTION_CAUSE_MESSAGE;
 import static cloud.filibuster.instrumentation.instrumentors.FilibusterGrpcHeaders.FILIBUSTER_EXCEPTION_CODE;
@@ -42,7 +41,7 @@ public class FilibusterServerInterceptor implements ServerInterceptor {
     private String requestId;
 
     private static boolean shouldInstrument() {
-        if (getInstrumentationEnabledProperty() && !disableInstrumentation) {
+        if (FilibusterRuntimeConfig.current().getInstrumentationEnabled() && !disableInstrumentation) {
             return true;
         }
 
@@ -50,7 +49,7 @@ public class FilibusterServerInterceptor implements ServerInterceptor {
     }
 
     private static boolean shouldCommunicateWithServer() {
-        if (getInstrumentationServerCommunicationEnabledProperty() && !disableServerCommunication) {
+        if (FilibusterRuntimeConfig.current().getInstrumentationServerCommunicationEnabled() && !disableServerCommunication) {
             return true;
         }
 
@@ -3,5 +3,7 @@ package cloud.filibuster.junit;
 public enum FilibusterSearchStrategy {
     DEFAULT,
     DFS,
-    BFS;
+    BFS,
+    PRIORITY,
+    RANDOM;
 }
@@ -1,6 +1,7 @@
 package cloud.filibuster.junit;
 
 import cloud.filibuster.dei.implementations.DistributedExecutionIndexV1;
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
 import cloud.filibuster.junit.configuration.FilibusterConfiguration;
 
 public class FilibusterSystemProperties {
@@ -15,6 +16,9 @@ public class FilibusterSystemProperties {
 
         System.setProperty("kotlinx.coroutines.debug", "on");
         System.setProperty("kotlinx.coroutines.stacktrace.recovery", "true");
+
+        // Instrumented calls during the test read this snapshot instead of the properties.
+        FilibusterRuntimeConfig.capture();
     }
 
     public static void unsetSystemPropertiesForFilibusterInstrumentation() {
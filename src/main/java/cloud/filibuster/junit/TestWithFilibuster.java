@@ -13,6 +13,8 @@ import cloud.filibuster.junit.extensions.FilibusterTestExtension;
 
 import cloud.filibuster.junit.filters.FilibusterFaultInjectionFilter;
 import cloud.filibuster.junit.filters.NoopFilter;
+import cloud.filibuster.junit.scorers.FewestFaultsFirstScorer;
+import cloud.filibuster.junit.scorers.FilibusterTestExecutionScorer;
 import cloud.filibuster.junit.server.FilibusterServerBackend;
 import cloud.filibuster.junit.server.backends.FilibusterLocalServerBackend;
 import cloud.filibuster.junit.server.core.profiles.ServiceProfileBehavior;
@@ -30,6 +32,8 @@ import static cloud.filibuster.instrumentation.helpers.Property.AVOID_REDUNDANT_
 import static cloud.filibuster.instrumentation.helpers.Property.DATA_NONDETERMINISM_DEFAULT;
 import static cloud.filibuster.instrumentation.helpers.Property.FAIL_ON_ORGANIC_FAILURES_DEFAULT;
 import static cloud.filibuster.instrumentation.helpers.Property.MAX_ITERATIONS_DEFAULT;
+import static cloud.filibuster.instrumentation.helpers.Property.MAX_SIMULTANEOUS_FAULTS_DEFAULT;
+import static cloud.filibuster.instrumentation.helpers.Property.SEARCH_SEED_DEFAULT;
 import static cloud.filibuster.instrumentation.helpers.Property.SUPPRESS_COMBINATIONS_DEFAULT;
 
 /**
@@ -136,6 +140,15 @@ public @interface TestWithFilibuster {
      */
     boolean suppressCombinations() default SUPPRESS_COMBINATIONS_DEFAULT;
 
+    /**
+     * Maximum number of faults injected simultaneously in a single test execution; 0 for no bound.
+     *
+     * <p>Setting {@link #suppressCombinations()} is equivalent to a bound of 1.
+     *
+     * @return maximum number of simultaneous faults.
+     */
+    int maxSimultaneousFaults() default MAX_SIMULTANEOUS_FAULTS_DEFAULT;
+
     /**
      * Does this test configuration contain data nondeterminism?
      *
@@ -258,6 +271,22 @@ public @interface TestWithFilibuster {
      */
     FilibusterSearchStrategy searchStrategy() default FilibusterSearchStrategy.DEFAULT;
 
+    /**
+     * Seed used to sample test executions when using the random search strategy.
+     *
+     * <p>When left at the default, the {@code filibuster.test.search_seed} property is used.
+     *
+     * @return seed
+     */
+    long searchSeed() default SEARCH_SEED_DEFAULT;
+
+    /**
+     * Wall-clock budget for the search, in milliseconds; once exceeded, no further test executions are scheduled.
+     *
+     * @return time budget in milliseconds, or 0 for no budget
+     */
+    long searchTimeBudgetMillis() default 0;
+
     /**
      * Latency profile for the execution.
      *
@@ -286,6 +315,13 @@ public @interface TestWithFilibuster {
      */
     Class<? extends FilibusterFaultInjectionFilter> faultInjectionFilter() default NoopFilter.class;
 
+    /**
+     * Scorer used to order test executions when using the priority search strategy.
+     *
+     * @return scorer
+     */
+    Class<? extends FilibusterTestExecutionScorer> testExecutionScorer() default FewestFaultsFirstScorer.class;
+
     /**
      * Fail the test if a fault is not injected.
      *
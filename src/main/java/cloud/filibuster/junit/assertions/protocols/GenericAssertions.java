@@ -2,6 +2,7 @@ package cloud.filibuster.junit.assertions.protocols;
 
 import cloud.filibuster.exceptions.filibuster.FilibusterServerBadResponseException;
 import cloud.filibuster.instrumentation.datatypes.FilibusterExecutor;
+import cloud.filibuster.instrumentation.datatypes.PendingInvocationCompletions;
 import cloud.filibuster.instrumentation.helpers.Networking;
 import cloud.filibuster.instrumentation.helpers.Response;
 import cloud.filibuster.junit.server.core.FilibusterCore;
@@ -80,6 +81,11 @@ public class GenericAssertions {
 
     protected static boolean wasFaultInjectedHelper(String uri) {
         Logger logger = Logger.getLogger(GrpcAssertions.class.getName());
+
+        // Invocations decided from a prefetched fault plan are reported to the server off the test's thread; the
+        // server only knows about their faults once they have arrived.
+        PendingInvocationCompletions.await();
+
         String filibusterBaseUri = "http://" + Networking.getFilibusterHost() + ":" + Networking.getFilibusterPort() + "/";
         WebClient webClient = FilibusterExecutor.getWebClient(filibusterBaseUri);
         RequestHeaders getHeaders = RequestHeaders.of(HttpMethod.GET, uri, HttpHeaderNames.ACCEPT, "application/json");
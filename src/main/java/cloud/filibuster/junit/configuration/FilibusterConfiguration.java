@@ -3,6 +3,8 @@ package cloud.filibuster.junit.configuration;
 import cloud.filibuster.exceptions.filibuster.FilibusterUnsupportedServerBackendException;
 import cloud.filibuster.junit.FilibusterSearchStrategy;
 import cloud.filibuster.junit.filters.FilibusterFaultInjectionFilter;
+import cloud.filibuster.junit.scorers.FewestFaultsFirstScorer;
+import cloud.filibuster.junit.scorers.FilibusterTestExecutionScorer;
 import cloud.filibuster.junit.server.backends.FilibusterDockerServerBackend;
 import cloud.filibuster.junit.server.FilibusterServerBackend;
 import cloud.filibuster.junit.server.core.profiles.ServiceProfile;
@@ -41,11 +43,14 @@ public class FilibusterConfiguration {
 
     private final boolean dynamicReduction;
     private final boolean suppressCombinations;
+    private final int maxSimultaneousFaults;
     private final boolean dataNondeterminism;
     private final boolean avoidRedundantInjections;
     private final boolean avoidInjectionsOnOrganicFailures;
     private final boolean failOnOrganicFailures;
     private final FilibusterSearchStrategy searchStrategy;
+    private final long searchSeed;
+    private final long searchTimeBudgetMillis;
     private final String analysisFile;
     private final FilibusterServerBackend serverBackend;
     private final String dockerImageName;
@@ -53,6 +58,7 @@ public class FilibusterConfiguration {
     private final boolean abortOnFirstFailure;
     private final Class<? extends Throwable> expected;
     private final Class<? extends FilibusterFaultInjectionFilter> faultInjectionFilter;
+    private final Class<? extends FilibusterTestExecutionScorer> testExecutionScorer;
     private final FilibusterLatencyProfile latencyProfile;
     private final String testName;
     private final String className;
@@ -69,17 +75,21 @@ public class FilibusterConfiguration {
         this.abortOnFirstFailure = builder.abortOnFirstFailure;
         this.dynamicReduction = builder.dynamicReduction;
         this.suppressCombinations = builder.suppressCombinations;
+        this.maxSimultaneousFaults = builder.maxSimultaneousFaults;
         this.dataNondeterminism = builder.dataNondeterminism;
         this.avoidRedundantInjections = builder.avoidRedundantInjections;
         this.avoidInjectionsOnOrganicFailures = builder.avoidInjectionsOnOrganicFailures;
         this.failOnOrganicFailures = builder.failOnOrganicFailures;
         this.searchStrategy = builder.searchStrategy;
+        this.searchSeed = builder.searchSeed;
+        this.searchTimeBudgetMillis = builder.searchTimeBudgetMillis;
         this.analysisFile = builder.analysisFile;
         this.serverBackend = builder.serverBackend;
         this.dockerImageName = builder.dockerImageName;
         this.degradeWhenServerInitializationFails = builder.degradeWhenServerInitializationFails;
         this.expected = builder.expected;
         this.faultInjectionFilter = builder.faultInjectionFilter;
+        this.testExecutionScorer = builder.testExecutionScorer;
         this.latencyProfile = builder.latencyProfile;
         this.testName = builder.testName;
         this.serviceProfiles = builder.serviceProfiles;
@@ -117,6 +127,15 @@ public class FilibusterConfiguration {
         return this.faultInjectionFilter;
     }
 
+    /**
+     * Return the scorer used to order test executions under the priority search strategy.
+     *
+     * @return test execution scorer
+     */
+    public Class<? extends FilibusterTestExecutionScorer> getTestExecutionScorer() {
+        return this.testExecutionScorer;
+    }
+
     /**
      * Name of the docker image containing the Filibuster server.
      *
@@ -189,6 +208,20 @@ public class FilibusterConfiguration {
         return this.suppressCombinations;
     }
 
+    /**
+     * Maximum number of faults injected simultaneously in a single test execution; 0 if unbounded.
+     * Suppressing combinations bounds this to 1.
+     *
+     * @return maximum number of simultaneous faults
+     */
+    public int getMaxSimultaneousFaults() {
+        if (this.suppressCombinations) {
+            return 1;
+        }
+
+        return this.maxSimultaneousFaults;
+    }
+
     /**
      * Which search strategy should Filibuster use?
      *
@@ -198,6 +231,24 @@ public class FilibusterConfiguration {
         return this.searchStrategy;
     }
 
+    /**
+     * Seed used to sample test executions under the random search strategy.
+     *
+     * @return seed
+     */
+    public long getSearchSeed() {
+        return this.searchSeed;
+    }
+
+    /**
+     * Wall-clock time after which no further test executions are scheduled, in milliseconds; 0 if unbounded.
+     *
+     * @return time budget in milliseconds
+     */
+    public long getSearchTimeBudgetMillis() {
+        return this.searchTimeBudgetMillis;
+    }
+
     /**
      * Which latency profile should Filibuster use?
      *
@@ -316,6 +367,7 @@ public class FilibusterConfiguration {
     public static class Builder {
         private boolean dynamicReduction = false;
         private boolean suppressCombinations = false;
+        private int maxSimultaneousFaults = 0;
         private boolean dataNondeterminism = false;
         private boolean avoidRedundantInjections = false;
         private boolean avoidInjectionsOnOrganicFailures = false;
@@ -324,6 +376,10 @@ public class FilibusterConfiguration {
 
         private FilibusterSearchStrategy searchStrategy;
 
+        private long searchSeed = 0;
+
+        private long searchTimeBudgetMillis = 0;
+
         private String analysisFile;
 
         private FilibusterServerBackend serverBackend = new FilibusterDockerServerBackend();
@@ -336,6 +392,8 @@ public class FilibusterConfiguration {
 
         private Class<? extends FilibusterFaultInjectionFilter> faultInjectionFilter;
 
+        private Class<? extends FilibusterTestExecutionScorer> testExecutionScorer = FewestFaultsFirstScorer.class;
+
         private FilibusterLatencyProfile latencyProfile;
 
         private String testName;
@@ -373,6 +431,18 @@ public class FilibusterConfiguration {
             return this;
         }
 
+        /**
+         * Maximum number of faults to inject simultaneously in a single test execution.
+         *
+         * @param maxSimultaneousFaults bound on simultaneous faults, or 0 for no bound.
+         * @return builder
+         */
+        @CanIgnoreReturnValue
+        public Builder maxSimultaneousFaults(int maxSimultaneousFaults) {
+            this.maxSimultaneousFaults = maxSimultaneousFaults;
+            return this;
+        }
+
         /**
          * Should we abort on first failure?
          *
@@ -481,6 +551,18 @@ public class FilibusterConfiguration {
             return this;
         }
 
+        /**
+         * Scorer used to order test executions under the priority search strategy.
+         *
+         * @param clazz class of the test execution scorer.
+         * @return builder
+         */
+        @CanIgnoreReturnValue
+        public Builder testExecutionScorer(Class<? extends FilibusterTestExecutionScorer> clazz) {
+            this.testExecutionScorer = clazz;
+            return this;
+        }
+
         /**
          * Docker image to use.
          *
@@ -517,6 +599,30 @@ public class FilibusterConfiguration {
             return this;
         }
 
+        /**
+         * Seed used to sample test executions under the random search strategy.
+         *
+         * @param searchSeed seed
+         * @return builder
+         */
+        @CanIgnoreReturnValue
+        public Builder searchSeed(long searchSeed) {
+            this.searchSeed = searchSeed;
+            return this;
+        }
+
+        /**
+         * Stop scheduling new test executions once this much wall-clock time has passed.
+         *
+         * @param searchTimeBudgetMillis time budget in milliseconds, or 0 for no budget.
+         * @return builder
+         */
+        @CanIgnoreReturnValue
+        public Builder searchTimeBudgetMillis(long searchTimeBudgetMillis) {
+            this.searchTimeBudgetMillis = searchTimeBudgetMillis;
+            return this;
+        }
+
         @CanIgnoreReturnValue
         public Builder testName(String testName) {
             this.testName = testName;
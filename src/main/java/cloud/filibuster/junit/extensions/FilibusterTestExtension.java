@@ -34,6 +34,8 @@ import static cloud.filibuster.instrumentation.helpers.Property.FAIL_IF_FAULT_NO
 import static cloud.filibuster.instrumentation.helpers.Property.FAIL_IF_FAULT_NOT_INJECTED_DEFAULT;
 import static cloud.filibuster.instrumentation.helpers.Property.FAIL_ON_ORGANIC_FAILURES_DEFAULT;
 import static cloud.filibuster.instrumentation.helpers.Property.MAX_ITERATIONS_DEFAULT;
+import static cloud.filibuster.instrumentation.helpers.Property.MAX_SIMULTANEOUS_FAULTS_DEFAULT;
+import static cloud.filibuster.instrumentation.helpers.Property.SEARCH_SEED_DEFAULT;
 import static cloud.filibuster.instrumentation.helpers.Property.SUPPRESS_COMBINATIONS_DEFAULT;
 import static cloud.filibuster.instrumentation.helpers.Property.getEnabledProperty;
 import static cloud.filibuster.instrumentation.helpers.Property.getFailIfFaultNotInjectedAndATrackedMethodIsInvokedProperty;
@@ -45,6 +47,8 @@ import static cloud.filibuster.instrumentation.helpers.Property.getTestAvoidRedu
 import static cloud.filibuster.instrumentation.helpers.Property.getTestDataNondeterminismProperty;
 import static cloud.filibuster.instrumentation.helpers.Property.getTestFailOnOrganicFailuresProperty;
 import static cloud.filibuster.instrumentation.helpers.Property.getTestMaxIterationsProperty;
+import static cloud.filibuster.instrumentation.helpers.Property.getTestMaxSimultaneousFaultsProperty;
+import static cloud.filibuster.instrumentation.helpers.Property.getTestSearchSeedProperty;
 import static cloud.filibuster.instrumentation.helpers.Property.getTestSuppressCombinationsProperty;
 
 
@@ -148,6 +152,13 @@ public class FilibusterTestExtension implements TestTemplateInvocationContextPro
             suppressCombinations = getTestSuppressCombinationsProperty();
         }
 
+        int maxSimultaneousFaults = testWithFilibuster.maxSimultaneousFaults();
+
+        if (maxSimultaneousFaults == MAX_SIMULTANEOUS_FAULTS_DEFAULT) {
+            // Check the property to see if it was set.
+            maxSimultaneousFaults = getTestMaxSimultaneousFaultsProperty();
+        }
+
         boolean failIfFaultInjectionMismatch = testWithFilibuster.failIfFaultInjectionMismatch();
 
         if (failIfFaultInjectionMismatch == FAIL_IF_FAULT_INJECTION_MISMATCH_DEFAULT) {
@@ -176,21 +187,32 @@ public class FilibusterTestExtension implements TestTemplateInvocationContextPro
             searchStrategy = filibusterServerBackend.defaultSearchStrategy();
         }
 
+        long searchSeed = testWithFilibuster.searchSeed();
+
+        if (searchSeed == SEARCH_SEED_DEFAULT) {
+            // Check the property to see if it was set.
+            searchSeed = getTestSearchSeedProperty();
+        }
+
         FilibusterConfiguration filibusterConfiguration = new FilibusterConfiguration.Builder()
                 .abortOnFirstFailure(testWithFilibuster.abortOnFirstFailure())
                 .dynamicReduction(testWithFilibuster.dynamicReduction())
                 .suppressCombinations(suppressCombinations)
+                .maxSimultaneousFaults(maxSimultaneousFaults)
                 .dataNondeterminism(dataNondeterminism)
                 .avoidRedundantInjections(avoidRedundantInjections)
                 .avoidInjectionsOnOrganicFailures(avoidInjectionsOnOrganicFailures)
                 .failOnOrganicFailures(failOnOrganicFailures)
                 .serverBackend(testWithFilibuster.serverBackend())
                 .searchStrategy(searchStrategy)
+                .searchSeed(searchSeed)
+                .searchTimeBudgetMillis(testWithFilibuster.searchTimeBudgetMillis())
                 .dockerImageName(dockerImageName)
                 .analysisFile(analysisFile)
                 .degradeWhenServerInitializationFails(testWithFilibuster.degradeWhenServerInitializationFails())
                 .expected(testWithFilibuster.expected())
                 .faultInjectionFilter(testWithFilibuster.faultInjectionFilter())
+                .testExecutionScorer(testWithFilibuster.testExecutionScorer())
                 .latencyProfile(testWithFilibuster.latencyProfile())
                 .serviceProfilesPath(testWithFilibuster.serviceProfilesPath())
                 .serviceProfileBehavior(testWithFilibuster.serviceProfileBehavior())
@@ -0,0 +1,14 @@
+package cloud.filibuster.junit.scorers;
+
+import cloud.filibuster.junit.configuration.FilibusterConfiguration;
+import cloud.filibuster.junit.server.core.test_executions.AbstractTestExecution;
+
+/**
+ * Explore test executions that inject fewer faults first.
+ */
+public class FewestFaultsFirstScorer implements FilibusterTestExecutionScorer {
+    @Override
+    public double score(AbstractTestExecution abstractTestExecution, FilibusterConfiguration filibusterConfiguration) {
+        return -abstractTestExecution.getFaultsToInjectSize();
+    }
+}
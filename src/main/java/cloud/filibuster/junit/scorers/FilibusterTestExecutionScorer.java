@@ -0,0 +1,15 @@
+package cloud.filibuster.junit.scorers;
+
+import cloud.filibuster.junit.configuration.FilibusterConfiguration;
+import cloud.filibuster.junit.server.core.test_executions.AbstractTestExecution;
+
+/**
+ * Scores abstract test executions for the {@link cloud.filibuster.junit.FilibusterSearchStrategy#PRIORITY} search
+ * strategy: executions with a higher score are explored first, ties are explored in the order they were scheduled.
+ *
+ * <p>Implementations must provide a public no-argument constructor.  Each execution is scored once, when it is
+ * scheduled.
+ */
+public interface FilibusterTestExecutionScorer {
+    double score(AbstractTestExecution abstractTestExecution, FilibusterConfiguration filibusterConfiguration);
+}
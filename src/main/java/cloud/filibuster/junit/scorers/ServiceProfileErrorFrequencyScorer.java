@@ -0,0 +1,64 @@
+package cloud.filibuster.junit.scorers;
+
+import cloud.filibuster.dei.DistributedExecutionIndex;
+import cloud.filibuster.junit.configuration.FilibusterConfiguration;
+import cloud.filibuster.junit.server.core.profiles.ServiceProfile;
+import cloud.filibuster.junit.server.core.profiles.ServiceRequestAndResponse;
+import cloud.filibuster.junit.server.core.test_executions.AbstractTestExecution;
+import org.json.JSONObject;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Explore test executions that inject faults on methods that were observed to fail most often in the configured
+ * service profiles first; among those, prefer executions that inject fewer faults.
+ *
+ * <p>Without service profiles, this behaves as {@link FewestFaultsFirstScorer}.
+ */
+public class ServiceProfileErrorFrequencyScorer implements FilibusterTestExecutionScorer {
+    @Override
+    public double score(AbstractTestExecution abstractTestExecution, FilibusterConfiguration filibusterConfiguration) {
+        double errorFrequency = 0;
+
+        List<ServiceProfile> serviceProfiles = filibusterConfiguration.getServiceProfiles();
+
+        if (serviceProfiles != null) {
+            Map<DistributedExecutionIndex, JSONObject> executedRpcs = abstractTestExecution.getExecutedRpcs();
+
+            for (DistributedExecutionIndex distributedExecutionIndex : abstractTestExecution.getFaultsToInject().keySet()) {
+                JSONObject executedRpc = executedRpcs.get(distributedExecutionIndex);
+
+                if (executedRpc != null && executedRpc.has("method")) {
+                    errorFrequency += errorFrequencyForMethod(serviceProfiles, executedRpc.getString("method"));
+                }
+            }
+        }
+
+        // Error frequency is in [0, 1] per fault, so it dominates; the fault count only breaks ties.
+        return errorFrequency * 1000 - abstractTestExecution.getFaultsToInjectSize();
+    }
+
+    private static double errorFrequencyForMethod(List<ServiceProfile> serviceProfiles, String methodName) {
+        int total = 0;
+        int failures = 0;
+
+        for (ServiceProfile serviceProfile : serviceProfiles) {
+            if (serviceProfile.sawMethod(methodName)) {
+                List<ServiceRequestAndResponse> serviceRequestAndResponses = serviceProfile.getServiceRequestAndResponsesForMethod(methodName);
+
+                if (serviceRequestAndResponses != null) {
+                    for (ServiceRequestAndResponse serviceRequestAndResponse : serviceRequestAndResponses) {
+                        total++;
+
+                        if (!serviceRequestAndResponse.isSuccess()) {
+                            failures++;
+                        }
+                    }
+                }
+            }
+        }
+
+        return total == 0 ? 0 : (double) failures / total;
+    }
+}
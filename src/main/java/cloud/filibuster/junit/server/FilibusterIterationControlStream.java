@@ -0,0 +1,187 @@
+package cloud.filibuster.junit.server;
+
+import cloud.filibuster.exceptions.filibuster.FilibusterServerBadResponseException;
+import cloud.filibuster.instrumentation.datatypes.FilibusterExecutor;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.IterationControlReply;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.IterationControlRequest;
+import io.grpc.stub.StreamObserver;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Persistent stream for the iteration hooks of the JUnit interceptor.
+ *
+ * <p>Every reply from the server carries whether an iteration has a test execution.  The reply to a teardown
+ * completion carries the readiness of the following iteration, so the interceptor sends the teardown without waiting
+ * and its checks for the next iteration are answered locally once the reply arrives.  Readiness of an iteration only
+ * changes when its teardowns complete, so answers are kept for the remainder of the iteration.
+ */
+public final class FilibusterIterationControlStream {
+    private static final Logger logger = Logger.getLogger(FilibusterIterationControlStream.class.getName());
+
+    @Nullable
+    private static FilibusterIterationControlStream current;
+
+    private final String filibusterBaseUri;
+    private final StreamObserver<IterationControlRequest> requestObserver;
+    private final AtomicLong nextRequestId = new AtomicLong();
+    private final Map<Long, CompletableFuture<IterationControlReply>> pendingReplies = new ConcurrentHashMap<>();
+    private final Map<Integer, CompletableFuture<Boolean>> readinessByIteration = new ConcurrentHashMap<>();
+    private volatile boolean closed = false;
+
+    private FilibusterIterationControlStream(String filibusterBaseUri) {
+        this.filibusterBaseUri = filibusterBaseUri;
+        this.requestObserver = FilibusterExecutor.getAsyncInstrumentationServiceStub(filibusterBaseUri).iterationControl(new StreamObserver<IterationControlReply>() {
+            @Override
+            public void onNext(IterationControlReply reply) {
+                onReply(reply);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                logger.log(Level.SEVERE, "iteration control stream failed: " + t);
+                failPending(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                failPending(new FilibusterServerBadResponseException("iteration control stream closed by the Filibuster server."));
+            }
+        });
+    }
+
+    /**
+     * Return the stream to the Filibuster server, opening it if there is none or the previous one failed.
+     *
+     * @param filibusterBaseUri the base URI of the Filibuster server.
+     * @return iteration control stream.
+     */
+    public static synchronized FilibusterIterationControlStream getInstance(String filibusterBaseUri) {
+        if (current == null || current.closed || !current.filibusterBaseUri.equals(filibusterBaseUri)) {
+            close();
+            current = new FilibusterIterationControlStream(filibusterBaseUri);
+        }
+
+        return current;
+    }
+
+    /**
+     * Close the stream, if open; called when the Filibuster server is stopped, since iterations restart with the next
+     * server.
+     */
+    public static synchronized void close() {
+        if (current != null) {
+            FilibusterIterationControlStream stream = current;
+            current = null;
+
+            if (!stream.closed) {
+                stream.closed = true;
+                stream.requestObserver.onCompleted();
+            }
+
+            stream.failPending(new FilibusterServerBadResponseException("iteration control stream closed."));
+        }
+    }
+
+    public boolean hasNextIteration(int currentIteration, String caller) throws ExecutionException, InterruptedException {
+        CompletableFuture<Boolean> readiness = readinessByIteration.get(currentIteration);
+
+        if (readiness != null) {
+            return readiness.get();
+        }
+
+        IterationControlRequest request = IterationControlRequest.newBuilder()
+                .setKind(IterationControlRequest.Kind.HAS_NEXT_ITERATION)
+                .setCurrentIteration(currentIteration)
+                .setCaller(caller)
+                .build();
+        IterationControlReply reply = send("hasNextIteration", request).get();
+        return reply.getHasNextIteration();
+    }
+
+    public void completeIteration(int currentIteration, boolean exceptionOccurred) throws ExecutionException, InterruptedException {
+        IterationControlRequest request = IterationControlRequest.newBuilder()
+                .setKind(IterationControlRequest.Kind.COMPLETE_ITERATION)
+                .setCurrentIteration(currentIteration)
+                .setExceptionOccurred(exceptionOccurred)
+                .build();
+        send("recordIterationComplete", request).get();
+    }
+
+    public void teardownsCompleted(int currentIteration) {
+        // The next check for the following iteration waits for the reply instead of asking again.
+        readinessByIteration.remove(currentIteration);
+        CompletableFuture<Boolean> nextReadiness = readinessByIteration.computeIfAbsent(currentIteration + 1, iteration -> new CompletableFuture<>());
+
+        IterationControlRequest request = IterationControlRequest.newBuilder()
+                .setKind(IterationControlRequest.Kind.TEARDOWNS_COMPLETED)
+                .setCurrentIteration(currentIteration)
+                .build();
+        send("teardownsCompleted", request).whenComplete((reply, t) -> {
+            if (t != null) {
+                readinessByIteration.remove(currentIteration + 1, nextReadiness);
+                nextReadiness.completeExceptionally(t);
+            }
+        });
+    }
+
+    private CompletableFuture<IterationControlReply> send(String caller, IterationControlRequest request) {
+        long requestId = nextRequestId.incrementAndGet();
+        CompletableFuture<IterationControlReply> replyFuture = new CompletableFuture<>();
+        pendingReplies.put(requestId, replyFuture);
+
+        if (closed) {
+            pendingReplies.remove(requestId);
+            replyFuture.completeExceptionally(new FilibusterServerBadResponseException(caller + ", iteration control stream closed."));
+            return replyFuture;
+        }
+
+        synchronized (requestObserver) {
+            requestObserver.onNext(request.toBuilder().setRequestId(requestId).build());
+        }
+
+        return replyFuture.thenApply(reply -> {
+            if (!reply.getError().isEmpty()) {
+                FilibusterServerBadResponseException.logAndThrow(caller + ", error: " + reply.getError());
+            }
+
+            return reply;
+        });
+    }
+
+    private void onReply(IterationControlReply reply) {
+        if (reply.getError().isEmpty()) {
+            readinessByIteration.computeIfAbsent(reply.getIteration(), iteration -> new CompletableFuture<>())
+                    .complete(reply.getHasNextIteration());
+        }
+
+        CompletableFuture<IterationControlReply> replyFuture = pendingReplies.remove(reply.getRequestId());
+
+        if (replyFuture != null) {
+            replyFuture.complete(reply);
+        }
+    }
+
+    private void failPending(Throwable t) {
+        closed = true;
+
+        for (Long requestId : pendingReplies.keySet()) {
+            CompletableFuture<IterationControlReply> replyFuture = pendingReplies.remove(requestId);
+
+            if (replyFuture != null) {
+                replyFuture.completeExceptionally(t);
+            }
+        }
+
+        for (CompletableFuture<Boolean> readiness : readinessByIteration.values()) {
+            readiness.completeExceptionally(t);
+        }
+    }
+}
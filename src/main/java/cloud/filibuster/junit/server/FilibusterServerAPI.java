@@ -1,7 +1,10 @@
 package cloud.filibuster.junit.server;
 
 import cloud.filibuster.exceptions.filibuster.FilibusterRuntimeException;
+import cloud.filibuster.instrumentation.datatypes.FaultPlans;
 import cloud.filibuster.instrumentation.datatypes.FilibusterExecutor;
+import cloud.filibuster.instrumentation.datatypes.PendingInvocationCompletions;
+import cloud.filibuster.instrumentation.helpers.Networking;
 import cloud.filibuster.instrumentation.helpers.Response;
 import cloud.filibuster.exceptions.filibuster.FilibusterServerBadResponseException;
 import cloud.filibuster.junit.server.core.FilibusterCore;
@@ -16,11 +19,20 @@ import org.json.JSONObject;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import static cloud.filibuster.instrumentation.helpers.Property.getServerBackendCanInvokeDirectlyProperty;
+import static cloud.filibuster.instrumentation.helpers.Property.getServerIterationControlStreamEnabledProperty;
 
 @SuppressWarnings("Varifier")
 public class FilibusterServerAPI {
+    private static final Logger logger = Logger.getLogger(FilibusterServerAPI.class.getName());
+
+    private static String getFilibusterBaseUri() {
+        return "http://" + Networking.getFilibusterHost() + ":" + Networking.getFilibusterPort() + "/";
+    }
+
     public static boolean healthCheck(WebClient webClient) throws ExecutionException, InterruptedException {
         CompletableFuture<Boolean> healthCheck = CompletableFuture.supplyAsync(() -> {
             RequestHeaders getJson = RequestHeaders.of(
@@ -131,6 +143,9 @@ public class FilibusterServerAPI {
             } else {
                 throw new FilibusterRuntimeException("No current filibuster core instance, this could indicate a problem.");
             }
+        } else if (getServerIterationControlStreamEnabledProperty()) {
+            // Failures surface at the next check for an iteration.
+            FilibusterIterationControlStream.getInstance(getFilibusterBaseUri()).teardownsCompleted(currentIteration);
         } else {
             CompletableFuture<Void> teardownsCompletedFuture = CompletableFuture.supplyAsync(() -> {
                 RequestHeaders getJson = RequestHeaders.of(
@@ -170,12 +185,29 @@ public class FilibusterServerAPI {
             exceptionOccurredInt = 0;
         }
 
+        // Invocation completions may have been sent without waiting; the server must see them all first.  If some did
+        // not reach it, fail the iteration: the caller completes it again as failed.
+        try {
+            PendingInvocationCompletions.await();
+        } catch (FilibusterServerBadResponseException e) {
+            if (!exceptionOccurred) {
+                throw e;
+            }
+
+            logger.log(Level.SEVERE, "iteration already failed, ignoring: " + e);
+        }
+
+        // Fault plans only hold for the iteration they were prefetched in.
+        FaultPlans.clear();
+
         if (getServerBackendCanInvokeDirectlyProperty()) {
             if (FilibusterCore.hasCurrentInstance()) {
                 FilibusterCore.getCurrentInstance().completeIteration(currentIteration, exceptionOccurredInt, throwable, shouldPrintRpcSummary);
             } else {
                 throw new FilibusterRuntimeException("No current filibuster core instance, this could indicate a problem.");
             }
+        } else if (getServerIterationControlStreamEnabledProperty()) {
+            FilibusterIterationControlStream.getInstance(getFilibusterBaseUri()).completeIteration(currentIteration, exceptionOccurred);
         } else {
             CompletableFuture<Void> updateFuture = CompletableFuture.supplyAsync(() -> {
                 RequestHeaders postJson = RequestHeaders.of(
@@ -211,6 +243,8 @@ public class FilibusterServerAPI {
             } else {
                 throw new FilibusterRuntimeException("No current filibuster core instance, this could indicate a problem.");
             }
+        } else if (getServerIterationControlStreamEnabledProperty()) {
+            return FilibusterIterationControlStream.getInstance(getFilibusterBaseUri()).hasNextIteration(currentIteration, caller);
         } else {
             CompletableFuture<Boolean> hasNextIteration = CompletableFuture.supplyAsync(() -> {
                 RequestHeaders getJson = RequestHeaders.of(
@@ -2,6 +2,7 @@ package cloud.filibuster.junit.server;
 
 import cloud.filibuster.instrumentation.datatypes.FilibusterExecutor;
 import cloud.filibuster.instrumentation.exceptions.FilibusterServerUnavailabilityException;
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
 import cloud.filibuster.instrumentation.helpers.Networking;
 import cloud.filibuster.junit.configuration.FilibusterConfiguration;
 import com.linecorp.armeria.client.WebClient;
@@ -46,6 +47,8 @@ public class FilibusterServerLifecycle {
         initializationFailed = false;
         initializationFailedException = null;
 
+        FilibusterRuntimeConfig.capture();
+
         if (!started) {
             FilibusterServerBackend filibusterServerBackend = filibusterConfiguration.getServerBackend();
 
@@ -94,6 +97,8 @@ public class FilibusterServerLifecycle {
     @SuppressWarnings({"BusyWait", "StaticAssignmentOfThrowable"})
     public static synchronized WebClient stopServer(FilibusterConfiguration filibusterConfiguration, WebClient webClient) throws Throwable {
         if (started) {
+            // Iterations restart with the next server.
+            FilibusterIterationControlStream.close();
 
             FilibusterServerBackend filibusterServerBackend = filibusterConfiguration.getServerBackend();
             filibusterServerBackend.stop(filibusterConfiguration);
@@ -5,14 +5,18 @@ import cloud.filibuster.junit.FilibusterSearchStrategy;
 import cloud.filibuster.junit.configuration.FilibusterConfiguration;
 import cloud.filibuster.junit.server.FilibusterServerBackend;
 import cloud.filibuster.junit.server.core.FilibusterCore;
+import cloud.filibuster.junit.server.local.FilibusterDomainSocketServer;
 import cloud.filibuster.junit.server.local.FilibusterServer;
 import com.linecorp.armeria.server.Server;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static cloud.filibuster.instrumentation.helpers.Property.getServerBackendLocalInvokeDirectlyProperty;
+import static cloud.filibuster.instrumentation.helpers.Property.getServerDomainSocketPathProperty;
 import static cloud.filibuster.instrumentation.helpers.Property.setServerBackendCanInvokeDirectlyProperty;
 
 @SuppressWarnings("Varifier")
@@ -22,6 +26,9 @@ public class FilibusterLocalServerBackend implements FilibusterServerBackend {
     @Nullable
     private static Server filibusterServer;
 
+    @Nullable
+    private static FilibusterDomainSocketServer filibusterDomainSocketServer;
+
     @Override
     public synchronized boolean start(FilibusterConfiguration filibusterConfiguration) throws InterruptedException {
         // Even though the value of the new appears unused. It is necessary since this FilibusterCore
@@ -37,7 +44,17 @@ public class FilibusterLocalServerBackend implements FilibusterServerBackend {
         }
         filibusterServer.start();
 
-        setServerBackendCanInvokeDirectlyProperty(true);
+        String domainSocketPath = getServerDomainSocketPathProperty();
+
+        if (domainSocketPath != null && filibusterDomainSocketServer == null) {
+            if (FilibusterDomainSocketServer.isSupported()) {
+                filibusterDomainSocketServer = FilibusterDomainSocketServer.serve(domainSocketPath);
+            } else {
+                logger.log(Level.WARNING, "Unix domain sockets are not supported on this platform; instrumentation will use TCP.");
+            }
+        }
+
+        setServerBackendCanInvokeDirectlyProperty(getServerBackendLocalInvokeDirectlyProperty());
 
         return true;
     }
@@ -48,6 +65,11 @@ public class FilibusterLocalServerBackend implements FilibusterServerBackend {
             filibusterServer.stop();
         }
 
+        if (filibusterDomainSocketServer != null) {
+            filibusterDomainSocketServer.stop();
+            filibusterDomainSocketServer = null;
+        }
+
         FilibusterCore.removeCurrentInstance();
 
         // Poke the GC once we dereference the FilibusterCore object (via FilibusterServer.)
@@ -60,7 +82,7 @@ public class FilibusterLocalServerBackend implements FilibusterServerBackend {
 
     @Override
     public List<FilibusterSearchStrategy> supportedSearchStrategies() {
-        return Arrays.asList(FilibusterSearchStrategy.BFS, FilibusterSearchStrategy.DFS);
+        return Arrays.asList(FilibusterSearchStrategy.BFS, FilibusterSearchStrategy.DFS, FilibusterSearchStrategy.PRIORITY, FilibusterSearchStrategy.RANDOM);
     }
 
     @Override
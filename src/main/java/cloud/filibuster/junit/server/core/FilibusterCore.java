@@ -2,7 +2,7 @@ package cloud.filibuster.junit.server.core;
 
 import cloud.filibuster.RpcType;
 import cloud.filibuster.dei.DistributedExecutionIndex;
-import cloud.filibuster.dei.implementations.DistributedExecutionIndexV1;
+import cloud.filibuster.dei.DistributedExecutionIndexType;
 import cloud.filibuster.exceptions.filibuster.FilibusterCoreLogicException;
 import cloud.filibuster.exceptions.filibuster.FilibusterFaultInjectionException;
 import cloud.filibuster.exceptions.filibuster.FilibusterFaultInjectionMismatchException;
@@ -10,8 +10,11 @@ import cloud.filibuster.exceptions.filibuster.FilibusterFaultNotInjectedAndATrac
 import cloud.filibuster.exceptions.filibuster.FilibusterFaultNotInjectedException;
 import cloud.filibuster.exceptions.filibuster.FilibusterLatencyInjectionException;
 import cloud.filibuster.exceptions.filibuster.FilibusterRuntimeException;
+import cloud.filibuster.instrumentation.datatypes.InvocationRecord;
+import cloud.filibuster.instrumentation.helpers.EventTrace;
 import cloud.filibuster.instrumentation.helpers.Property;
 import cloud.filibuster.junit.FilibusterSearchStrategy;
+import cloud.filibuster.junit.scorers.FilibusterTestExecutionScorer;
 import cloud.filibuster.junit.server.core.transformers.Accumulator;
 import cloud.filibuster.junit.server.core.transformers.Transformer;
 import cloud.filibuster.junit.assertions.BlockType;
@@ -45,6 +48,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import java.lang.reflect.InvocationTargetException;
 
 import java.util.logging.Logger;
@@ -91,12 +98,55 @@ public class FilibusterCore {
 
     private int numBypassedExecutions = 0;
 
-    public synchronized int getNumBypassedExecutions() {
-        return numBypassedExecutions;
+    public int getNumBypassedExecutions() {
+        lockRecording();
+        try {
+            return numBypassedExecutions;
+        } finally {
+            unlockRecording();
+        }
     }
 
     private boolean faultInjectionEnabled = true;
 
+    // When the search started, for enforcing the time budget.
+    private final long searchStartNanos = System.nanoTime();
+
+    private boolean searchTimeBudgetExhausted() {
+        long searchTimeBudgetMillis = filibusterConfiguration.getSearchTimeBudgetMillis();
+        return searchTimeBudgetMillis > 0 && TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - searchStartNanos) >= searchTimeBudgetMillis;
+    }
+
+    // Concurrency model.
+    //
+    // * iterationLock: held exclusively by the JUnit hooks that start, finish, or reconfigure an iteration and shared by
+    //   everything else, so that an iteration can't be torn down while an RPC is still being recorded against it.
+    // * recordingLock: guards the current concrete execution and the scheduling collections while the iteration lock is
+    //   shared; it is only held for the bookkeeping of each invocation, never across injected latency.
+    //
+    // Scheduling decisions are still made one invocation at a time, in the order invocations acquire the recording lock.
+    private final ReentrantReadWriteLock iterationLock = new ReentrantReadWriteLock();
+
+    private final ReentrantLock recordingLock = new ReentrantLock();
+
+    private void lockIteration() {
+        iterationLock.writeLock().lock();
+    }
+
+    private void unlockIteration() {
+        iterationLock.writeLock().unlock();
+    }
+
+    private void lockRecording() {
+        iterationLock.readLock().lock();
+        recordingLock.lock();
+    }
+
+    private void unlockRecording() {
+        recordingLock.unlock();
+        iterationLock.readLock().unlock();
+    }
+
     public static void removeCurrentInstance() {
         currentInstance = null;
     }
@@ -114,6 +164,13 @@ public class FilibusterCore {
         } else if (filibusterConfiguration.getSearchStrategy() == FilibusterSearchStrategy.BFS) {
             this.exploredTestExecutions = new TestExecutionQueue<>();
             this.unexploredTestExecutions = new TestExecutionQueue<>();
+        } else if (filibusterConfiguration.getSearchStrategy() == FilibusterSearchStrategy.PRIORITY) {
+            // Order of the explored executions doesn't matter, only membership.
+            this.exploredTestExecutions = new TestExecutionQueue<>();
+            this.unexploredTestExecutions = new TestExecutionPriorityQueue(createTestExecutionScorer(filibusterConfiguration), filibusterConfiguration);
+        } else if (filibusterConfiguration.getSearchStrategy() == FilibusterSearchStrategy.RANDOM) {
+            this.exploredTestExecutions = new TestExecutionQueue<>();
+            this.unexploredTestExecutions = new TestExecutionRandomQueue(filibusterConfiguration.getSearchSeed());
         } else {
             throw new FilibusterCoreLogicException("Unsupported search strategy: " + filibusterConfiguration.getSearchStrategy());
         }
@@ -123,6 +180,7 @@ public class FilibusterCore {
 
         // This statement writes out the placeholder for the report
         this.testReport = new TestReport(testName, testUuid, className);
+        testReport.setSearchSeed(filibusterConfiguration.getSearchSeed());
         testReport.writeOutPlaceholder();
     }
 
@@ -152,6 +210,12 @@ public class FilibusterCore {
     @Nullable
     private ConcreteTestExecution currentConcreteTestExecution;
 
+    // Failures observed without being injected, used for dynamic reduction.
+    private final FilibusterDynamicReduction dynamicReduction = new FilibusterDynamicReduction();
+
+    // Faults to schedule for each RPC (by module, method, and type), computed from the current analysis file.
+    private final Map<String, List<JSONObject>> faultPlansByRpc = new HashMap<>();
+
     // Analysis file, populated only once received from the test suite.
     // In the future, this could just bypass this completely because we have the FilibusterConfiguration?
     @Nullable
@@ -173,226 +237,382 @@ public class FilibusterCore {
         mostRecentInitialTestExecutionReport = report;
     }
 
-    public synchronized void enableFaultInjection() {
-        faultInjectionEnabled = true;
+    public void enableFaultInjection() {
+        lockIteration();
+        try {
+            faultInjectionEnabled = true;
+        } finally {
+            unlockIteration();
+        }
     }
 
-    public synchronized void disableFaultInjection() {
-        faultInjectionEnabled = false;
+    public void disableFaultInjection() {
+        lockIteration();
+        try {
+            faultInjectionEnabled = false;
+        } finally {
+            unlockIteration();
+        }
     }
 
-    public synchronized void writePlaceholderReport() {
-        logger.info("[FILIBUSTER-CORE]: writePlaceholderReport called");
+    public void writePlaceholderReport() {
+        lockIteration();
+        try {
+            logger.info("[FILIBUSTER-CORE]: writePlaceholderReport called");
 
-        if (currentConcreteTestExecution != null) {
-            currentConcreteTestExecution.writePlaceHolderTestExecutionReport();
-        } else {
-            throw new FilibusterCoreLogicException("currentConcreteTestExecution should not be null at this point, something fatal occurred.");
+            if (currentConcreteTestExecution != null) {
+                currentConcreteTestExecution.writePlaceHolderTestExecutionReport();
+            } else {
+                throw new FilibusterCoreLogicException("currentConcreteTestExecution should not be null at this point, something fatal occurred.");
+            }
+            logger.info("[FILIBUSTER-CORE]: writePlaceholderReport returning");
+        } finally {
+            unlockIteration();
         }
-        logger.info("[FILIBUSTER-CORE]: writePlaceholderReport returning");
     }
 
-    public synchronized void incrementTestScopeCounter() {
-        if (currentConcreteTestExecution != null) {
-            currentConcreteTestExecution.incrementTestScopeCounter();
+    public void incrementTestScopeCounter() {
+        lockIteration();
+        try {
+            if (currentConcreteTestExecution != null) {
+                currentConcreteTestExecution.incrementTestScopeCounter();
+            }
+        } finally {
+            unlockIteration();
         }
     }
 
-    public synchronized void incrementTestScopeCounter(BlockType blockType) {
-        if (currentConcreteTestExecution != null) {
-            currentConcreteTestExecution.incrementTestScopeCounter(blockType);
+    public void incrementTestScopeCounter(BlockType blockType) {
+        lockIteration();
+        try {
+            if (currentConcreteTestExecution != null) {
+                currentConcreteTestExecution.incrementTestScopeCounter(blockType);
+            }
+        } finally {
+            unlockIteration();
         }
     }
 
 
-    public synchronized int getTestScopeCounter() {
-        if (currentConcreteTestExecution != null) {
-            return currentConcreteTestExecution.getTestScopeCounter();
-        }
+    public int getTestScopeCounter() {
+        lockRecording();
+        try {
+            if (currentConcreteTestExecution != null) {
+                return currentConcreteTestExecution.getTestScopeCounter();
+            }
 
-        return 0;
+            return 0;
+        } finally {
+            unlockRecording();
+        }
     }
 
-    public synchronized BlockType getLastTestScopeBlockType() {
-        if (currentConcreteTestExecution != null) {
-            return currentConcreteTestExecution.getLastTestScopeBlockType();
-        }
+    public BlockType getLastTestScopeBlockType() {
+        lockRecording();
+        try {
+            if (currentConcreteTestExecution != null) {
+                return currentConcreteTestExecution.getLastTestScopeBlockType();
+            }
 
-        return BlockType.DEFAULT;
+            return BlockType.DEFAULT;
+        } finally {
+            unlockRecording();
+        }
     }
 
     // RPC hooks.
 
     // Record an outgoing RPC and conditionally inject faults.
-    public synchronized JSONObject beginInvocation(JSONObject payload) {
-        logger.info("[FILIBUSTER-CORE]: beginInvocation called, payload: " + payload.toString(4));
+    //
+    // Invocations only hold the recording lock while they update the current execution and schedule new abstract
+    // executions; any latency (injected or from the latency profile) is served afterwards, so that concurrent RPCs
+    // from the service under test are not serialized behind one another.
+    public JSONObject beginInvocation(JSONObject payload) {
+        return beginInvocation(payload, new JSONObject());
+    }
 
-        if (currentConcreteTestExecution == null) {
-            throw new FilibusterCoreLogicException("currentConcreteTestExecution should not be null at this point, something fatal occurred.");
+    // Begin the invocation, filling in the given response.
+    private JSONObject beginInvocation(JSONObject payload, JSONObject response) {
+        logger.info("[FILIBUSTER-CORE]: beginInvocation called");
+        EventTrace.record(EventTrace.EventType.BEGIN_INVOCATION, payload);
+
+        // Resolve the distributed execution index before taking any locks.
+        String distributedExecutionIndexString = payload.getString("execution_index");
+        DistributedExecutionIndex distributedExecutionIndex = DistributedExecutionIndexType.getImplType().createImpl().deserialize(distributedExecutionIndexString);
+
+        RpcType rpcType = null;
+
+        if (payload.has("metadata")) {
+            JSONObject payloadMetadata = payload.getJSONObject("metadata");
+            if (payloadMetadata.has("rpc_type")) {
+                String sRpcType = payloadMetadata.getString("rpc_type");
+                rpcType = toRpcType(sRpcType);
+            }
         }
 
-        // Determine if we've seen this RPC method and arguments before.
-        boolean hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex = currentConcreteTestExecution.hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex(payload);
+        return beginInvocation(distributedExecutionIndex, payload.optString("module"), payload.optString("method"), rpcType, TestExecution.rpcFingerprint(payload), () -> payload, response);
+    }
 
-        // Register the RPC using the distributed execution index.
-        String distributedExecutionIndexString = payload.getString("execution_index");
-        DistributedExecutionIndex distributedExecutionIndex = new DistributedExecutionIndexV1().deserialize(distributedExecutionIndexString);
-        logger.info("[FILIBUSTER-CORE]: beginInvocation called, distributedExecutionIndex: " + distributedExecutionIndex);
-        currentConcreteTestExecution.addDistributedExecutionIndexWithRequestPayload(distributedExecutionIndex, payload, hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex && filibusterConfiguration.getAvoidRedundantInjections());
+    // Typed version of beginInvocation for instrumentation running in the same JVM: the RPC metadata is used by
+    // reference, and the payload is only rendered from the record when the execution records it.
+    public JSONObject beginInvocation(InvocationRecord invocationRecord) {
+        logger.info("[FILIBUSTER-CORE]: beginInvocation called");
+        EventTrace.record(EventTrace.EventType.BEGIN_INVOCATION, invocationRecord);
+
+        return beginInvocation(
+                invocationRecord.getDistributedExecutionIndex().copyWithoutCounters(),
+                invocationRecord.getModule(),
+                invocationRecord.getMethod(),
+                invocationRecord.getRpcType(),
+                TestExecution.rpcFingerprint(invocationRecord.getModule(), invocationRecord.getMethod(), invocationRecord.getArgs().toJsonObject()),
+                invocationRecord::toJsonObject,
+                new JSONObject());
+    }
 
-        // Get next generated id.
-        int generatedId = currentConcreteTestExecution.incrementGeneratedId();
+    private JSONObject beginInvocation(
+            DistributedExecutionIndex distributedExecutionIndex,
+            String moduleName,
+            String methodName,
+            @Nullable RpcType rpcType,
+            String rpcFingerprint,
+            Supplier<JSONObject> payload,
+            JSONObject response
+    ) {
+        iterationLock.readLock().lock();
+        try {
+            int millisecondsToDelay = 0;
 
-        // Generate new abstract executions to run and queue them into the unexplored list.
-        if (filibusterCustomAnalysisConfigurationFile != null) {
-            // Only works for GRPC right now.
-            String moduleName = payload.getString("module");
-            String methodName = payload.getString("method");
-            RpcType rpcType = null;
-
-            if (payload.has("metadata")) {
-                JSONObject payloadMetadata = payload.getJSONObject("metadata");
-                if (payloadMetadata.has("rpc_type")) {
-                    String sRpcType = payloadMetadata.getString("rpc_type");
-                    rpcType = toRpcType(sRpcType);
+            recordingLock.lock();
+            try {
+                if (currentConcreteTestExecution == null) {
+                    throw new FilibusterCoreLogicException("currentConcreteTestExecution should not be null at this point, something fatal occurred.");
                 }
-            }
 
-            boolean shouldGenerateNewAbstractExecutions;
+                // Determine if we've seen this RPC method and arguments before.
+                boolean hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex = currentConcreteTestExecution.hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex(rpcFingerprint);
 
-            if (currentAbstractTestExecution == null) {
-                // Initial execution.
-                shouldGenerateNewAbstractExecutions = true;
-            } else {
-                // ...or, we already scheduled the faults, so don't.
-                shouldGenerateNewAbstractExecutions = !currentAbstractTestExecution.sawInConcreteTestExecution(distributedExecutionIndex);
-            }
+                // Register the RPC using the distributed execution index.
+                currentConcreteTestExecution.addDistributedExecutionIndexWithRequestPayload(distributedExecutionIndex, payload.get(), rpcFingerprint, hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex && filibusterConfiguration.getAvoidRedundantInjections());
 
-            if (shouldGenerateNewAbstractExecutions && faultInjectionEnabled) {
-                if (filibusterConfiguration.getAvoidRedundantInjections()) {
-                    if (!hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex) {
-                        generateFaultsUsingAnalysisConfiguration(filibusterConfiguration, distributedExecutionIndex, rpcType, moduleName, methodName);
+                // Get next generated id.
+                int generatedId = currentConcreteTestExecution.incrementGeneratedId();
+
+                // Generate new abstract executions to run and queue them into the unexplored list.
+                if (filibusterCustomAnalysisConfigurationFile != null) {
+                    // Only works for GRPC right now.
+                    boolean shouldGenerateNewAbstractExecutions;
+
+                    if (currentAbstractTestExecution == null) {
+                        // Initial execution.
+                        shouldGenerateNewAbstractExecutions = true;
+                    } else {
+                        // ...or, we already scheduled the faults, so don't.
+                        shouldGenerateNewAbstractExecutions = !currentAbstractTestExecution.sawInConcreteTestExecution(distributedExecutionIndex);
+
+                        // ...or, any new fault would exceed the bound on simultaneous faults, so don't.
+                        if (shouldGenerateNewAbstractExecutions && exceedsMaxSimultaneousFaults(currentAbstractTestExecution.getFaultsToInjectSize() + 1)) {
+                            shouldGenerateNewAbstractExecutions = false;
+                        }
+                    }
+
+                    if (shouldGenerateNewAbstractExecutions && faultInjectionEnabled) {
+                        if (filibusterConfiguration.getAvoidRedundantInjections()) {
+                            if (!hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex) {
+                                generateFaultsUsingAnalysisConfiguration(filibusterConfiguration, distributedExecutionIndex, rpcType, moduleName, methodName);
+                            }
+                        } else {
+                            generateFaultsUsingAnalysisConfiguration(filibusterConfiguration, distributedExecutionIndex, rpcType, moduleName, methodName);
+                        }
                     }
-                } else {
-                    generateFaultsUsingAnalysisConfiguration(filibusterConfiguration, distributedExecutionIndex, rpcType, moduleName, methodName);
                 }
-            }
-        }
 
-        // Return either success or fault (if, this execution contains a fault to inject.)
-        JSONObject response = new JSONObject();
+                // Return either success or fault (if, this execution contains a fault to inject.)
+                if (currentAbstractTestExecution != null && currentAbstractTestExecution.shouldFault(distributedExecutionIndex)) {
+                    JSONObject faultObject = currentAbstractTestExecution.getFault(distributedExecutionIndex);
+
+                    // This is a bit redundant, we could just take the fault object and insert it directly into the response
+                    // if we change the API we call.
+                    if (faultObject.has("forced_exception")) {
+                        JSONObject forcedExceptionFaultObject = faultObject.getJSONObject("forced_exception");
+                        logger.info("[FILIBUSTER-CORE]: beginInvocation, injecting faults using forced_exception.");
+                        EventTrace.record(EventTrace.EventType.FAULT_INJECTED, faultObject);
+                        response.put("forced_exception", forcedExceptionFaultObject);
+                    } else if (faultObject.has("failure_metadata")) {
+                        JSONObject failureMetadataFaultObject = faultObject.getJSONObject("failure_metadata");
+                        logger.info("[FILIBUSTER-CORE]: beginInvocation, injecting faults using failure_metadata.");
+                        EventTrace.record(EventTrace.EventType.FAULT_INJECTED, faultObject);
+                        response.put("failure_metadata", failureMetadataFaultObject);
+                    } else if (faultObject.has("transformer_fault")) {
+                        JSONObject transformerFaultObject = faultObject.getJSONObject("transformer_fault");
+                        Transformer<?, ?> transformationResult = getTransformerResult(transformerFaultObject);
+
+                        if (transformationResult.hasNext()) {
+                            // Schedule next execution with the next accumulator
+                            JSONObject newFaultObject = new JSONObject(faultObject.toMap());
+                            setNextAccumulator(newFaultObject.getJSONObject("transformer_fault"),
+                                    transformationResult.getNextAccumulator());
+                            generateAndSetTransformerValue(newFaultObject.getJSONObject("transformer_fault"));
+                            createAndScheduleAbstractTestExecution(filibusterConfiguration, distributedExecutionIndex, newFaultObject);
+                        }
 
-        if (currentAbstractTestExecution != null && currentAbstractTestExecution.shouldFault(distributedExecutionIndex)) {
-            JSONObject faultObject = currentAbstractTestExecution.getFault(distributedExecutionIndex);
-
-            // This is a bit redundant, we could just take the fault object and insert it directly into the response
-            // if we change the API we call.
-            if (faultObject.has("forced_exception")) {
-                JSONObject forcedExceptionFaultObject = faultObject.getJSONObject("forced_exception");
-                logger.info("[FILIBUSTER-CORE]: beginInvocation, injecting faults using forced_exception: " + forcedExceptionFaultObject.toString(4));
-                response.put("forced_exception", forcedExceptionFaultObject);
-            } else if (faultObject.has("failure_metadata")) {
-                JSONObject failureMetadataFaultObject = faultObject.getJSONObject("failure_metadata");
-                logger.info("[FILIBUSTER-CORE]: beginInvocation, injecting faults using failure_metadata: " + failureMetadataFaultObject.toString(4));
-                response.put("failure_metadata", failureMetadataFaultObject);
-            } else if (faultObject.has("transformer_fault")) {
-                JSONObject transformerFaultObject = faultObject.getJSONObject("transformer_fault");
-                Transformer<?, ?> transformationResult = getTransformerResult(transformerFaultObject);
-
-                if (transformationResult.hasNext()) {
-                    // Schedule next execution with the next accumulator
-                    JSONObject newFaultObject = new JSONObject(faultObject.toMap());
-                    setNextAccumulator(newFaultObject.getJSONObject("transformer_fault"),
-                            transformationResult.getNextAccumulator());
-                    generateAndSetTransformerValue(newFaultObject.getJSONObject("transformer_fault"));
-                    createAndScheduleAbstractTestExecution(filibusterConfiguration, distributedExecutionIndex, newFaultObject);
-                }
+                        logger.info("[FILIBUSTER-CORE]: beginInvocation, injecting faults using transformer_fault.");
+                        setTransformerValue(transformerFaultObject, transformationResult.getResult());
+                        EventTrace.record(EventTrace.EventType.FAULT_INJECTED, faultObject);
+                        response.put("transformer_fault", transformerFaultObject);
+                    } else if (faultObject.has("latency")) {
+                        JSONObject latencyObject = faultObject.getJSONObject("latency");
+                        logger.info("[FILIBUSTER-CORE]: beginInvocation, injecting faults using latency.");
+                        EventTrace.record(EventTrace.EventType.FAULT_INJECTED, faultObject);
 
-                logger.info("[FILIBUSTER-CORE]: beginInvocation, injecting faults using transformer_fault: " + transformerFaultObject.toString(4));
-                setTransformerValue(transformerFaultObject, transformationResult.getResult());
-                response.put("transformer_fault", transformerFaultObject);
-            } else if (faultObject.has("latency")) {
-                JSONObject latencyObject = faultObject.getJSONObject("latency");
-                logger.info("[FILIBUSTER-CORE]: beginInvocation, injecting faults using latency: " + latencyObject.toString(4));
+                        // Do we do this in the client instrumentation?  We need to if we want more than just local server support.
+                        millisecondsToDelay = latencyObject.getInt("milliseconds");
+                    } else {
+                        logger.info("[FILIBUSTER-CORE]: beginInvocation, failing to inject unknown fault: " + faultObject.toString(4));
+                        throw new FilibusterFaultInjectionException("Unknown fault configuration: " + faultObject);
+                    }
+                }
 
-                // Do we do this in the client instrumentation?  We need to if we want more than just local server support.
-                int millisecondsToDelay = latencyObject.getInt("milliseconds");
+                // Legacy, not used, but helpful in debugging and required by instrumentation libraries.
+                response.put("generated_id", generatedId);
+            } finally {
+                recordingLock.unlock();
+            }
 
+            if (millisecondsToDelay > 0) {
                 try {
                     Thread.sleep(millisecondsToDelay);
                 } catch (InterruptedException e) {
                     throw new FilibusterFaultInjectionException("Failed to inject latency for call: ", e);
                 }
-            } else {
-                logger.info("[FILIBUSTER-CORE]: beginInvocation, failing to inject unknown fault: " + faultObject.toString(4));
-                throw new FilibusterFaultInjectionException("Unknown fault configuration: " + faultObject);
             }
-        }
-
-        // Legacy, not used, but helpful in debugging and required by instrumentation libraries.
-        response.put("generated_id", generatedId);
 
-        // This could be returned to the client and the delay done there.
-        FilibusterLatencyProfile filibusterLatencyProfile = filibusterConfiguration.getLatencyProfile();
+            // This could be returned to the client and the delay done there.
+            FilibusterLatencyProfile filibusterLatencyProfile = filibusterConfiguration.getLatencyProfile();
 
-        if (filibusterLatencyProfile != null) {
-            int totalSleepMs = 0;
+            if (filibusterLatencyProfile != null) {
+                int totalSleepMs = 0;
 
-            // Only works for GRPC right now.
-            int serviceSleepMs = filibusterLatencyProfile.getMsLatencyForService(payload.getString("module"));
-            int methodSleepMs = filibusterLatencyProfile.getMsLatencyForMethod(payload.getString("method"));
+                // Only works for GRPC right now.
+                int serviceSleepMs = filibusterLatencyProfile.getMsLatencyForService(moduleName);
+                int methodSleepMs = filibusterLatencyProfile.getMsLatencyForMethod(methodName);
 
-            totalSleepMs += serviceSleepMs;
-            totalSleepMs += methodSleepMs;
+                totalSleepMs += serviceSleepMs;
+                totalSleepMs += methodSleepMs;
 
-            logger.info("\n" +
-                    "[FILIBUSTER-CORE]: sleep based on latency profile: \n" +
-                    "serviceSleepMs: " + serviceSleepMs + "\n" +
-                    "methodSleepMs: " + methodSleepMs + "\n" +
-                    "totalSleepMs: " + totalSleepMs + "\n");
+                logger.info("\n" +
+                        "[FILIBUSTER-CORE]: sleep based on latency profile: \n" +
+                        "serviceSleepMs: " + serviceSleepMs + "\n" +
+                        "methodSleepMs: " + methodSleepMs + "\n" +
+                        "totalSleepMs: " + totalSleepMs + "\n");
 
-            try {
-                Thread.sleep(totalSleepMs);
-            } catch (InterruptedException e) {
-                throw new FilibusterLatencyInjectionException("Failed to inject latency for call: ", e);
+                try {
+                    Thread.sleep(totalSleepMs);
+                } catch (InterruptedException e) {
+                    throw new FilibusterLatencyInjectionException("Failed to inject latency for call: ", e);
+                }
             }
+
+            logger.info("[FILIBUSTER-CORE]: beginInvocation returning");
+            EventTrace.record(EventTrace.EventType.BEGIN_INVOCATION_RESPONSE, response);
+
+            return response;
+        } finally {
+            iterationLock.readLock().unlock();
         }
+    }
 
-        logger.info("[FILIBUSTER-CORE]: beginInvocation returning, response: " + response.toString(4));
+    // Single round-trip version of isNewTestExecution followed by beginInvocation, for instrumentation that would
+    // otherwise have to ask whether to reset its clocks before every RPC.
+    //
+    // If this is the service's first request in the test execution and the instrumentation computed its clocks from
+    // state left over from the previous execution, the invocation is not recorded: the instrumentation has to reset
+    // its clocks and begin the invocation again.
+    public JSONObject beginInvocationAndCheckForNewTestExecution(JSONObject payload) {
+        boolean newTestExecution = isNewTestExecution(payload.getString("source_service_name"));
+        boolean clocksMayBeStale = payload.optBoolean("clocks_may_be_stale", true);
+        payload.remove("clocks_may_be_stale");
+
+        // Set before the invocation is recorded, so the response is complete when it is traced.
+        JSONObject response = new JSONObject();
+        response.put("new-test-execution", newTestExecution);
 
-        return response;
+        if (newTestExecution && clocksMayBeStale) {
+            response.put("execution_index", payload.getString("execution_index"));
+            return response;
+        }
+
+        return beginInvocation(payload, response);
     }
 
     // Record that an RPC completed with a particular value.
     // Only needed for:
     // 1. Dynamic Reduction because we need to keep track of responses.
     // 2. HTTP calls, so we know which service we actually invoked.
-    public synchronized JSONObject endInvocation(
+    public JSONObject endInvocation(
+            JSONObject payload,
+            boolean isUpdate
+    ) {
+        String distributedExecutionIndexString = payload.getString("execution_index");
+        DistributedExecutionIndex distributedExecutionIndex = DistributedExecutionIndexType.getImplType().createImpl().deserialize(distributedExecutionIndexString);
+
+        return recordEndInvocation(distributedExecutionIndex, payload, isUpdate);
+    }
+
+    // Typed version of endInvocation for instrumentation running in the same JVM, which already holds the
+    // distributed execution index of the payload.
+    public JSONObject endInvocation(
+            DistributedExecutionIndex distributedExecutionIndex,
+            JSONObject payload,
+            boolean isUpdate
+    ) {
+        return recordEndInvocation(distributedExecutionIndex.copyWithoutCounters(), payload, isUpdate);
+    }
+
+    private JSONObject recordEndInvocation(
+            DistributedExecutionIndex distributedExecutionIndex,
             JSONObject payload,
             boolean isUpdate
     ) {
         logger.info("[FILIBUSTER-CORE]: endInvocation called");
+        EventTrace.record(EventTrace.EventType.END_INVOCATION, payload);
 
-        String distributedExecutionIndexString = payload.getString("execution_index");
-        DistributedExecutionIndex distributedExecutionIndex = new DistributedExecutionIndexV1().deserialize(distributedExecutionIndexString);
+        lockRecording();
+        try {
+            if (currentConcreteTestExecution == null) {
+                throw new FilibusterCoreLogicException("currentConcreteTestExecution should not be null at this point, something fatal occurred.");
+            }
 
-        logger.info("[FILIBUSTER-CORE]: endInvocation called, distributedExecutionIndex: " + distributedExecutionIndex);
+            currentConcreteTestExecution.addDistributedExecutionIndexWithResponsePayload(distributedExecutionIndex, payload);
 
-        if (currentConcreteTestExecution == null) {
-            throw new FilibusterCoreLogicException("currentConcreteTestExecution should not be null at this point, something fatal occurred.");
-        }
+            // Failures we didn't inject here are the result of faults downstream (or organic failures.)
+            if (filibusterConfiguration.getDynamicReduction() && payload.has("exception")) {
+                JSONObject request = currentConcreteTestExecution.getExecutedRpcs().get(distributedExecutionIndex);
 
-        currentConcreteTestExecution.addDistributedExecutionIndexWithResponsePayload(distributedExecutionIndex, payload);
+                if (request != null) {
+                    String rpcFingerprint = TestExecution.rpcFingerprint(request);
+                    JSONObject faultObject = currentConcreteTestExecution.getFaultsToInject().get(distributedExecutionIndex);
+
+                    if (faultObject == null) {
+                        dynamicReduction.recordResponse(rpcFingerprint, payload);
+                    } else {
+                        dynamicReduction.recordFaultInjected(rpcFingerprint, faultObject);
+                    }
+                }
+            }
 
-        if (!isUpdate) {
-            // Transformer faults are initially scheduled in the endInvocation since we need to know the response value.
-            scheduleTransformerFaults(payload, distributedExecutionIndex);
+            if (!isUpdate) {
+                // Transformer faults are initially scheduled in the endInvocation since we need to know the response value.
+                scheduleTransformerFaults(payload, distributedExecutionIndex);
+            }
+        } finally {
+            unlockRecording();
         }
 
         JSONObject response = new JSONObject();
         response.put("execution_index", payload.getString("execution_index"));
 
-        logger.info("[FILIBUSTER-CORE]: endInvocation returning: " + response.toString(4));
+        logger.info("[FILIBUSTER-CORE]: endInvocation returning");
+        EventTrace.record(EventTrace.EventType.END_INVOCATION_RESPONSE, response);
 
         return response;
     }
@@ -479,77 +699,118 @@ public class FilibusterCore {
 
     // Is this the first time that we are seeing an RPC from this service?
     // Used to control when vector clocks, etc. are reset to ensure they are consistent across executions.
-    public synchronized boolean isNewTestExecution(String serviceName) {
-        logger.info("[FILIBUSTER-CORE]: isNewTestExecution called, serviceName: " + serviceName);
+    public boolean isNewTestExecution(String serviceName) {
+        lockRecording();
+        try {
+            logger.info("[FILIBUSTER-CORE]: isNewTestExecution called, serviceName: " + serviceName);
 
-        boolean result = false;
+            boolean result = false;
 
-        if (currentConcreteTestExecution == null) {
-            // Doesn't really matter, because if this isn't set, no tests will execute.
-            result = false;
-        } else {
-            if (!currentConcreteTestExecution.hasSeenFirstRequestFromService(serviceName)) {
-                currentConcreteTestExecution.registerFirstRequestFromService(serviceName);
-                result = true;
-            } else {
+            if (currentConcreteTestExecution == null) {
+                // Doesn't really matter, because if this isn't set, no tests will execute.
                 result = false;
+            } else {
+                if (!currentConcreteTestExecution.hasSeenFirstRequestFromService(serviceName)) {
+                    currentConcreteTestExecution.registerFirstRequestFromService(serviceName);
+                    result = true;
+                } else {
+                    result = false;
+                }
             }
+
+            logger.info("[FILIBUSTER-CORE]: isNewTestExecution returning: " + result);
+
+            return result;
+        } finally {
+            unlockRecording();
         }
+    }
 
-        logger.info("[FILIBUSTER-CORE]: isNewTestExecution returning: " + result);
+    // The faults the current execution will inject, keyed by distributed execution index, so that instrumentation
+    // can decide locally whether to fail an RPC and report the RPC afterwards.
+    //
+    // Only exceptions and failure metadata can be injected by the instrumentation alone: latency is served and
+    // transformer values are computed here, so a plan containing either, or a test with a latency profile, is marked as
+    // not prefetchable.
+    public JSONObject getFaultPlan() {
+        lockRecording();
+        try {
+            JSONObject faults = new JSONObject();
+            boolean prefetchable = filibusterConfiguration.getLatencyProfile() == null;
+
+            if (currentAbstractTestExecution != null) {
+                for (Map.Entry<DistributedExecutionIndex, JSONObject> faultToInject : currentAbstractTestExecution.getFaultsToInject().entrySet()) {
+                    JSONObject faultObject = faultToInject.getValue();
 
-        return result;
+                    if (faultObject.has("forced_exception") || faultObject.has("failure_metadata")) {
+                        faults.put(faultToInject.getKey().toString(), faultObject);
+                    } else {
+                        prefetchable = false;
+                    }
+                }
+            }
+
+            JSONObject faultPlan = new JSONObject();
+            faultPlan.put("faults", faults);
+            faultPlan.put("prefetchable", prefetchable);
+            return faultPlan;
+        } finally {
+            unlockRecording();
+        }
     }
 
     // JUnit hooks.
 
 
     // This is an old callback used to exit the Python server with code = 1 or code = 0 upon failure.
-    public synchronized void completeIteration(int currentIteration) {
+    public void completeIteration(int currentIteration) {
         completeIteration(currentIteration, 0, null);
     }
 
     // This is an old callback used to exit the Python server with code = 1 or code = 0 upon failure.
-    public synchronized void completeIteration(int currentIteration, int exceptionOccurred, @Nullable Throwable throwable) {
+    public void completeIteration(int currentIteration, int exceptionOccurred, @Nullable Throwable throwable) {
         completeIteration(currentIteration, exceptionOccurred, throwable, /* shouldPrintRpcSummary= */true);
     }
 
-    public synchronized void completeIteration(int currentIteration, int exceptionOccurred, Throwable throwable, boolean shouldPrintRpcSummary) {
-        logger.info("[FILIBUSTER-CORE]: completeIteration called, currentIteration: " + currentIteration + ", exceptionOccurred: " + exceptionOccurred);
+    public void completeIteration(int currentIteration, int exceptionOccurred, Throwable throwable, boolean shouldPrintRpcSummary) {
+        lockIteration();
+        try {
+            logger.info("[FILIBUSTER-CORE]: completeIteration called, currentIteration: " + currentIteration + ", exceptionOccurred: " + exceptionOccurred);
 
 
-        if (currentConcreteTestExecution != null) {
-            if (shouldPrintRpcSummary) {
-                currentConcreteTestExecution.printRpcs();
-            }
+            if (currentConcreteTestExecution != null) {
+                if (shouldPrintRpcSummary) {
+                    currentConcreteTestExecution.printRpcs();
+                }
 
-            if (exceptionOccurred != 0) {
-                currentConcreteTestExecution.writeTestExecutionReport(currentIteration, /* exceptionOccurred= */ exceptionOccurred != 0, /* throwable= */ throwable);
-            } else {
-                currentConcreteTestExecution.writeTestExecutionReport(currentIteration, /* exceptionOccurred= */ exceptionOccurred != 0, /* throwable= */ null);
-            }
+                if (exceptionOccurred != 0) {
+                    currentConcreteTestExecution.writeTestExecutionReport(currentIteration, /* exceptionOccurred= */ exceptionOccurred != 0, /* throwable= */ throwable);
+                } else {
+                    currentConcreteTestExecution.writeTestExecutionReport(currentIteration, /* exceptionOccurred= */ exceptionOccurred != 0, /* throwable= */ null);
+                }
 
-            if (filibusterConfiguration.getFailIfFaultInjectionMismatch()) {
-                if (throwable == null || !throwable.getClass().equals(FilibusterFaultNotInjectedException.class)) {
-                    Map<DistributedExecutionIndex, JSONObject> faultsToInject = currentConcreteTestExecution.getFaultsToInject();
-                    Map<DistributedExecutionIndex, JSONObject> failedRpcs = currentConcreteTestExecution.getFailedRpcs();
-
-                    for (Map.Entry<DistributedExecutionIndex, JSONObject> faultToInject : faultsToInject.entrySet()) {
-                        JSONObject faultToInjectObject = faultToInject.getValue();
-
-                        if (faultToInjectObject.has("forced_exception")) {
-                            JSONObject forcedExceptionObject = faultToInjectObject.getJSONObject("forced_exception");
-                            if (forcedExceptionObject.has("metadata")) {
-                                JSONObject forcedMetadataObject = forcedExceptionObject.getJSONObject("metadata");
-
-                                if (failedRpcs.containsKey(faultToInject.getKey())) {
-                                    JSONObject failedRpc = failedRpcs.get(faultToInject.getKey());
-                                    if (failedRpc.has("exception")) {
-                                        JSONObject exceptionObject = failedRpc.getJSONObject("exception");
-                                        if (exceptionObject.has("metadata")) {
-                                            JSONObject metadataObject = exceptionObject.getJSONObject("metadata");
-                                            if (!metadataObject.similar(forcedMetadataObject)) {
-                                                throw new FilibusterFaultInjectionMismatchException("Injected fault does not match the fault that occurred: does the application have resilience measures that were activated by repeated fault injection?  Expected: " + forcedMetadataObject + "; actual: " + metadataObject);
+                if (filibusterConfiguration.getFailIfFaultInjectionMismatch()) {
+                    if (throwable == null || !throwable.getClass().equals(FilibusterFaultNotInjectedException.class)) {
+                        Map<DistributedExecutionIndex, JSONObject> faultsToInject = currentConcreteTestExecution.getFaultsToInject();
+                        Map<DistributedExecutionIndex, JSONObject> failedRpcs = currentConcreteTestExecution.getFailedRpcs();
+
+                        for (Map.Entry<DistributedExecutionIndex, JSONObject> faultToInject : faultsToInject.entrySet()) {
+                            JSONObject faultToInjectObject = faultToInject.getValue();
+
+                            if (faultToInjectObject.has("forced_exception")) {
+                                JSONObject forcedExceptionObject = faultToInjectObject.getJSONObject("forced_exception");
+                                if (forcedExceptionObject.has("metadata")) {
+                                    JSONObject forcedMetadataObject = forcedExceptionObject.getJSONObject("metadata");
+
+                                    if (failedRpcs.containsKey(faultToInject.getKey())) {
+                                        JSONObject failedRpc = failedRpcs.get(faultToInject.getKey());
+                                        if (failedRpc.has("exception")) {
+                                            JSONObject exceptionObject = failedRpc.getJSONObject("exception");
+                                            if (exceptionObject.has("metadata")) {
+                                                JSONObject metadataObject = exceptionObject.getJSONObject("metadata");
+                                                if (!metadataObject.similar(forcedMetadataObject)) {
+                                                    throw new FilibusterFaultInjectionMismatchException("Injected fault does not match the fault that occurred: does the application have resilience measures that were activated by repeated fault injection?  Expected: " + forcedMetadataObject + "; actual: " + metadataObject);
+                                                }
                                             }
                                         }
                                     }
@@ -558,457 +819,571 @@ public class FilibusterCore {
                         }
                     }
                 }
-            }
 
-            if (filibusterConfiguration.getFailIfFaultNotInjected()) {
-                if (throwable == null || !throwable.getClass().equals(FilibusterFaultNotInjectedException.class)) {
-                    Map<DistributedExecutionIndex, JSONObject> faultsToInject = currentConcreteTestExecution.getFaultsToInject();
-                    Map<DistributedExecutionIndex, JSONObject> failedRpcs = currentConcreteTestExecution.getFailedRpcs();
-                    if (failedRpcs.size() != faultsToInject.size()) {
-                        MapDifference<DistributedExecutionIndex, JSONObject> diff = Maps.difference(faultsToInject, failedRpcs);
-                        throw new FilibusterFaultNotInjectedException("One or more of the intended faults was not injected: "
-                                + diff.entriesOnlyOnLeft().values());
+                if (filibusterConfiguration.getFailIfFaultNotInjected()) {
+                    if (throwable == null || !throwable.getClass().equals(FilibusterFaultNotInjectedException.class)) {
+                        Map<DistributedExecutionIndex, JSONObject> faultsToInject = currentConcreteTestExecution.getFaultsToInject();
+                        Map<DistributedExecutionIndex, JSONObject> failedRpcs = currentConcreteTestExecution.getFailedRpcs();
+                        if (failedRpcs.size() != faultsToInject.size()) {
+                            MapDifference<DistributedExecutionIndex, JSONObject> diff = Maps.difference(faultsToInject, failedRpcs);
+                            throw new FilibusterFaultNotInjectedException("One or more of the intended faults was not injected: "
+                                    + diff.entriesOnlyOnLeft().values());
+                        }
                     }
                 }
-            }
 
-            if (filibusterConfiguration.getFailIfFaultNotInjectedAndATrackedMethodIsInvoked()) {
-                if (throwable == null || !throwable.getClass().equals(FilibusterFaultNotInjectedException.class)) {
-                    Map<DistributedExecutionIndex, JSONObject> faultsToInject = currentConcreteTestExecution.getFaultsToInject();
-                    Map<DistributedExecutionIndex, JSONObject> failedRpcs = currentConcreteTestExecution.getFailedRpcs();
-                    if (failedRpcs.size() != faultsToInject.size()) {
-                        MapDifference<DistributedExecutionIndex, JSONObject> diff = Maps.difference(faultsToInject, failedRpcs);
-
-                        // Check if a tracked method was invoked.
-                        ArrayList<String> methodNames = new ArrayList<>();
-                        for (Map.Entry<DistributedExecutionIndex, JSONObject> dei : currentConcreteTestExecution.getTestExecutionReport().getResponses().entrySet()) {
-                            JSONObject responseObject = dei.getValue();
-                            if (responseObject.has("return_value")) {
-                                JSONObject returnValue = responseObject.getJSONObject("return_value");
-                                if (returnValue.has("trackedMethodInvoked") && returnValue.getBoolean("trackedMethodInvoked")) {
-                                    methodNames.add(responseObject.getString("method"));
+                if (filibusterConfiguration.getFailIfFaultNotInjectedAndATrackedMethodIsInvoked()) {
+                    if (throwable == null || !throwable.getClass().equals(FilibusterFaultNotInjectedException.class)) {
+                        Map<DistributedExecutionIndex, JSONObject> faultsToInject = currentConcreteTestExecution.getFaultsToInject();
+                        Map<DistributedExecutionIndex, JSONObject> failedRpcs = currentConcreteTestExecution.getFailedRpcs();
+                        if (failedRpcs.size() != faultsToInject.size()) {
+                            MapDifference<DistributedExecutionIndex, JSONObject> diff = Maps.difference(faultsToInject, failedRpcs);
+
+                            // Check if a tracked method was invoked.
+                            ArrayList<String> methodNames = new ArrayList<>();
+                            for (Map.Entry<DistributedExecutionIndex, JSONObject> dei : currentConcreteTestExecution.getTestExecutionReport().getResponses().entrySet()) {
+                                JSONObject responseObject = dei.getValue();
+                                if (responseObject.has("return_value")) {
+                                    JSONObject returnValue = responseObject.getJSONObject("return_value");
+                                    if (returnValue.has("trackedMethodInvoked") && returnValue.getBoolean("trackedMethodInvoked")) {
+                                        methodNames.add(responseObject.getString("method"));
+                                    }
                                 }
                             }
-                        }
 
-                        throw new FilibusterFaultNotInjectedAndATrackedMethodInvokedException("The following tracked method(s) was invoked: " + methodNames + ". However, one or more of the intended faults " +
-                                "was not injected: " + diff.entriesOnlyOnLeft().values());
+                            throw new FilibusterFaultNotInjectedAndATrackedMethodInvokedException("The following tracked method(s) was invoked: " + methodNames + ". However, one or more of the intended faults " +
+                                    "was not injected: " + diff.entriesOnlyOnLeft().values());
 
+                        }
                     }
                 }
+
+            } else {
+                throw new FilibusterCoreLogicException("currentConcreteTestExecution should not be null at this point, something fatal occurred.");
+            }
+            if (shouldPrintRpcSummary) {
+                printSummary();
             }
 
-        } else {
-            throw new FilibusterCoreLogicException("currentConcreteTestExecution should not be null at this point, something fatal occurred.");
-        }
-        if (shouldPrintRpcSummary) {
-            printSummary();
+            logger.info("[FILIBUSTER-CORE]: completeIteration returning");
+        } finally {
+            unlockIteration();
         }
-
-        logger.info("[FILIBUSTER-CORE]: completeIteration returning");
     }
 
     // How many (under-approximation) test iterations remain?
-    public synchronized int iterationsRemaining() {
-        logger.info("[FILIBUSTER-CORE]: iterationsRemaining called");
-        int iterationsRemaining = unexploredTestExecutions.size();
-        logger.info("[FILIBUSTER-CORE]: iterationsRemaining returning: " + iterationsRemaining);
-        return iterationsRemaining;
+    public int iterationsRemaining() {
+        lockRecording();
+        try {
+            logger.info("[FILIBUSTER-CORE]: iterationsRemaining called");
+            int iterationsRemaining = unexploredTestExecutions.size();
+            logger.info("[FILIBUSTER-CORE]: iterationsRemaining returning: " + iterationsRemaining);
+            return iterationsRemaining;
+        } finally {
+            unlockRecording();
+        }
     }
 
     // Is there a test execution?
-    public synchronized boolean hasNextIteration(int currentIteration) {
-        logger.info("[FILIBUSTER-CORE]: hasNextIteration called, currentIteration: " + currentIteration);
-        boolean result = currentConcreteTestExecution != null;
-        logger.info("[FILIBUSTER-CORE]: hasNextIteration returning: " + result);
-        return result;
+    public boolean hasNextIteration(int currentIteration) {
+        lockRecording();
+        try {
+            logger.info("[FILIBUSTER-CORE]: hasNextIteration called, currentIteration: " + currentIteration);
+            boolean result = currentConcreteTestExecution != null;
+            logger.info("[FILIBUSTER-CORE]: hasNextIteration returning: " + result);
+            return result;
+        } finally {
+            unlockRecording();
+        }
     }
 
     // Is there a test execution?
-    public synchronized boolean hasNextIteration(int currentIteration, String caller) {
-        logger.info("[FILIBUSTER-CORE]: hasNextIteration called, currentIteration: " + currentIteration + ", caller: " + caller);
-        boolean result = currentConcreteTestExecution != null;
-        logger.info("[FILIBUSTER-CORE]: hasNextIteration returning: " + result);
-        return result;
+    public boolean hasNextIteration(int currentIteration, String caller) {
+        lockRecording();
+        try {
+            logger.info("[FILIBUSTER-CORE]: hasNextIteration called, currentIteration: " + currentIteration + ", caller: " + caller);
+            boolean result = currentConcreteTestExecution != null;
+            logger.info("[FILIBUSTER-CORE]: hasNextIteration returning: " + result);
+            return result;
+        } finally {
+            unlockRecording();
+        }
     }
 
-    public synchronized boolean testContainsOrganicFailures() {
-        boolean found = false;
-
-        if (currentConcreteTestExecution != null) {
-            for (Map.Entry<DistributedExecutionIndex, JSONObject> executedRpc: currentConcreteTestExecution.getExecutedRpcs().entrySet()) {
-                DistributedExecutionIndex distributedExecutionIndex = executedRpc.getKey();
-                boolean organicallyFailedInSourceConcreteTestExecution = organicallyFailedInSourceConcreteTestExecution(this.currentConcreteTestExecution, this.currentConcreteTestExecution, distributedExecutionIndex);
-                boolean faultWasInjected = currentConcreteTestExecution.getFaultsToInject().containsKey(distributedExecutionIndex);
-                if (organicallyFailedInSourceConcreteTestExecution && !faultWasInjected) {
-                    found = true;
-                    break;
+    public boolean testContainsOrganicFailures() {
+        lockRecording();
+        try {
+            boolean found = false;
+
+            if (currentConcreteTestExecution != null) {
+                for (Map.Entry<DistributedExecutionIndex, JSONObject> executedRpc: currentConcreteTestExecution.getExecutedRpcs().entrySet()) {
+                    DistributedExecutionIndex distributedExecutionIndex = executedRpc.getKey();
+                    boolean organicallyFailedInSourceConcreteTestExecution = organicallyFailedInSourceConcreteTestExecution(this.currentConcreteTestExecution, this.currentConcreteTestExecution, distributedExecutionIndex);
+                    boolean faultWasInjected = currentConcreteTestExecution.getFaultsToInject().containsKey(distributedExecutionIndex);
+                    if (organicallyFailedInSourceConcreteTestExecution && !faultWasInjected) {
+                        found = true;
+                        break;
+                    }
                 }
             }
-        }
 
-        return found;
+            return found;
+        } finally {
+            unlockRecording();
+        }
     }
 
     // A test has completed and all callbacks have fired.
-    public synchronized void teardownsCompleted(int currentIteration) {
-        logger.info("[FILIBUSTER-CORE]: teardownsCompleted called, currentIteration: " + currentIteration);
+    public void teardownsCompleted(int currentIteration) {
+        lockIteration();
+        try {
+            logger.info("[FILIBUSTER-CORE]: teardownsCompleted called, currentIteration: " + currentIteration);
 
-        if (currentConcreteTestExecution != null) {
-            // Add the test report to the aggregate report.
-            TestExecutionReport testExecutionReport = currentConcreteTestExecution.getTestExecutionReport();
-            if (currentIteration == 1) {
-                setMostRecentInitialTestExecutionReport(testExecutionReport);
-            }
+            if (currentConcreteTestExecution != null) {
+                // Add the test report to the aggregate report.
+                TestExecutionReport testExecutionReport = currentConcreteTestExecution.getTestExecutionReport();
+                if (currentIteration == 1) {
+                    setMostRecentInitialTestExecutionReport(testExecutionReport);
+                }
 
-            testReport.addTestExecutionReport(testExecutionReport);
-            // We're executing a test and not just running empty iterations (i.e., JUnit maxIterations > number of actual tests.)
+                testReport.addTestExecutionReport(testExecutionReport);
+                // We're executing a test and not just running empty iterations (i.e., JUnit maxIterations > number of actual tests.)
 
-            // Add both the current concrete and abstract execution to the explored list.
-            // * currentAbstractTestExecution: the prefix of the concrete execution that was realized by the concrete execution.
-            //   this may or may not be set if it's the initial execution.
-            // * currentConcreteTestExecution: the actual concrete, realized trace of the test execution.
-            if (currentAbstractTestExecution != null) {
-                numberOfAbstractExecutionsAttempted++;
+                // Add both the current concrete and abstract execution to the explored list.
+                // * currentAbstractTestExecution: the prefix of the concrete execution that was realized by the concrete execution.
+                //   this may or may not be set if it's the initial execution.
+                // * currentConcreteTestExecution: the actual concrete, realized trace of the test execution.
+                if (currentAbstractTestExecution != null) {
+                    numberOfAbstractExecutionsAttempted++;
 
-                if (!exploredTestExecutions.containsTestExecution(currentAbstractTestExecution)) {
-                    // Don't add to explored queue if it's already there.
-                    numberOfAbstractExecutionsExecuted++;
+                    if (!exploredTestExecutions.containsTestExecution(currentAbstractTestExecution)) {
+                        // Don't add to explored queue if it's already there.
+                        numberOfAbstractExecutionsExecuted++;
 
-                    exploredTestExecutions.addTestExecution(currentAbstractTestExecution);
-                } else {
-                    logger.severe("[FILIBUSTER-CORE]: teardownsCompleted called, currentAbstractTestExecution already exists in the explored queue, this could indicate a problem in Filibuster.");
+                        exploredTestExecutions.addTestExecution(currentAbstractTestExecution);
+                    } else {
+                        logger.severe("[FILIBUSTER-CORE]: teardownsCompleted called, currentAbstractTestExecution already exists in the explored queue, this could indicate a problem in Filibuster.");
+                    }
                 }
-            }
 
-            if (!exploredTestExecutions.containsTestExecution(currentConcreteTestExecution)) {
-                exploredTestExecutions.addTestExecution(currentConcreteTestExecution);
-            }
-            numberOfConcreteExecutionsExecuted++;
+                if (!exploredTestExecutions.containsTestExecution(currentConcreteTestExecution)) {
+                    exploredTestExecutions.addTestExecution(currentConcreteTestExecution);
+                }
+                numberOfConcreteExecutionsExecuted++;
 
-            // Unset fields.
-            currentAbstractTestExecution = null;
-            currentConcreteTestExecution = null;
+                if (filibusterConfiguration.getDynamicReduction()) {
+                    dynamicReduction.completeExecution();
+                }
 
-            // If we have another test to run (it will be abstract...)
-            AbstractTestExecution nextAbstractTestExecution;
+                // Unset fields.
+                currentAbstractTestExecution = null;
+                currentConcreteTestExecution = null;
 
-            if (!unexploredTestExecutions.isEmpty()) {
-                logger.info("[FILIBUSTER-CORE]: teardownsCompleted, scheduling next test execution.");
+                // If we have another test to run (it will be abstract...)
+                AbstractTestExecution nextAbstractTestExecution;
 
-                do {
-                    // Get the next execution.
-                    nextAbstractTestExecution = unexploredTestExecutions.removeAndReturnNextTestExecution();
+                if (searchTimeBudgetExhausted()) {
+                    logger.info("[FILIBUSTER-CORE]: teardownsCompleted, search time budget exhausted, not scheduling further test executions.");
+                } else if (!unexploredTestExecutions.isEmpty()) {
+                    logger.info("[FILIBUSTER-CORE]: teardownsCompleted, scheduling next test execution.");
 
-                    // If we should bypass, then set back to null.
-                    if (filibusterConfiguration.getAvoidInjectionsOnOrganicFailures() && nextAbstractTestExecution.shoulBypassForOrganicFailure()) {
-                        numBypassedExecutions++;
-                        nextAbstractTestExecution = null;
-                    }
+                    do {
+                        // Get the next execution.
+                        nextAbstractTestExecution = unexploredTestExecutions.removeAndReturnNextTestExecution();
 
-                    // Iterate as long as it's null and there's more in the list.
-                } while (nextAbstractTestExecution == null && !unexploredTestExecutions.isEmpty());
+                        // If we should bypass, then set back to null.
+                        if (filibusterConfiguration.getAvoidInjectionsOnOrganicFailures() && nextAbstractTestExecution.shoulBypassForOrganicFailure()) {
+                            numBypassedExecutions++;
+                            nextAbstractTestExecution = null;
+                        }
 
-                // As long as we have one?
-                if (nextAbstractTestExecution != null) {
-                    // Set the abstract execution, which drives fault injection and copy the faults into the concrete execution for the record.
-                    currentAbstractTestExecution = nextAbstractTestExecution;
-                    currentConcreteTestExecution = new ConcreteTestExecution(nextAbstractTestExecution, filibusterConfiguration.getTestName(),
-                            testUuid, filibusterConfiguration.getClassName());
+                        // If an earlier execution already observed this fault, then also skip.
+                        if (nextAbstractTestExecution != null && filibusterConfiguration.getDynamicReduction() && dynamicReduction.isSubsumed(nextAbstractTestExecution)) {
+                            numBypassedExecutions++;
+                            nextAbstractTestExecution = null;
+                        }
+
+                        // Iterate as long as it's null and there's more in the list.
+                    } while (nextAbstractTestExecution == null && !unexploredTestExecutions.isEmpty());
+
+                    // As long as we have one?
+                    if (nextAbstractTestExecution != null) {
+                        // Set the abstract execution, which drives fault injection and copy the faults into the concrete execution for the record.
+                        currentAbstractTestExecution = nextAbstractTestExecution;
+                        currentConcreteTestExecution = new ConcreteTestExecution(nextAbstractTestExecution, filibusterConfiguration.getTestName(),
+                                testUuid, filibusterConfiguration.getClassName());
+                    }
                 }
             }
-        }
 
-        logger.info("[FILIBUSTER-CORE]: teardownsCompleted returning.");
+            logger.info("[FILIBUSTER-CORE]: teardownsCompleted returning.");
+        } finally {
+            unlockIteration();
+        }
     }
 
     // Fault injection helpers.
 
-    @Nullable public synchronized Map<DistributedExecutionIndex, JSONObject> faultsInjected() {
-        logger.info("[FILIBUSTER-CORE]: faultsInjected called");
+    @Nullable public Map<DistributedExecutionIndex, JSONObject> faultsInjected() {
+        lockRecording();
+        try {
+            logger.info("[FILIBUSTER-CORE]: faultsInjected called");
 
-        if (currentConcreteTestExecution == null) {
-            return null;
-        }
+            if (currentConcreteTestExecution == null) {
+                return null;
+            }
 
-        Map<DistributedExecutionIndex, JSONObject> result = currentConcreteTestExecution.getFaultsToInject();
+            Map<DistributedExecutionIndex, JSONObject> result = currentConcreteTestExecution.getFaultsToInject();
 
-        logger.info("[FILIBUSTER-CORE]: faultsInjected returning: " + result);
+            logger.info("[FILIBUSTER-CORE]: faultsInjected returning: " + result);
 
-        return result;
+            return result;
+        } finally {
+            unlockRecording();
+        }
     }
 
-    @Nullable public synchronized Map<DistributedExecutionIndex, JSONObject> executedRpcs() {
-        logger.info("[FILIBUSTER-CORE]: executedRPCs called");
+    @Nullable public Map<DistributedExecutionIndex, JSONObject> executedRpcs() {
+        lockRecording();
+        try {
+            logger.info("[FILIBUSTER-CORE]: executedRPCs called");
 
-        if (currentConcreteTestExecution == null) {
-            return null;
-        }
+            if (currentConcreteTestExecution == null) {
+                return null;
+            }
 
-        Map<DistributedExecutionIndex, JSONObject> result = currentConcreteTestExecution.getExecutedRpcs();
+            Map<DistributedExecutionIndex, JSONObject> result = currentConcreteTestExecution.getExecutedRpcs();
 
-        logger.info("[FILIBUSTER-CORE]: executedRPCs returning: " + result);
+            logger.info("[FILIBUSTER-CORE]: executedRPCs returning: " + result);
 
-        return result;
+            return result;
+        } finally {
+            unlockRecording();
+        }
     }
 
-    @Nullable public synchronized Map<DistributedExecutionIndex, JSONObject> failedRpcs() {
-        logger.info("[FILIBUSTER-CORE]: failedRPCs called");
+    @Nullable public Map<DistributedExecutionIndex, JSONObject> failedRpcs() {
+        lockRecording();
+        try {
+            logger.info("[FILIBUSTER-CORE]: failedRPCs called");
 
-        if (currentConcreteTestExecution == null) {
-            return null;
-        }
+            if (currentConcreteTestExecution == null) {
+                return null;
+            }
 
-        Map<DistributedExecutionIndex, JSONObject> result = currentConcreteTestExecution.getFailedRpcs();
+            Map<DistributedExecutionIndex, JSONObject> result = currentConcreteTestExecution.getFailedRpcs();
 
-        logger.info("[FILIBUSTER-CORE]: failedRPCs returning: " + result);
+            logger.info("[FILIBUSTER-CORE]: failedRPCs returning: " + result);
 
-        return result;
+            return result;
+        } finally {
+            unlockRecording();
+        }
     }
 
-    public synchronized boolean wasFaultInjected() {
-        logger.info("[FILIBUSTER-CORE]: wasFaultInjected called");
+    public boolean wasFaultInjected() {
+        lockRecording();
+        try {
+            logger.info("[FILIBUSTER-CORE]: wasFaultInjected called");
 
-        if (currentConcreteTestExecution == null) {
-            return false;
-        }
+            if (currentConcreteTestExecution == null) {
+                return false;
+            }
 
-        boolean result = currentConcreteTestExecution.wasFaultInjected();
+            boolean result = currentConcreteTestExecution.wasFaultInjected();
 
-        logger.info("[FILIBUSTER-CORE]: wasFaultInjected returning: " + result);
+            logger.info("[FILIBUSTER-CORE]: wasFaultInjected returning: " + result);
 
-        return result;
+            return result;
+        } finally {
+            unlockRecording();
+        }
     }
 
-    public synchronized boolean wasFaultInjectedOnService(String serviceName) {
-        logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnService called, serviceName: " + serviceName);
+    public boolean wasFaultInjectedOnService(String serviceName) {
+        lockRecording();
+        try {
+            logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnService called, serviceName: " + serviceName);
 
-        if (currentConcreteTestExecution == null) {
-            return false;
-        }
+            if (currentConcreteTestExecution == null) {
+                return false;
+            }
 
-        boolean result = currentConcreteTestExecution.wasFaultInjectedOnService(serviceName);
+            boolean result = currentConcreteTestExecution.wasFaultInjectedOnService(serviceName);
 
-        logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnService returning: " + result);
+            logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnService returning: " + result);
 
-        return result;
+            return result;
+        } finally {
+            unlockRecording();
+        }
     }
 
-    public synchronized boolean wasFaultInjectedOnHttpMethod(HttpMethod httpMethod, String uriPattern) {
-        logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnHttpMethod called, httpMethod: " + httpMethod + ", uriPattern: " + uriPattern);
+    public boolean wasFaultInjectedOnHttpMethod(HttpMethod httpMethod, String uriPattern) {
+        lockRecording();
+        try {
+            logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnHttpMethod called, httpMethod: " + httpMethod + ", uriPattern: " + uriPattern);
 
-        if (currentConcreteTestExecution == null) {
-            return false;
-        }
+            if (currentConcreteTestExecution == null) {
+                return false;
+            }
 
-        boolean result = currentConcreteTestExecution.wasFaultInjectedOnHttpMethod(httpMethod, uriPattern);
+            boolean result = currentConcreteTestExecution.wasFaultInjectedOnHttpMethod(httpMethod, uriPattern);
 
-        logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnHttpMethod returning: " + result);
+            logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnHttpMethod returning: " + result);
 
-        return result;
+            return result;
+        } finally {
+            unlockRecording();
+        }
     }
 
-    public synchronized boolean wasFaultInjectedOnMethod(String serviceName, String methodName) {
-        logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnMethod called, serviceName: " + serviceName + ", methodName: " + methodName);
+    public boolean wasFaultInjectedOnMethod(String serviceName, String methodName) {
+        lockRecording();
+        try {
+            logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnMethod called, serviceName: " + serviceName + ", methodName: " + methodName);
 
-        if (currentConcreteTestExecution == null) {
-            return false;
-        }
+            if (currentConcreteTestExecution == null) {
+                return false;
+            }
 
-        boolean result = currentConcreteTestExecution.wasFaultInjectedOnMethod(serviceName, methodName);
+            boolean result = currentConcreteTestExecution.wasFaultInjectedOnMethod(serviceName, methodName);
 
-        logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnMethod returning: " + result);
+            logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnMethod returning: " + result);
 
-        return result;
+            return result;
+        } finally {
+            unlockRecording();
+        }
     }
 
-    public synchronized boolean wasFaultInjectedOnHttpRequest(
+    public boolean wasFaultInjectedOnHttpRequest(
             HttpMethod httpMethod,
             String uriPattern,
             String serializedRequestPattern
     ) {
-        logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnHttpRequest called, httpMethod: " + httpMethod + ", uriPattern: " + uriPattern + ", serializedRequestPattern: " + serializedRequestPattern);
+        lockRecording();
+        try {
+            logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnHttpRequest called, httpMethod: " + httpMethod + ", uriPattern: " + uriPattern + ", serializedRequestPattern: " + serializedRequestPattern);
 
-        if (currentConcreteTestExecution == null) {
-            return false;
-        }
+            if (currentConcreteTestExecution == null) {
+                return false;
+            }
 
-        boolean result = currentConcreteTestExecution.wasFaultInjectedOnHttpRequest(httpMethod, uriPattern, serializedRequestPattern);
+            boolean result = currentConcreteTestExecution.wasFaultInjectedOnHttpRequest(httpMethod, uriPattern, serializedRequestPattern);
 
-        logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnHttpRequest returning: " + result);
+            logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnHttpRequest returning: " + result);
 
-        return result;
+            return result;
+        } finally {
+            unlockRecording();
+        }
     }
 
-    public synchronized boolean wasFaultInjectedOnRequest(String serializedRequest) {
-        logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnRequest called, serializedRequest: " + serializedRequest);
+    public boolean wasFaultInjectedOnRequest(String serializedRequest) {
+        lockRecording();
+        try {
+            logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnRequest called, serializedRequest: " + serializedRequest);
 
-        if (currentConcreteTestExecution == null) {
-            return false;
-        }
+            if (currentConcreteTestExecution == null) {
+                return false;
+            }
 
-        boolean result = currentConcreteTestExecution.wasFaultInjectedOnRequest(serializedRequest);
+            boolean result = currentConcreteTestExecution.wasFaultInjectedOnRequest(serializedRequest);
 
-        logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnRequest returning: " + result);
+            logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnRequest returning: " + result);
 
-        return result;
+            return result;
+        } finally {
+            unlockRecording();
+        }
     }
 
-    public synchronized boolean wasFaultInjectedOnMethodWhereRequestContains(String serviceName, String methodName, String contains) {
-        logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnMethodWherePayloadContains called, serviceName: " + serviceName + ", methodName: " + methodName + ", contains: " + contains);
+    public boolean wasFaultInjectedOnMethodWhereRequestContains(String serviceName, String methodName, String contains) {
+        lockRecording();
+        try {
+            logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnMethodWherePayloadContains called, serviceName: " + serviceName + ", methodName: " + methodName + ", contains: " + contains);
 
-        if (currentConcreteTestExecution == null) {
-            return false;
-        }
+            if (currentConcreteTestExecution == null) {
+                return false;
+            }
 
-        boolean result = currentConcreteTestExecution.wasFaultInjectedOnMethodWhereRequestContains(serviceName, methodName, contains);
+            boolean result = currentConcreteTestExecution.wasFaultInjectedOnMethodWhereRequestContains(serviceName, methodName, contains);
 
-        logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnMethodWherePayloadContains returning: " + result);
+            logger.info("[FILIBUSTER-CORE]: wasFaultInjectedOnMethodWherePayloadContains returning: " + result);
 
-        return result;
+            return result;
+        } finally {
+            unlockRecording();
+        }
     }
 
     // This callback was used to terminate the Filibuster python server -- required if using certain backends for
     // writing counterexample files, etc., but should automatically be handled by the JUnit invocation interceptors now.
-    public synchronized void terminateFilibuster() {
-        logger.info("[FILIBUSTER-CORE]: terminate called.");
-
-        if (testReport != null) {
-            testReport.setIterationsRemaining(iterationsRemaining());
-            testReport.setNumBypassedExecutions(getNumBypassedExecutions());
-            testReport.writeTestReport();
-            if (Property.getReportsTestSuiteReportEnabledProperty()) {
-                TestSuiteReport.getInstance().addTestReport(testReport);
+    public void terminateFilibuster() {
+        lockIteration();
+        try {
+            logger.info("[FILIBUSTER-CORE]: terminate called.");
+
+            if (testReport != null) {
+                testReport.setIterationsRemaining(iterationsRemaining());
+                testReport.setNumBypassedExecutions(getNumBypassedExecutions());
+                testReport.writeTestReport();
+                if (Property.getReportsTestSuiteReportEnabledProperty()) {
+                    TestSuiteReport.getInstance().addTestReport(testReport);
+                }
             }
-        }
 
-        ServerInvocationAndResponseReport.writeServerInvocationReport();
+            ServerInvocationAndResponseReport.writeServerInvocationReport();
+
+            ServerInvocationAndResponseReport.writeServiceProfile();
 
-        ServerInvocationAndResponseReport.writeServiceProfile();
+            EventTrace.flush();
 
-        logger.info("[FILIBUSTER-CORE]: terminate returning.");
+            logger.info("[FILIBUSTER-CORE]: terminate returning.");
+        } finally {
+            unlockIteration();
+        }
     }
 
     // Configuration.
 
-    public synchronized void analysisFile(JSONObject analysisFile) {
-        logger.info("[FILIBUSTER-CORE]: analysisFile called, payload: " + analysisFile.toString(4));
+    public void analysisFile(JSONObject analysisFile) {
+        lockIteration();
+        try {
+            logger.info("[FILIBUSTER-CORE]: analysisFile called, payload: " + analysisFile.toString(4));
 
-        FilibusterCustomAnalysisConfigurationFile.Builder filibusterCustomAnalysisConfigurationFileBuilder = new FilibusterCustomAnalysisConfigurationFile.Builder();
+            FilibusterCustomAnalysisConfigurationFile.Builder filibusterCustomAnalysisConfigurationFileBuilder = new FilibusterCustomAnalysisConfigurationFile.Builder();
 
-        for (String name : analysisFile.keySet()) {
-            FilibusterAnalysisConfiguration.Builder filibusterAnalysisConfigurationBuilder = new FilibusterAnalysisConfiguration.Builder();
-            filibusterAnalysisConfigurationBuilder.name(name);
+            for (String name : analysisFile.keySet()) {
+                FilibusterAnalysisConfiguration.Builder filibusterAnalysisConfigurationBuilder = new FilibusterAnalysisConfiguration.Builder();
+                filibusterAnalysisConfigurationBuilder.name(name);
 
-            JSONObject nameObject = analysisFile.getJSONObject(name);
+                JSONObject nameObject = analysisFile.getJSONObject(name);
 
-            if (nameObject.has("pattern")) {
-                filibusterAnalysisConfigurationBuilder.pattern(nameObject.getString("pattern"));
-            }
+                if (nameObject.has("pattern")) {
+                    filibusterAnalysisConfigurationBuilder.pattern(nameObject.getString("pattern"));
+                }
 
-            if (nameObject.has("rpc_type")) {
-                String sRpcType = nameObject.getString("rpc_type");
-                RpcType rpcType = toRpcType(sRpcType);
-                if (rpcType != null) {
-                    filibusterAnalysisConfigurationBuilder.rpcType(rpcType);
+                if (nameObject.has("rpc_type")) {
+                    String sRpcType = nameObject.getString("rpc_type");
+                    RpcType rpcType = toRpcType(sRpcType);
+                    if (rpcType != null) {
+                        filibusterAnalysisConfigurationBuilder.rpcType(rpcType);
+                    }
                 }
-            }
 
-            if (nameObject.has("latencies")) {
-                JSONArray jsonArray = nameObject.getJSONArray("latencies");
+                if (nameObject.has("latencies")) {
+                    JSONArray jsonArray = nameObject.getJSONArray("latencies");
 
-                for (Object obj : jsonArray) {
-                    JSONObject latencyObject = (JSONObject) obj;
+                    for (Object obj : jsonArray) {
+                        JSONObject latencyObject = (JSONObject) obj;
 
-                    MatcherType matcherType = MatcherType.valueOf(latencyObject.getString("type"));
-                    String matcher = latencyObject.getString("matcher");
-                    int milliseconds = latencyObject.getInt("milliseconds");
+                        MatcherType matcherType = MatcherType.valueOf(latencyObject.getString("type"));
+                        String matcher = latencyObject.getString("matcher");
+                        int milliseconds = latencyObject.getInt("milliseconds");
 
-                    filibusterAnalysisConfigurationBuilder.latency(matcherType, matcher, milliseconds);
-                    logger.info("[FILIBUSTER-CORE]: analysisFile, found new configuration, matcherType: " + matcherType + ", matcher: " + matcher + ", milliseconds: " + milliseconds);
+                        filibusterAnalysisConfigurationBuilder.latency(matcherType, matcher, milliseconds);
+                        logger.info("[FILIBUSTER-CORE]: analysisFile, found new configuration, matcherType: " + matcherType + ", matcher: " + matcher + ", milliseconds: " + milliseconds);
+                    }
                 }
-            }
 
-            if (nameObject.has("exceptions")) {
-                JSONArray jsonArray = nameObject.getJSONArray("exceptions");
+                if (nameObject.has("exceptions")) {
+                    JSONArray jsonArray = nameObject.getJSONArray("exceptions");
 
-                for (Object obj : jsonArray) {
-                    JSONObject exceptionObject = (JSONObject) obj;
+                    for (Object obj : jsonArray) {
+                        JSONObject exceptionObject = (JSONObject) obj;
 
-                    String exceptionName = exceptionObject.getString("name");
-                    JSONObject exceptionMetadata = exceptionObject.getJSONObject("metadata");
+                        String exceptionName = exceptionObject.getString("name");
+                        JSONObject exceptionMetadata = exceptionObject.getJSONObject("metadata");
 
-                    HashMap<String, String> exceptionMetadataMap = new HashMap<>();
-                    for (String metadataObjectKey : exceptionMetadata.keySet()) {
-                        exceptionMetadataMap.put(metadataObjectKey, exceptionMetadata.getString(metadataObjectKey));
-                    }
+                        HashMap<String, String> exceptionMetadataMap = new HashMap<>();
+                        for (String metadataObjectKey : exceptionMetadata.keySet()) {
+                            exceptionMetadataMap.put(metadataObjectKey, exceptionMetadata.getString(metadataObjectKey));
+                        }
 
-                    filibusterAnalysisConfigurationBuilder.exception(exceptionName, exceptionMetadataMap);
-                    logger.info("[FILIBUSTER-CORE]: analysisFile, found new configuration, exceptionName: " + exceptionName + ", exceptionMetadataMap: " + exceptionMetadataMap);
+                        filibusterAnalysisConfigurationBuilder.exception(exceptionName, exceptionMetadataMap);
+                        logger.info("[FILIBUSTER-CORE]: analysisFile, found new configuration, exceptionName: " + exceptionName + ", exceptionMetadataMap: " + exceptionMetadataMap);
+                    }
                 }
-            }
 
-            if (nameObject.has("errors")) {
-                JSONArray jsonArray = nameObject.getJSONArray("errors");
+                if (nameObject.has("errors")) {
+                    JSONArray jsonArray = nameObject.getJSONArray("errors");
 
-                for (Object obj : jsonArray) {
-                    JSONObject errorObject = (JSONObject) obj;
+                    for (Object obj : jsonArray) {
+                        JSONObject errorObject = (JSONObject) obj;
 
-                    String errorServiceName = errorObject.getString("service_name");
-                    JSONArray errorTypes = errorObject.getJSONArray("types");
+                        String errorServiceName = errorObject.getString("service_name");
+                        JSONArray errorTypes = errorObject.getJSONArray("types");
 
-                    List<JSONObject> errorTypesList = new ArrayList<>();
-                    for (Object errorType : errorTypes) {
-                        errorTypesList.add((JSONObject) errorType);
-                    }
+                        List<JSONObject> errorTypesList = new ArrayList<>();
+                        for (Object errorType : errorTypes) {
+                            errorTypesList.add((JSONObject) errorType);
+                        }
 
-                    filibusterAnalysisConfigurationBuilder.error(errorServiceName, errorTypesList);
-                    logger.info("[FILIBUSTER-CORE]: analysisFile, found new configuration, errorServiceName: " + errorServiceName + ", errorTypesList: " + errorTypesList);
+                        filibusterAnalysisConfigurationBuilder.error(errorServiceName, errorTypesList);
+                        logger.info("[FILIBUSTER-CORE]: analysisFile, found new configuration, errorServiceName: " + errorServiceName + ", errorTypesList: " + errorTypesList);
+                    }
                 }
-            }
 
-            if (nameObject.has("transformers")) {
-                JSONArray jsonArray = nameObject.getJSONArray("transformers");
+                if (nameObject.has("transformers")) {
+                    JSONArray jsonArray = nameObject.getJSONArray("transformers");
 
-                try {
-                    for (Object obj : jsonArray) {
-                        JSONObject errorObject = (JSONObject) obj;
+                    try {
+                        for (Object obj : jsonArray) {
+                            JSONObject errorObject = (JSONObject) obj;
 
-                        if (errorObject.has("transformerClassName")) {
-                            String transformerClassName = errorObject.getString("transformerClassName");
+                            if (errorObject.has("transformerClassName")) {
+                                String transformerClassName = errorObject.getString("transformerClassName");
 
-                            try {
-                                @SuppressWarnings("unchecked")
-                                Class<? extends Transformer<?, ?>> transformerClass = (Class<? extends Transformer<?, ?>>) Class.forName(transformerClassName);
-                                filibusterAnalysisConfigurationBuilder.transformer(transformerClass);
-                            } catch (ClassNotFoundException e) {
-                                logger.warning("[FILIBUSTER-CORE]: analysisFile/transformers: Could not find transformer class: " + transformerClassName);
-                                throw new FilibusterFaultInjectionException("[FILIBUSTER-CORE]: analysisFile/transformers, could not find transformer class: " + transformerClassName, e);
-                            }
+                                try {
+                                    @SuppressWarnings("unchecked")
+                                    Class<? extends Transformer<?, ?>> transformerClass = (Class<? extends Transformer<?, ?>>) Class.forName(transformerClassName);
+                                    filibusterAnalysisConfigurationBuilder.transformer(transformerClass);
+                                } catch (ClassNotFoundException e) {
+                                    logger.warning("[FILIBUSTER-CORE]: analysisFile/transformers: Could not find transformer class: " + transformerClassName);
+                                    throw new FilibusterFaultInjectionException("[FILIBUSTER-CORE]: analysisFile/transformers, could not find transformer class: " + transformerClassName, e);
+                                }
 
-                            logger.info("[FILIBUSTER-CORE]: analysisFile/transformers, found new configuration, transformerClassName: " + transformerClassName);
-                        } else {
-                            logger.warning("[FILIBUSTER-CORE]: analysisFile/transformers: Either the key 'transformer', 'transformerClassName' does not exist.");
-                            throw new FilibusterFaultInjectionException("[FILIBUSTER-CORE]: analysisFile/transformers, either the key 'transformer', 'transformerClassName' does not exist.");
+                                logger.info("[FILIBUSTER-CORE]: analysisFile/transformers, found new configuration, transformerClassName: " + transformerClassName);
+                            } else {
+                                logger.warning("[FILIBUSTER-CORE]: analysisFile/transformers: Either the key 'transformer', 'transformerClassName' does not exist.");
+                                throw new FilibusterFaultInjectionException("[FILIBUSTER-CORE]: analysisFile/transformers, either the key 'transformer', 'transformerClassName' does not exist.");
+                            }
                         }
+                    } catch (RuntimeException e) {
+                        logger.warning("[FILIBUSTER-CORE]: analysisFile, could not process transformer fault object.");
+                        throw new FilibusterFaultInjectionException("[FILIBUSTER-CORE]: analysisFile, could not process transformer fault object.", e);
                     }
-                } catch (RuntimeException e) {
-                    logger.warning("[FILIBUSTER-CORE]: analysisFile, could not process transformer fault object.");
-                    throw new FilibusterFaultInjectionException("[FILIBUSTER-CORE]: analysisFile, could not process transformer fault object.", e);
                 }
+
+                FilibusterAnalysisConfiguration filibusterAnalysisConfiguration = filibusterAnalysisConfigurationBuilder.build();
+                filibusterCustomAnalysisConfigurationFileBuilder.analysisConfiguration(filibusterAnalysisConfiguration);
             }
 
-            FilibusterAnalysisConfiguration filibusterAnalysisConfiguration = filibusterAnalysisConfigurationBuilder.build();
-            filibusterCustomAnalysisConfigurationFileBuilder.analysisConfiguration(filibusterAnalysisConfiguration);
-        }
+            filibusterCustomAnalysisConfigurationFile = filibusterCustomAnalysisConfigurationFileBuilder.build();
 
-        filibusterCustomAnalysisConfigurationFile = filibusterCustomAnalysisConfigurationFileBuilder.build();
+            // Fault plans were computed from the previous analysis file.
+            faultPlansByRpc.clear();
 
-        logger.info("[FILIBUSTER-CORE]: analysisFile, set instance variable, returning.");
+            logger.info("[FILIBUSTER-CORE]: analysisFile, set instance variable, returning.");
+        } finally {
+            unlockIteration();
+        }
     }
 
     // Private functions.
 
+    private static FilibusterTestExecutionScorer createTestExecutionScorer(FilibusterConfiguration filibusterConfiguration) {
+        Class<? extends FilibusterTestExecutionScorer> filibusterTestExecutionScorerClass = filibusterConfiguration.getTestExecutionScorer();
+
+        try {
+            return filibusterTestExecutionScorerClass.getDeclaredConstructor().newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new FilibusterRuntimeException(e);
+        }
+    }
+
     private static boolean matchesFaultInjectionPattern(
             FilibusterAnalysisConfiguration filibusterAnalysisConfiguration,
             RpcType rpcType,
@@ -1042,23 +1417,15 @@ public class FilibusterCore {
         return patternMatchFound && isTypeMatch;
     }
 
-    private void generateFaultsUsingSpecificAnalysisConfiguration(
+    private static void addFaultsUsingSpecificAnalysisConfiguration(
+            List<JSONObject> faultPlan,
             FilibusterCustomAnalysisConfigurationFile customAnalysisConfigurationFile,
-            DistributedExecutionIndex distributedExecutionIndex,
+            FilibusterFaultInjectionFilter filibusterFaultInjectionFilter,
             RpcType rpcType,
             String moduleName,
             String methodName
     ) {
-        logger.info("[FILIBUSTER-CORE]: generateFaultsUsingSpecificAnalysisConfiguration called.");
-
-        // Initialize the filter.
-        Class<? extends FilibusterFaultInjectionFilter> filibusterFaultInjectionFilterClass = filibusterConfiguration.getFaultInjectionFilter();
-        FilibusterFaultInjectionFilter filibusterFaultInjectionFilter;
-        try {
-            filibusterFaultInjectionFilter = filibusterFaultInjectionFilterClass.getDeclaredConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new FilibusterRuntimeException(e);
-        }
+        logger.info("[FILIBUSTER-CORE]: addFaultsUsingSpecificAnalysisConfiguration called.");
 
         if (customAnalysisConfigurationFile != null) {
             for (FilibusterAnalysisConfiguration filibusterAnalysisConfiguration : customAnalysisConfigurationFile.getFilibusterAnalysisConfigurations()) {
@@ -1087,7 +1454,7 @@ public class FilibusterCore {
                         }
 
                         if (matcher.find()) {
-                            createAndScheduleAbstractTestExecution(filibusterConfiguration, distributedExecutionIndex, faultObject);
+                            faultPlan.add(faultObject);
                         }
                     }
 
@@ -1097,7 +1464,7 @@ public class FilibusterCore {
                     for (JSONObject faultObject : exceptionFaultObjects) {
                         // If we shouldn't execute this, skip it.
                         if (filibusterFaultInjectionFilter.shouldInjectFault(methodName)) {
-                            createAndScheduleAbstractTestExecution(filibusterConfiguration, distributedExecutionIndex, faultObject);
+                            faultPlan.add(faultObject);
                         }
                     }
 
@@ -1118,7 +1485,7 @@ public class FilibusterCore {
                                 HashMap faultTypeMap = (HashMap) obj;
                                 JSONObject faultTypeObject = new JSONObject();
                                 faultTypeObject.put("failure_metadata", faultTypeMap);
-                                createAndScheduleAbstractTestExecution(filibusterConfiguration, distributedExecutionIndex, faultTypeObject);
+                                faultPlan.add(faultTypeObject);
                             }
                         }
                     }
@@ -1127,7 +1494,7 @@ public class FilibusterCore {
             }
         }
 
-        logger.info("[FILIBUSTER-CORE]: generateFaultsUsingSpecificAnalysisConfiguration returning.");
+        logger.info("[FILIBUSTER-CORE]: addFaultsUsingSpecificAnalysisConfiguration returning.");
     }
 
     private void generateFaultsUsingAnalysisConfiguration(
@@ -1139,6 +1506,41 @@ public class FilibusterCore {
     ) {
         logger.info("[FILIBUSTER-CORE]: generateFaultsUsingAnalysisConfiguration called.");
 
+        // The faults for an RPC only depend on its module, method, and type, so they are computed once per analysis file.
+        String faultPlanKey = moduleName + "/" + methodName + "/" + rpcType;
+        List<JSONObject> faultPlan = faultPlansByRpc.get(faultPlanKey);
+
+        if (faultPlan == null) {
+            faultPlan = computeFaultPlan(filibusterConfiguration, rpcType, moduleName, methodName);
+            faultPlansByRpc.put(faultPlanKey, faultPlan);
+        }
+
+        for (JSONObject faultObject : faultPlan) {
+            createAndScheduleAbstractTestExecution(filibusterConfiguration, distributedExecutionIndex, faultObject);
+        }
+
+        logger.info("[FILIBUSTER-CORE]: generateFaultsUsingAnalysisConfiguration returning.");
+    }
+
+    private List<JSONObject> computeFaultPlan(
+            FilibusterConfiguration filibusterConfiguration,
+            RpcType rpcType,
+            String moduleName,
+            String methodName
+    ) {
+        logger.info("[FILIBUSTER-CORE]: computeFaultPlan called.");
+
+        List<JSONObject> faultPlan = new ArrayList<>();
+
+        // Initialize the filter.
+        Class<? extends FilibusterFaultInjectionFilter> filibusterFaultInjectionFilterClass = filibusterConfiguration.getFaultInjectionFilter();
+        FilibusterFaultInjectionFilter filibusterFaultInjectionFilter;
+        try {
+            filibusterFaultInjectionFilter = filibusterFaultInjectionFilterClass.getDeclaredConstructor().newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new FilibusterRuntimeException(e);
+        }
+
         List<FilibusterCustomAnalysisConfigurationFile> customAnalysisConfigurationFiles = new ArrayList<>();
 
         // Service profile faults.
@@ -1194,10 +1596,18 @@ public class FilibusterCore {
         customAnalysisConfigurationFiles.add(filibusterCustomAnalysisConfigurationFile);
 
         for (FilibusterCustomAnalysisConfigurationFile customAnalysisConfigurationFile : customAnalysisConfigurationFiles) {
-            generateFaultsUsingSpecificAnalysisConfiguration(customAnalysisConfigurationFile, distributedExecutionIndex, rpcType, moduleName, methodName);
+            addFaultsUsingSpecificAnalysisConfiguration(faultPlan, customAnalysisConfigurationFile, filibusterFaultInjectionFilter, rpcType, moduleName, methodName);
         }
 
-        logger.info("[FILIBUSTER-CORE]: generateFaultsUsingAnalysisConfiguration returning.");
+        logger.info("[FILIBUSTER-CORE]: computeFaultPlan returning.");
+
+        return faultPlan;
+    }
+
+    // Would injecting this many faults at once exceed the configured bound on combinations?
+    private boolean exceedsMaxSimultaneousFaults(int numberOfFaults) {
+        int maxSimultaneousFaults = filibusterConfiguration.getMaxSimultaneousFaults();
+        return maxSimultaneousFaults > 0 && numberOfFaults > maxSimultaneousFaults;
     }
 
     private void createAndScheduleAbstractTestExecution(
@@ -1215,13 +1625,10 @@ public class FilibusterCore {
             boolean abstractIsCurrentExecution = currentAbstractTestExecution != null && currentAbstractTestExecution.matchesAbstractTestExecution(abstractTestExecution);
 
             if (!abstractIsExploredExecution && !abstractIsScheduledExecution && !abstractIsCurrentExecution) {
-                if (filibusterConfiguration.getSuppressCombinations()) {
-                    if (!(abstractTestExecution.getFaultsToInjectSize() > 1)) {
-                        unexploredTestExecutions.addTestExecution(abstractTestExecution);
-                        logger.info("[FILIBUSTER-CORE]: createAndScheduleAbstractTestExecution, adding new execution to the queue.");
-                    } else {
-                        logger.info("[FILIBUSTER-CORE]: createAndScheduleAbstractTestExecution, not scheduling test execution because it contains > 1 fault.");
-                    }
+                if (filibusterConfiguration.getDynamicReduction() && dynamicReduction.isSubsumed(abstractTestExecution)) {
+                    logger.info("[FILIBUSTER-CORE]: createAndScheduleAbstractTestExecution, not scheduling test execution because the fault was already observed through dynamic reduction.");
+                } else if (exceedsMaxSimultaneousFaults(abstractTestExecution.getFaultsToInjectSize())) {
+                    logger.info("[FILIBUSTER-CORE]: createAndScheduleAbstractTestExecution, not scheduling test execution because it contains > " + filibusterConfiguration.getMaxSimultaneousFaults() + " faults.");
                 } else {
                     logger.info("[FILIBUSTER-CORE]: createAndScheduleAbstractTestExecution, adding new execution to the queue.");
                     unexploredTestExecutions.addTestExecution(abstractTestExecution);
@@ -0,0 +1,173 @@
+package cloud.filibuster.junit.server.core;
+
+import cloud.filibuster.dei.DistributedExecutionIndex;
+import cloud.filibuster.junit.server.core.test_executions.AbstractTestExecution;
+import cloud.filibuster.junit.server.core.test_executions.TestExecution;
+import org.json.JSONObject;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dynamic reduction for the Java implementation of the Filibuster server.
+ *
+ * <p>When a fault injected on a downstream RPC propagates upstream, the caller of the upstream RPC observes a failure
+ * without Filibuster having injected anything there.  Once such a failure has been observed, an abstract test
+ * execution that injects the equivalent fault directly on that RPC only repeats behavior that has already been
+ * exercised in the caller and can be pruned, whichever call path the RPC is reached through.
+ *
+ * <p>Failures are considered equivalent when they are observed on the same RPC, identified by its module, method, and
+ * arguments (see {@link TestExecution#rpcFingerprint(String, String, Object)}), and share the exception name and, if
+ * present, the status code.
+ *
+ * <p>An abstract test execution that injects several faults is pruned only when a single test execution observed all
+ * of them together, at least one without Filibuster injecting it: faults observed in different test executions did
+ * not exercise their combination.  An execution that injects the same fault on the same RPC through several call paths
+ * is never pruned.
+ */
+public class FilibusterDynamicReduction {
+    // Failures observed without being injected, in any test execution.
+    private final Set<String> observedFailures = new HashSet<>();
+
+    // Failures observed together, injected or not, in each completed test execution that observed more than one
+    // failure, at least one of which was not injected.
+    private final List<ObservedFailures> observedFailureCombinations = new ArrayList<>();
+
+    // Failures observed in the current test execution.
+    private ObservedFailures currentObservedFailures = new ObservedFailures();
+
+    private static final class ObservedFailures {
+        private final Set<String> failures = new HashSet<>();
+        private final Set<String> propagatedFailures = new HashSet<>();
+
+        // Were all of these failures observed together, at least one without being injected?
+        private boolean subsume(Set<String> failureKeys) {
+            if (!failures.containsAll(failureKeys)) {
+                return false;
+            }
+
+            for (String failureKey : failureKeys) {
+                if (propagatedFailures.contains(failureKey)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Record the response of an RPC where no fault was injected.
+     *
+     * @param rpcFingerprint the fingerprint of the RPC's request.
+     * @param payload the response payload, as received by endInvocation.
+     */
+    public void recordResponse(String rpcFingerprint, JSONObject payload) {
+        if (payload.has("exception")) {
+            String failureKey = failureKey(rpcFingerprint, payload.getJSONObject("exception"));
+
+            if (failureKey != null) {
+                observedFailures.add(failureKey);
+                currentObservedFailures.failures.add(failureKey);
+                currentObservedFailures.propagatedFailures.add(failureKey);
+            }
+        }
+    }
+
+    /**
+     * Record that a fault was injected on an RPC in the current test execution.
+     *
+     * @param rpcFingerprint the fingerprint of the RPC's request.
+     * @param faultObject the fault that was injected.
+     */
+    public void recordFaultInjected(String rpcFingerprint, JSONObject faultObject) {
+        if (faultObject.has("forced_exception")) {
+            String failureKey = failureKey(rpcFingerprint, faultObject.getJSONObject("forced_exception"));
+
+            if (failureKey != null) {
+                currentObservedFailures.failures.add(failureKey);
+            }
+        }
+    }
+
+    /**
+     * Complete the current test execution: the failures it observed together can subsume later combinations of
+     * faults.
+     */
+    public void completeExecution() {
+        if (currentObservedFailures.failures.size() > 1 && !currentObservedFailures.propagatedFailures.isEmpty()) {
+            observedFailureCombinations.add(currentObservedFailures);
+        }
+
+        currentObservedFailures = new ObservedFailures();
+    }
+
+    /**
+     * Are the faults of this abstract test execution subsumed by failures we have already observed?
+     *
+     * @param abstractTestExecution the abstract test execution.
+     * @return whether the execution can be pruned.
+     */
+    public boolean isSubsumed(AbstractTestExecution abstractTestExecution) {
+        Map<DistributedExecutionIndex, JSONObject> faultsToInject = abstractTestExecution.getFaultsToInject();
+        Map<DistributedExecutionIndex, JSONObject> executedRpcs = abstractTestExecution.getExecutedRpcs();
+        Set<String> failureKeys = new HashSet<>();
+
+        for (Map.Entry<DistributedExecutionIndex, JSONObject> faultToInject : faultsToInject.entrySet()) {
+            JSONObject faultObject = faultToInject.getValue();
+            JSONObject request = executedRpcs.get(faultToInject.getKey());
+
+            if (!faultObject.has("forced_exception") || request == null) {
+                return false;
+            }
+
+            String failureKey = failureKey(TestExecution.rpcFingerprint(request), faultObject.getJSONObject("forced_exception"));
+
+            if (failureKey == null) {
+                return false;
+            }
+
+            failureKeys.add(failureKey);
+        }
+
+        // The same fault on the same RPC through several call paths.
+        if (failureKeys.isEmpty() || failureKeys.size() < faultsToInject.size()) {
+            return false;
+        }
+
+        if (failureKeys.size() == 1) {
+            return observedFailures.contains(failureKeys.iterator().next());
+        }
+
+        if (currentObservedFailures.subsume(failureKeys)) {
+            return true;
+        }
+
+        for (ObservedFailures observedFailureCombination : observedFailureCombinations) {
+            if (observedFailureCombination.subsume(failureKeys)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Nullable
+    private static String failureKey(String rpcFingerprint, JSONObject exceptionObject) {
+        if (!exceptionObject.has("name")) {
+            return null;
+        }
+
+        String code = "";
+
+        if (exceptionObject.has("metadata")) {
+            code = exceptionObject.getJSONObject("metadata").optString("code", "");
+        }
+
+        return rpcFingerprint + "|" + exceptionObject.getString("name") + "|" + code;
+    }
+}
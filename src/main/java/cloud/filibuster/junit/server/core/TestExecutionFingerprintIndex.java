@@ -0,0 +1,27 @@
+package cloud.filibuster.junit.server.core;
+
+import cloud.filibuster.junit.server.core.test_executions.TestExecution;
+
+import java.util.HashMap;
+
+/**
+ * Multiset of fault-set fingerprints for the test executions held by a {@link TestExecutionCollection}.
+ *
+ * <p>Allows {@link TestExecutionCollection#containsAbstractTestExecution(TestExecution)} to be answered with a single
+ * hash lookup instead of comparing against every test execution in the collection.
+ */
+class TestExecutionFingerprintIndex {
+    private final HashMap<String, Integer> fingerprintCounts = new HashMap<>();
+
+    void add(TestExecution testExecution) {
+        fingerprintCounts.merge(testExecution.getFaultsToInjectFingerprint(), 1, Integer::sum);
+    }
+
+    void remove(TestExecution testExecution) {
+        fingerprintCounts.computeIfPresent(testExecution.getFaultsToInjectFingerprint(), (k, v) -> v > 1 ? v - 1 : null);
+    }
+
+    boolean contains(TestExecution testExecution) {
+        return fingerprintCounts.containsKey(testExecution.getFaultsToInjectFingerprint());
+    }
+}
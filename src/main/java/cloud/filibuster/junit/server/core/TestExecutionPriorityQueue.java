@@ -0,0 +1,82 @@
+package cloud.filibuster.junit.server.core;
+
+import cloud.filibuster.junit.configuration.FilibusterConfiguration;
+import cloud.filibuster.junit.scorers.FilibusterTestExecutionScorer;
+import cloud.filibuster.junit.server.core.test_executions.AbstractTestExecution;
+import cloud.filibuster.junit.server.core.test_executions.TestExecution;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+public class TestExecutionPriorityQueue implements TestExecutionCollection<AbstractTestExecution> {
+    private static final class ScoredTestExecution {
+        private final AbstractTestExecution testExecution;
+
+        private final double score;
+
+        private final long sequence;
+
+        private ScoredTestExecution(AbstractTestExecution testExecution, double score, long sequence) {
+            this.testExecution = testExecution;
+            this.score = score;
+            this.sequence = sequence;
+        }
+    }
+
+    // Highest score first; equal scores in the order they were added, so exploration stays deterministic.
+    private final PriorityQueue<ScoredTestExecution> queue = new PriorityQueue<>(
+            Comparator.comparingDouble((ScoredTestExecution s) -> -s.score).thenComparingLong(s -> s.sequence));
+
+    private final TestExecutionFingerprintIndex fingerprintIndex = new TestExecutionFingerprintIndex();
+
+    private final FilibusterTestExecutionScorer scorer;
+
+    private final FilibusterConfiguration filibusterConfiguration;
+
+    private long nextSequence = 0;
+
+    public TestExecutionPriorityQueue(FilibusterTestExecutionScorer scorer, FilibusterConfiguration filibusterConfiguration) {
+        this.scorer = scorer;
+        this.filibusterConfiguration = filibusterConfiguration;
+    }
+
+    @Override
+    public boolean containsAbstractTestExecution(TestExecution te) {
+        return fingerprintIndex.contains(te);
+    }
+
+    @Override
+    public boolean containsTestExecution(AbstractTestExecution testExecution) {
+        for (ScoredTestExecution scoredTestExecution : queue) {
+            if (scoredTestExecution.testExecution.equals(testExecution)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public AbstractTestExecution removeAndReturnNextTestExecution() {
+        AbstractTestExecution testExecution = queue.remove().testExecution;
+        fingerprintIndex.remove(testExecution);
+        return testExecution;
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public void addTestExecution(AbstractTestExecution testExecution) {
+        double score = scorer.score(testExecution, filibusterConfiguration);
+        queue.add(new ScoredTestExecution(testExecution, score, nextSequence++));
+        fingerprintIndex.add(testExecution);
+    }
+}
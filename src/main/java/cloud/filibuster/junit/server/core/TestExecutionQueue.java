@@ -5,15 +5,11 @@ import cloud.filibuster.junit.server.core.test_executions.TestExecution;
 import java.util.concurrent.LinkedBlockingDeque;
 
 public class TestExecutionQueue<T extends TestExecution> extends LinkedBlockingDeque<T> implements TestExecutionCollection<T> {
+    private final TestExecutionFingerprintIndex fingerprintIndex = new TestExecutionFingerprintIndex();
+
     @Override
     public boolean containsAbstractTestExecution(TestExecution te) {
-        for (T t : this) {
-            if (t.matchesAbstractTestExecution(te)) {
-                return true;
-            }
-        }
-
-        return false;
+        return fingerprintIndex.contains(te);
     }
 
     @Override
@@ -23,11 +19,14 @@ public class TestExecutionQueue<T extends TestExecution> extends LinkedBlockingD
 
     @Override
     public T removeAndReturnNextTestExecution() {
-        return this.remove();
+        T testExecution = this.remove();
+        fingerprintIndex.remove(testExecution);
+        return testExecution;
     }
 
     @Override
     public void addTestExecution(T testExecution) {
         this.add(testExecution);
+        fingerprintIndex.add(testExecution);
     }
 }
@@ -0,0 +1,147 @@
+package cloud.filibuster.junit.server.core;
+
+import cloud.filibuster.dei.DistributedExecutionIndex;
+import cloud.filibuster.junit.server.core.test_executions.AbstractTestExecution;
+import cloud.filibuster.junit.server.core.test_executions.TestExecution;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Samples test executions uniformly at random, using a fixed seed so that the order of exploration can be replayed.
+ *
+ * <p>Executions are grouped into strata by the RPC sites they inject faults on and the types of those faults.  Sampling
+ * first picks a stratum uniformly and then an execution within it, so that sites with many possible faults (or that
+ * appear many times in the trace) don't crowd out the rest when the number of iterations is bounded.
+ */
+public class TestExecutionRandomQueue implements TestExecutionCollection<AbstractTestExecution> {
+    private static final class Stratum {
+        private final String key;
+
+        private final ArrayList<AbstractTestExecution> testExecutions = new ArrayList<>();
+
+        // Position of this stratum in the list of non-empty strata.
+        private int index;
+
+        private Stratum(String key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+    }
+
+    // Non-empty strata, in the order they were first seen.
+    private final ArrayList<Stratum> strata = new ArrayList<>();
+
+    private final HashMap<String, Stratum> strataByKey = new HashMap<>();
+
+    private final TestExecutionFingerprintIndex fingerprintIndex = new TestExecutionFingerprintIndex();
+
+    private final Random random;
+
+    private int size = 0;
+
+    public TestExecutionRandomQueue(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public boolean containsAbstractTestExecution(TestExecution te) {
+        return fingerprintIndex.contains(te);
+    }
+
+    @Override
+    public boolean containsTestExecution(AbstractTestExecution testExecution) {
+        for (Stratum stratum : strata) {
+            if (stratum.testExecutions.contains(testExecution)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public AbstractTestExecution removeAndReturnNextTestExecution() {
+        Stratum stratum = strata.get(random.nextInt(strata.size()));
+        AbstractTestExecution testExecution = swapRemove(stratum.testExecutions, random.nextInt(stratum.testExecutions.size()));
+
+        if (stratum.testExecutions.isEmpty()) {
+            swapRemove(strata, stratum.index);
+
+            if (stratum.index < strata.size()) {
+                strata.get(stratum.index).index = stratum.index;
+            }
+
+            strataByKey.remove(stratum.key);
+        }
+
+        fingerprintIndex.remove(testExecution);
+        size--;
+        return testExecution;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void addTestExecution(AbstractTestExecution testExecution) {
+        String key = stratumKey(testExecution);
+        Stratum stratum = strataByKey.get(key);
+
+        if (stratum == null) {
+            stratum = new Stratum(key, strata.size());
+            strata.add(stratum);
+            strataByKey.put(key, stratum);
+        }
+
+        stratum.testExecutions.add(testExecution);
+        fingerprintIndex.add(testExecution);
+        size++;
+    }
+
+    // Remove and return the element at index, moving the last element into its place.
+    private static <T> T swapRemove(ArrayList<T> list, int index) {
+        T last = list.remove(list.size() - 1);
+        return index < list.size() ? list.set(index, last) : last;
+    }
+
+    // The RPC sites and fault types of the faults an execution injects, in a canonical order.
+    static String stratumKey(AbstractTestExecution testExecution) {
+        TreeSet<String> sitesAndFaultTypes = new TreeSet<>();
+
+        for (Map.Entry<DistributedExecutionIndex, JSONObject> fault : testExecution.getFaultsToInject().entrySet()) {
+            sitesAndFaultTypes.add(rpcSite(testExecution, fault.getKey()) + "=" + faultType(fault.getValue()));
+        }
+
+        return String.join(",", sitesAndFaultTypes);
+    }
+
+    private static String rpcSite(AbstractTestExecution testExecution, DistributedExecutionIndex distributedExecutionIndex) {
+        JSONObject payload = testExecution.getExecutedRpcs().get(distributedExecutionIndex);
+
+        if (payload != null && payload.has("module") && payload.has("method")) {
+            return payload.getString("module") + "/" + payload.getString("method");
+        }
+
+        return distributedExecutionIndex.toString();
+    }
+
+    private static String faultType(JSONObject faultObject) {
+        if (faultObject.has("forced_exception")) {
+            return "forced_exception:" + faultObject.getJSONObject("forced_exception").optString("name");
+        }
+
+        return String.join("+", new TreeSet<>(faultObject.keySet()));
+    }
+}
@@ -5,15 +5,11 @@ import cloud.filibuster.junit.server.core.test_executions.TestExecution;
 import java.util.ArrayDeque;
 
 public class TestExecutionStack<T extends TestExecution> extends ArrayDeque<T> implements TestExecutionCollection<T> {
+    private final TestExecutionFingerprintIndex fingerprintIndex = new TestExecutionFingerprintIndex();
+
     @Override
     public boolean containsAbstractTestExecution(TestExecution te) {
-        for (T t : this) {
-            if (t.matchesAbstractTestExecution(te)) {
-                return true;
-            }
-        }
-
-        return false;
+        return fingerprintIndex.contains(te);
     }
 
     @Override
@@ -23,11 +19,14 @@ public class TestExecutionStack<T extends TestExecution> extends ArrayDeque<T> i
 
     @Override
     public T removeAndReturnNextTestExecution() {
-        return this.removeFirst();
+        T testExecution = this.removeFirst();
+        fingerprintIndex.remove(testExecution);
+        return testExecution;
     }
 
     @Override
     public void addTestExecution(T testExecution) {
         this.addFirst(testExecution);
+        fingerprintIndex.add(testExecution);
     }
 }
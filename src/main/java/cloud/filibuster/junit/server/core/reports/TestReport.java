@@ -45,6 +45,12 @@ public class TestReport {
         this.numBypassedExecutions = numBypassedExecutions;
     }
 
+    private long searchSeed = 0;
+
+    public void setSearchSeed(long searchSeed) {
+        this.searchSeed = searchSeed;
+    }
+
     private int iterationsRemaining = 0;
 
     public void setIterationsRemaining(int iterationsRemaining) {
@@ -137,6 +143,7 @@ public class TestReport {
         result.put("reports", materializedReportMetadatas);
         result.put("iterations_remaining", iterationsRemaining);
         result.put("num_bypassed_executions", numBypassedExecutions);
+        result.put("search_seed", searchSeed);
         return result;
     }
 
@@ -10,6 +10,7 @@ import java.util.Map;
 @SuppressWarnings("Varifier")
 public class AbstractTestExecution extends TestExecution {
     // This is a partial execution that gets us to this invocation point where we want to inject a fault.
+    // Its RPCs are a snapshot of the concrete execution's, so they share storage with it rather than being copied.
     @Nullable
     private ConcreteTestExecution sourceConcreteTestExecution;
 
@@ -51,6 +52,15 @@ public class AbstractTestExecution extends TestExecution {
 
     public void addFaultToInject(DistributedExecutionIndex distributedExecutionIndex, JSONObject faultObject) {
         faultsToInject.put(distributedExecutionIndex, faultObject);
+        invalidateFaultsToInjectFingerprint();
+    }
+
+    public Map<DistributedExecutionIndex, JSONObject> getFaultsToInject() {
+        return this.faultsToInject;
+    }
+
+    public Map<DistributedExecutionIndex, JSONObject> getExecutedRpcs() {
+        return this.executedRpcs;
     }
 
     public int getFaultsToInjectSize() {
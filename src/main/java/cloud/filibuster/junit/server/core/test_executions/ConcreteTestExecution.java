@@ -58,8 +58,8 @@ public class ConcreteTestExecution extends TestExecution implements Cloneable {
 
     public AbstractTestExecution toAbstractTestExecution() {
         AbstractTestExecution abstractTestExecution = new AbstractTestExecution(this);
-        abstractTestExecution.executedRpcs.putAll(executedRpcs);
-        abstractTestExecution.nondeterministicExecutedRpcs.putAll(nondeterministicExecutedRpcs);
+        abstractTestExecution.executedRpcs = executedRpcs.snapshot();
+        abstractTestExecution.nondeterministicExecutedRpcs = nondeterministicExecutedRpcs.snapshot();
         abstractTestExecution.faultsToInject.putAll(faultsToInject);
         return abstractTestExecution;
     }
@@ -87,8 +87,8 @@ public class ConcreteTestExecution extends TestExecution implements Cloneable {
                 testExecutionReport.getClassName());
         concreteTestExecution.generatedId = this.generatedId;
         concreteTestExecution.firstRequestSeenByService.putAll(firstRequestSeenByService);
-        concreteTestExecution.executedRpcs.putAll(executedRpcs);
-        concreteTestExecution.nondeterministicExecutedRpcs.putAll(nondeterministicExecutedRpcs);
+        concreteTestExecution.executedRpcs = executedRpcs.snapshot();
+        concreteTestExecution.nondeterministicExecutedRpcs = nondeterministicExecutedRpcs.snapshot();
         concreteTestExecution.faultsToInject.putAll(faultsToInject);
         return concreteTestExecution;
     }
@@ -99,8 +99,12 @@ public class ConcreteTestExecution extends TestExecution implements Cloneable {
     }
 
     public void addDistributedExecutionIndexWithRequestPayload(DistributedExecutionIndex distributedExecutionIndex, JSONObject payload, boolean seen) {
+        addDistributedExecutionIndexWithRequestPayload(distributedExecutionIndex, payload, rpcFingerprint(payload), seen);
+    }
+
+    public void addDistributedExecutionIndexWithRequestPayload(DistributedExecutionIndex distributedExecutionIndex, JSONObject payload, String rpcFingerprint, boolean seen) {
         testExecutionReport.recordInvocation(distributedExecutionIndex, payload);
-        super.addDistributedExecutionIndexWithRequestPayload(distributedExecutionIndex, payload);
+        super.addDistributedExecutionIndexWithRequestPayload(distributedExecutionIndex, payload, rpcFingerprint);
 
         if (seen) {
             testExecutionReport.markRpcAsCached(distributedExecutionIndex);
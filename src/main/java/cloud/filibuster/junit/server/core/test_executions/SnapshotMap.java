@@ -0,0 +1,183 @@
+package cloud.filibuster.junit.server.core.test_executions;
+
+import javax.annotation.Nullable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Insertion-ordered map that supports constant-time snapshots.
+ *
+ * <p>Abstract test executions are cut from the running concrete test execution each time a fault is scheduled.  Rather
+ * than copying every RPC executed up to that point, the abstract test execution keeps a snapshot: a read-only view of
+ * the concrete execution's log, bounded by the number of writes the log had seen when the snapshot was taken.  All
+ * snapshots of one concrete execution therefore share a single copy of its RPCs.
+ *
+ * <p>Writing to a snapshot first copies its visible entries into a new log, so a snapshot never sees later writes to
+ * its parent and never affects it.  Removal is not supported.
+ *
+ * @param <K> key type.
+ * @param <V> value type.
+ */
+final class SnapshotMap<K, V> extends AbstractMap<K, V> {
+    private static final class Version<V> {
+        private final int sequence;
+
+        private final V value;
+
+        @Nullable
+        private final Version<V> previous;
+
+        private Version(int sequence, V value, @Nullable Version<V> previous) {
+            this.sequence = sequence;
+            this.value = value;
+            this.previous = previous;
+        }
+    }
+
+    private static final class Log<K, V> {
+        // Keys, in order of first insertion.
+        private final ArrayList<K> keys = new ArrayList<>();
+
+        // Most recent version of each key; older versions are only retained when a key is overwritten.
+        private final HashMap<K, Version<V>> versions = new HashMap<>();
+
+        // Number of writes to this log.
+        private int sequence = 0;
+    }
+
+    private Log<K, V> log;
+
+    // Only writes with a sequence number lower than this are visible.
+    private int sequenceLimit;
+
+    // Only the first keyLimit keys are visible.
+    private int keyLimit;
+
+    // Whether this map owns the tail of its log and can append to it.
+    private boolean writable;
+
+    SnapshotMap() {
+        this(new Log<>(), Integer.MAX_VALUE, Integer.MAX_VALUE, /* writable= */ true);
+    }
+
+    private SnapshotMap(Log<K, V> log, int sequenceLimit, int keyLimit, boolean writable) {
+        this.log = log;
+        this.sequenceLimit = sequenceLimit;
+        this.keyLimit = keyLimit;
+        this.writable = writable;
+    }
+
+    /**
+     * Return a read-only view of the current contents of this map that shares its storage.
+     *
+     * @return snapshot of this map.
+     */
+    SnapshotMap<K, V> snapshot() {
+        return new SnapshotMap<>(log, Math.min(sequenceLimit, log.sequence), size(), /* writable= */ false);
+    }
+
+    @Nullable
+    private Version<V> visibleVersion(@Nullable Object key) {
+        Version<V> version = log.versions.get(key);
+
+        while (version != null && version.sequence >= sequenceLimit) {
+            version = version.previous;
+        }
+
+        return version;
+    }
+
+    private void copyOnWrite() {
+        Log<K, V> newLog = new Log<>();
+
+        for (int i = 0; i < size(); i++) {
+            K key = log.keys.get(i);
+            Version<V> version = visibleVersion(key);
+
+            if (version != null) {
+                newLog.keys.add(key);
+                newLog.versions.put(key, new Version<>(newLog.sequence++, version.value, null));
+            }
+        }
+
+        log = newLog;
+        sequenceLimit = Integer.MAX_VALUE;
+        keyLimit = Integer.MAX_VALUE;
+        writable = true;
+    }
+
+    @Override
+    public int size() {
+        return Math.min(keyLimit, log.keys.size());
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return visibleVersion(key) != null;
+    }
+
+    @Override
+    @Nullable
+    public V get(Object key) {
+        Version<V> version = visibleVersion(key);
+        return version == null ? null : version.value;
+    }
+
+    @Override
+    @Nullable
+    public V put(K key, V value) {
+        if (!writable) {
+            copyOnWrite();
+        }
+
+        Version<V> previous = log.versions.get(key);
+
+        if (previous == null) {
+            log.keys.add(key);
+        }
+
+        log.versions.put(key, new Version<>(log.sequence++, value, previous));
+
+        return previous == null ? null : previous.value;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                int limit = size();
+
+                return new Iterator<Map.Entry<K, V>>() {
+                    private int index = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < limit;
+                    }
+
+                    @Override
+                    public Map.Entry<K, V> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+
+                        K key = log.keys.get(index++);
+                        return new AbstractMap.SimpleImmutableEntry<>(key, get(key));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return SnapshotMap.this.size();
+            }
+        };
+    }
+}
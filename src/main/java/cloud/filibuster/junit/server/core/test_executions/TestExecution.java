@@ -1,14 +1,18 @@
 package cloud.filibuster.junit.server.core.test_executions;
 
 import cloud.filibuster.dei.DistributedExecutionIndex;
-import com.google.gson.JsonParser;
+import cloud.filibuster.instrumentation.helpers.DigestEngine;
 import com.linecorp.armeria.common.HttpMethod;
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -22,19 +26,56 @@ public abstract class TestExecution {
     int generatedId = 0;
 
     // What RPCs were executed?
-    HashMap<DistributedExecutionIndex, JSONObject> executedRpcs = new HashMap<>();
+    SnapshotMap<DistributedExecutionIndex, JSONObject> executedRpcs = new SnapshotMap<>();
 
     // What RPCs were executed (without their arguments, which may be nondeterministic across executions)?
-    HashMap<DistributedExecutionIndex, JSONObject> nondeterministicExecutedRpcs = new HashMap<>();
+    SnapshotMap<DistributedExecutionIndex, JSONObject> nondeterministicExecutedRpcs = new SnapshotMap<>();
 
     // What faults should be injected in this execution?
     HashMap<DistributedExecutionIndex, JSONObject> faultsToInject = new HashMap<>();
 
     // What RPCs failed?
-    HashMap<DistributedExecutionIndex, JSONObject> failedRpcs = new HashMap<>();
+    SnapshotMap<DistributedExecutionIndex, JSONObject> failedRpcs = new SnapshotMap<>();
 
     HashMap<String, Boolean> firstRequestSeenByService = new HashMap<>();
 
+    // Number of executed RPCs with each fingerprint (see rpcFingerprint), ignoring their distributed execution index,
+    // used to detect redundant RPCs.
+    @Nullable
+    private HashMap<String, Integer> executedRpcFingerprints;
+
+    // Canonical fingerprint of faultsToInject, computed lazily and reset whenever a fault is added.
+    @Nullable
+    private String faultsToInjectFingerprint;
+
+    void invalidateFaultsToInjectFingerprint() {
+        faultsToInjectFingerprint = null;
+    }
+
+    /**
+     * Canonical fingerprint of the faults to inject in this execution.
+     *
+     * <p>Two executions with the same fingerprint match under {@link #matchesAbstractTestExecution(Object)}: keys are the
+     * serialized distributed execution indexes, values are the fault objects rendered with their keys sorted.
+     *
+     * @return fingerprint string.
+     */
+    public String getFaultsToInjectFingerprint() {
+        if (faultsToInjectFingerprint == null) {
+            TreeMap<String, String> canonicalFaultsToInject = new TreeMap<>();
+
+            for (Map.Entry<DistributedExecutionIndex, JSONObject> faultToInject : faultsToInject.entrySet()) {
+                StringBuilder canonicalFaultObject = new StringBuilder();
+                appendCanonicalJson(canonicalFaultObject, faultToInject.getValue());
+                canonicalFaultsToInject.put(faultToInject.getKey().toString(), canonicalFaultObject.toString());
+            }
+
+            faultsToInjectFingerprint = canonicalFaultsToInject.toString();
+        }
+
+        return faultsToInjectFingerprint;
+    }
+
     public boolean hasSeenFirstRequestFromService(String serviceName) {
         return firstRequestSeenByService.containsKey(serviceName);
     }
@@ -79,24 +120,43 @@ public abstract class TestExecution {
     }
 
     public boolean hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex(JSONObject payload) {
-        JSONObject payloadCacheCleaned = cleanPayloadForCacheComparison(payload);
+        return hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex(rpcFingerprint(payload));
+    }
 
-        for (Map.Entry<DistributedExecutionIndex, JSONObject> executedRpc : executedRpcs.entrySet()) {
-            JSONObject seenPayload = executedRpc.getValue();
-            JSONObject seenPayloadCacheCleaned = cleanPayloadForCacheComparison(seenPayload);
+    public boolean hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex(String rpcFingerprint) {
+        return getExecutedRpcFingerprints().containsKey(rpcFingerprint);
+    }
 
-            if (seenPayloadCacheCleaned.similar(payloadCacheCleaned)) {
-                return true;
+    // Built on first use from executedRpcs and kept up to date as RPCs are recorded.
+    private HashMap<String, Integer> getExecutedRpcFingerprints() {
+        if (executedRpcFingerprints == null) {
+            executedRpcFingerprints = new HashMap<>();
+
+            for (JSONObject executedRpc : executedRpcs.values()) {
+                executedRpcFingerprints.merge(rpcFingerprint(executedRpc), 1, Integer::sum);
             }
         }
 
-        return false;
+        return executedRpcFingerprints;
     }
 
     public void addDistributedExecutionIndexWithRequestPayload(DistributedExecutionIndex distributedExecutionIndex, JSONObject payload) {
+        addDistributedExecutionIndexWithRequestPayload(distributedExecutionIndex, payload, rpcFingerprint(payload));
+    }
+
+    // The fingerprint is computed once by the caller, which also uses it to check for redundant RPCs.
+    public void addDistributedExecutionIndexWithRequestPayload(DistributedExecutionIndex distributedExecutionIndex, JSONObject payload, String rpcFingerprint) {
         // Add to the list of executed RPCs.
         JSONObject payloadWithoutInstrumentationType = cleanPayloadOfInstrumentationType(payload);
-        executedRpcs.put(distributedExecutionIndex, payloadWithoutInstrumentationType);
+        JSONObject previousPayload = executedRpcs.put(distributedExecutionIndex, payloadWithoutInstrumentationType);
+
+        if (executedRpcFingerprints != null) {
+            if (previousPayload != null) {
+                executedRpcFingerprints.computeIfPresent(rpcFingerprint(previousPayload), (k, v) -> v > 1 ? v - 1 : null);
+            }
+
+            executedRpcFingerprints.merge(rpcFingerprint, 1, Integer::sum);
+        }
 
         // Add to the list of nondeterministic executed RPCs.
         JSONObject deterministicPayload = cleanPayloadOfArguments(payload);
@@ -217,7 +277,7 @@ public abstract class TestExecution {
         }
 
         // Are the JSON objects similar for each key?
-        return this.faultsToInject.entrySet().stream().allMatch(e -> JsonParser.parseString(e.getValue().toString()).equals(JsonParser.parseString(te.faultsToInject.get(e.getKey()).toString())));
+        return this.getFaultsToInjectFingerprint().equals(te.getFaultsToInjectFingerprint());
     }
 
     @Override
@@ -283,27 +343,83 @@ public abstract class TestExecution {
         return false;
     }
 
-    private static JSONObject cleanPayloadForCacheComparison(JSONObject payload) {
-        JSONObject jsonObject = new JSONObject(payload.toString());
-        jsonObject.remove("execution_index");
-        jsonObject.remove("vclock");
-        jsonObject.remove("instrumentation_type");
-        jsonObject.remove("full_traceback");
-        jsonObject.remove("callsite_file");
-        jsonObject.remove("callsite_line");
+    /**
+     * Fixed-size digest identifying an RPC by its module, method, and arguments, regardless of where it was called
+     * from: two RPCs with the same fingerprint are redundant for fault injection.
+     *
+     * @param moduleName the module (service) invoked.
+     * @param methodName the method invoked.
+     * @param args the arguments, as in the "args" field of the invocation payload, or null.
+     * @return fingerprint.
+     */
+    public static String rpcFingerprint(String moduleName, String methodName, @Nullable Object args) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(JSONObject.quote(moduleName)).append(':').append(JSONObject.quote(methodName)).append(':');
+        appendCanonicalJson(sb, args);
+        return DigestEngine.MURMUR3_128.digest(sb.toString());
+    }
+
+    public static String rpcFingerprint(JSONObject payload) {
+        return rpcFingerprint(payload.optString("module"), payload.optString("method"), payload.opt("args"));
+    }
+
+    private static void appendCanonicalJson(StringBuilder sb, @Nullable Object value) {
+        if (value instanceof JSONObject) {
+            JSONObject jsonObject = (JSONObject) value;
+            sb.append('{');
+
+            boolean first = true;
+            for (String key : new TreeSet<>(jsonObject.keySet())) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                sb.append(JSONObject.quote(key)).append(':');
+                appendCanonicalJson(sb, jsonObject.opt(key));
+            }
+
+            sb.append('}');
+        } else if (value instanceof JSONArray) {
+            JSONArray jsonArray = (JSONArray) value;
+            sb.append('[');
+
+            for (int i = 0; i < jsonArray.length(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                appendCanonicalJson(sb, jsonArray.opt(i));
+            }
+
+            sb.append(']');
+        } else if (value instanceof Map) {
+            appendCanonicalJson(sb, new JSONObject((Map<?, ?>) value));
+        } else if (value instanceof Collection) {
+            appendCanonicalJson(sb, new JSONArray((Collection<?>) value));
+        } else {
+            sb.append(JSONObject.valueToString(value));
+        }
+    }
+
+    // Shallow copy of the payload without the given keys; nested values are shared, as recorded payloads are never
+    // modified.
+    private static JSONObject copyPayloadWithout(JSONObject payload, String keyToRemove) {
+        JSONObject jsonObject = new JSONObject();
+
+        for (String key : payload.keySet()) {
+            if (!key.equals(keyToRemove)) {
+                jsonObject.put(key, payload.get(key));
+            }
+        }
+
         return jsonObject;
     }
 
     private static JSONObject cleanPayloadOfInstrumentationType(JSONObject payload) {
-        JSONObject jsonObject = new JSONObject(payload.toString());
-        jsonObject.remove("instrumentation_type");
-        return jsonObject;
+        return copyPayloadWithout(payload, "instrumentation_type");
     }
 
     private static JSONObject cleanPayloadOfArguments(JSONObject payload) {
-        JSONObject jsonObject = new JSONObject(payload.toString());
-        jsonObject.remove("args");
-        return jsonObject;
+        return copyPayloadWithout(payload, "args");
     }
 
     public static boolean organicallyFailedInSourceConcreteTestExecution(
@@ -0,0 +1,229 @@
+package cloud.filibuster.junit.server.local;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.channel.unix.DomainSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.json.JSONObject;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Serves the JSON RPC hooks of the local Filibuster server over a Unix domain socket.
+ *
+ * <p>Instrumentation running on the same host as the local server can send its per-RPC calls over the socket named by
+ * the domain socket path property instead of loopback TCP.  Only the RPC hooks are served; the JUnit hooks and
+ * configuration endpoints remain on the TCP server.  Requires native epoll, so it is only available on Linux.
+ */
+public final class FilibusterDomainSocketServer {
+    private static final Logger logger = Logger.getLogger(FilibusterDomainSocketServer.class.getName());
+
+    private static final int MAX_CONTENT_LENGTH = 64 * 1024 * 1024;
+
+    private static final String NEW_TEST_EXECUTION_PREFIX = "/filibuster/new-test-execution/";
+
+    private final String path;
+    private final EventLoopGroup bossGroup;
+    private final EventLoopGroup workerGroup;
+    private final ExecutorService blockingTaskExecutor;
+    private final Channel serverChannel;
+
+    private FilibusterDomainSocketServer(String path, EventLoopGroup bossGroup, EventLoopGroup workerGroup, ExecutorService blockingTaskExecutor, Channel serverChannel) {
+        this.path = path;
+        this.bossGroup = bossGroup;
+        this.workerGroup = workerGroup;
+        this.blockingTaskExecutor = blockingTaskExecutor;
+        this.serverChannel = serverChannel;
+    }
+
+    /**
+     * Whether Unix domain sockets can be served on this platform.
+     *
+     * @return whether native epoll is available.
+     */
+    public static boolean isSupported() {
+        return Epoll.isAvailable();
+    }
+
+    /**
+     * Start serving the RPC hooks on a Unix domain socket, replacing any stale socket file at the path.
+     *
+     * @param path the file system path of the socket.
+     * @return the running server.
+     * @throws InterruptedException if interrupted while binding.
+     */
+    public static FilibusterDomainSocketServer serve(String path) throws InterruptedException {
+        File socketFile = new File(path);
+
+        if (socketFile.exists() && !socketFile.delete()) {
+            logger.log(Level.WARNING, "[FILIBUSTER-CORE]: could not remove stale domain socket: " + path);
+        }
+
+        EventLoopGroup bossGroup = new EpollEventLoopGroup(1);
+        EventLoopGroup workerGroup = new EpollEventLoopGroup();
+
+        // Invocations can sleep to inject latency, so don't run them on the event loop.
+        ExecutorService blockingTaskExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "filibuster-domain-socket-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        ServerBootstrap serverBootstrap = new ServerBootstrap()
+                .group(bossGroup, workerGroup)
+                .channel(EpollServerDomainSocketChannel.class)
+                .childHandler(new ChannelInitializer<DomainSocketChannel>() {
+                    @Override
+                    protected void initChannel(DomainSocketChannel channel) {
+                        channel.pipeline()
+                                .addLast(new HttpServerCodec())
+                                .addLast(new HttpObjectAggregator(MAX_CONTENT_LENGTH))
+                                .addLast(new RpcHooksHandler(blockingTaskExecutor));
+                    }
+                });
+
+        Channel serverChannel = serverBootstrap.bind(new DomainSocketAddress(path)).sync().channel();
+        logger.log(Level.INFO, "[FILIBUSTER-CORE]: serving RPC hooks on domain socket: " + path);
+
+        return new FilibusterDomainSocketServer(path, bossGroup, workerGroup, blockingTaskExecutor, serverChannel);
+    }
+
+    /**
+     * Stop serving and remove the socket file.
+     */
+    public void stop() {
+        serverChannel.close().syncUninterruptibly();
+        bossGroup.shutdownGracefully();
+        workerGroup.shutdownGracefully();
+        blockingTaskExecutor.shutdown();
+
+        File socketFile = new File(path);
+
+        if (socketFile.exists() && !socketFile.delete()) {
+            logger.log(Level.WARNING, "[FILIBUSTER-CORE]: could not remove domain socket: " + path);
+        }
+    }
+
+    private static final class RpcHooksHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+        private final ExecutorService blockingTaskExecutor;
+
+        private RpcHooksHandler(ExecutorService blockingTaskExecutor) {
+            this.blockingTaskExecutor = blockingTaskExecutor;
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+            // The request is released when this method returns; copy out what the hooks need.
+            HttpMethod method = request.method();
+            String path = new QueryStringDecoder(request.uri()).path();
+            String isUpdate = request.headers().get("X-Filibuster-Is-Update");
+            String content = request.content().toString(StandardCharsets.UTF_8);
+            boolean keepAlive = HttpUtil.isKeepAlive(request);
+
+            blockingTaskExecutor.execute(() -> {
+                FullHttpResponse response;
+
+                try {
+                    JSONObject responseObject = dispatch(method, path, isUpdate, content);
+
+                    if (responseObject == null) {
+                        response = createResponse(HttpResponseStatus.NOT_FOUND, Unpooled.EMPTY_BUFFER);
+                    } else {
+                        response = createResponse(HttpResponseStatus.OK, Unpooled.copiedBuffer(responseObject.toString(), StandardCharsets.UTF_8));
+                    }
+                } catch (RuntimeException e) {
+                    logger.log(Level.SEVERE, "[FILIBUSTER-CORE]: domain socket request failed: " + path, e);
+                    response = createResponse(HttpResponseStatus.INTERNAL_SERVER_ERROR, Unpooled.EMPTY_BUFFER);
+                }
+
+                if (keepAlive) {
+                    HttpUtil.setKeepAlive(response, true);
+                    ctx.writeAndFlush(response);
+                } else {
+                    ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+                }
+            });
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            logger.log(Level.SEVERE, "[FILIBUSTER-CORE]: domain socket connection failed: " + cause);
+            ctx.close();
+        }
+    }
+
+    @Nullable
+    private static JSONObject dispatch(HttpMethod method, String path, @Nullable String isUpdate, String content) {
+        if (HttpMethod.PUT.equals(method)) {
+            switch (path) {
+                case "/filibuster/create":
+                    return FilibusterRpcHooks.create(content);
+                case "/filibuster/begin":
+                    return FilibusterRpcHooks.begin(content);
+                default:
+                    return null;
+            }
+        }
+
+        if (HttpMethod.POST.equals(method)) {
+            switch (path) {
+                case "/filibuster/update":
+                    return FilibusterRpcHooks.update(content, Boolean.parseBoolean(isUpdate));
+                case "/filibuster/create-batch":
+                    return FilibusterRpcHooks.createBatch(content);
+                case "/filibuster/update-batch":
+                    return FilibusterRpcHooks.updateBatch(content);
+                default:
+                    return null;
+            }
+        }
+
+        if (HttpMethod.GET.equals(method)) {
+            if (path.equals("/filibuster/fault-plan")) {
+                return FilibusterRpcHooks.faultPlan();
+            }
+
+            if (path.startsWith(NEW_TEST_EXECUTION_PREFIX) && path.length() > NEW_TEST_EXECUTION_PREFIX.length()) {
+                String serviceName = QueryStringDecoder.decodeComponent(path.substring(NEW_TEST_EXECUTION_PREFIX.length()));
+                return FilibusterRpcHooks.newTestExecution(serviceName);
+            }
+        }
+
+        return null;
+    }
+
+    private static FullHttpResponse createResponse(HttpResponseStatus status, ByteBuf content) {
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status, content);
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
+        response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, content.readableBytes());
+        return response;
+    }
+}
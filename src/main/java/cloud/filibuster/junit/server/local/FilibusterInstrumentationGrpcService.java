@@ -0,0 +1,146 @@
+package cloud.filibuster.junit.server.local;
+
+import cloud.filibuster.instrumentation.helpers.ProtocolMessages;
+import cloud.filibuster.instrumentation.protocol.FilibusterInstrumentationServiceGrpc;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.BeginInvocationBatchReply;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.BeginInvocationBatchRequest;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.BeginInvocationReply;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.BeginInvocationRequest;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.EndInvocationBatchReply;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.EndInvocationBatchRequest;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.EndInvocationReply;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.EndInvocationRequest;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.IterationControlReply;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.IterationControlRequest;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.NewTestExecutionReply;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.NewTestExecutionRequest;
+import cloud.filibuster.junit.server.core.FilibusterCore;
+import io.grpc.stub.StreamObserver;
+import org.json.JSONObject;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Binary (gRPC) counterpart of the RPC hooks served by {@link FilibusterServer}.
+ */
+public class FilibusterInstrumentationGrpcService extends FilibusterInstrumentationServiceGrpc.FilibusterInstrumentationServiceImplBase {
+    private static final Logger logger = Logger.getLogger(FilibusterInstrumentationGrpcService.class.getName());
+
+    @Override
+    public void newTestExecution(NewTestExecutionRequest request, StreamObserver<NewTestExecutionReply> responseObserver) {
+        boolean newTestExecution = FilibusterCore.getCurrentInstance().isNewTestExecution(request.getServiceName());
+        NewTestExecutionReply.Builder builder = NewTestExecutionReply.newBuilder().setNewTestExecution(newTestExecution);
+
+        if (newTestExecution) {
+            builder.setFaultPlan(ProtocolMessages.toStruct(FilibusterCore.getCurrentInstance().getFaultPlan()));
+        }
+
+        responseObserver.onNext(builder.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void beginInvocation(BeginInvocationRequest request, StreamObserver<BeginInvocationReply> responseObserver) {
+        JSONObject payload = ProtocolMessages.fromBeginInvocationRequest(request);
+        JSONObject response = FilibusterCore.getCurrentInstance().beginInvocation(payload);
+        responseObserver.onNext(ProtocolMessages.toBeginInvocationReply(response));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void begin(BeginInvocationRequest request, StreamObserver<BeginInvocationReply> responseObserver) {
+        JSONObject payload = ProtocolMessages.fromBeginInvocationRequest(request);
+        payload.put("clocks_may_be_stale", request.getClocksMayBeStale());
+        JSONObject response = FilibusterCore.getCurrentInstance().beginInvocationAndCheckForNewTestExecution(payload);
+        responseObserver.onNext(ProtocolMessages.toBeginInvocationReply(response));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void endInvocation(EndInvocationRequest request, StreamObserver<EndInvocationReply> responseObserver) {
+        JSONObject payload = ProtocolMessages.fromEndInvocationRequest(request);
+        JSONObject response = FilibusterCore.getCurrentInstance().endInvocation(payload, request.getIsUpdate());
+        responseObserver.onNext(ProtocolMessages.toEndInvocationReply(response));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void beginInvocations(BeginInvocationBatchRequest request, StreamObserver<BeginInvocationBatchReply> responseObserver) {
+        for (BeginInvocationRequest beginInvocationRequest : request.getInvocationsList()) {
+            JSONObject payload = ProtocolMessages.fromBeginInvocationRequest(beginInvocationRequest);
+            FilibusterCore.getCurrentInstance().beginInvocation(payload);
+        }
+
+        responseObserver.onNext(BeginInvocationBatchReply.newBuilder().setCount(request.getInvocationsCount()).build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void endInvocations(EndInvocationBatchRequest request, StreamObserver<EndInvocationBatchReply> responseObserver) {
+        for (EndInvocationRequest endInvocationRequest : request.getInvocationsList()) {
+            JSONObject payload = ProtocolMessages.fromEndInvocationRequest(endInvocationRequest);
+            FilibusterCore.getCurrentInstance().endInvocation(payload, endInvocationRequest.getIsUpdate());
+        }
+
+        responseObserver.onNext(EndInvocationBatchReply.newBuilder().setCount(request.getInvocationsCount()).build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<IterationControlRequest> iterationControl(StreamObserver<IterationControlReply> responseObserver) {
+        // Messages of a call are handled one at a time, in order, on the blocking task executor.
+        return new StreamObserver<IterationControlRequest>() {
+            @Override
+            public void onNext(IterationControlRequest request) {
+                responseObserver.onNext(handleIterationControlRequest(request));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                logger.log(Level.INFO, "[FILIBUSTER-CORE]: iteration control stream closed by the client: " + t);
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    private static IterationControlReply handleIterationControlRequest(IterationControlRequest request) {
+        IterationControlReply.Builder builder = IterationControlReply.newBuilder().setRequestId(request.getRequestId());
+        int currentIteration = request.getCurrentIteration();
+
+        try {
+            FilibusterCore filibusterCore = FilibusterCore.getCurrentInstance();
+
+            switch (request.getKind()) {
+                case HAS_NEXT_ITERATION:
+                    builder.setIteration(currentIteration);
+                    builder.setHasNextIteration(filibusterCore.hasNextIteration(currentIteration, request.getCaller()));
+                    break;
+                case COMPLETE_ITERATION:
+                    filibusterCore.completeIteration(currentIteration, request.getExceptionOccurred() ? 1 : 0, /* throwable= */ null);
+                    builder.setIteration(currentIteration);
+                    builder.setHasNextIteration(filibusterCore.hasNextIteration(currentIteration));
+                    break;
+                case TEARDOWNS_COMPLETED:
+                    filibusterCore.teardownsCompleted(currentIteration);
+
+                    // Push the readiness of the next iteration along with the acknowledgement.
+                    builder.setIteration(currentIteration + 1);
+                    builder.setHasNextIteration(filibusterCore.hasNextIteration(currentIteration + 1));
+                    break;
+                default:
+                    builder.setError("unknown iteration control request: " + request.getKind());
+                    break;
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "[FILIBUSTER-CORE]: iteration control request failed: " + e);
+            builder.setError(e.toString());
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,71 @@
+package cloud.filibuster.junit.server.local;
+
+import cloud.filibuster.junit.server.core.FilibusterCore;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * JSON RPC hooks of the local Filibuster server, shared by every transport that serves them.
+ */
+final class FilibusterRpcHooks {
+    private FilibusterRpcHooks() {
+
+    }
+
+    static JSONObject create(String content) {
+        JSONObject payload = new JSONObject(content);
+        return FilibusterCore.getCurrentInstance().beginInvocation(payload);
+    }
+
+    static JSONObject begin(String content) {
+        JSONObject payload = new JSONObject(content);
+        return FilibusterCore.getCurrentInstance().beginInvocationAndCheckForNewTestExecution(payload);
+    }
+
+    static JSONObject update(String content, boolean isUpdate) {
+        JSONObject payload = new JSONObject(content);
+        return FilibusterCore.getCurrentInstance().endInvocation(payload, isUpdate);
+    }
+
+    static JSONObject createBatch(String content) {
+        JSONArray payloads = new JSONArray(content);
+
+        for (int i = 0; i < payloads.length(); i++) {
+            FilibusterCore.getCurrentInstance().beginInvocation(payloads.getJSONObject(i));
+        }
+
+        JSONObject response = new JSONObject();
+        response.put("count", payloads.length());
+        return response;
+    }
+
+    static JSONObject updateBatch(String content) {
+        JSONArray payloads = new JSONArray(content);
+
+        for (int i = 0; i < payloads.length(); i++) {
+            FilibusterCore.getCurrentInstance().endInvocation(payloads.getJSONObject(i), /* isUpdate= */ false);
+        }
+
+        JSONObject response = new JSONObject();
+        response.put("count", payloads.length());
+        return response;
+    }
+
+    static JSONObject newTestExecution(String serviceName) {
+        boolean newTestExecution = FilibusterCore.getCurrentInstance().isNewTestExecution(serviceName);
+
+        JSONObject response = new JSONObject();
+        response.put("new-test-execution", newTestExecution);
+
+        // Instrumentation that prefetches fault plans installs the plan of each new test execution.
+        if (newTestExecution) {
+            response.put("fault-plan", FilibusterCore.getCurrentInstance().getFaultPlan());
+        }
+
+        return response;
+    }
+
+    static JSONObject faultPlan() {
+        return FilibusterCore.getCurrentInstance().getFaultPlan();
+    }
+}
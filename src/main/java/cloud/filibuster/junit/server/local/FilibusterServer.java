@@ -17,6 +17,7 @@ import com.linecorp.armeria.server.annotation.Param;
 import com.linecorp.armeria.server.annotation.Post;
 import com.linecorp.armeria.server.annotation.ProducesJson;
 import com.linecorp.armeria.server.annotation.Put;
+import com.linecorp.armeria.server.grpc.GrpcService;
 import org.jetbrains.annotations.NotNull;
 import org.json.JSONObject;
 
@@ -33,21 +34,44 @@ public class FilibusterServer {
             @ProducesJson
             @ConsumesJson
             public HttpResponse create(AggregatedHttpRequest request) {
-                JSONObject payload = new JSONObject(request.contentUtf8());
-                JSONObject response = FilibusterCore.getCurrentInstance().beginInvocation(payload);
-                return HttpResponse.of(response.toString());
+                return HttpResponse.of(FilibusterRpcHooks.create(request.contentUtf8()).toString());
             }
         });
 
 
+        sb.annotatedService(new Object() {
+            @Put("/filibuster/begin")
+            @ProducesJson
+            @ConsumesJson
+            public HttpResponse begin(AggregatedHttpRequest request) {
+                return HttpResponse.of(FilibusterRpcHooks.begin(request.contentUtf8()).toString());
+            }
+        });
+
         sb.annotatedService(new Object() {
             @Post("/filibuster/update")
             @ProducesJson
             @ConsumesJson
             public HttpResponse update(@Header("X-Filibuster-Is-Update") boolean isUpdate, AggregatedHttpRequest request) {
-                JSONObject payload = new JSONObject(request.contentUtf8());
-                JSONObject response = FilibusterCore.getCurrentInstance().endInvocation(payload, isUpdate);
-                return HttpResponse.of(response.toString());
+                return HttpResponse.of(FilibusterRpcHooks.update(request.contentUtf8(), isUpdate).toString());
+            }
+        });
+
+        sb.annotatedService(new Object() {
+            @Post("/filibuster/create-batch")
+            @ProducesJson
+            @ConsumesJson
+            public HttpResponse createBatch(AggregatedHttpRequest request) {
+                return HttpResponse.of(FilibusterRpcHooks.createBatch(request.contentUtf8()).toString());
+            }
+        });
+
+        sb.annotatedService(new Object() {
+            @Post("/filibuster/update-batch")
+            @ProducesJson
+            @ConsumesJson
+            public HttpResponse updateBatch(AggregatedHttpRequest request) {
+                return HttpResponse.of(FilibusterRpcHooks.updateBatch(request.contentUtf8()).toString());
             }
         });
 
@@ -56,12 +80,26 @@ public class FilibusterServer {
             @ProducesJson
             @ConsumesJson
             public HttpResponse newTestExecution(@Param("service_name") String serviceName) {
-                JSONObject response = new JSONObject();
-                response.put("new-test-execution", FilibusterCore.getCurrentInstance().isNewTestExecution(serviceName));
-                return HttpResponse.of(response.toString());
+                return HttpResponse.of(FilibusterRpcHooks.newTestExecution(serviceName).toString());
+            }
+        });
+
+        sb.annotatedService(new Object() {
+            @Get("/filibuster/fault-plan")
+            @ProducesJson
+            @ConsumesJson
+            public HttpResponse faultPlan() {
+                return HttpResponse.of(FilibusterRpcHooks.faultPlan().toString());
             }
         });
 
+        // Binary versions of the RPC hooks; invocations can sleep to inject latency, so don't run them on the event loop.
+
+        sb.service(GrpcService.builder()
+                .addService(new FilibusterInstrumentationGrpcService())
+                .useBlockingTaskExecutor(true)
+                .build());
+
         // Configuration.
 
         sb.annotatedService(new Object() {
@@ -0,0 +1,36 @@
+package cloud.filibuster.functional.java.properties;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static cloud.filibuster.instrumentation.helpers.Property.getRandomSeedProperty;
+import static cloud.filibuster.instrumentation.helpers.Property.getTestSearchSeedProperty;
+import static cloud.filibuster.instrumentation.helpers.Property.setTestSearchSeedProperty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SearchSeedJUnitTest {
+    private static long originalSeed;
+
+    @BeforeAll
+    public static void beforeAll() {
+        originalSeed = getTestSearchSeedProperty();
+    }
+
+    @Test
+    public void testSearchSeedIsIndependentOfRandomSeed() {
+        int randomSeed = getRandomSeedProperty();
+
+        // Larger than an int.
+        long searchSeed = 1L << 40;
+        setTestSearchSeedProperty(searchSeed);
+
+        assertEquals(searchSeed, getTestSearchSeedProperty());
+        assertEquals(randomSeed, getRandomSeedProperty());
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        setTestSearchSeedProperty(originalSeed);
+    }
+}
@@ -0,0 +1,136 @@
+package cloud.filibuster.functional.java.server_communication;
+
+import cloud.filibuster.dei.DistributedExecutionIndex;
+import cloud.filibuster.examples.Hello;
+import cloud.filibuster.examples.HelloServiceGrpc;
+import cloud.filibuster.examples.WorldServiceGrpc;
+import cloud.filibuster.functional.java.JUnitAnnotationBaseTest;
+import cloud.filibuster.instrumentation.datatypes.PendingInvocationCompletions;
+import cloud.filibuster.instrumentation.helpers.Networking;
+import cloud.filibuster.junit.TestWithFilibuster;
+import cloud.filibuster.junit.server.core.FilibusterCore;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static cloud.filibuster.instrumentation.helpers.Property.SERVER_BACKEND_LOCAL_INVOKE_DIRECTLY_DEFAULT;
+import static cloud.filibuster.instrumentation.helpers.Property.setInstrumentationFaultPlanPrefetchEnabledProperty;
+import static cloud.filibuster.instrumentation.helpers.Property.setServerBackendLocalInvokeDirectlyProperty;
+import static cloud.filibuster.junit.assertions.protocols.GenericAssertions.wasFaultInjected;
+import static cloud.filibuster.junit.assertions.protocols.GrpcAssertions.wasFaultInjectedOnMethod;
+import static cloud.filibuster.junit.assertions.protocols.GrpcAssertions.wasFaultInjectedOnService;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test that faults decided from a prefetched fault plan are visible to the assertions while the test is running.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class FaultPlanPrefetchTest extends JUnitAnnotationBaseTest {
+
+    @BeforeAll
+    public static void setFaultPlanPrefetchProperty() {
+        // Talk to the local server over its API, as a service in another process would.
+        setServerBackendLocalInvokeDirectlyProperty(false);
+        setInstrumentationFaultPlanPrefetchEnabledProperty(true);
+    }
+
+    @AfterAll
+    public static void resetFaultPlanPrefetchProperty() {
+        setInstrumentationFaultPlanPrefetchEnabledProperty(false);
+        setServerBackendLocalInvokeDirectlyProperty(SERVER_BACKEND_LOCAL_INVOKE_DIRECTLY_DEFAULT);
+    }
+
+    private final static Set<String> testExceptionsThrown = new HashSet<>();
+
+    private static int numberOfTestsExecuted = 0;
+
+    private static int numberOfExceptionsThrown = 0;
+
+    private static final List<String> allowedExceptionMessages = new ArrayList<>();
+
+    static {
+        allowedExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: DEADLINE_EXCEEDED");
+        allowedExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: UNAVAILABLE");
+        allowedExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: UNIMPLEMENTED");
+        allowedExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: INTERNAL");
+        allowedExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: UNKNOWN");
+    }
+
+    @DisplayName("Test partial hello server grpc route with prefetched fault plans. (MyHelloService, MyWorldService)")
+    @TestWithFilibuster(maxIterations=10, failIfFaultNotInjected=true)
+    @Order(1)
+    public void testMyHelloAndMyWorldServiceWithFilibuster() throws InterruptedException {
+        ManagedChannel helloChannel = ManagedChannelBuilder
+                .forAddress(Networking.getHost("hello"), Networking.getPort("hello"))
+                .usePlaintext()
+                .build();
+
+        numberOfTestsExecuted++;
+
+        HelloServiceGrpc.HelloServiceBlockingStub blockingStub = HelloServiceGrpc.newBlockingStub(helloChannel);
+        Hello.HelloRequest request = Hello.HelloRequest.newBuilder().setName("Armerian").build();
+
+        try {
+            Hello.HelloReply reply = blockingStub.partialHello(request);
+            assertEquals("Hello, Armerian World!!", reply.getMessage());
+            assertFalse(wasFaultInjected());
+        } catch (Throwable t) {
+            numberOfExceptionsThrown++;
+            testExceptionsThrown.add(t.getMessage());
+
+            assertTrue(allowedExceptionMessages.contains(t.getMessage()), "Unexpected exception: " + t.getMessage());
+
+            // The begin of the faulted invocation may still be on its way to the server here.
+            assertTrue(wasFaultInjected());
+            assertTrue(wasFaultInjectedOnService("WorldService"));
+            assertTrue(wasFaultInjectedOnMethod(WorldServiceGrpc.getWorldMethod()));
+
+            // The server records the fault only once the completion of the faulted invocation has arrived.
+            PendingInvocationCompletions.await();
+            Map<DistributedExecutionIndex, JSONObject> failedRpcs = FilibusterCore.getCurrentInstance().failedRpcs();
+            assertNotNull(failedRpcs);
+            assertEquals(1, failedRpcs.size());
+        }
+
+        helloChannel.shutdownNow();
+        helloChannel.awaitTermination(1000, TimeUnit.SECONDS);
+    }
+
+    @DisplayName("Verify correct exceptions thrown.")
+    @Test
+    @Order(2)
+    public void testNumAssertions() {
+        assertEquals(5, testExceptionsThrown.size());
+    }
+
+    @DisplayName("Verify correct number of executed tests.")
+    @Test
+    @Order(3)
+    public void testNumberOfTestsExecuted() {
+        assertEquals(6, numberOfTestsExecuted);
+    }
+
+    @DisplayName("Verify correct number of exceptions thrown.")
+    @Test
+    @Order(4)
+    public void numberOfExceptionsThrown() {
+        assertEquals(5, numberOfExceptionsThrown);
+    }
+}
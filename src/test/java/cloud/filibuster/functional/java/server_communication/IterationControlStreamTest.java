@@ -0,0 +1,125 @@
+package cloud.filibuster.functional.java.server_communication;
+
+import cloud.filibuster.examples.Hello;
+import cloud.filibuster.examples.HelloServiceGrpc;
+import cloud.filibuster.examples.WorldServiceGrpc;
+import cloud.filibuster.functional.java.JUnitAnnotationBaseTest;
+import cloud.filibuster.instrumentation.helpers.Networking;
+import cloud.filibuster.junit.TestWithFilibuster;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static cloud.filibuster.instrumentation.helpers.Property.SERVER_BACKEND_LOCAL_INVOKE_DIRECTLY_DEFAULT;
+import static cloud.filibuster.instrumentation.helpers.Property.SERVER_ITERATION_CONTROL_STREAM_ENABLED_DEFAULT;
+import static cloud.filibuster.instrumentation.helpers.Property.setServerBackendLocalInvokeDirectlyProperty;
+import static cloud.filibuster.instrumentation.helpers.Property.setServerIterationControlStreamEnabledProperty;
+import static cloud.filibuster.junit.assertions.protocols.GenericAssertions.wasFaultInjected;
+import static cloud.filibuster.junit.assertions.protocols.GrpcAssertions.wasFaultInjectedOnMethod;
+import static cloud.filibuster.junit.assertions.protocols.GrpcAssertions.wasFaultInjectedOnService;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test that driving the iterations over the iteration control stream runs the same iterations, with the same faults,
+ * as over HTTP.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class IterationControlStreamTest extends JUnitAnnotationBaseTest {
+
+    @BeforeAll
+    public static void setIterationControlStreamProperty() {
+        // The iteration hooks only use the stream when they cannot call the local server directly.
+        setServerBackendLocalInvokeDirectlyProperty(false);
+        setServerIterationControlStreamEnabledProperty(true);
+    }
+
+    @AfterAll
+    public static void resetIterationControlStreamProperty() {
+        setServerIterationControlStreamEnabledProperty(SERVER_ITERATION_CONTROL_STREAM_ENABLED_DEFAULT);
+        setServerBackendLocalInvokeDirectlyProperty(SERVER_BACKEND_LOCAL_INVOKE_DIRECTLY_DEFAULT);
+    }
+
+    private final static Set<String> testExceptionsThrown = new HashSet<>();
+
+    private static int numberOfTestsExecuted = 0;
+
+    private static int numberOfExceptionsThrown = 0;
+
+    private static final List<String> allowedExceptionMessages = new ArrayList<>();
+
+    static {
+        allowedExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: DEADLINE_EXCEEDED");
+        allowedExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: UNAVAILABLE");
+        allowedExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: UNIMPLEMENTED");
+        allowedExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: INTERNAL");
+        allowedExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: UNKNOWN");
+    }
+
+    @DisplayName("Test partial hello server grpc route over the iteration control stream. (MyHelloService, MyWorldService)")
+    @TestWithFilibuster(maxIterations=10)
+    @Order(1)
+    public void testMyHelloAndMyWorldServiceWithFilibuster() throws InterruptedException {
+        ManagedChannel helloChannel = ManagedChannelBuilder
+                .forAddress(Networking.getHost("hello"), Networking.getPort("hello"))
+                .usePlaintext()
+                .build();
+
+        numberOfTestsExecuted++;
+
+        HelloServiceGrpc.HelloServiceBlockingStub blockingStub = HelloServiceGrpc.newBlockingStub(helloChannel);
+        Hello.HelloRequest request = Hello.HelloRequest.newBuilder().setName("Armerian").build();
+
+        try {
+            Hello.HelloReply reply = blockingStub.partialHello(request);
+            assertEquals("Hello, Armerian World!!", reply.getMessage());
+            assertFalse(wasFaultInjected());
+        } catch (Throwable t) {
+            numberOfExceptionsThrown++;
+            testExceptionsThrown.add(t.getMessage());
+
+            assertTrue(allowedExceptionMessages.contains(t.getMessage()), "Unexpected exception: " + t.getMessage());
+
+            assertTrue(wasFaultInjected());
+            assertTrue(wasFaultInjectedOnService("WorldService"));
+            assertTrue(wasFaultInjectedOnMethod(WorldServiceGrpc.getWorldMethod()));
+        }
+
+        helloChannel.shutdownNow();
+        helloChannel.awaitTermination(1000, TimeUnit.SECONDS);
+    }
+
+    @DisplayName("Verify correct exceptions thrown.")
+    @Test
+    @Order(2)
+    public void testNumAssertions() {
+        assertEquals(5, testExceptionsThrown.size());
+    }
+
+    @DisplayName("Verify correct number of executed tests.")
+    @Test
+    @Order(3)
+    public void testNumberOfTestsExecuted() {
+        assertEquals(6, numberOfTestsExecuted);
+    }
+
+    @DisplayName("Verify correct number of exceptions thrown.")
+    @Test
+    @Order(4)
+    public void numberOfExceptionsThrown() {
+        assertEquals(5, numberOfExceptionsThrown);
+    }
+}
@@ -0,0 +1,135 @@
+package cloud.filibuster.functional.java.server_communication;
+
+import cloud.filibuster.examples.Hello;
+import cloud.filibuster.examples.HelloServiceGrpc;
+import cloud.filibuster.examples.WorldServiceGrpc;
+import cloud.filibuster.functional.java.JUnitAnnotationBaseTest;
+import cloud.filibuster.instrumentation.helpers.Networking;
+import cloud.filibuster.junit.TestWithFilibuster;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static cloud.filibuster.instrumentation.helpers.Property.SERVER_BACKEND_LOCAL_INVOKE_DIRECTLY_DEFAULT;
+import static cloud.filibuster.instrumentation.helpers.Property.setInstrumentationServerCommunicationGrpcEnabledProperty;
+import static cloud.filibuster.instrumentation.helpers.Property.setInstrumentationServerCommunicationSingleRoundTripEnabledProperty;
+import static cloud.filibuster.instrumentation.helpers.Property.setServerBackendLocalInvokeDirectlyProperty;
+import static cloud.filibuster.junit.assertions.protocols.GenericAssertions.wasFaultInjected;
+import static cloud.filibuster.junit.assertions.protocols.GrpcAssertions.wasFaultInjectedOnMethod;
+import static cloud.filibuster.junit.assertions.protocols.GrpcAssertions.wasFaultInjectedOnService;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test that beginning invocations in a single round trip over gRPC finds the same faults, in the same number of
+ * iterations, as {@link cloud.filibuster.functional.java.hello.multiple.JUnitFilibusterHelloPartialHelloExternalHttpTest}.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class SingleRoundTripGrpcTest extends JUnitAnnotationBaseTest {
+
+    @BeforeAll
+    public static void setSingleRoundTripProperty() {
+        // Talk to the local server over its API, as a service in another process would.
+        setServerBackendLocalInvokeDirectlyProperty(false);
+        setInstrumentationServerCommunicationGrpcEnabledProperty(true);
+        setInstrumentationServerCommunicationSingleRoundTripEnabledProperty(true);
+    }
+
+    @AfterAll
+    public static void resetSingleRoundTripProperty() {
+        setInstrumentationServerCommunicationSingleRoundTripEnabledProperty(false);
+        setInstrumentationServerCommunicationGrpcEnabledProperty(false);
+        setServerBackendLocalInvokeDirectlyProperty(SERVER_BACKEND_LOCAL_INVOKE_DIRECTLY_DEFAULT);
+    }
+
+    private final static Set<String> testExceptionsThrown = new HashSet<>();
+
+    private static int numberOfTestsExecuted = 0;
+
+    private static int numberOfExceptionsThrown = 0;
+
+    private static final List<String> worldExceptionMessages = new ArrayList<>();
+
+    private static final List<String> externalExceptionMessages = new ArrayList<>();
+
+    static {
+        worldExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: DEADLINE_EXCEEDED");
+        worldExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: UNAVAILABLE");
+        worldExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: UNIMPLEMENTED");
+        worldExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: INTERNAL");
+
+        // Raised both for faults on the world service and for exceptions injected on the external HTTP call.
+        externalExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: UNKNOWN");
+        externalExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: FAILED_PRECONDITION: HTTP RPC returned: 500");
+        externalExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: FAILED_PRECONDITION: HTTP RPC returned: 502");
+        externalExceptionMessages.add("DATA_LOSS: io.grpc.StatusRuntimeException: FAILED_PRECONDITION: HTTP RPC returned: 503");
+    }
+
+    @DisplayName("Test partial hello server external http route with single round trip. (MyHelloService, MyWorldService)")
+    @TestWithFilibuster(maxIterations=20)
+    @Order(1)
+    public void testMyHelloAndMyWorldServiceWithFilibuster() throws InterruptedException {
+        ManagedChannel helloChannel = ManagedChannelBuilder
+                .forAddress(Networking.getHost("hello"), Networking.getPort("hello"))
+                .usePlaintext()
+                .build();
+
+        numberOfTestsExecuted++;
+
+        HelloServiceGrpc.HelloServiceBlockingStub blockingStub = HelloServiceGrpc.newBlockingStub(helloChannel);
+        Hello.HelloRequest request = Hello.HelloRequest.newBuilder().setName("Armerian").build();
+
+        try {
+            Hello.HelloReply reply = blockingStub.partialHelloExternalHttp(request);
+            assertEquals("Hello, Armerian World!!", reply.getMessage());
+        } catch (Throwable t) {
+            numberOfExceptionsThrown++;
+            testExceptionsThrown.add(t.getMessage());
+
+            assertTrue(wasFaultInjected());
+
+            if (worldExceptionMessages.contains(t.getMessage())) {
+                assertTrue(wasFaultInjectedOnService("WorldService"));
+                assertTrue(wasFaultInjectedOnMethod(WorldServiceGrpc.getWorldMethod()));
+            } else {
+                assertTrue(externalExceptionMessages.contains(t.getMessage()), "Unexpected exception: " + t.getMessage());
+            }
+        }
+
+        helloChannel.shutdownNow();
+        helloChannel.awaitTermination(1000, TimeUnit.SECONDS);
+    }
+
+    @DisplayName("Verify correct exceptions thrown.")
+    @Test
+    @Order(2)
+    public void testNumAssertions() {
+        assertEquals(8, testExceptionsThrown.size());
+    }
+
+    @DisplayName("Verify correct number of executed tests.")
+    @Test
+    @Order(3)
+    public void testNumberOfTestsExecuted() {
+        assertEquals(11, numberOfTestsExecuted);
+    }
+
+    @DisplayName("Verify correct number of exceptions thrown.")
+    @Test
+    @Order(4)
+    public void numberOfExceptionsThrown() {
+        assertEquals(10, numberOfExceptionsThrown);
+    }
+}
@@ -0,0 +1,79 @@
+package cloud.filibuster.functional.java.suppress_combinations;
+
+import cloud.filibuster.examples.Hello;
+import cloud.filibuster.examples.WorldServiceGrpc;
+import cloud.filibuster.functional.java.JUnitAnnotationBaseTest;
+import cloud.filibuster.instrumentation.helpers.Networking;
+import cloud.filibuster.instrumentation.libraries.grpc.FilibusterClientInterceptor;
+import cloud.filibuster.junit.TestWithFilibuster;
+import cloud.filibuster.junit.configuration.examples.FilibusterSingleFaultUnavailableAnalysisConfigurationFile;
+import io.grpc.Channel;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.StatusRuntimeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.concurrent.TimeUnit;
+
+import static cloud.filibuster.junit.assertions.protocols.GenericAssertions.wasFaultInjected;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class WorldWithMaxSimultaneousFaultsTest extends JUnitAnnotationBaseTest {
+    private static int numberOfTestsExecuted = 0;
+
+    private static int maxFaultsInjected = 0;
+
+    @DisplayName("Test three independent world calls with at most two simultaneous faults.")
+    @TestWithFilibuster(analysisConfigurationFile = FilibusterSingleFaultUnavailableAnalysisConfigurationFile.class, maxSimultaneousFaults = 2, maxIterations = 20)
+    @Order(1)
+    public void testWorldServiceWithFilibuster() throws InterruptedException {
+        ManagedChannel worldChannel = ManagedChannelBuilder
+                .forAddress(Networking.getHost("world"), Networking.getPort("world"))
+                .usePlaintext()
+                .build();
+        Channel channel = ClientInterceptors.intercept(worldChannel, new FilibusterClientInterceptor("test"));
+
+        numberOfTestsExecuted++;
+        int faultsInjected = 0;
+
+        WorldServiceGrpc.WorldServiceBlockingStub blockingStub = WorldServiceGrpc.newBlockingStub(channel);
+        Hello.WorldRequest request = Hello.WorldRequest.newBuilder().setName("Armerian").build();
+
+        // Each call is made regardless of whether the previous one failed.
+        for (int i = 0; i < 3; i++) {
+            try {
+                blockingStub.world(request);
+            } catch (StatusRuntimeException e) {
+                assertTrue(wasFaultInjected());
+                faultsInjected++;
+            }
+        }
+
+        maxFaultsInjected = Math.max(maxFaultsInjected, faultsInjected);
+
+        worldChannel.shutdownNow();
+        worldChannel.awaitTermination(1000, TimeUnit.SECONDS);
+    }
+
+    @DisplayName("Verify correct number of executed tests.")
+    @Test
+    @Order(2)
+    public void testNumberOfTestsExecuted() {
+        // Every subset of the three calls with at most two faults: 1 + 3 + 3; unbounded, this would be 2^3 = 8.
+        assertEquals(7, numberOfTestsExecuted);
+    }
+
+    @DisplayName("Verify that no execution injected more than two faults.")
+    @Test
+    @Order(3)
+    public void testMaxFaultsInjected() {
+        assertEquals(2, maxFaultsInjected);
+    }
+}
@@ -0,0 +1,154 @@
+package cloud.filibuster.integration.instrumentation;
+
+import cloud.filibuster.instrumentation.protocol.FilibusterInstrumentationServiceGrpc;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.IterationControlReply;
+import cloud.filibuster.instrumentation.protocol.FilibusterProtocol.IterationControlRequest;
+import cloud.filibuster.junit.server.FilibusterIterationControlStream;
+import com.linecorp.armeria.server.Server;
+import com.linecorp.armeria.server.grpc.GrpcService;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FilibusterIterationControlStreamTest {
+    private static final int MAX_ITERATIONS = 3;
+
+    private static Server server;
+
+    private static String filibusterBaseUri;
+
+    // The stream fails instead of answering this request, counting from one; zero never fails.
+    private static volatile int failOnRequest = 0;
+
+    /**
+     * Answers iteration control requests as the local server does for a test with {@link #MAX_ITERATIONS} iterations,
+     * failing the stream on request {@link #failOnRequest}.
+     */
+    private static class FailingIterationControlService extends FilibusterInstrumentationServiceGrpc.FilibusterInstrumentationServiceImplBase {
+        @Override
+        public StreamObserver<IterationControlRequest> iterationControl(StreamObserver<IterationControlReply> responseObserver) {
+            return new StreamObserver<IterationControlRequest>() {
+                private int requests = 0;
+
+                @Override
+                public void onNext(IterationControlRequest request) {
+                    requests++;
+
+                    if (requests == failOnRequest) {
+                        responseObserver.onError(Status.UNAVAILABLE.withDescription("failed mid-run").asRuntimeException());
+                        return;
+                    }
+
+                    int iteration = request.getCurrentIteration();
+
+                    if (request.getKind() == IterationControlRequest.Kind.TEARDOWNS_COMPLETED) {
+                        iteration++;
+                    }
+
+                    responseObserver.onNext(IterationControlReply.newBuilder()
+                            .setRequestId(request.getRequestId())
+                            .setIteration(iteration)
+                            .setHasNextIteration(iteration <= MAX_ITERATIONS)
+                            .build());
+                }
+
+                @Override
+                public void onError(Throwable t) {
+
+                }
+
+                @Override
+                public void onCompleted() {
+                    responseObserver.onCompleted();
+                }
+            };
+        }
+    }
+
+    @BeforeAll
+    public static void startServer() {
+        server = Server.builder()
+                .http(0)
+                .service(GrpcService.builder().addService(new FailingIterationControlService()).build())
+                .build();
+        server.start().join();
+        filibusterBaseUri = "http://localhost:" + server.activeLocalPort() + "/";
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.stop().join();
+    }
+
+    @BeforeEach
+    public void resetFailure() {
+        failOnRequest = 0;
+    }
+
+    @AfterEach
+    public void closeStream() {
+        FilibusterIterationControlStream.close();
+    }
+
+    // Drive the iterations as the JUnit interceptor does, returning the number of iterations run.
+    private static int runIterations() throws ExecutionException, InterruptedException {
+        int currentIteration = 1;
+
+        while (FilibusterIterationControlStream.getInstance(filibusterBaseUri).hasNextIteration(currentIteration, "test")) {
+            FilibusterIterationControlStream stream = FilibusterIterationControlStream.getInstance(filibusterBaseUri);
+            stream.completeIteration(currentIteration, /* exceptionOccurred= */ false);
+            stream.teardownsCompleted(currentIteration);
+            currentIteration++;
+        }
+
+        return currentIteration - 1;
+    }
+
+    @Test
+    @DisplayName("Test that the stream runs every iteration.")
+    public void testIterations() throws ExecutionException, InterruptedException {
+        assertEquals(MAX_ITERATIONS, runIterations());
+    }
+
+    @Test
+    @DisplayName("Test that a stream failing mid-run fails the waiting hook and is replaced.")
+    public void testStreamFailsMidRun() throws ExecutionException, InterruptedException {
+        // hasNextIteration(1), completeIteration(1), teardownsCompleted(1), then completeIteration(2) fails.
+        failOnRequest = 4;
+
+        FilibusterIterationControlStream stream = FilibusterIterationControlStream.getInstance(filibusterBaseUri);
+        assertTrue(stream.hasNextIteration(1, "test"));
+        stream.completeIteration(1, /* exceptionOccurred= */ false);
+        stream.teardownsCompleted(1);
+
+        // Answered from the reply to the teardown completion.
+        assertTrue(stream.hasNextIteration(2, "test"));
+        assertSame(stream, FilibusterIterationControlStream.getInstance(filibusterBaseUri));
+
+        assertThrows(ExecutionException.class, () -> stream.completeIteration(2, /* exceptionOccurred= */ false));
+
+        // Nothing more is sent on the failed stream.
+        assertThrows(ExecutionException.class, () -> stream.hasNextIteration(3, "test"));
+
+        // The next hook opens a new stream.
+        failOnRequest = 0;
+        FilibusterIterationControlStream replacement = FilibusterIterationControlStream.getInstance(filibusterBaseUri);
+        assertNotSame(stream, replacement);
+        assertTrue(replacement.hasNextIteration(3, "test"));
+        assertFalse(replacement.hasNextIteration(MAX_ITERATIONS + 1, "test"));
+    }
+}
@@ -18,11 +18,14 @@ import com.linecorp.armeria.server.annotation.ProducesJson;
 import com.linecorp.armeria.server.annotation.ConsumesJson;
 
 import org.jetbrains.annotations.NotNull;
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
@@ -61,6 +64,12 @@ public class FilibusterServerFake {
 
     public static HashMap<String, String> additionalExceptionMetadata = new HashMap<>();
 
+    public static final List<String> batchPathsReceived = Collections.synchronizedList(new ArrayList<>());
+
+    public static final List<JSONArray> batchesReceived = Collections.synchronizedList(new ArrayList<>());
+
+    public static CompletableFuture<Void> batchResponsesReleased = CompletableFuture.completedFuture(null);
+
     /**
      * Reset the list of received payloads at the fake server.
      */
@@ -68,6 +77,15 @@ public class FilibusterServerFake {
         payloadsReceived = new ArrayList<>();
     }
 
+    /**
+     * Reset the list of received batches at the fake server and respond to batches immediately.
+     */
+    public static void resetBatchesReceived() {
+        batchPathsReceived.clear();
+        batchesReceived.clear();
+        batchResponsesReleased = CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Reset any fault configurations at the fake server.
      */
@@ -228,6 +246,24 @@ public class FilibusterServerFake {
             }
         });
 
+        sb.annotatedService(new Object() {
+            @Post("/filibuster/create-batch")
+            @ProducesJson
+            @ConsumesJson
+            public HttpResponse createBatch(AggregatedHttpRequest request) {
+                return batch("/filibuster/create-batch", request);
+            }
+        });
+
+        sb.annotatedService(new Object() {
+            @Post("/filibuster/update-batch")
+            @ProducesJson
+            @ConsumesJson
+            public HttpResponse updateBatch(AggregatedHttpRequest request) {
+                return batch("/filibuster/update-batch", request);
+            }
+        });
+
         sb.annotatedService(new Object() {
             @Get("/filibuster/new-test-execution/{service_name}")
             @ProducesJson
@@ -367,6 +403,20 @@ public class FilibusterServerFake {
         return sb.build();
     }
 
+    // Record the batch, and hold the response until the test releases it.
+    private static HttpResponse batch(String path, AggregatedHttpRequest request) {
+        if (shouldReturnNotFounds) {
+            return HttpResponse.of(HttpStatus.NOT_FOUND);
+        }
+
+        batchPathsReceived.add(path);
+        batchesReceived.add(new JSONArray(request.contentUtf8()));
+
+        logger.log(Level.INFO, "FILIBUSTER SERVER: received " + path);
+
+        return HttpResponse.from(batchResponsesReleased.thenApply(v -> HttpResponse.of(new JSONObject().toString())));
+    }
+
     private static boolean wasFaultInjected() {
         if (shouldInjectExceptionFault) {
             return true;
@@ -0,0 +1,149 @@
+package cloud.filibuster.integration.instrumentation;
+
+import cloud.filibuster.exceptions.filibuster.FilibusterServerBadResponseException;
+import cloud.filibuster.instrumentation.datatypes.PendingInvocationCompletions;
+import cloud.filibuster.instrumentation.helpers.InvocationCompletionReporter;
+import cloud.filibuster.instrumentation.helpers.Networking;
+import com.google.common.collect.ImmutableList;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static cloud.filibuster.integration.instrumentation.TestHelper.startMockFilibusterServerAndWaitUntilAvailable;
+import static cloud.filibuster.integration.instrumentation.TestHelper.stopMockFilibusterServerAndWaitUntilUnavailable;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InvocationCompletionReporterTest extends FilibusterBaseTest {
+    private static final String serviceName = "test";
+
+    private static final String filibusterBaseUri = "http://" + Networking.getFilibusterHost() + ":" + Networking.getFilibusterPort() + "/";
+
+    @BeforeAll
+    public static void startFilibuster() throws IOException, InterruptedException {
+        startMockFilibusterServerAndWaitUntilAvailable();
+    }
+
+    @AfterAll
+    public static void stopFilibuster() throws InterruptedException {
+        stopMockFilibusterServerAndWaitUntilUnavailable();
+    }
+
+    @BeforeEach
+    public void resetBatchesBefore() {
+        FilibusterServerFake.resetBatchesReceived();
+    }
+
+    @AfterEach
+    public void resetBatchesAfter() {
+        FilibusterServerFake.shouldReturnNotFounds = false;
+        FilibusterServerFake.batchResponsesReleased.complete(null);
+        PendingInvocationCompletions.await();
+        FilibusterServerFake.resetBatchesReceived();
+    }
+
+    private static JSONObject createPayload(String executionIndex) {
+        JSONObject payload = new JSONObject();
+        payload.put("execution_index", executionIndex);
+        return payload;
+    }
+
+    // Hold the responses to batches, send one completion and wait until the server has it: everything reported
+    // afterwards queues up behind it.
+    private static void holdReporter() throws InterruptedException {
+        FilibusterServerFake.batchResponsesReleased = new CompletableFuture<>();
+        InvocationCompletionReporter.report(filibusterBaseUri, serviceName, createPayload("held"));
+
+        for (int i = 0; i < 100 && FilibusterServerFake.batchesReceived.isEmpty(); i++) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(1, FilibusterServerFake.batchesReceived.size());
+    }
+
+    private static List<String> executionIndexes(JSONArray batch) {
+        List<String> executionIndexes = new ArrayList<>();
+
+        for (int i = 0; i < batch.length(); i++) {
+            executionIndexes.add(batch.getJSONObject(i).getString("execution_index"));
+        }
+
+        return executionIndexes;
+    }
+
+    @Test
+    @DisplayName("Test that queued completions are sent together, in order.")
+    public void testCompletionsAreBatched() throws InterruptedException {
+        holdReporter();
+
+        for (int i = 0; i < 5; i++) {
+            InvocationCompletionReporter.report(filibusterBaseUri, serviceName, createPayload(String.valueOf(i)));
+        }
+
+        FilibusterServerFake.batchResponsesReleased.complete(null);
+        PendingInvocationCompletions.await();
+
+        assertEquals(2, FilibusterServerFake.batchesReceived.size());
+        assertEquals("/filibuster/update-batch", FilibusterServerFake.batchPathsReceived.get(1));
+        assertEquals(ImmutableList.of("0", "1", "2", "3", "4"), executionIndexes(FilibusterServerFake.batchesReceived.get(1)));
+    }
+
+    @Test
+    @DisplayName("Test that begins and completions are sent as separate batches, keeping their order.")
+    public void testBeginAndEndRunsKeepOrder() throws InterruptedException {
+        holdReporter();
+
+        InvocationCompletionReporter.reportBeginInvocation(filibusterBaseUri, serviceName, createPayload("a"));
+        InvocationCompletionReporter.reportBeginInvocation(filibusterBaseUri, serviceName, createPayload("b"));
+        InvocationCompletionReporter.report(filibusterBaseUri, serviceName, createPayload("a"));
+        InvocationCompletionReporter.report(filibusterBaseUri, serviceName, createPayload("b"));
+        InvocationCompletionReporter.reportBeginInvocation(filibusterBaseUri, serviceName, createPayload("c"));
+
+        FilibusterServerFake.batchResponsesReleased.complete(null);
+        PendingInvocationCompletions.await();
+
+        assertEquals(ImmutableList.of(
+                "/filibuster/update-batch",
+                "/filibuster/create-batch",
+                "/filibuster/update-batch",
+                "/filibuster/create-batch"), FilibusterServerFake.batchPathsReceived);
+        assertEquals(ImmutableList.of("a", "b"), executionIndexes(FilibusterServerFake.batchesReceived.get(1)));
+        assertEquals(ImmutableList.of("a", "b"), executionIndexes(FilibusterServerFake.batchesReceived.get(2)));
+        assertEquals(ImmutableList.of("c"), executionIndexes(FilibusterServerFake.batchesReceived.get(3)));
+    }
+
+    @Test
+    @DisplayName("Test that waiting for completions the server does not acknowledge times out.")
+    public void testAwaitTimesOut() throws InterruptedException {
+        holdReporter();
+
+        assertThrows(FilibusterServerBadResponseException.class, () -> PendingInvocationCompletions.await(100));
+
+        FilibusterServerFake.batchResponsesReleased.complete(null);
+        assertDoesNotThrow(() -> PendingInvocationCompletions.await());
+    }
+
+    @Test
+    @DisplayName("Test that a batch the server rejects fails the wait once.")
+    public void testRejectedBatchFails() {
+        FilibusterServerFake.shouldReturnNotFounds = true;
+        InvocationCompletionReporter.report(filibusterBaseUri, serviceName, createPayload("rejected"));
+
+        assertThrows(FilibusterServerBadResponseException.class, PendingInvocationCompletions::await);
+
+        // The failure is reported to the iteration that observed it only.
+        FilibusterServerFake.shouldReturnNotFounds = false;
+        assertDoesNotThrow(() -> PendingInvocationCompletions.await());
+    }
+}
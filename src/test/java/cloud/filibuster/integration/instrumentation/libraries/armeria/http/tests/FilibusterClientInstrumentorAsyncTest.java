@@ -0,0 +1,128 @@
+package cloud.filibuster.integration.instrumentation.libraries.armeria.http.tests;
+
+import cloud.filibuster.dei.DistributedExecutionIndex;
+import cloud.filibuster.instrumentation.datatypes.Callsite;
+import cloud.filibuster.instrumentation.datatypes.CallsiteArguments;
+import cloud.filibuster.instrumentation.datatypes.VectorClock;
+import cloud.filibuster.instrumentation.instrumentors.FilibusterClientInstrumentor;
+import cloud.filibuster.instrumentation.storage.ThreadLocalContextStorage;
+import cloud.filibuster.integration.instrumentation.FilibusterServerFake;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static cloud.filibuster.instrumentation.datatypes.RequestId.generateNewRequestId;
+import static cloud.filibuster.integration.instrumentation.TestHelper.startMockFilibusterServerAndWaitUntilAvailable;
+import static cloud.filibuster.integration.instrumentation.TestHelper.stopMockFilibusterServerAndWaitUntilUnavailable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test that the asynchronous client instrumentor methods round-trip through the Filibuster server over HTTP.
+ */
+public class FilibusterClientInstrumentorAsyncTest extends FilibusterDecoratingHttpTest {
+    private static final String serviceName = "hello";
+
+    private static final int TIMEOUT_SECONDS = 10;
+
+    @BeforeAll
+    public static void startFilibuster() throws IOException, InterruptedException {
+        startMockFilibusterServerAndWaitUntilAvailable();
+    }
+
+    @AfterAll
+    public static void stopFilibuster() throws InterruptedException {
+        stopMockFilibusterServerAndWaitUntilUnavailable();
+    }
+
+    @BeforeEach
+    public void contextConfiguration() {
+        FilibusterServerFake.payloadsReceived.clear();
+
+        setInitialVectorClock(new VectorClock());
+        setInitialOriginVectorClock(new VectorClock());
+        setInitialDistributedExecutionIndex(createNewDistributedExecutionIndex().toString());
+        setInitialRequestId(generateNewRequestId().toString());
+    }
+
+    @AfterEach
+    public void resetContextConfiguration() {
+        resetInitialRequestId();
+        resetInitialDistributedExecutionIndex();
+        resetInitialOriginVectorClock();
+        resetInitialVectorClock();
+
+        FilibusterServerFake.shouldInjectExceptionFault = false;
+        FilibusterServerFake.oneNewTestExecution = true;
+        FilibusterServerFake.noNewTestExecution = false;
+        FilibusterServerFake.payloadsReceived.clear();
+
+        FilibusterClientInstrumentor.clearDistributedExecutionIndexForRequestId();
+        FilibusterClientInstrumentor.clearVectorClockForRequestId();
+    }
+
+    private static FilibusterClientInstrumentor createFilibusterClientInstrumentor() {
+        Callsite callsite = new Callsite(serviceName, "WebClient", "GET", new CallsiteArguments(Object.class, "/world"));
+        FilibusterClientInstrumentor filibusterClientInstrumentor = new FilibusterClientInstrumentor(
+                serviceName,
+                /* shouldCommunicateWithServer= */ true,
+                new ThreadLocalContextStorage(),
+                callsite);
+        filibusterClientInstrumentor.prepareForInvocation();
+        return filibusterClientInstrumentor;
+    }
+
+    @Test
+    @DisplayName("Test that shouldResetClocksAsync completes with the server's answer.")
+    public void testShouldResetClocksAsync() throws ExecutionException, InterruptedException, TimeoutException {
+        FilibusterServerFake.oneNewTestExecution = true;
+
+        CompletableFuture<Boolean> firstRequest = createFilibusterClientInstrumentor().shouldResetClocksAsync();
+        assertTrue(firstRequest.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        CompletableFuture<Boolean> secondRequest = createFilibusterClientInstrumentor().shouldResetClocksAsync();
+        assertFalse(secondRequest.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Test that beforeInvocationAsync completes with no fault when the server injects none.")
+    public void testBeforeInvocationAsync() throws ExecutionException, InterruptedException, TimeoutException {
+        FilibusterClientInstrumentor filibusterClientInstrumentor = createFilibusterClientInstrumentor();
+        filibusterClientInstrumentor.beforeInvocationAsync().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(1, FilibusterServerFake.payloadsReceived.size());
+        DistributedExecutionIndex distributedExecutionIndex = filibusterClientInstrumentor.getDistributedExecutionIndex();
+        assertEquals(distributedExecutionIndex.toString(), FilibusterServerFake.payloadsReceived.get(0).getString("execution_index"));
+
+        assertNull(filibusterClientInstrumentor.getForcedException());
+        assertNull(filibusterClientInstrumentor.getFailureMetadata());
+    }
+
+    @Test
+    @DisplayName("Test that beforeInvocationAsync completes with the fault the server injects.")
+    public void testBeforeInvocationAsyncWithFault() throws ExecutionException, InterruptedException, TimeoutException {
+        FilibusterServerFake.shouldInjectExceptionFault = true;
+
+        FilibusterClientInstrumentor filibusterClientInstrumentor = createFilibusterClientInstrumentor();
+        filibusterClientInstrumentor.beforeInvocationAsync().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(1, FilibusterServerFake.payloadsReceived.size());
+
+        JSONObject forcedException = filibusterClientInstrumentor.getForcedException();
+        assertNotNull(forcedException);
+        assertEquals("com.linecorp.armeria.client.UnprocessedRequestException", forcedException.getString("name"));
+    }
+}
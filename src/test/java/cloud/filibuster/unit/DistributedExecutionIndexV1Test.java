@@ -1,6 +1,7 @@
 package cloud.filibuster.unit;
 
 import cloud.filibuster.dei.DistributedExecutionIndex;
+import cloud.filibuster.dei.DistributedExecutionIndexKey;
 import cloud.filibuster.dei.implementations.DistributedExecutionIndexV1;
 import cloud.filibuster.exceptions.distributed_execution_index.DistributedExecutionIndexSerializationException;
 import cloud.filibuster.instrumentation.datatypes.Callsite;
@@ -12,6 +13,7 @@ import javax.annotation.Nullable;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
@@ -55,6 +57,34 @@ public class DistributedExecutionIndexV1Test {
         assertEquals("[[\"V1-da39a3ee5e6b4b0d3255bfef95601890afd80709-4cf5bc59bee9e1c44c6254b5f84e7f066bd8e5fe-572c339240d2ef65496a1cc48f38bd95c18f2458-56d9b2760d767f5a999ba411f3628cbc5dd47b7c-00aa7adca5809bf3003b7469bdf22140ac380041\", 1], " + "[\"V1-da39a3ee5e6b4b0d3255bfef95601890afd80709-4cf5bc59bee9e1c44c6254b5f84e7f066bd8e5fe-572c339240d2ef65496a1cc48f38bd95c18f2458-236aa4fb94f4e4067889dfef9c616b4f44cdb181-00aa7adca5809bf3003b7469bdf22140ac380041\", 1]]", ei2.toString());
     }
 
+    @Test
+    @DisplayName("Test copying an execution index without its counters.")
+    public void testCopyWithoutCounters() {
+        Callsite callsite = generateCallsite();
+
+        DistributedExecutionIndex ei1 = createInstance();
+        ei1.push(callsite);
+        ei1.pop();
+        ei1.push(callsite);
+
+        DistributedExecutionIndex ei2 = ei1.copyWithoutCounters();
+        assertEquals(ei1.toString(), ei2.toString());
+        assertEquals(ei1, ei2);
+        assertEquals(ei1.hashCode(), ei2.hashCode());
+
+        // The copy behaves as the index received over the network.
+        DistributedExecutionIndex ei3 = createInstanceFromSerialized(ei1.toString());
+        ei2.push(callsite);
+        ei3.push(callsite);
+        assertEquals(ei3.toString(), ei2.toString());
+        assertEquals(ei3, ei2);
+
+        // The original is unaffected.
+        assertNotEquals(ei1, ei2);
+        ei1.push(callsite);
+        assertNotEquals(ei1.toString(), ei2.toString());
+    }
+
     @Test
     @DisplayName("Test double pop of execution index.")
     public void testDoublePop() {
@@ -156,8 +186,73 @@ public class DistributedExecutionIndexV1Test {
         ei.push(callsite);
         assertEquals("[[\"V1-da39a3ee5e6b4b0d3255bfef95601890afd80709-4cf5bc59bee9e1c44c6254b5f84e7f066bd8e5fe-572c339240d2ef65496a1cc48f38bd95c18f2458-eb1e7e8219cff88635d68a832300e07cd75bfebc-00aa7adca5809bf3003b7469bdf22140ac380041\", 2]]", ei.toString());
     }
-}
 
+    @Test
+    @DisplayName("Test that hashCode/equals follow push and pop and ignore counters.")
+    public void testHashCodeEqualsAcrossPushPop() {
+        DistributedExecutionIndex ei1 = createInstance();
+        ei1.push(generateCallsite());
+        int hashCodeAfterPush = ei1.hashCode();
+
+        DistributedExecutionIndex ei2 = (DistributedExecutionIndex) ei1.clone();
+        ei2.push(generateCallsite());
+        assertNotEquals(ei1, ei2);
+        ei2.pop();
+        assertEquals(ei1, ei2);
+        assertEquals(hashCodeAfterPush, ei2.hashCode());
+
+        // The deserialized index has no counters, but the same callstack.
+        DistributedExecutionIndex ei3 = createInstanceFromSerialized(ei2.toString());
+        assertEquals(ei2, ei3);
+        assertEquals(ei2.hashCode(), ei3.hashCode());
+    }
+
+    @Test
+    @DisplayName("Test that keys for the same callsite are canonical instances.")
+    public void testKeysAreInterned() {
+        Callsite callsite = generateCallsite();
+        DistributedExecutionIndexKey key1 = createInstance().convertCallsiteToDistributedExecutionIndexKey(callsite);
+        DistributedExecutionIndexKey key2 = createInstance().convertCallsiteToDistributedExecutionIndexKey(callsite);
+        assertSame(key1, key2);
 
+        DistributedExecutionIndexKey deserializedKey1 = DistributedExecutionIndexKey.deserialize(key1.serialize());
+        DistributedExecutionIndexKey deserializedKey2 = DistributedExecutionIndexKey.deserialize(key1.serialize());
+        assertEquals(key1, deserializedKey1);
+        assertSame(deserializedKey1, deserializedKey2);
+        assertEquals(key1.onlyDestination(), createInstance().convertCallsiteToDistributedExecutionIndexKey(callsite).onlyDestination());
+    }
+
+    @Test
+    @DisplayName("Test that callsites differing only in destination keep their destination when the signature is not included.")
+    public void testKeysKeepDestinationWithoutSignature() {
+        DistributedExecutionIndexV1.Properties.Signature.setSignatureInclude(false);
+
+        try {
+            // Created on the same line, so only the destination differs.
+            Callsite[] callsites = new Callsite[2];
+            String[] moduleNames = { "firstDestinationKlass", "secondDestinationKlass" };
+
+            for (int i = 0; i < callsites.length; i++) {
+                callsites[i] = new Callsite("service", moduleNames[i], "theMethodName", new CallsiteArguments(Object.class, "deadbeef"));
+            }
 
+            DistributedExecutionIndex ei1 = createInstance();
+            ei1.push(callsites[0]);
 
+            DistributedExecutionIndex ei2 = createInstance();
+            ei2.push(callsites[1]);
+
+            assertEquals(ei1, ei2);
+            assertEquals("firstDestinationKlass", ei1.projectionLastKeyWithOnlyDestination());
+            assertEquals("secondDestinationKlass", ei2.projectionLastKeyWithOnlyDestination());
+
+            DistributedExecutionIndexKey key1 = createInstance().convertCallsiteToDistributedExecutionIndexKey(callsites[0]);
+            DistributedExecutionIndexKey key2 = createInstance().convertCallsiteToDistributedExecutionIndexKey(callsites[1]);
+            assertEquals(key1, key2);
+            assertEquals("firstDestinationKlass", key1.onlyDestination());
+            assertEquals("secondDestinationKlass", key2.onlyDestination());
+        } finally {
+            DistributedExecutionIndexV1.Properties.Signature.setSignatureInclude(true);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.dei.DistributedExecutionIndex;
+import cloud.filibuster.dei.implementations.DistributedExecutionIndexV1;
+import cloud.filibuster.dei.implementations.DistributedExecutionIndexV2;
+import cloud.filibuster.exceptions.distributed_execution_index.DistributedExecutionIndexSerializationException;
+import cloud.filibuster.instrumentation.datatypes.Callsite;
+import cloud.filibuster.instrumentation.datatypes.CallsiteArguments;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DistributedExecutionIndexV2Test {
+    private static Callsite generateCallsite() {
+        return new Callsite("service", "klass", "theMethodName", new CallsiteArguments(Object.class, "deadbeef"));
+    }
+
+    private static DistributedExecutionIndex createInstance() {
+        return new DistributedExecutionIndexV2();
+    }
+
+    private static DistributedExecutionIndex createInstanceFromSerialized(@Nullable String serialized) {
+        return new DistributedExecutionIndexV2().deserialize(serialized);
+    }
+
+    @Test
+    @DisplayName("Test cloning an execution index.")
+    public void testClone() {
+        DistributedExecutionIndex ei1 = createInstance();
+        ei1.push(generateCallsite());
+
+        DistributedExecutionIndex ei2 = (DistributedExecutionIndex) ei1.clone();
+        assertEquals(ei1.toString(), ei2.toString());
+        assertEquals(ei1, ei2);
+        assertEquals(ei1.hashCode(), ei2.hashCode());
+
+        ei2.push(generateCallsite());
+        assertNotEquals(ei1.toString(), ei2.toString());
+        assertNotEquals(ei1, ei2);
+    }
+
+    @Test
+    @DisplayName("Test copying an execution index without its counters.")
+    public void testCopyWithoutCounters() {
+        Callsite callsite = generateCallsite();
+
+        DistributedExecutionIndex ei1 = createInstance();
+        ei1.push(callsite);
+        ei1.pop();
+        ei1.push(callsite);
+
+        DistributedExecutionIndex ei2 = ei1.copyWithoutCounters();
+        assertEquals(ei1.toString(), ei2.toString());
+        assertEquals(ei1, ei2);
+        assertEquals(ei1.hashCode(), ei2.hashCode());
+
+        // The copy behaves as the index received over the network.
+        DistributedExecutionIndex ei3 = createInstanceFromSerialized(ei1.toString());
+        ei2.push(callsite);
+        ei3.push(callsite);
+        assertEquals(ei3.toString(), ei2.toString());
+        assertEquals(ei3, ei2);
+
+        // The original is unaffected.
+        assertNotEquals(ei1, ei2);
+        ei1.push(callsite);
+        assertNotEquals(ei1.toString(), ei2.toString());
+    }
+
+    @Test
+    @DisplayName("Test double pop of execution index.")
+    public void testDoublePop() {
+        DistributedExecutionIndex ei = createInstance();
+
+        ei.push(generateCallsite());
+        ei.pop();
+
+        assertThrows(IndexOutOfBoundsException.class, ei::pop);
+    }
+
+    @Test
+    @DisplayName("Test serialization cycle.")
+    public void testSerializeDeserialize() {
+        DistributedExecutionIndex ei1 = createInstance();
+        Callsite callsite = generateCallsite();
+        ei1.push(callsite);
+        ei1.push(generateCallsite());
+        ei1.pop();
+        ei1.push(callsite);
+
+        String serialized = ei1.toString();
+        assertTrue(serialized.startsWith("V2."));
+
+        DistributedExecutionIndex ei2 = createInstanceFromSerialized(serialized);
+        assertEquals(serialized, ei2.toString());
+        assertEquals(ei1, ei2);
+        assertEquals(ei1.hashCode(), ei2.hashCode());
+        assertEquals(0, ei1.compareTo(ei2));
+    }
+
+    @Test
+    @DisplayName("Test that keys and projections match the V1 implementation.")
+    public void testKeysMatchV1() {
+        Callsite callsite = generateCallsite();
+
+        DistributedExecutionIndex v1 = new DistributedExecutionIndexV1();
+        v1.push(callsite);
+
+        DistributedExecutionIndex v2 = createInstance();
+        v2.push(callsite);
+
+        assertEquals(v1.projectionLastKeyWithOnlyMetadataAndSignature(), v2.projectionLastKeyWithOnlyMetadataAndSignature());
+        assertEquals(v1.projectionLastKeyWithOnlySignature(), v2.projectionLastKeyWithOnlySignature());
+        assertEquals(v1.projectionLastKeyWithOnlyDestination(), v2.projectionLastKeyWithOnlyDestination());
+    }
+
+    @Test
+    @DisplayName("Test push/pop for same callsite increments the counter.")
+    public void testPushPop() {
+        DistributedExecutionIndex ei1 = createInstance();
+        Callsite callsite = generateCallsite();
+        ei1.push(callsite);
+
+        DistributedExecutionIndex ei2 = (DistributedExecutionIndex) ei1.clone();
+        ei2.pop();
+        ei2.push(callsite);
+
+        assertNotEquals(ei1, ei2);
+        assertTrue(ei1.compareTo(ei2) < 0);
+    }
+
+    @Test
+    @DisplayName("Test deserialize empty execution string.")
+    public void testDeserializeEmptyString() {
+        assertDoesNotThrow(() -> createInstanceFromSerialized(""));
+        assertEquals(createInstance(), createInstanceFromSerialized(createInstance().toString()));
+    }
+
+    @Test
+    @DisplayName("Test deserialize null and malformed execution strings.")
+    public void testDeserializeMalformed() {
+        assertThrows(DistributedExecutionIndexSerializationException.class, () -> createInstanceFromSerialized(null));
+        assertThrows(DistributedExecutionIndexSerializationException.class, () -> createInstanceFromSerialized("[]"));
+        assertThrows(DistributedExecutionIndexSerializationException.class, () -> createInstanceFromSerialized("V2.AQ"));
+    }
+
+    @Test
+    @DisplayName("Test that callsites differing only in destination keep their destination when the signature is not included.")
+    public void testKeysKeepDestinationWithoutSignature() {
+        DistributedExecutionIndexV1.Properties.Signature.setSignatureInclude(false);
+
+        try {
+            // Created on the same line, so only the destination differs.
+            Callsite[] callsites = new Callsite[2];
+            String[] moduleNames = { "firstDestinationKlass", "secondDestinationKlass" };
+
+            for (int i = 0; i < callsites.length; i++) {
+                callsites[i] = new Callsite("service", moduleNames[i], "theMethodName", new CallsiteArguments(Object.class, "deadbeef"));
+            }
+
+            DistributedExecutionIndex ei1 = createInstance();
+            ei1.push(callsites[0]);
+
+            DistributedExecutionIndex ei2 = createInstance();
+            ei2.push(callsites[1]);
+
+            assertEquals(ei1, ei2);
+            assertEquals("firstDestinationKlass", ei1.projectionLastKeyWithOnlyDestination());
+            assertEquals("secondDestinationKlass", ei2.projectionLastKeyWithOnlyDestination());
+        } finally {
+            DistributedExecutionIndexV1.Properties.Signature.setSignatureInclude(true);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.instrumentation.helpers.EventTrace;
+import cloud.filibuster.instrumentation.helpers.Property;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventTraceTest {
+    private static final Logger eventTraceLogger = Logger.getLogger(EventTrace.class.getName());
+
+    private final List<String> messages = new ArrayList<>();
+
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            synchronized (messages) {
+                messages.add(record.getMessage());
+            }
+        }
+
+        @Override
+        public void flush() {
+
+        }
+
+        @Override
+        public void close() {
+
+        }
+    };
+
+    private List<String> messagesContaining(String marker) {
+        List<String> result = new ArrayList<>();
+
+        synchronized (messages) {
+            for (String message : messages) {
+                if (message.contains(marker)) {
+                    result.add(message);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @BeforeEach
+    public void enableTrace() {
+        Property.setTraceEnabledProperty(true);
+        eventTraceLogger.addHandler(handler);
+    }
+
+    @AfterEach
+    public void disableTrace() {
+        eventTraceLogger.removeHandler(handler);
+        Property.setTraceEnabledProperty(false);
+    }
+
+    @Test
+    @DisplayName("Test that JSON payloads are traced as they were when recorded.")
+    public void testJsonPayloadIsSnapshotted() {
+        String marker = UUID.randomUUID().toString();
+
+        JSONObject payload = new JSONObject();
+        payload.put("marker", marker);
+        payload.put("value", "recorded");
+        EventTrace.record(EventTrace.EventType.BEGIN_INVOCATION_RESPONSE, payload);
+
+        // The owner of the payload keeps modifying it.
+        payload.put("value", "modified");
+        payload.put("new-test-execution", true);
+
+        EventTrace.flush();
+
+        List<String> traced = messagesContaining(marker);
+        assertEquals(1, traced.size());
+        assertTrue(traced.get(0).contains("recorded"));
+        assertFalse(traced.get(0).contains("modified"));
+        assertFalse(traced.get(0).contains("new-test-execution"));
+    }
+
+    @Test
+    @DisplayName("Test that an event that cannot be rendered does not stop the flush.")
+    public void testRenderingFailureDoesNotStopFlush() {
+        String marker = UUID.randomUUID().toString();
+
+        EventTrace.record(EventTrace.EventType.FAULT_INJECTED, new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("cannot render");
+            }
+        });
+        EventTrace.record(EventTrace.EventType.FAULT_INJECTED, marker);
+
+        assertDoesNotThrow(EventTrace::flush);
+        assertEquals(1, messagesContaining(marker).size());
+    }
+
+    @Test
+    @DisplayName("Test that nothing is recorded when tracing is disabled.")
+    public void testDisabled() {
+        String marker = UUID.randomUUID().toString();
+
+        Property.setTraceEnabledProperty(false);
+        EventTrace.record(EventTrace.EventType.FAULT_INJECTED, marker);
+        EventTrace.flush();
+
+        assertTrue(messagesContaining(marker).isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.instrumentation.datatypes.FaultPlans;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FaultPlansTest {
+    private static JSONObject createFaultPlan(boolean prefetchable) {
+        JSONObject forcedException = new JSONObject();
+        forcedException.put("name", "io.grpc.StatusRuntimeException");
+
+        JSONObject faultObject = new JSONObject();
+        faultObject.put("forced_exception", forcedException);
+
+        JSONObject faults = new JSONObject();
+        faults.put("[[\"V1-abc\", 1]]", faultObject);
+
+        JSONObject faultPlan = new JSONObject();
+        faultPlan.put("faults", faults);
+        faultPlan.put("prefetchable", prefetchable);
+        return faultPlan;
+    }
+
+    @AfterEach
+    public void clearFaultPlans() {
+        FaultPlans.clear();
+    }
+
+    @Test
+    @DisplayName("Test that faults are looked up by service and distributed execution index.")
+    public void testGetFault() {
+        FaultPlans.install("api_server", createFaultPlan(/* prefetchable= */ true));
+
+        assertTrue(FaultPlans.hasFaultPlan("api_server"));
+        assertEquals("io.grpc.StatusRuntimeException",
+                FaultPlans.getFault("api_server", "[[\"V1-abc\", 1]]").getJSONObject("forced_exception").getString("name"));
+        assertNull(FaultPlans.getFault("api_server", "[[\"V1-abc\", 2]]"));
+        assertFalse(FaultPlans.hasFaultPlan("world_server"));
+        assertNull(FaultPlans.getFault("world_server", "[[\"V1-abc\", 1]]"));
+    }
+
+    @Test
+    @DisplayName("Test that a plan that cannot be applied locally removes the previous plan.")
+    public void testInstallUnprefetchablePlan() {
+        FaultPlans.install("api_server", createFaultPlan(/* prefetchable= */ true));
+        FaultPlans.install("api_server", createFaultPlan(/* prefetchable= */ false));
+
+        assertFalse(FaultPlans.hasFaultPlan("api_server"));
+    }
+
+    @Test
+    @DisplayName("Test that clearing removes all fault plans.")
+    public void testClear() {
+        FaultPlans.install("api_server", createFaultPlan(/* prefetchable= */ true));
+        FaultPlans.clear();
+
+        assertFalse(FaultPlans.hasFaultPlan("api_server"));
+    }
+}
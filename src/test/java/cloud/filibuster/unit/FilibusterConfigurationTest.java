@@ -0,0 +1,28 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.junit.configuration.FilibusterConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FilibusterConfigurationTest {
+    @Test
+    @DisplayName("Test that simultaneous faults are unbounded by default.")
+    public void testMaxSimultaneousFaultsDefault() {
+        assertEquals(0, new FilibusterConfiguration.Builder().build().getMaxSimultaneousFaults());
+    }
+
+    @Test
+    @DisplayName("Test that the configured bound on simultaneous faults is used.")
+    public void testMaxSimultaneousFaults() {
+        assertEquals(2, new FilibusterConfiguration.Builder().maxSimultaneousFaults(2).build().getMaxSimultaneousFaults());
+    }
+
+    @Test
+    @DisplayName("Test that suppressing combinations bounds simultaneous faults to one.")
+    public void testSuppressCombinationsBoundsToOne() {
+        assertEquals(1, new FilibusterConfiguration.Builder().suppressCombinations(true).build().getMaxSimultaneousFaults());
+        assertEquals(1, new FilibusterConfiguration.Builder().suppressCombinations(true).maxSimultaneousFaults(2).build().getMaxSimultaneousFaults());
+    }
+}
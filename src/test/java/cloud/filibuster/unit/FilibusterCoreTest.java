@@ -0,0 +1,344 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.RpcType;
+import cloud.filibuster.dei.DistributedExecutionIndex;
+import cloud.filibuster.dei.DistributedExecutionIndexType;
+import cloud.filibuster.instrumentation.datatypes.Callsite;
+import cloud.filibuster.instrumentation.datatypes.CallsiteArguments;
+import cloud.filibuster.instrumentation.datatypes.InvocationRecord;
+import cloud.filibuster.instrumentation.datatypes.VectorClock;
+import cloud.filibuster.junit.FilibusterSearchStrategy;
+import cloud.filibuster.junit.configuration.FilibusterAnalysisConfiguration;
+import cloud.filibuster.junit.configuration.FilibusterConfiguration;
+import cloud.filibuster.junit.configuration.FilibusterCustomAnalysisConfigurationFile;
+import cloud.filibuster.junit.configuration.examples.FilibusterSingleFaultUnavailableAnalysisConfigurationFile;
+import cloud.filibuster.junit.filters.NoopFilter;
+import cloud.filibuster.junit.server.core.FilibusterCore;
+import cloud.filibuster.junit.server.core.profiles.ServiceProfileBehavior;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FilibusterCoreTest {
+    private static final String moduleName = "cloud.filibuster.examples.WorldService";
+
+    private static final String methodName = "cloud.filibuster.examples.WorldService/World";
+
+    private static final int numberOfThreads = 8;
+
+    private static final int invocationsPerThread = 50;
+
+    private static FilibusterConfiguration.Builder createFilibusterConfigurationBuilder() {
+        return new FilibusterConfiguration.Builder()
+                .searchStrategy(FilibusterSearchStrategy.DFS)
+                .faultInjectionFilter(NoopFilter.class)
+                .serviceProfileBehavior(ServiceProfileBehavior.NONE)
+                .testName("FilibusterCoreTest")
+                .className(FilibusterCoreTest.class.getName());
+    }
+
+    private static FilibusterCore createFilibusterCoreWithAnalysisFile(FilibusterConfiguration filibusterConfiguration) {
+        FilibusterCore filibusterCore = new FilibusterCore(filibusterConfiguration);
+        filibusterCore.analysisFile(new FilibusterSingleFaultUnavailableAnalysisConfigurationFile().toFilibusterCustomAnalysisConfigurationFile().toJsonObject());
+        return filibusterCore;
+    }
+
+    private static JSONObject createAnalysisFile(String... codes) {
+        FilibusterAnalysisConfiguration.Builder filibusterAnalysisConfigurationBuilder = new FilibusterAnalysisConfiguration.Builder()
+                .name("java.grpc.exceptions")
+                .pattern("(.*/.*)")
+                .rpcType(RpcType.GRPC);
+
+        for (String code : codes) {
+            Map<String, String> errorMap = new HashMap<>();
+            errorMap.put("cause", "");
+            errorMap.put("code", code);
+            filibusterAnalysisConfigurationBuilder.exception("io.grpc.StatusRuntimeException", errorMap);
+        }
+
+        return new FilibusterCustomAnalysisConfigurationFile.Builder()
+                .analysisConfiguration(filibusterAnalysisConfigurationBuilder.build())
+                .build()
+                .toJsonObject();
+    }
+
+    private static Callsite generateCallsite() {
+        return generateCallsite("deadbeef");
+    }
+
+    private static Callsite generateCallsite(String argument) {
+        return new Callsite("hello", moduleName, methodName, new CallsiteArguments(Object.class, argument));
+    }
+
+    // Invoke the RPC with the given argument the given number of times; returns the index of the last invocation.
+    private static DistributedExecutionIndex invoke(FilibusterCore filibusterCore, String argument, int times) {
+        DistributedExecutionIndex distributedExecutionIndex = DistributedExecutionIndexType.getImplType().createImpl();
+
+        for (int i = 0; i < times; i++) {
+            Callsite callsite = generateCallsite(argument);
+            distributedExecutionIndex.push(callsite);
+            filibusterCore.beginInvocation(createInvocationRecord(callsite, distributedExecutionIndex));
+            filibusterCore.endInvocation(distributedExecutionIndex, createSuccessPayload(distributedExecutionIndex), /* isUpdate= */ false);
+            distributedExecutionIndex.pop();
+        }
+
+        return distributedExecutionIndex;
+    }
+
+    // Run the invocations of each thread concurrently, returning once all threads have started.
+    private static List<Future<?>> invokeConcurrently(ExecutorService executorService, FilibusterCore filibusterCore) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(numberOfThreads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < numberOfThreads; i++) {
+            String argument = "thread-" + i;
+            futures.add(executorService.submit(() -> {
+                started.countDown();
+                invoke(filibusterCore, argument, invocationsPerThread);
+            }));
+        }
+
+        started.await();
+        return futures;
+    }
+
+    private static InvocationRecord createInvocationRecord(Callsite callsite, DistributedExecutionIndex distributedExecutionIndex) {
+        return new InvocationRecord.Builder()
+                .sourceServiceName("hello")
+                .callsite(callsite)
+                .rpcType(RpcType.GRPC)
+                .vectorClock(new VectorClock())
+                .originVectorClock(new VectorClock())
+                .distributedExecutionIndex(distributedExecutionIndex)
+                .build();
+    }
+
+    private static JSONObject createSuccessPayload(DistributedExecutionIndex distributedExecutionIndex) {
+        JSONObject payload = new JSONObject();
+        payload.put("execution_index", distributedExecutionIndex.toString());
+        payload.put("module", moduleName);
+        payload.put("method", methodName);
+        payload.put("return_value", new JSONObject());
+        return payload;
+    }
+
+    private static JSONObject createExceptionPayload(DistributedExecutionIndex distributedExecutionIndex) {
+        JSONObject exception = new JSONObject();
+        exception.put("name", "io.grpc.StatusRuntimeException");
+
+        JSONObject payload = new JSONObject();
+        payload.put("execution_index", distributedExecutionIndex.toString());
+        payload.put("module", moduleName);
+        payload.put("method", methodName);
+        payload.put("exception", exception);
+        return payload;
+    }
+
+    private static JSONObject createExceptionPayload(DistributedExecutionIndex distributedExecutionIndex, String code) {
+        JSONObject payload = createExceptionPayload(distributedExecutionIndex);
+        payload.getJSONObject("exception").put("metadata", new JSONObject().put("cause", "").put("code", code));
+        return payload;
+    }
+
+    // Invoke the RPC from the given caller, completing it with the given status code or successfully if null.
+    private static void invokeFromCaller(FilibusterCore filibusterCore, String callerMethodName, @Nullable String code) {
+        DistributedExecutionIndex distributedExecutionIndex = DistributedExecutionIndexType.getImplType().createImpl();
+        distributedExecutionIndex.push(new Callsite("hello", "cloud.filibuster.examples.HelloService", callerMethodName, new CallsiteArguments(Object.class, "caller")));
+
+        Callsite callsite = generateCallsite();
+        distributedExecutionIndex.push(callsite);
+        filibusterCore.beginInvocation(createInvocationRecord(callsite, distributedExecutionIndex));
+
+        JSONObject payload = code == null ? createSuccessPayload(distributedExecutionIndex) : createExceptionPayload(distributedExecutionIndex, code);
+        filibusterCore.endInvocation(distributedExecutionIndex, payload, /* isUpdate= */ false);
+    }
+
+    // Run the initial execution: the same RPC is called from two callers, and fails without a fault from the second.
+    private static FilibusterCore runInitialExecutionWithPropagatedFailure(boolean dynamicReduction) {
+        FilibusterCore filibusterCore = createFilibusterCoreWithAnalysisFile(createFilibusterConfigurationBuilder().dynamicReduction(dynamicReduction).build());
+
+        invokeFromCaller(filibusterCore, "cloud.filibuster.examples.HelloService/Hello", null);
+        invokeFromCaller(filibusterCore, "cloud.filibuster.examples.HelloService/PartialHello", "UNAVAILABLE");
+
+        filibusterCore.completeIteration(1, 0, null, /* shouldPrintRpcSummary= */ false);
+        filibusterCore.teardownsCompleted(1);
+        return filibusterCore;
+    }
+
+    @AfterEach
+    public void removeCurrentInstance() {
+        FilibusterCore.removeCurrentInstance();
+    }
+
+    @Test
+    @DisplayName("Test that the typed invocation path records a copy of the index without its counters.")
+    public void testTypedInvocationRecordsCallstackOnly() {
+        FilibusterCore filibusterCore = new FilibusterCore(createFilibusterConfigurationBuilder().build());
+
+        // Push and pop a callsite, as the instrumentor does when it prepares its clocks, to leave a counter behind.
+        DistributedExecutionIndex distributedExecutionIndex = DistributedExecutionIndexType.getImplType().createImpl();
+        Callsite callsite = generateCallsite();
+        distributedExecutionIndex.push(callsite);
+        distributedExecutionIndex.pop();
+        distributedExecutionIndex.push(callsite);
+
+        DistributedExecutionIndex expectedDistributedExecutionIndex = DistributedExecutionIndexType.getImplType().createImpl().deserialize(distributedExecutionIndex.toString());
+
+        filibusterCore.beginInvocation(createInvocationRecord(callsite, distributedExecutionIndex));
+        filibusterCore.endInvocation(distributedExecutionIndex, createExceptionPayload(distributedExecutionIndex), /* isUpdate= */ false);
+
+        // The instrumentor keeps using its index after the invocation.
+        distributedExecutionIndex.push(callsite);
+
+        Map<DistributedExecutionIndex, JSONObject> executedRpcs = filibusterCore.executedRpcs();
+        assertNotNull(executedRpcs);
+        assertEquals(1, executedRpcs.size());
+        assertTrue(executedRpcs.containsKey(expectedDistributedExecutionIndex));
+        assertNotSame(distributedExecutionIndex, executedRpcs.keySet().iterator().next());
+
+        Map<DistributedExecutionIndex, JSONObject> failedRpcs = filibusterCore.failedRpcs();
+        assertNotNull(failedRpcs);
+        assertTrue(failedRpcs.containsKey(expectedDistributedExecutionIndex));
+    }
+
+    @Test
+    @DisplayName("Test that concurrent invocations are all recorded while the iteration is queried.")
+    public void testConcurrentInvocationsAreRecorded() throws InterruptedException, ExecutionException {
+        FilibusterCore filibusterCore = createFilibusterCoreWithAnalysisFile(createFilibusterConfigurationBuilder().build());
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+
+        try {
+            List<Future<?>> futures = invokeConcurrently(executorService, filibusterCore);
+
+            for (Future<?> future : futures) {
+                while (!future.isDone()) {
+                    assertTrue(filibusterCore.hasNextIteration(1));
+                    filibusterCore.iterationsRemaining();
+                }
+
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        Map<DistributedExecutionIndex, JSONObject> executedRpcs = filibusterCore.executedRpcs();
+        assertNotNull(executedRpcs);
+        assertEquals(numberOfThreads * invocationsPerThread, executedRpcs.size());
+
+        // One execution was scheduled per invocation, to fail it.
+        filibusterCore.completeIteration(1, 0, null, /* shouldPrintRpcSummary= */ false);
+        filibusterCore.teardownsCompleted(1);
+        assertTrue(filibusterCore.hasNextIteration(2));
+        assertEquals(numberOfThreads * invocationsPerThread - 1, filibusterCore.iterationsRemaining());
+    }
+
+    @Test
+    @DisplayName("Test that iterations can complete while invocations are in flight.")
+    public void testTeardownsCompletedWithConcurrentInvocations() throws InterruptedException, ExecutionException {
+        FilibusterCore filibusterCore = createFilibusterCoreWithAnalysisFile(createFilibusterConfigurationBuilder().build());
+
+        // Schedule enough executions that there is always a next iteration.
+        for (int i = 0; i < numberOfThreads; i++) {
+            invoke(filibusterCore, "initial-" + i, invocationsPerThread);
+        }
+
+        filibusterCore.completeIteration(1, 0, null, /* shouldPrintRpcSummary= */ false);
+        filibusterCore.teardownsCompleted(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        int currentIteration = 2;
+
+        try {
+            List<Future<?>> futures = invokeConcurrently(executorService, filibusterCore);
+
+            for (Future<?> future : futures) {
+                while (!future.isDone() && filibusterCore.iterationsRemaining() > 0) {
+                    assertTrue(filibusterCore.hasNextIteration(currentIteration));
+                    filibusterCore.completeIteration(currentIteration, 0, null, /* shouldPrintRpcSummary= */ false);
+                    filibusterCore.teardownsCompleted(currentIteration);
+                    currentIteration++;
+                }
+
+                // Invocations never observe an iteration in between two test executions.
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertTrue(filibusterCore.hasNextIteration(currentIteration));
+    }
+
+    @Test
+    @DisplayName("Test that the fault plans are recomputed when the analysis file changes.")
+    public void testFaultPlansInvalidatedByAnalysisFile() {
+        FilibusterCore filibusterCore = new FilibusterCore(createFilibusterConfigurationBuilder().build());
+
+        filibusterCore.analysisFile(createAnalysisFile("UNAVAILABLE"));
+        invoke(filibusterCore, "first", 1);
+        assertEquals(1, filibusterCore.iterationsRemaining());
+
+        // Same module, method, and type: served from the fault plan of the previous analysis file if it were kept.
+        filibusterCore.analysisFile(createAnalysisFile("UNAVAILABLE", "DEADLINE_EXCEEDED"));
+        invoke(filibusterCore, "second", 1);
+        assertEquals(3, filibusterCore.iterationsRemaining());
+    }
+
+    @Test
+    @DisplayName("Test that no executions are scheduled once the bound on simultaneous faults is reached.")
+    public void testMaxSimultaneousFaultsStopsScheduling() {
+        FilibusterCore filibusterCore = createFilibusterCoreWithAnalysisFile(createFilibusterConfigurationBuilder().maxSimultaneousFaults(1).build());
+
+        // Initial execution: one execution scheduled for each of the two RPCs.
+        invoke(filibusterCore, "first", 2);
+        assertEquals(2, filibusterCore.iterationsRemaining());
+
+        filibusterCore.completeIteration(1, 0, null, /* shouldPrintRpcSummary= */ false);
+        filibusterCore.teardownsCompleted(1);
+        assertEquals(1, filibusterCore.iterationsRemaining());
+
+        // The execution already injects one fault, so neither the same RPCs nor a new one schedule another.
+        invoke(filibusterCore, "first", 2);
+        invoke(filibusterCore, "second", 1);
+        assertEquals(1, filibusterCore.iterationsRemaining());
+    }
+
+    @Test
+    @DisplayName("Test that dynamic reduction bypasses faults on an RPC that already failed under another call path.")
+    public void testDynamicReductionAcrossCallPaths() {
+        // Without dynamic reduction, a fault is injected on the RPC under each call path.
+        FilibusterCore filibusterCore = runInitialExecutionWithPropagatedFailure(/* dynamicReduction= */ false);
+        assertTrue(filibusterCore.hasNextIteration(2));
+        assertEquals(1, filibusterCore.iterationsRemaining());
+        assertEquals(0, filibusterCore.getNumBypassedExecutions());
+        FilibusterCore.removeCurrentInstance();
+
+        // With dynamic reduction, the failure observed under the second call path subsumes both.
+        filibusterCore = runInitialExecutionWithPropagatedFailure(/* dynamicReduction= */ true);
+        assertFalse(filibusterCore.hasNextIteration(2));
+        assertEquals(0, filibusterCore.iterationsRemaining());
+        assertEquals(2, filibusterCore.getNumBypassedExecutions());
+    }
+}
@@ -0,0 +1,147 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.RpcType;
+import cloud.filibuster.dei.DistributedExecutionIndex;
+import cloud.filibuster.dei.DistributedExecutionIndexType;
+import cloud.filibuster.instrumentation.datatypes.Callsite;
+import cloud.filibuster.instrumentation.datatypes.CallsiteArguments;
+import cloud.filibuster.instrumentation.datatypes.FilibusterExecutor;
+import cloud.filibuster.instrumentation.datatypes.InvocationRecord;
+import cloud.filibuster.instrumentation.datatypes.VectorClock;
+import cloud.filibuster.junit.FilibusterSearchStrategy;
+import cloud.filibuster.junit.configuration.FilibusterConfiguration;
+import cloud.filibuster.junit.configuration.examples.FilibusterSingleFaultUnavailableAnalysisConfigurationFile;
+import cloud.filibuster.junit.filters.NoopFilter;
+import cloud.filibuster.junit.server.core.FilibusterCore;
+import cloud.filibuster.junit.server.core.profiles.ServiceProfileBehavior;
+import cloud.filibuster.junit.server.local.FilibusterDomainSocketServer;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.RequestHeaders;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class FilibusterDomainSocketServerTest {
+    private static final String moduleName = "cloud.filibuster.examples.WorldService";
+
+    private static final String methodName = "cloud.filibuster.examples.WorldService/World";
+
+    private static final int TIMEOUT_SECONDS = 10;
+
+    private FilibusterCore filibusterCore;
+
+    private FilibusterDomainSocketServer filibusterDomainSocketServer;
+
+    private String path;
+
+    @BeforeEach
+    public void startServer(@TempDir Path temporaryDirectory) throws InterruptedException {
+        assumeTrue(FilibusterDomainSocketServer.isSupported());
+
+        FilibusterConfiguration filibusterConfiguration = new FilibusterConfiguration.Builder()
+                .searchStrategy(FilibusterSearchStrategy.DFS)
+                .faultInjectionFilter(NoopFilter.class)
+                .serviceProfileBehavior(ServiceProfileBehavior.NONE)
+                .testName("FilibusterDomainSocketServerTest")
+                .className(FilibusterDomainSocketServerTest.class.getName())
+                .build();
+        filibusterCore = new FilibusterCore(filibusterConfiguration);
+        filibusterCore.analysisFile(new FilibusterSingleFaultUnavailableAnalysisConfigurationFile().toFilibusterCustomAnalysisConfigurationFile().toJsonObject());
+
+        path = temporaryDirectory.resolve("filibuster.sock").toString();
+        filibusterDomainSocketServer = FilibusterDomainSocketServer.serve(path);
+    }
+
+    @AfterEach
+    public void stopServer() {
+        if (filibusterDomainSocketServer != null) {
+            filibusterDomainSocketServer.stop();
+        }
+
+        FilibusterCore.removeCurrentInstance();
+    }
+
+    private AggregatedHttpResponse execute(HttpMethod method, String requestPath, JSONObject payload) throws ExecutionException, InterruptedException, TimeoutException {
+        RequestHeaders requestHeaders = RequestHeaders.of(
+                method,
+                requestPath,
+                HttpHeaderNames.CONTENT_TYPE,
+                "application/json",
+                "X-Filibuster-Instrumentation",
+                "true");
+        return FilibusterExecutor.getDomainSocketHttpClient(path).execute(requestHeaders, payload.toString()).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Test that an invocation begins and ends over the domain socket.")
+    public void testCreateAndUpdate() throws ExecutionException, InterruptedException, TimeoutException {
+        Callsite callsite = new Callsite("hello", moduleName, methodName, new CallsiteArguments(Object.class, "deadbeef"));
+        DistributedExecutionIndex distributedExecutionIndex = DistributedExecutionIndexType.getImplType().createImpl();
+        distributedExecutionIndex.push(callsite);
+
+        JSONObject invocationPayload = new InvocationRecord.Builder()
+                .sourceServiceName("hello")
+                .callsite(callsite)
+                .rpcType(RpcType.GRPC)
+                .vectorClock(new VectorClock())
+                .originVectorClock(new VectorClock())
+                .distributedExecutionIndex(distributedExecutionIndex)
+                .build()
+                .toJsonObject();
+
+        AggregatedHttpResponse createResponse = execute(HttpMethod.PUT, "/filibuster/create", invocationPayload);
+        assertEquals("200", createResponse.headers().get(HttpHeaderNames.STATUS));
+
+        // No fault in the initial execution; one execution is scheduled to fail the invocation.
+        JSONObject createResponseObject = new JSONObject(createResponse.contentUtf8());
+        assertTrue(createResponseObject.has("generated_id"));
+        assertFalse(createResponseObject.has("forced_exception"));
+        assertEquals(1, filibusterCore.iterationsRemaining());
+
+        JSONObject exception = new JSONObject();
+        exception.put("name", "io.grpc.StatusRuntimeException");
+
+        JSONObject invocationCompletePayload = new JSONObject();
+        invocationCompletePayload.put("execution_index", distributedExecutionIndex.toString());
+        invocationCompletePayload.put("module", moduleName);
+        invocationCompletePayload.put("method", methodName);
+        invocationCompletePayload.put("exception", exception);
+
+        AggregatedHttpResponse updateResponse = execute(HttpMethod.POST, "/filibuster/update", invocationCompletePayload);
+        assertEquals("200", updateResponse.headers().get(HttpHeaderNames.STATUS));
+
+        DistributedExecutionIndex expectedDistributedExecutionIndex = DistributedExecutionIndexType.getImplType().createImpl().deserialize(distributedExecutionIndex.toString());
+
+        Map<DistributedExecutionIndex, JSONObject> executedRpcs = filibusterCore.executedRpcs();
+        assertNotNull(executedRpcs);
+        assertTrue(executedRpcs.containsKey(expectedDistributedExecutionIndex));
+
+        Map<DistributedExecutionIndex, JSONObject> failedRpcs = filibusterCore.failedRpcs();
+        assertNotNull(failedRpcs);
+        assertTrue(failedRpcs.containsKey(expectedDistributedExecutionIndex));
+    }
+
+    @Test
+    @DisplayName("Test that paths other than the RPC hooks are not served over the domain socket.")
+    public void testUnknownPath() throws ExecutionException, InterruptedException, TimeoutException {
+        AggregatedHttpResponse response = execute(HttpMethod.POST, "/filibuster/complete-iteration/1", new JSONObject());
+        assertEquals("404", response.headers().get(HttpHeaderNames.STATUS));
+    }
+}
@@ -0,0 +1,137 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.dei.DistributedExecutionIndex;
+import cloud.filibuster.instrumentation.datatypes.Callsite;
+import cloud.filibuster.instrumentation.datatypes.CallsiteArguments;
+import cloud.filibuster.junit.server.core.FilibusterDynamicReduction;
+import cloud.filibuster.junit.server.core.test_executions.AbstractTestExecution;
+import cloud.filibuster.junit.server.core.test_executions.TestExecution;
+import org.json.JSONObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static cloud.filibuster.unit.TestExecutionFixtures.createDistributedExecutionIndex;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FilibusterDynamicReductionTest {
+    private static JSONObject createException(String code) {
+        JSONObject metadata = new JSONObject();
+        metadata.put("code", code);
+
+        JSONObject exception = new JSONObject();
+        exception.put("name", "io.grpc.StatusRuntimeException");
+        exception.put("metadata", metadata);
+        return exception;
+    }
+
+    private static JSONObject createFault(String code) {
+        return new JSONObject().put("forced_exception", createException(code));
+    }
+
+    private static JSONObject createRequest(String methodName) {
+        JSONObject request = new JSONObject();
+        request.put("module", "service");
+        request.put("method", methodName);
+        request.put("args", new JSONObject().put("toString", "deadbeef"));
+        return request;
+    }
+
+    private static JSONObject createExceptionPayload(String code) {
+        return new JSONObject().put("exception", createException(code));
+    }
+
+    // The distributed execution index of the RPC when called from the given caller.
+    private static DistributedExecutionIndex createDistributedExecutionIndexWithCaller(String callerMethodName, String methodName) {
+        DistributedExecutionIndex distributedExecutionIndex = TestExecutionFixtures.createDistributedExecutionIndex(callerMethodName);
+        distributedExecutionIndex.push(new Callsite("service", "klass", methodName, new CallsiteArguments(Object.class, "deadbeef")));
+        return distributedExecutionIndex;
+    }
+
+    private static AbstractTestExecution createAbstractTestExecution(DistributedExecutionIndex distributedExecutionIndex, String methodName, String code) {
+        AbstractTestExecution abstractTestExecution = new AbstractTestExecution();
+        addFaultToInject(abstractTestExecution, distributedExecutionIndex, methodName, code);
+        return abstractTestExecution;
+    }
+
+    private static void addFaultToInject(AbstractTestExecution abstractTestExecution, DistributedExecutionIndex distributedExecutionIndex, String methodName, String code) {
+        abstractTestExecution.addDistributedExecutionIndexWithRequestPayload(distributedExecutionIndex, createRequest(methodName));
+        abstractTestExecution.addFaultToInject(distributedExecutionIndex, createFault(code));
+    }
+
+    @Test
+    @DisplayName("Test that an observed failure subsumes the same fault on the same RPC under any call path.")
+    public void testObservedFailureSubsumesFault() {
+        FilibusterDynamicReduction dynamicReduction = new FilibusterDynamicReduction();
+        DistributedExecutionIndex distributedExecutionIndex = createDistributedExecutionIndex("theMethodName");
+        DistributedExecutionIndex otherDistributedExecutionIndex = createDistributedExecutionIndexWithCaller("theCallerName", "theMethodName");
+
+        assertFalse(dynamicReduction.isSubsumed(createAbstractTestExecution(distributedExecutionIndex, "theMethodName", "UNAVAILABLE")));
+
+        dynamicReduction.recordResponse(TestExecution.rpcFingerprint(createRequest("theMethodName")), createExceptionPayload("UNAVAILABLE"));
+
+        assertTrue(dynamicReduction.isSubsumed(createAbstractTestExecution(distributedExecutionIndex, "theMethodName", "UNAVAILABLE")));
+        assertTrue(dynamicReduction.isSubsumed(createAbstractTestExecution(otherDistributedExecutionIndex, "theMethodName", "UNAVAILABLE")));
+        assertFalse(dynamicReduction.isSubsumed(createAbstractTestExecution(distributedExecutionIndex, "theMethodName", "DEADLINE_EXCEEDED")));
+        assertFalse(dynamicReduction.isSubsumed(createAbstractTestExecution(createDistributedExecutionIndex("anotherMethodName"), "anotherMethodName", "UNAVAILABLE")));
+    }
+
+    @Test
+    @DisplayName("Test that successful responses do not subsume faults.")
+    public void testSuccessfulResponseDoesNotSubsumeFault() {
+        FilibusterDynamicReduction dynamicReduction = new FilibusterDynamicReduction();
+        DistributedExecutionIndex distributedExecutionIndex = createDistributedExecutionIndex("theMethodName");
+
+        JSONObject payload = new JSONObject();
+        payload.put("return_value", new JSONObject());
+        dynamicReduction.recordResponse(TestExecution.rpcFingerprint(createRequest("theMethodName")), payload);
+
+        assertFalse(dynamicReduction.isSubsumed(createAbstractTestExecution(distributedExecutionIndex, "theMethodName", "UNAVAILABLE")));
+    }
+
+    @Test
+    @DisplayName("Test that a combination of faults is only subsumed by failures observed together.")
+    public void testCombinationSubsumedByFailuresObservedTogether() {
+        FilibusterDynamicReduction dynamicReduction = new FilibusterDynamicReduction();
+        String firstRpcFingerprint = TestExecution.rpcFingerprint(createRequest("firstMethodName"));
+        String secondRpcFingerprint = TestExecution.rpcFingerprint(createRequest("secondMethodName"));
+
+        AbstractTestExecution abstractTestExecution = new AbstractTestExecution();
+        addFaultToInject(abstractTestExecution, createDistributedExecutionIndex("firstMethodName"), "firstMethodName", "UNAVAILABLE");
+        addFaultToInject(abstractTestExecution, createDistributedExecutionIndex("secondMethodName"), "secondMethodName", "UNAVAILABLE");
+
+        // Observed in different test executions.
+        dynamicReduction.recordResponse(firstRpcFingerprint, createExceptionPayload("UNAVAILABLE"));
+        dynamicReduction.completeExecution();
+        dynamicReduction.recordResponse(secondRpcFingerprint, createExceptionPayload("UNAVAILABLE"));
+        dynamicReduction.completeExecution();
+        assertFalse(dynamicReduction.isSubsumed(abstractTestExecution));
+
+        // Observed together, but both injected.
+        dynamicReduction.recordFaultInjected(firstRpcFingerprint, createFault("UNAVAILABLE"));
+        dynamicReduction.recordFaultInjected(secondRpcFingerprint, createFault("UNAVAILABLE"));
+        dynamicReduction.completeExecution();
+        assertFalse(dynamicReduction.isSubsumed(abstractTestExecution));
+
+        // Observed together, one of them without being injected.
+        dynamicReduction.recordFaultInjected(firstRpcFingerprint, createFault("UNAVAILABLE"));
+        dynamicReduction.recordResponse(secondRpcFingerprint, createExceptionPayload("UNAVAILABLE"));
+        assertTrue(dynamicReduction.isSubsumed(abstractTestExecution));
+
+        dynamicReduction.completeExecution();
+        assertTrue(dynamicReduction.isSubsumed(abstractTestExecution));
+    }
+
+    @Test
+    @DisplayName("Test that the same fault on the same RPC through several call paths is not subsumed.")
+    public void testSameRpcThroughSeveralCallPathsNotSubsumed() {
+        FilibusterDynamicReduction dynamicReduction = new FilibusterDynamicReduction();
+        dynamicReduction.recordResponse(TestExecution.rpcFingerprint(createRequest("theMethodName")), createExceptionPayload("UNAVAILABLE"));
+
+        AbstractTestExecution abstractTestExecution = new AbstractTestExecution();
+        addFaultToInject(abstractTestExecution, createDistributedExecutionIndex("theMethodName"), "theMethodName", "UNAVAILABLE");
+        addFaultToInject(abstractTestExecution, createDistributedExecutionIndexWithCaller("theCallerName", "theMethodName"), "theMethodName", "UNAVAILABLE");
+
+        assertFalse(dynamicReduction.isSubsumed(abstractTestExecution));
+    }
+}
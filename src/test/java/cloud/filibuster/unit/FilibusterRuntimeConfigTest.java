@@ -0,0 +1,115 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.dei.DistributedExecutionIndexType;
+import cloud.filibuster.dei.implementations.DistributedExecutionIndexV1;
+import cloud.filibuster.instrumentation.helpers.FilibusterRuntimeConfig;
+import cloud.filibuster.instrumentation.helpers.IndexedCounterexample;
+import cloud.filibuster.instrumentation.helpers.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FilibusterRuntimeConfigTest {
+    @AfterEach
+    public void resetProperties() {
+        Property.setDeiVersionProperty(DistributedExecutionIndexType.V1);
+        DistributedExecutionIndexV1.Properties.Signature.setSignatureDigest(true);
+        Property.setInstrumentationCounterexampleFileProperty("");
+        Property.setServerHostProperty(Property.SERVER_HOST_DEFAULT);
+        Property.setServerPortProperty(Property.SERVER_PORT_DEFAULT);
+    }
+
+    @Test
+    @DisplayName("Test that the snapshot is shared until a property changes.")
+    public void testSnapshotIsShared() {
+        FilibusterRuntimeConfig captured = FilibusterRuntimeConfig.capture();
+        assertSame(captured, FilibusterRuntimeConfig.current());
+
+        Property.setDeiVersionProperty(DistributedExecutionIndexType.V2);
+        FilibusterRuntimeConfig recaptured = FilibusterRuntimeConfig.current();
+        assertNotSame(captured, recaptured);
+        assertEquals(DistributedExecutionIndexType.V2, recaptured.getDeiVersion());
+        assertEquals(DistributedExecutionIndexType.V2, DistributedExecutionIndexType.getImplType());
+    }
+
+    @Test
+    @DisplayName("Test that distributed execution index properties invalidate the snapshot.")
+    public void testDistributedExecutionIndexPropertiesInvalidate() {
+        assertTrue(FilibusterRuntimeConfig.capture().getDeiSignatureDigest());
+
+        DistributedExecutionIndexV1.Properties.Signature.setSignatureDigest(false);
+        assertFalse(FilibusterRuntimeConfig.current().getDeiSignatureDigest());
+    }
+
+    @Test
+    @DisplayName("Test that the Filibuster server address is part of the snapshot.")
+    public void testServerAddress() {
+        Property.setServerHostProperty("filibuster");
+        Property.setServerPortProperty(5006);
+
+        FilibusterRuntimeConfig runtimeConfig = FilibusterRuntimeConfig.current();
+        assertEquals("filibuster", runtimeConfig.getServerHost());
+        assertEquals(5006, runtimeConfig.getServerPort());
+        assertEquals("http://filibuster:5006/", runtimeConfig.getServerBaseUri());
+    }
+
+    @Test
+    @DisplayName("Test that the counterexample is shared while its file is unchanged.")
+    public void testCounterexampleIsSharedWhileUnchanged() {
+        Property.setInstrumentationCounterexampleFileProperty("counterexample.json");
+
+        FilibusterRuntimeConfig runtimeConfig = FilibusterRuntimeConfig.current();
+        assertEquals("counterexample.json", runtimeConfig.getCounterexampleFile());
+
+        IndexedCounterexample counterexample = runtimeConfig.getCounterexample();
+        assertNotNull(counterexample);
+        assertSame(counterexample, runtimeConfig.getCounterexample());
+        assertSame(counterexample, IndexedCounterexample.fromEnvironment());
+
+        Property.setInstrumentationCounterexampleFileProperty("");
+        assertNull(FilibusterRuntimeConfig.current().getCounterexample());
+    }
+
+    @Test
+    @DisplayName("Test that the counterexample is reloaded when the file changes.")
+    public void testCounterexampleIsReloadedWhenModified(@TempDir Path temporaryDirectory) throws IOException {
+        Path counterexamplePath = temporaryDirectory.resolve("counterexample.json");
+        File counterexampleFile = counterexamplePath.toFile();
+        Property.setInstrumentationCounterexampleFileProperty(counterexamplePath.toString());
+
+        FilibusterRuntimeConfig runtimeConfig = FilibusterRuntimeConfig.current();
+        assertNull(runtimeConfig.getCounterexample());
+
+        Files.copy(Paths.get("counterexample.json"), counterexamplePath);
+        IndexedCounterexample counterexample = runtimeConfig.getCounterexample();
+        assertNotNull(counterexample);
+        assertSame(counterexample, runtimeConfig.getCounterexample());
+
+        long lastModified = counterexampleFile.lastModified();
+        Files.write(counterexamplePath, "\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertTrue(counterexampleFile.setLastModified(lastModified + 10000));
+        IndexedCounterexample reloadedCounterexample = runtimeConfig.getCounterexample();
+        assertNotNull(reloadedCounterexample);
+        assertNotSame(counterexample, reloadedCounterexample);
+
+        Files.delete(counterexamplePath);
+        assertNull(runtimeConfig.getCounterexample());
+    }
+}
@@ -0,0 +1,35 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.instrumentation.helpers.DigestEngine;
+import cloud.filibuster.instrumentation.helpers.Hashing;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class HashingTest {
+    @Test
+    @DisplayName("Test that the default digest is SHA-1, matching the other Filibuster implementations.")
+    public void testDefaultDigest() {
+        assertEquals("a9993e364706816aba3e25717850c26c9cd0d89d", Hashing.createDigest("abc"));
+        assertEquals("da39a3ee5e6b4b0d3255bfef95601890afd80709", Hashing.createDigest(""));
+    }
+
+    @Test
+    @DisplayName("Test that cached digests match freshly computed digests.")
+    public void testCachedDigest() {
+        String first = Hashing.createDigest("HelloService,Hello,[]", DigestEngine.SHA1);
+        String second = Hashing.createDigest("HelloService,Hello,[]", DigestEngine.SHA1);
+
+        assertEquals(DigestEngine.SHA1.digest("HelloService,Hello,[]"), first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("Test the Murmur3 digest engine against reference values.")
+    public void testMurmur3Digest() {
+        assertEquals("00000000000000000000000000000000", Hashing.createDigest("", DigestEngine.MURMUR3_128));
+        assertEquals("cbd8a7b341bd9b025b1e906a48ae1d19", Hashing.createDigest("hello", DigestEngine.MURMUR3_128));
+        assertEquals("e34bbc7bbc071b6c7a433ca9c49a9347", Hashing.createDigest("The quick brown fox jumps over the lazy dog", DigestEngine.MURMUR3_128));
+    }
+}
@@ -0,0 +1,62 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.instrumentation.helpers.IndexedCounterexample;
+import cloud.filibuster.instrumentation.helpers.Property;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class IndexedCounterexampleTest {
+    private static final String validDistributedExecutionIndex = "[[\"befdb58c6e8809aeb1a0e954bc665ca3\", 1], [\"5c172d74ea9e37459ad3bb923e92c6c2\", 1]]";
+
+    private static final String invalidDistributedExecutionIndex = "[[\"befdb58c6e8809aeb1a0e954bc665ca3\", 1]]";
+
+    @AfterEach
+    public void unsetCounterexampleProperty() {
+        Property.setInstrumentationCounterexampleFileProperty("");
+    }
+
+    @Test
+    @DisplayName("Test that no counterexample is loaded when the property is unset.")
+    public void testFromEnvironmentWithPropertyUnset() {
+        Property.setInstrumentationCounterexampleFileProperty("");
+        assertNull(IndexedCounterexample.fromEnvironment());
+    }
+
+    @Test
+    @DisplayName("Test that the counterexample is loaded once and shared.")
+    public void testFromEnvironmentIsShared() {
+        Property.setInstrumentationCounterexampleFileProperty("counterexample.json");
+
+        IndexedCounterexample first = IndexedCounterexample.fromEnvironment();
+        IndexedCounterexample second = IndexedCounterexample.fromEnvironment();
+
+        assertNotNull(first);
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Test looking up failures in the indexed counterexample.")
+    public void testShouldFailRequestWith() {
+        Property.setInstrumentationCounterexampleFileProperty("counterexample.json");
+        IndexedCounterexample counterexample = IndexedCounterexample.fromEnvironment();
+        assertNotNull(counterexample);
+
+        JSONObject response = counterexample.shouldFailRequestWith(validDistributedExecutionIndex);
+        assertNotNull(response);
+        assertEquals("requests.exceptions.ConnectionError", response.getJSONObject("forced_exception").getString("name"));
+
+        assertNull(counterexample.shouldFailRequestWith(invalidDistributedExecutionIndex));
+
+        JSONObject defaultResponse = counterexample.shouldFailRequestWithOrDefault(invalidDistributedExecutionIndex);
+        assertEquals(invalidDistributedExecutionIndex, defaultResponse.getString("execution_index"));
+        assertFalse(defaultResponse.has("forced_exception"));
+    }
+}
@@ -0,0 +1,93 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.instrumentation.helpers.ProtocolMessages;
+import org.json.JSONObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProtocolMessagesTest {
+    private static JSONObject createInvocationPayload() {
+        JSONObject args = new JSONObject();
+        args.put("__class__", "cloud.filibuster.examples.Hello$HelloRequest");
+        args.put("toString", "name: \"Armerian\"");
+
+        JSONObject metadata = new JSONObject();
+        metadata.put("rpc_type", "GRPC");
+
+        JSONObject vclock = new JSONObject();
+        vclock.put("api_server", 2);
+
+        JSONObject payload = new JSONObject();
+        payload.put("instrumentation_type", "invocation");
+        payload.put("source_service_name", "api_server");
+        payload.put("module", "cloud.filibuster.examples.HelloService");
+        payload.put("method", "Hello");
+        payload.put("args", args);
+        payload.put("kwargs", new JSONObject());
+        payload.put("callsite_file", "HelloServer.java");
+        payload.put("callsite_line", "104");
+        payload.put("full_traceback", "trace");
+        payload.put("metadata", metadata);
+        payload.put("vclock", vclock);
+        payload.put("origin_vclock", new JSONObject());
+        payload.put("execution_index", "[[\"V1-abc\", 1]]");
+        return payload;
+    }
+
+    @Test
+    @DisplayName("Test that invocation payloads survive the binary protocol unchanged.")
+    public void testBeginInvocationRequestRoundTrip() {
+        JSONObject payload = createInvocationPayload();
+        JSONObject roundTripped = ProtocolMessages.fromBeginInvocationRequest(ProtocolMessages.toBeginInvocationRequest(payload));
+        assertTrue(payload.similar(roundTripped), roundTripped.toString());
+    }
+
+    @Test
+    @DisplayName("Test that injected faults survive the binary protocol unchanged.")
+    public void testBeginInvocationReplyRoundTrip() {
+        JSONObject forcedExceptionMetadata = new JSONObject();
+        forcedExceptionMetadata.put("code", "UNAVAILABLE");
+        forcedExceptionMetadata.put("sleep", 100);
+        forcedExceptionMetadata.put("abort", true);
+
+        JSONObject forcedException = new JSONObject();
+        forcedException.put("name", "io.grpc.StatusRuntimeException");
+        forcedException.put("metadata", forcedExceptionMetadata);
+
+        JSONObject response = new JSONObject();
+        response.put("generated_id", 3);
+        response.put("forced_exception", forcedException);
+
+        JSONObject roundTripped = ProtocolMessages.fromBeginInvocationReply(ProtocolMessages.toBeginInvocationReply(response));
+        assertTrue(response.similar(roundTripped), roundTripped.toString());
+    }
+
+    @Test
+    @DisplayName("Test that completion payloads survive the binary protocol unchanged.")
+    public void testEndInvocationRequestRoundTrip() {
+        JSONObject exceptionMetadata = new JSONObject();
+        exceptionMetadata.put("code", "UNAVAILABLE");
+        exceptionMetadata.put("description", JSONObject.NULL);
+
+        JSONObject exception = new JSONObject();
+        exception.put("name", "io.grpc.StatusRuntimeException");
+        exception.put("metadata", exceptionMetadata);
+
+        JSONObject vclock = new JSONObject();
+        vclock.put("api_server", 2);
+
+        JSONObject payload = new JSONObject();
+        payload.put("instrumentation_type", "invocation_complete");
+        payload.put("generated_id", 3);
+        payload.put("execution_index", "[[\"V1-abc\", 1]]");
+        payload.put("vclock", vclock);
+        payload.put("exception", exception);
+        payload.put("module", "cloud.filibuster.examples.HelloService");
+        payload.put("method", "Hello");
+
+        JSONObject roundTripped = ProtocolMessages.fromEndInvocationRequest(ProtocolMessages.toEndInvocationRequest(payload, false));
+        assertTrue(payload.similar(roundTripped), roundTripped.toString());
+    }
+}
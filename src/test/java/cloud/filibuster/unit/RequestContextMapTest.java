@@ -0,0 +1,89 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.instrumentation.datatypes.RequestContextMap;
+import cloud.filibuster.instrumentation.helpers.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestContextMapTest {
+    @AfterEach
+    public void unsetTtlProperty() {
+        Property.setInstrumentationRequestContextTtlMsProperty(Property.INSTRUMENTATION_REQUEST_CONTEXT_TTL_MS_DEFAULT);
+    }
+
+    @Test
+    @DisplayName("Test that values are stored by service and request id.")
+    public void testPutAndGet() {
+        RequestContextMap<String> requestContextMap = new RequestContextMap<>();
+        requestContextMap.put("api_server", "1", "a");
+        requestContextMap.put("world_server", "1", "b");
+
+        assertEquals("a", requestContextMap.get("api_server", "1"));
+        assertEquals("b", requestContextMap.get("world_server", "1"));
+        assertNull(requestContextMap.get("api_server", "2"));
+        assertEquals("c", requestContextMap.getOrDefault("api_server", "2", "c"));
+        assertTrue(requestContextMap.containsService("api_server"));
+        assertFalse(requestContextMap.containsService("hello_server"));
+    }
+
+    @Test
+    @DisplayName("Test that clearing a service drops only that service's requests.")
+    public void testClearService() {
+        RequestContextMap<String> requestContextMap = new RequestContextMap<>();
+        requestContextMap.put("api_server", "1", "a");
+        requestContextMap.put("world_server", "1", "b");
+
+        requestContextMap.clear("api_server");
+
+        assertFalse(requestContextMap.containsService("api_server"));
+        assertNull(requestContextMap.get("api_server", "1"));
+        assertEquals("b", requestContextMap.get("world_server", "1"));
+
+        requestContextMap.clear();
+
+        assertFalse(requestContextMap.containsService("world_server"));
+    }
+
+    @Test
+    @DisplayName("Test that snapshots use hash maps keyed by service and request id.")
+    public void testToMap() {
+        RequestContextMap<String> requestContextMap = new RequestContextMap<>();
+        requestContextMap.put("api_server", "1", "a");
+
+        Map<String, Map<String, String>> snapshot = requestContextMap.toMap();
+
+        assertEquals(HashMap.class, snapshot.get("api_server").getClass());
+        assertEquals("a", snapshot.get("api_server").get("1"));
+    }
+
+    @Test
+    @DisplayName("Test that requests share a lock only through their stripe.")
+    public void testLockFor() {
+        RequestContextMap<String> requestContextMap = new RequestContextMap<>();
+        assertSame(requestContextMap.lockFor("api_server", "1"), requestContextMap.lockFor("api_server", "1"));
+    }
+
+    @Test
+    @DisplayName("Test that entries expire once the TTL elapses.")
+    public void testTtlEviction() throws InterruptedException {
+        Property.setInstrumentationRequestContextTtlMsProperty(1);
+
+        RequestContextMap<String> requestContextMap = new RequestContextMap<>();
+        requestContextMap.put("api_server", "1", "a");
+
+        Thread.sleep(10);
+
+        assertNull(requestContextMap.get("api_server", "1"));
+        assertTrue(requestContextMap.toMap().get("api_server").isEmpty());
+    }
+}
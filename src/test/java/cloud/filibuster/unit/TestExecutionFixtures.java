@@ -0,0 +1,39 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.dei.DistributedExecutionIndex;
+import cloud.filibuster.dei.implementations.DistributedExecutionIndexV1;
+import cloud.filibuster.instrumentation.datatypes.Callsite;
+import cloud.filibuster.instrumentation.datatypes.CallsiteArguments;
+import cloud.filibuster.junit.server.core.test_executions.AbstractTestExecution;
+import org.json.JSONObject;
+
+// Test executions shared by the tests of the test execution collections and of dynamic reduction.
+final class TestExecutionFixtures {
+    private TestExecutionFixtures() {
+
+    }
+
+    static DistributedExecutionIndex createDistributedExecutionIndex(String methodName) {
+        Callsite callsite = new Callsite("service", "klass", methodName, new CallsiteArguments(Object.class, "deadbeef"));
+        DistributedExecutionIndex distributedExecutionIndex = new DistributedExecutionIndexV1();
+        distributedExecutionIndex.push(callsite);
+        return distributedExecutionIndex;
+    }
+
+    static AbstractTestExecution createAbstractTestExecution(DistributedExecutionIndex distributedExecutionIndex, JSONObject faultObject) {
+        AbstractTestExecution abstractTestExecution = new AbstractTestExecution();
+        abstractTestExecution.addFaultToInject(distributedExecutionIndex, faultObject);
+        return abstractTestExecution;
+    }
+
+    // One latency fault on each of the given methods.
+    static AbstractTestExecution createAbstractTestExecution(String... methodNames) {
+        AbstractTestExecution abstractTestExecution = new AbstractTestExecution();
+
+        for (String methodName : methodNames) {
+            abstractTestExecution.addFaultToInject(createDistributedExecutionIndex(methodName), new JSONObject().put("latency", 10));
+        }
+
+        return abstractTestExecution;
+    }
+}
@@ -0,0 +1,53 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.junit.configuration.FilibusterConfiguration;
+import cloud.filibuster.junit.scorers.FewestFaultsFirstScorer;
+import cloud.filibuster.junit.server.core.TestExecutionPriorityQueue;
+import cloud.filibuster.junit.server.core.test_executions.AbstractTestExecution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static cloud.filibuster.unit.TestExecutionFixtures.createAbstractTestExecution;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestExecutionPriorityQueueTest {
+    private static TestExecutionPriorityQueue createQueue() {
+        return new TestExecutionPriorityQueue(new FewestFaultsFirstScorer(), new FilibusterConfiguration.Builder().build());
+    }
+
+    @Test
+    @DisplayName("Test that executions with fewer faults are explored first, in scheduling order.")
+    public void testFewestFaultsFirst() {
+        TestExecutionPriorityQueue queue = createQueue();
+
+        AbstractTestExecution twoFaults = createAbstractTestExecution("a", "b");
+        AbstractTestExecution firstOneFault = createAbstractTestExecution("a");
+        AbstractTestExecution secondOneFault = createAbstractTestExecution("b");
+
+        queue.addTestExecution(twoFaults);
+        queue.addTestExecution(firstOneFault);
+        queue.addTestExecution(secondOneFault);
+        assertEquals(3, queue.size());
+
+        assertSame(firstOneFault, queue.removeAndReturnNextTestExecution());
+        assertSame(secondOneFault, queue.removeAndReturnNextTestExecution());
+        assertSame(twoFaults, queue.removeAndReturnNextTestExecution());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test that membership follows additions and removals.")
+    public void testContainsAbstractTestExecution() {
+        TestExecutionPriorityQueue queue = createQueue();
+
+        queue.addTestExecution(createAbstractTestExecution("a"));
+        assertTrue(queue.containsAbstractTestExecution(createAbstractTestExecution("a")));
+        assertFalse(queue.containsAbstractTestExecution(createAbstractTestExecution("b")));
+
+        queue.removeAndReturnNextTestExecution();
+        assertFalse(queue.containsAbstractTestExecution(createAbstractTestExecution("a")));
+    }
+}
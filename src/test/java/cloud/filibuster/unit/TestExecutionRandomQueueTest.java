@@ -0,0 +1,83 @@
+package cloud.filibuster.unit;
+
+import cloud.filibuster.junit.server.core.TestExecutionRandomQueue;
+import cloud.filibuster.junit.server.core.test_executions.AbstractTestExecution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static cloud.filibuster.unit.TestExecutionFixtures.createAbstractTestExecution;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestExecutionRandomQueueTest {
+    private static List<AbstractTestExecution> drain(long seed, List<AbstractTestExecution> testExecutions) {
+        TestExecutionRandomQueue queue = new TestExecutionRandomQueue(seed);
+
+        for (AbstractTestExecution testExecution : testExecutions) {
+            queue.addTestExecution(testExecution);
+        }
+
+        List<AbstractTestExecution> order = new ArrayList<>();
+
+        while (!queue.isEmpty()) {
+            order.add(queue.removeAndReturnNextTestExecution());
+        }
+
+        return order;
+    }
+
+    @Test
+    @DisplayName("Test that the same seed explores executions in the same order.")
+    public void testSameSeedSameOrder() {
+        List<AbstractTestExecution> testExecutions = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            testExecutions.add(createAbstractTestExecution("method" + i));
+        }
+
+        List<AbstractTestExecution> first = drain(42, testExecutions);
+        assertEquals(20, first.size());
+        assertEquals(first, drain(42, testExecutions));
+    }
+
+    @Test
+    @DisplayName("Test that RPC sites are sampled uniformly, regardless of how many executions each one has.")
+    public void testUniformAcrossSites() {
+        List<AbstractTestExecution> testExecutions = new ArrayList<>();
+
+        for (int i = 0; i < 9; i++) {
+            testExecutions.add(createAbstractTestExecution("a"));
+        }
+
+        AbstractTestExecution rare = createAbstractTestExecution("b");
+        testExecutions.add(rare);
+
+        int rareFirst = 0;
+
+        for (long seed = 0; seed < 200; seed++) {
+            if (drain(seed, testExecutions).get(0) == rare) {
+                rareFirst++;
+            }
+        }
+
+        // Half the time if sites are sampled uniformly; a tenth of the time if executions are.
+        assertTrue(rareFirst > 60, "rare site was sampled first " + rareFirst + " times");
+    }
+
+    @Test
+    @DisplayName("Test that membership follows additions and removals.")
+    public void testContainsAbstractTestExecution() {
+        TestExecutionRandomQueue queue = new TestExecutionRandomQueue(0);
+
+        queue.addTestExecution(createAbstractTestExecution("a"));
+        assertTrue(queue.containsAbstractTestExecution(createAbstractTestExecution("a")));
+        assertFalse(queue.containsAbstractTestExecution(createAbstractTestExecution("b")));
+
+        queue.removeAndReturnNextTestExecution();
+        assertFalse(queue.containsAbstractTestExecution(createAbstractTestExecution("a")));
+    }
+}
@@ -5,9 +5,13 @@ import cloud.filibuster.dei.implementations.DistributedExecutionIndexV1;
 import cloud.filibuster.instrumentation.datatypes.Callsite;
 import cloud.filibuster.instrumentation.datatypes.CallsiteArguments;
 import cloud.filibuster.junit.server.core.test_executions.AbstractTestExecution;
+import cloud.filibuster.junit.server.core.test_executions.ConcreteTestExecution;
+import cloud.filibuster.junit.server.core.test_executions.TestExecution;
 import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 
@@ -443,4 +447,145 @@ public class TestExecutionTest {
         pe2.addDistributedExecutionIndexWithRequestPayload(distributedExecutionIndex2, jsonObject2);
         assertEquals(pe1, pe2);
     }
+
+    // Fault-set fingerprints.
+
+    @Test
+    public void testFaultsToInjectFingerprintIgnoresKeyOrder() {
+        Callsite callsite = new Callsite("service", "klass", "theMethodName", new CallsiteArguments(Object.class, "deadbeef"));
+
+        DistributedExecutionIndex distributedExecutionIndex1 = new DistributedExecutionIndexV1();
+        distributedExecutionIndex1.push(callsite);
+
+        DistributedExecutionIndex distributedExecutionIndex2 = new DistributedExecutionIndexV1();
+        distributedExecutionIndex2.push(callsite);
+
+        AbstractTestExecution pe1 = new AbstractTestExecution();
+        AbstractTestExecution pe2 = new AbstractTestExecution();
+
+        JSONObject faultObject1 = new JSONObject();
+        faultObject1.put("forced_exception", new JSONObject().put("name", "exception").put("metadata", new JSONObject().put("code", "UNAVAILABLE")));
+        faultObject1.put("latency", 10);
+        JSONObject faultObject2 = new JSONObject();
+        faultObject2.put("latency", 10);
+        faultObject2.put("forced_exception", new JSONObject().put("metadata", new JSONObject().put("code", "UNAVAILABLE")).put("name", "exception"));
+
+        pe1.addFaultToInject(distributedExecutionIndex1, faultObject1);
+        pe2.addFaultToInject(distributedExecutionIndex2, faultObject2);
+
+        assertEquals(pe1.getFaultsToInjectFingerprint(), pe2.getFaultsToInjectFingerprint());
+        assertEquals(true, pe1.matchesAbstractTestExecution(pe2));
+    }
+
+    @Test
+    public void testFaultsToInjectFingerprintUpdatedOnAddFaultToInject() {
+        Callsite callsite = new Callsite("service", "klass", "theMethodName", new CallsiteArguments(Object.class, "deadbeef"));
+
+        DistributedExecutionIndex distributedExecutionIndex = new DistributedExecutionIndexV1();
+        distributedExecutionIndex.push(callsite);
+
+        AbstractTestExecution pe1 = new AbstractTestExecution();
+        AbstractTestExecution pe2 = new AbstractTestExecution();
+        assertEquals(pe1.getFaultsToInjectFingerprint(), pe2.getFaultsToInjectFingerprint());
+
+        pe1.addFaultToInject(distributedExecutionIndex, new JSONObject().put("latency", 10));
+        assertNotEquals(pe1.getFaultsToInjectFingerprint(), pe2.getFaultsToInjectFingerprint());
+        assertEquals(false, pe1.matchesAbstractTestExecution(pe2));
+    }
+
+    // Abstract executions share the RPCs of the concrete execution they are cut from.
+
+    @Test
+    public void testAbstractTestExecutionDoesNotSeeLaterRpcs() {
+        Callsite callsite1 = new Callsite("service", "klass", "theMethodName", new CallsiteArguments(Object.class, "deadbeef"));
+        Callsite callsite2 = new Callsite("service", "klass", "theOtherMethodName", new CallsiteArguments(Object.class, "deadbeef"));
+
+        DistributedExecutionIndex distributedExecutionIndex1 = new DistributedExecutionIndexV1();
+        distributedExecutionIndex1.push(callsite1);
+
+        DistributedExecutionIndex distributedExecutionIndex2 = new DistributedExecutionIndexV1();
+        distributedExecutionIndex2.push(callsite2);
+
+        ConcreteTestExecution concreteTestExecution = new ConcreteTestExecution("testName", UUID.randomUUID(), "className");
+        concreteTestExecution.addDistributedExecutionIndexWithRequestPayload(distributedExecutionIndex1, new JSONObject());
+
+        AbstractTestExecution pe1 = concreteTestExecution.toAbstractTestExecution();
+        AbstractTestExecution pe2 = new AbstractTestExecution();
+        pe2.addDistributedExecutionIndexWithRequestPayload(distributedExecutionIndex1, new JSONObject());
+        assertEquals(pe1, pe2);
+
+        // Later RPCs in the concrete execution are not visible to the abstract execution.
+        concreteTestExecution.addDistributedExecutionIndexWithRequestPayload(distributedExecutionIndex2, new JSONObject());
+        assertEquals(pe1, pe2);
+        assertEquals(2, concreteTestExecution.getExecutedRpcs().size());
+
+        // Writes to the abstract execution are not visible to the concrete execution.
+        pe1.addDistributedExecutionIndexWithRequestPayload(distributedExecutionIndex2, new JSONObject().put("a", "b"));
+        assertNotEquals(pe1, pe2);
+        assertEquals(0, concreteTestExecution.getExecutedRpcs().get(distributedExecutionIndex2).length());
+    }
+
+    // Redundant RPC detection.
+
+    @Test
+    public void testHasSeenRpcUnderSameOrDifferentDistributedExecutionIndex() {
+        Callsite callsite1 = new Callsite("service", "klass", "theMethodName", new CallsiteArguments(Object.class, "deadbeef"));
+        Callsite callsite2 = new Callsite("service", "klass", "theOtherMethodName", new CallsiteArguments(Object.class, "deadbeef"));
+
+        DistributedExecutionIndex distributedExecutionIndex1 = new DistributedExecutionIndexV1();
+        distributedExecutionIndex1.push(callsite1);
+
+        DistributedExecutionIndex distributedExecutionIndex2 = new DistributedExecutionIndexV1();
+        distributedExecutionIndex2.push(callsite2);
+
+        JSONObject payload1 = new JSONObject();
+        payload1.put("method", "theMethodName");
+        payload1.put("args", new JSONObject().put("toString", "deadbeef"));
+        payload1.put("execution_index", distributedExecutionIndex1.toString());
+        payload1.put("instrumentation_type", "invocation");
+
+        JSONObject payload2 = new JSONObject();
+        payload2.put("execution_index", distributedExecutionIndex2.toString());
+        payload2.put("args", new JSONObject().put("toString", "deadbeef"));
+        payload2.put("method", "theMethodName");
+
+        JSONObject payload3 = new JSONObject();
+        payload3.put("method", "theMethodName");
+        payload3.put("args", new JSONObject().put("toString", "cafebabe"));
+        payload3.put("execution_index", distributedExecutionIndex2.toString());
+
+        AbstractTestExecution pe1 = new AbstractTestExecution();
+        assertEquals(false, pe1.hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex(payload1));
+
+        pe1.addDistributedExecutionIndexWithRequestPayload(distributedExecutionIndex1, payload1);
+        assertEquals(true, pe1.hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex(payload1));
+        assertEquals(true, pe1.hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex(payload2));
+        assertEquals(false, pe1.hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex(payload3));
+
+        pe1.addDistributedExecutionIndexWithRequestPayload(distributedExecutionIndex2, payload3);
+        assertEquals(true, pe1.hasSeenRpcUnderSameOrDifferentDistributedExecutionIndex(payload3));
+    }
+
+    @Test
+    public void testRpcFingerprintIgnoresEverythingButModuleMethodAndArguments() {
+        JSONObject payload1 = new JSONObject();
+        payload1.put("module", "service");
+        payload1.put("method", "theMethodName");
+        payload1.put("args", new JSONObject().put("__class__", "Object").put("toString", "deadbeef"));
+        payload1.put("origin_vclock", new JSONObject().put("service", 1));
+        payload1.put("metadata", new JSONObject().put("rpc_type", "grpc"));
+
+        JSONObject payload2 = new JSONObject();
+        payload2.put("args", new JSONObject().put("toString", "deadbeef").put("__class__", "Object"));
+        payload2.put("method", "theMethodName");
+        payload2.put("module", "service");
+        payload2.put("origin_vclock", new JSONObject().put("service", 2));
+
+        assertEquals(TestExecution.rpcFingerprint(payload1), TestExecution.rpcFingerprint(payload2));
+        assertNotEquals(TestExecution.rpcFingerprint(payload1), TestExecution.rpcFingerprint("otherService", "theMethodName", payload1.get("args")));
+
+        // The fingerprint has the same size whatever the size of the arguments.
+        String largeArguments = new String(new char[10000]).replace('\0', 'x');
+        assertEquals(TestExecution.rpcFingerprint(payload1).length(), TestExecution.rpcFingerprint("service", "theMethodName", new JSONObject().put("toString", largeArguments)).length());
+    }
 }